@@ -0,0 +1,103 @@
+package com.ssafy.logoserver.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엔드포인트별 요청당 SQL 문 수 보고서
+ * 서버 관리 포트의 /actuator/prometheus 에서 http.server.sql.statements 요약(요청 수, 합계)을 읽어
+ * 시나리오 실행 전후 차이로 이번 실행 구간의 평균을 계산합니다.
+ */
+final class SqlStatementReport {
+
+    private static final Pattern SERIES = Pattern.compile(
+            "^http_server_sql_statements_(count|sum)\\{(.*)}\\s+([0-9.eE+-]+)$");
+    private static final Pattern METHOD = Pattern.compile("method=\"([^\"]*)\"");
+    private static final Pattern URI_LABEL = Pattern.compile("uri=\"([^\"]*)\"");
+
+    /**
+     * 엔드포인트("GET /api/...")별 {요청 수, SQL 문 합계}
+     */
+    private final Map<String, double[]> endpoints;
+
+    private SqlStatementReport(Map<String, double[]> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * 서버의 현재 누적값 조회 (조회 실패 시 빈 보고서)
+     */
+    static SqlStatementReport fetch(String managementUrl) {
+        Map<String, double[]> endpoints = new TreeMap<>();
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/prometheus")).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            for (String line : response.body().split("\n")) {
+                Matcher series = SERIES.matcher(line);
+                if (!series.matches()) {
+                    continue;
+                }
+                Matcher method = METHOD.matcher(series.group(2));
+                Matcher uri = URI_LABEL.matcher(series.group(2));
+                if (!method.find() || !uri.find()) {
+                    continue;
+                }
+                double[] values = endpoints.computeIfAbsent(method.group(1) + " " + uri.group(1), k -> new double[2]);
+                values["count".equals(series.group(1)) ? 0 : 1] = Double.parseDouble(series.group(3));
+            }
+        } catch (IOException e) {
+            System.err.println("SQL 문 수 메트릭 조회 실패: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new SqlStatementReport(endpoints);
+    }
+
+    /**
+     * 이전 값과의 차이 (이번 실행 구간)
+     */
+    SqlStatementReport since(SqlStatementReport before) {
+        Map<String, double[]> delta = new TreeMap<>();
+        endpoints.forEach((endpoint, values) -> {
+            double[] previous = before.endpoints.getOrDefault(endpoint, new double[2]);
+            double count = values[0] - previous[0];
+            if (count > 0) {
+                delta.put(endpoint, new double[]{count, values[1] - previous[1]});
+            }
+        });
+        return new SqlStatementReport(delta);
+    }
+
+    /**
+     * 표 형식으로 출력하고 파일로 저장
+     */
+    void print(String file) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-60s %10s %14s%n", "엔드포인트", "요청 수", "요청당 SQL 문"));
+        endpoints.forEach((endpoint, values) -> table.append(
+                String.format("%-60s %10.0f %14.1f%n", endpoint, values[0], values[1] / values[0])));
+
+        System.out.println();
+        System.out.println("---- 요청당 SQL 문 수 ----");
+        System.out.print(table);
+
+        try {
+            Path path = Path.of(file);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, table, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("SQL 문 수 보고서 저장 실패: " + e.getMessage());
+        }
+    }
+}
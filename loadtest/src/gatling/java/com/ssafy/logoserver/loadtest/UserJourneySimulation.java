@@ -0,0 +1,199 @@
+package com.ssafy.logoserver.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * 사용자 여정 부하 시나리오
+ * 회원가입/로그인 → 여행 생성 → 장소 추가(기본 50곳) → 방문 인증 업로드 → 프로필 조회 → 여행 가이드 내보내기(LLM, Notion)
+ * 요청 이름을 "메서드 경로 패턴"으로 두어 Gatling 보고서에서 엔드포인트별 p50/p99 를 바로 볼 수 있고,
+ * 실행 후 서버 메트릭에서 엔드포인트별 요청당 SQL 문 수를 함께 출력합니다.
+ *
+ * 설정(시스템 속성): baseUrl, managementUrl, users, rampSeconds, stops, verifications
+ */
+public class UserJourneySimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final String MANAGEMENT_URL = System.getProperty("managementUrl", "http://localhost:8081");
+    private static final int USERS = Integer.getInteger("users", 20);
+    private static final int RAMP_SECONDS = Integer.getInteger("rampSeconds", 30);
+    private static final int STOPS = Integer.getInteger("stops", 50);
+    private static final int VERIFICATIONS = Integer.getInteger("verifications", 5);
+    private static final String SQL_REPORT_FILE = System.getProperty("sqlReportFile", "build/reports/sql-statements.txt");
+
+    private static final String PASSWORD = "loadtest1234!";
+    private static final LocalDate START_DATE = LocalDate.of(2025, 5, 1);
+    private static final int TRIP_DAYS = 10;
+
+    /**
+     * 서버의 LoadTestStandIns 가 준비하는 지역 코드 {region, sig}
+     */
+    private static final long[][] AREA_CODES = {
+            {39, 110}, {39, 130}, {11, 110}, {11, 140}, {26, 110}
+    };
+
+    /**
+     * 장소 주소 후보 수 (사용자 간 같은 장소가 재사용되도록 제한)
+     */
+    private static final int ADDRESS_POOL = 300;
+
+    /**
+     * 방문 인증 이미지 (약 50KB JPEG 형태 바이트)
+     */
+    private static final byte[] IMAGE = image(50 * 1024);
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .userAgentHeader("logo-loadtest");
+
+    private final ScenarioBuilder journey = scenario("여행자 여정")
+            .exec(session -> session.set("loginId", "lt" + UUID.randomUUID().toString().replace("-", "").substring(0, 12)))
+
+            // 회원가입, 로그인 (쿠키가 Secure 라 HTTP 에서는 액세스 토큰을 Authorization 헤더로 전달)
+            .exec(http("POST /api/auth/signup").post("/api/auth/signup").asJson()
+                    .body(StringBody("{\"id\":\"#{loginId}\",\"password\":\"" + PASSWORD + "\",\"name\":\"부하테스트\","
+                            + "\"nickname\":\"#{loginId}\",\"email\":\"#{loginId}@loadtest.local\"}"))
+                    .check(status().is(200), jsonPath("$.data.uuid").saveAs("uuid")))
+            .exec(http("POST /api/auth/login").post("/api/auth/login").asJson()
+                    .body(StringBody("{\"id\":\"#{loginId}\",\"password\":\"" + PASSWORD + "\"}"))
+                    .check(status().is(200), headerRegex("Set-Cookie", "access_token=([^;]+)").saveAs("accessToken")))
+
+            // 여행 생성 (일차별 루트 자동 생성)
+            .exec(http("POST /api/travels").post("/api/travels").asJson()
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .body(StringBody("{\"title\":\"부하 테스트 여행\",\"location\":\"제주도\",\"peoples\":2,"
+                            + "\"totalBudget\":1500000,\"startDate\":\"" + START_DATE + "\","
+                            + "\"endDate\":\"" + START_DATE.plusDays(TRIP_DAYS - 1) + "\",\"memo\":\"gatling\"}"))
+                    .check(status().is(200), jsonPath("$.data.tuid").saveAs("tuid")))
+            .exec(http("GET /api/travels/{tuid}/detail").get("/api/travels/#{tuid}/detail")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200), jsonPath("$.data.travelRoots[*].truid").findAll().saveAs("truids")))
+            .exec(session -> session.set("puids", new ArrayList<String>()).set("addresses", new ArrayList<String>()))
+
+            // 장소 추가
+            .repeat(STOPS, "stop").on(
+                    exec(UserJourneySimulation::nextStop)
+                            .exec(http("POST /api/travel-areas/add").post("/api/travel-areas/add").asJson()
+                                    .header("Authorization", "Bearer #{accessToken}")
+                                    .body(StringBody("{\"travel_id\":#{tuid},\"travel_day_id\":#{truid},"
+                                            + "\"region\":#{region},\"sig\":#{sig},\"start\":\"#{start}\","
+                                            + "\"memo\":\"#{memo}\",\"address\":\"#{address}\",\"name\":\"#{placeName}\","
+                                            + "\"latitude\":#{latitude},\"longitude\":#{longitude}}"))
+                                    .check(status().is(200), jsonPath("$.data.place.puid").saveAs("lastPuid")))
+                            .exec(UserJourneySimulation::rememberPlace))
+
+            // 방문 인증 (이미지 업로드)
+            .repeat(VERIFICATIONS, "verification").on(
+                    exec(UserJourneySimulation::pickVerifiedPlace)
+                            .exec(http("POST /api/verifications/verify").post("/api/verifications/verify")
+                                    .header("Authorization", "Bearer #{accessToken}")
+                                    .bodyPart(StringBodyPart("verification",
+                                            "{\"pid\":#{verifyPid},\"address\":\"#{verifyAddress}\",\"review\":\"좋았어요\",\"star\":4.5}")
+                                            .contentType("application/json"))
+                                    .bodyPart(ByteArrayBodyPart("image", IMAGE)
+                                            .fileName("verification.jpg")
+                                            .contentType("image/jpeg"))
+                                    .check(status().is(200))))
+
+            // 프로필 조회
+            .exec(http("GET /api/users/profile").get("/api/users/profile")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200)))
+            .exec(http("GET /api/users/{uuid}/images").get("/api/users/#{uuid}/images")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200)))
+            .exec(http("GET /api/travels/{tuid}/detail").get("/api/travels/#{tuid}/detail")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200), bodyString().saveAs("travelJson")))
+
+            // 여행 가이드 내보내기 (LLM 마크다운, LLM 분석 후 Notion 작성)
+            .exec(http("GET /api/chat/anthropic/markdown/{tuid}").get("/api/chat/anthropic/markdown/#{tuid}")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .check(status().is(200)))
+            .exec(http("POST /api/notion/travel-to-notion").post("/api/notion/travel-to-notion")
+                    .header("Authorization", "Bearer #{accessToken}")
+                    .formParam("travelData", "#{travelJson}")
+                    .formParam("notionAccessToken", "stub-notion-token")
+                    .formParam("notionPageId", "stub-page-#{tuid}")
+                    .check(status().is(200)));
+
+    private SqlStatementReport sqlBefore;
+
+    {
+        setUp(journey.injectOpen(rampUsers(USERS).during(RAMP_SECONDS)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+    @Override
+    public void before() {
+        sqlBefore = SqlStatementReport.fetch(MANAGEMENT_URL);
+    }
+
+    @Override
+    public void after() {
+        SqlStatementReport.fetch(MANAGEMENT_URL).since(sqlBefore).print(SQL_REPORT_FILE);
+    }
+
+    /**
+     * 다음 장소 요청 값 (일차를 차례로 채우고, 주소는 후보 중에서 골라 사용자 간 재사용)
+     */
+    private static Session nextStop(Session session) {
+        int stop = session.getInt("stop");
+        List<Object> truids = session.getList("truids");
+        int dayIndex = Math.min(truids.size() - 1, stop * truids.size() / STOPS);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] area = AREA_CODES[random.nextInt(AREA_CODES.length)];
+        int addressNo = random.nextInt(ADDRESS_POOL);
+
+        return session
+                .set("truid", truids.get(dayIndex))
+                .set("region", area[0])
+                .set("sig", area[1])
+                .set("start", START_DATE.plusDays(dayIndex).atTime(8 + (stop % 6) * 2, 0).toString())
+                .set("memo", stop % 3 == 0 ? "예약 필요" : "")
+                .set("address", "제주특별자치도 제주시 부하로 " + addressNo)
+                .set("placeName", "부하 테스트 장소 " + addressNo)
+                .set("latitude", 33.2 + (addressNo % 40) * 0.01)
+                .set("longitude", 126.2 + (addressNo / 40) * 0.01);
+    }
+
+    private static Session rememberPlace(Session session) {
+        List<String> puids = new ArrayList<>(session.getList("puids"));
+        List<String> addresses = new ArrayList<>(session.getList("addresses"));
+        puids.add(session.getString("lastPuid"));
+        addresses.add(session.getString("address"));
+        return session.set("puids", puids).set("addresses", addresses);
+    }
+
+    private static Session pickVerifiedPlace(Session session) {
+        List<String> puids = session.getList("puids");
+        List<String> addresses = session.getList("addresses");
+        int index = session.getInt("verification") * Math.max(1, puids.size() / VERIFICATIONS) % puids.size();
+        return session.set("verifyPid", puids.get(index)).set("verifyAddress", addresses.get(index));
+    }
+
+    private static byte[] image(int size) {
+        byte[] image = new byte[size];
+        new Random(42).nextBytes(image);
+        // JPEG 시작(SOI)과 끝(EOI) 표시
+        image[0] = (byte) 0xFF;
+        image[1] = (byte) 0xD8;
+        image[size - 2] = (byte) 0xFF;
+        image[size - 1] = (byte) 0xD9;
+        return image;
+    }
+}
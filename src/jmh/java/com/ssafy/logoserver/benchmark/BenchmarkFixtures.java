@@ -0,0 +1,149 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.ssafy.logoserver.domain.area.entity.Area;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.travel.entity.Travel;
+import com.ssafy.logoserver.domain.travel.entity.TravelArea;
+import com.ssafy.logoserver.domain.travel.entity.TravelRoot;
+import com.ssafy.logoserver.domain.user.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공용 데이터
+ * 실제 서비스 규모에 맞춘 여행 일정(10일, 장소 80곳)과 AI 여행 가이드(약 4만 토큰)를 만듭니다.
+ * 같은 시드를 사용하므로 커밋 간 결과를 비교할 수 있습니다.
+ */
+final class BenchmarkFixtures {
+
+    static final int TRIP_DAYS = 10;
+    static final int TRIP_STOPS = 80;
+
+    /**
+     * 가이드 목표 길이 (문자 수, 약 4자 = 1토큰 기준 4만 토큰)
+     */
+    static final int GUIDE_CHARS = 160_000;
+
+    private static final long SEED = 20250501L;
+
+    private static final String[] PLACE_NAMES = {
+            "성산일출봉", "우도", "섭지코지", "만장굴", "비자림", "협재해수욕장", "한림공원", "오설록 티뮤지엄",
+            "천지연폭포", "중문색달해변", "주상절리대", "산방산", "용머리해안", "송악산", "동문시장", "이호테우해변"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 10일, 장소 80곳의 여행 엔티티 그래프
+     * 장소 순서는 섞여 있고 일부(약 1/10)는 방문 시간이 비어 있어 정렬 시 맨 뒤로 갑니다.
+     */
+    static Travel trip() {
+        Random random = new Random(SEED);
+        LocalDate startDate = LocalDate.of(2025, 5, 1);
+
+        User user = User.builder().uuid(1L).id("traveler").nickname("여행자").build();
+        List<TravelRoot> roots = new ArrayList<>();
+        List<TravelArea> areas = new ArrayList<>();
+        Travel travel = Travel.builder()
+                .tuid(1L)
+                .user(user)
+                .location("제주도")
+                .title("제주도 10일 가족 여행")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(TRIP_DAYS - 1))
+                .peoples(4)
+                .memo("렌터카 이동, 숙소 3곳")
+                .totalBudget(3_000_000)
+                .created(LocalDateTime.of(2025, 4, 1, 9, 0))
+                .travelRoots(roots)
+                .travelAreas(areas)
+                .travelImages(new ArrayList<>())
+                .travelPayments(new ArrayList<>())
+                .build();
+
+        for (int day = 0; day < TRIP_DAYS; day++) {
+            roots.add(TravelRoot.builder()
+                    .truid((long) day + 1)
+                    .travel(travel)
+                    .day(day + 1)
+                    .travelDate(startDate.plusDays(day))
+                    .travelAreas(new ArrayList<>())
+                    .build());
+        }
+
+        int stopsPerDay = TRIP_STOPS / TRIP_DAYS;
+        for (int i = 0; i < TRIP_STOPS; i++) {
+            int day = i / stopsPerDay;
+            Area area = Area.builder().auid((long) (random.nextInt(20) + 1)).region(39L).sig(110L).build();
+            Place place = Place.builder()
+                    .puid((long) i + 1)
+                    .area(area)
+                    .name(PLACE_NAMES[i % PLACE_NAMES.length] + " " + (i / PLACE_NAMES.length + 1))
+                    .address("제주특별자치도 제주시 " + (100 + i) + "번길 " + (i % 7 + 1))
+                    .latitude(33.2 + random.nextDouble() * 0.4)
+                    .longitude(126.2 + random.nextDouble() * 0.7)
+                    .build();
+            LocalDateTime startTime = i % 10 == 9
+                    ? null
+                    : startDate.plusDays(day).atTime(8 + (i % stopsPerDay) * 2, random.nextInt(4) * 15);
+
+            TravelArea travelArea = TravelArea.builder()
+                    .tauid((long) i + 1)
+                    .user(user)
+                    .area(area)
+                    .travel(travel)
+                    .travelDay(roots.get(day))
+                    .place(place)
+                    .startTime(startTime)
+                    .memo(i % 3 == 0 ? "예약 필요 - 오픈 시간 확인" : null)
+                    .build();
+            areas.add(travelArea);
+            roots.get(day).getTravelAreas().add(travelArea);
+        }
+
+        // DB 조회 순서처럼 등록 순서가 방문 순서와 다르도록 섞음
+        Collections.shuffle(areas, random);
+        return travel;
+    }
+
+    /**
+     * 약 4만 토큰 분량의 마크다운 여행 가이드 (일차별 제목, 불릿, 번호 목록, 여러 줄 문단)
+     */
+    static String guide() {
+        StringBuilder guide = new StringBuilder(GUIDE_CHARS + 1_000);
+        guide.append("# 제주도 10일 여행 분석\n\n");
+        int section = 0;
+        while (guide.length() < GUIDE_CHARS) {
+            int day = section % TRIP_DAYS + 1;
+            guide.append("## ").append(day).append("일차 일정 분석\n\n");
+            guide.append("### 이동 동선\n");
+            for (int i = 0; i < 8; i++) {
+                String place = PLACE_NAMES[(section + i) % PLACE_NAMES.length];
+                guide.append(i + 1).append(". ").append(place)
+                        .append(" - 오전 ").append(8 + i).append("시 도착, 체류 약 ").append(40 + i * 5).append("분\n");
+            }
+            guide.append('\n');
+            guide.append("### 추천 포인트\n");
+            for (int i = 0; i < 6; i++) {
+                guide.append(i % 2 == 0 ? "- " : "* ")
+                        .append(PLACE_NAMES[(section + i * 3) % PLACE_NAMES.length])
+                        .append("에서는 해 질 무렵 방문하면 혼잡도가 낮고 사진이 잘 나옵니다.\n");
+            }
+            guide.append('\n');
+            for (int paragraph = 0; paragraph < 3; paragraph++) {
+                guide.append("이날은 이동 거리가 비교적 길어 중간에 휴식 시간을 충분히 두는 것이 좋습니다.\n")
+                        .append("특히 아이와 함께라면 점심 이후 일정은 실내 관광지로 바꾸는 것을 추천합니다.\n")
+                        .append("예산 측면에서는 입장료와 식비가 전체 지출의 약 ").append(30 + paragraph * 5)
+                        .append("%를 차지했습니다.\n\n");
+            }
+            section++;
+        }
+        return guide.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행 일정 정렬 벤치마크 (장소 80곳, 일부 방문 시간 없음)
+ * TravelService.getTravelDetailById, TravelRootService 에서 쓰는 방문 시작 시간 정렬 기준을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItineraryComparatorBenchmark {
+
+    private List<TravelAreaDto> shuffled;
+
+    @Setup
+    public void setUp() {
+        shuffled = BenchmarkFixtures.trip().getTravelAreas().stream()
+                .map(TravelAreaDto::fromEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TravelAreaDto> sortByStartTime() {
+        List<TravelAreaDto> travelAreas = new ArrayList<>(shuffled);
+        travelAreas.sort(TravelAreaDto.START_TIME_ORDER);
+        return travelAreas;
+    }
+}
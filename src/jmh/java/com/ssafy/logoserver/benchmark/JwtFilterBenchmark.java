@@ -0,0 +1,76 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.ssafy.logoserver.security.jwt.JwtFilter;
+import com.ssafy.logoserver.security.jwt.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 벤치마크
+ * 인증이 필요한 모든 요청이 거치는 경로(헤더 추출 → 서명 검증 → Authentication 복원)를 측정합니다.
+ * 현재 구현은 토큰 하나에 대해 검증과 클레임 추출에서 각각 서명을 확인하므로 두 단계를 나눠서도 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider tokenProvider;
+    private JwtFilter jwtFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // HS512 서명에 필요한 64바이트 키
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+        tokenProvider = new JwtTokenProvider(Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(tokenProvider, "accessTokenValidity", 3_600L);
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken("traveler", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.createAccessToken(authentication);
+
+        // 유효한 토큰 경로에서는 토큰 갱신과 쿠키를 사용하지 않음
+        jwtFilter = new JwtFilter(tokenProvider, null, null);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/travels/1/detail");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(accessToken);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ssafy.logoserver.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 출력이 느린 환경(디스크, 수집 에이전트 지연)에서 동기 출력과 비동기 출력의 요청 처리량 비교
+ * 운영 프로필(logback-spring.xml)과 같은 AsyncAppender 설정(queueSize 8192, neverBlock)을 사용하고,
+ * 32개 스레드가 동시에 요청당 로그 3줄을 남깁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class LoggingThroughputBenchmark {
+
+    private static final int LOGS_PER_REQUEST = 3;
+    private static final long SINK_DELAY_NANOS = 200_000;
+
+    @Param({"sync", "async"})
+    private String output;
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        SlowSink sink = new SlowSink();
+        sink.setContext(context);
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if ("async".equals(output)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(sink);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        logger = context.getLogger("benchmark");
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    /**
+     * 요청 한 건 처리 중 남기는 로그
+     */
+    @Benchmark
+    public void request() {
+        for (int line = 0; line < LOGS_PER_REQUEST; line++) {
+            logger.info("요청 처리 - requestId: {}, step: {}", Thread.currentThread().threadId(), line);
+        }
+    }
+
+    /**
+     * 한 건 출력에 일정 시간이 걸리는 출력 대상 (AppenderBase 는 출력 중 잠금을 잡음)
+     */
+    private static class SlowSink extends AppenderBase<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            event.getFormattedMessage();
+            LockSupport.parkNanos(SINK_DELAY_NANOS);
+        }
+    }
+}
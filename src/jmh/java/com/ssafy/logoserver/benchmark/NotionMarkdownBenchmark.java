@@ -0,0 +1,40 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.notion.dto.NotionBlock;
+import com.ssafy.logoserver.service.NotionMarkdownConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마크다운 → Notion 블록 변환 벤치마크 (약 4만 토큰 여행 가이드)
+ * 블록 변환과 Notion API 요청 본문 직렬화를 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotionMarkdownBenchmark {
+
+    private String guide;
+    private List<NotionBlock> blocks;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        guide = BenchmarkFixtures.guide();
+        blocks = NotionMarkdownConverter.convert(guide);
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<NotionBlock> convert() {
+        return NotionMarkdownConverter.convert(guide);
+    }
+
+    @Benchmark
+    public byte[] serializeBlocks() throws Exception {
+        return objectMapper.writeValueAsBytes(blocks);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.MinIOService;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Presigned URL 생성 벤치마크
+ * 갤러리 목록처럼 이미지마다 URL 을 서명하는 경로를 측정합니다 (네트워크 호출 없는 로컬 서명).
+ * 리전을 지정하지 않으면 버킷별 첫 호출에서 리전 조회 요청이 나가므로, 서버 없이 측정하도록 리전을 고정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignedUrlBenchmark {
+
+    @Param({"1", "100"})
+    private int images;
+
+    private MinIOService minIOService;
+    private List<String> objectKeys;
+
+    @Setup
+    public void setUp() {
+        MinioClient minioClient = MinioClient.builder()
+                .endpoint("http://localhost:9000")
+                .region("us-east-1")
+                .credentials("benchmark-access-key", "benchmark-secret-key")
+                .build();
+        DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+                CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+        minIOService = new MinIOService(minioClient, downstreamLimiter);
+        ReflectionTestUtils.setField(minIOService, "bucketName", "logo");
+
+        objectKeys = new ArrayList<>(images);
+        for (int i = 0; i < images; i++) {
+            objectKeys.add("verifications/1/" + (i + 1) + "_20250501_120000_abcd1234.jpg");
+        }
+    }
+
+    @Benchmark
+    public List<String> presignGallery() {
+        List<String> urls = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            urls.add(minIOService.generatePresignedUrl(objectKey, 30));
+        }
+        return urls;
+    }
+}
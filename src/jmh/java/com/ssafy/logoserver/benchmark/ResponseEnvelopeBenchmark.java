@@ -0,0 +1,78 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.ssafy.logoserver.domain.image.dto.UserImageUrlDto;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 갤러리 목록(이미지 1,000개) 응답 직렬화 벤치마크
+ * 기존 HashMap 봉투 + 항목별 HashMap 과, record 봉투 + record 항목(Blackbird 유무)을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEnvelopeBenchmark {
+
+    @Param({"1000"})
+    private int items;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+
+    private Map<String, Object> mapEnvelope;
+    private ResponseEnvelope recordEnvelope;
+
+    @Setup
+    public void setUp() {
+        plainMapper = new ObjectMapper();
+        blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+
+        List<Map<String, Object>> mapItems = new ArrayList<>(items);
+        List<UserImageUrlDto> recordItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            long tiuid = i + 1;
+            String name = "verification_" + tiuid + ".jpg";
+            String url = "https://minio.example.com/logo/verifications/1/" + tiuid
+                    + "_20250101_120000_abcd1234.jpg?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Expires=1800";
+
+            Map<String, Object> imageInfo = new HashMap<>();
+            imageInfo.put("tiuid", tiuid);
+            imageInfo.put("name", name);
+            imageInfo.put("travelId", (long) (i % 20));
+            imageInfo.put("imageUrl", url);
+            imageInfo.put("expiryMinutes", 30);
+            mapItems.add(imageInfo);
+
+            recordItems.add(new UserImageUrlDto(tiuid, name, (long) (i % 20), url, 30));
+        }
+
+        mapEnvelope = new HashMap<>();
+        mapEnvelope.put("status", "success");
+        mapEnvelope.put("data", mapItems);
+
+        recordEnvelope = new ResponseEnvelope.Success<>(recordItems);
+    }
+
+    @Benchmark
+    public byte[] hashMapEnvelope() throws Exception {
+        return plainMapper.writeValueAsBytes(mapEnvelope);
+    }
+
+    @Benchmark
+    public byte[] recordEnvelope() throws Exception {
+        return plainMapper.writeValueAsBytes(recordEnvelope);
+    }
+
+    @Benchmark
+    public byte[] recordEnvelopeBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(recordEnvelope);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ssafy.logoserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelDetailDto;
+import com.ssafy.logoserver.domain.travel.entity.Travel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행 상세 DTO 변환 벤치마크 (10일, 장소 80곳)
+ * 엔티티 그래프 → TravelDetailDto 변환(일정 정렬 포함)과 응답 JSON 직렬화까지를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TravelDtoMappingBenchmark {
+
+    private Travel travel;
+    private ObjectMapper objectMapper;
+    private TravelDetailDto detail;
+
+    @Setup
+    public void setUp() {
+        travel = BenchmarkFixtures.trip();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        detail = toDetail();
+    }
+
+    @Benchmark
+    public TravelDetailDto toDetailDto() {
+        return toDetail();
+    }
+
+    @Benchmark
+    public byte[] toDetailJson() throws Exception {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    /**
+     * TravelService.getTravelDetailById 의 변환 단계와 동일 (DB 조회 제외)
+     */
+    private TravelDetailDto toDetail() {
+        List<TravelAreaDto> travelAreas = new ArrayList<>(travel.getTravelAreas().size());
+        travel.getTravelAreas().forEach(area -> travelAreas.add(TravelAreaDto.fromEntity(area)));
+        travelAreas.sort(TravelAreaDto.START_TIME_ORDER);
+        return TravelDetailDto.fromEntity(travel, List.of(), List.of(), travelAreas);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.logoserver.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 I/O 위주 요청에서 플랫폼 스레드 풀과 가상 스레드의 처리량 비교
+ * Tomcat 기본 최대 스레드 수(200)를 플랫폼 풀 크기로 두고, 외부 호출(LLM, Notion, MinIO)을 대신하는
+ * sleep 요청 2000건을 동시에 제출해 모두 끝날 때까지의 시간을 측정합니다. (결과는 요청 1건당 평균 시간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VirtualThreadThroughputBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final long IO_WAIT_MILLIS = 50;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int blockingRequests() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(VirtualThreadThroughputBenchmark::blockingRequest));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private static void blockingRequest() {
+        try {
+            Thread.sleep(IO_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
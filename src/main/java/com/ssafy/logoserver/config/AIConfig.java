@@ -1,9 +1,12 @@
 package com.ssafy.logoserver.config;
 
+import com.ssafy.logoserver.domain.ai.service.GenerationCoalescer;
+import com.ssafy.logoserver.domain.ai.service.LlmRouter;
+import com.ssafy.logoserver.domain.ai.service.LlmRouter.Provider;
+import com.ssafy.logoserver.domain.ai.service.RoutingChatClient;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.InMemoryChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,13 +14,44 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Map;
 
 @Configuration
 public class AIConfig {
 
+    /**
+     * 대화 기록 요약 전용 클라이언트 (TokenBudgetChatMemory)
+     * 응답 후 비동기로 호출되며 요약은 짧게 유지하도록 출력 토큰을 제한합니다.
+     */
     @Bean
-    public ChatMemory chatMemory() {
-        return new InMemoryChatMemory();
+    public ChatClient memorySummaryChatClient(
+            @Qualifier("anthropicChatModel") ChatModel chatModel,
+            @Value("classpath:prompts/chat-memory-summary.st") Resource systemPrompt
+    ) {
+        return ChatClient
+                .builder(chatModel)
+                .defaultSystem(systemPrompt)
+                .defaultOptions(ChatOptions.builder()
+                        .maxTokens(800)
+                        .temperature(0.2)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 다른 인스턴스의 AI 생성 완료 알림 구독 컨테이너 (GenerationCoalescer)
+     */
+    @Bean
+    public RedisMessageListenerContainer generationCoalescerListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                              GenerationCoalescer generationCoalescer) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(generationCoalescer, new ChannelTopic(GenerationCoalescer.DONE_CHANNEL));
+        return container;
     }
 
     @Bean
@@ -49,4 +83,58 @@ public class AIConfig {
                         .build())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 여행 가이드 생성 라우팅 클라이언트 (Anthropic 우선, 지연·장애 시 OpenAI로 헤지/페일오버)
+     */
+    @Bean
+    public RoutingChatClient chatRoutingClient(
+            LlmRouter llmRouter,
+            @Qualifier("anthropicChatClient") ChatClient anthropicChatClient,
+            @Qualifier("openAiChatClient") ChatClient openAiChatClient
+    ) {
+        return llmRouter.route("chat", Map.of(
+                Provider.ANTHROPIC, anthropicChatClient,
+                Provider.OPENAI, openAiChatClient));
+    }
+
+    /**
+     * 여행 가이드 조언 전용 라우팅 클라이언트
+     * 일정표는 서버에서 렌더링하므로 조언 항목만 짧은 구조화 출력으로 받습니다. 한 번에 끝나는 요청이라 대화 기록을 남기지 않습니다.
+     */
+    @Bean
+    public RoutingChatClient guideAdviceRoutingClient(
+            LlmRouter llmRouter,
+            @Qualifier("anthropicChatModel") ChatModel anthropicChatModel,
+            @Qualifier("openAiChatModel") ChatModel openAiChatModel,
+            @Value("classpath:prompts/travel-guide-advice.st") Resource systemPrompt
+    ) {
+        return llmRouter.route("guide-advice", Map.of(
+                Provider.ANTHROPIC, guideClient(anthropicChatModel).defaultSystem(systemPrompt).build(),
+                Provider.OPENAI, guideClient(openAiChatModel).defaultSystem(systemPrompt).build()));
+    }
+
+    /**
+     * 긴 여행 가이드 분할 생성 전용 라우팅 클라이언트
+     * 일자별 섹션과 마무리 섹션이 서로 다른 시스템 프롬프트를 쓰므로 요청마다 지정하며, 대화 기록을 남기지 않습니다.
+     */
+    @Bean
+    public RoutingChatClient guideSectionRoutingClient(
+            LlmRouter llmRouter,
+            @Qualifier("anthropicChatModel") ChatModel anthropicChatModel,
+            @Qualifier("openAiChatModel") ChatModel openAiChatModel
+    ) {
+        return llmRouter.route("guide-section", Map.of(
+                Provider.ANTHROPIC, guideClient(anthropicChatModel).build(),
+                Provider.OPENAI, guideClient(openAiChatModel).build()));
+    }
+
+    private static ChatClient.Builder guideClient(ChatModel chatModel) {
+        return ChatClient
+                .builder(chatModel)
+                .defaultOptions(ChatOptions.builder()
+                        .maxTokens(4000)
+                        .temperature(0.7)
+                        .build());
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.logoserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기(@Async) 실행기 설정 클래스
+ * spring.threads.virtual.enabled 가 true 이면 작업마다 가상 스레드를 생성하고,
+ * false 이면 기존처럼 플랫폼 스레드 풀을 사용합니다.
+ * (Tomcat 요청 처리 스레드는 같은 속성으로 Spring Boot가 가상 스레드로 전환합니다.)
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    /**
+     * 가상 스레드 사용 여부
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * 가상 스레드 모드에서 동시에 실행할 수 있는 비동기 작업 수
+     * 가상 스레드는 개수 제한이 없으므로 폭주를 막기 위한 상한입니다.
+     */
+    @Value("${async.virtual.concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    @Override
+    public Executor getAsyncExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("비동기 실행기 초기화 - 가상 스레드 (동시 실행 상한: {})", virtualConcurrencyLimit);
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            return executor;
+        }
+
+        log.info("비동기 실행기 초기화 - 플랫폼 스레드 풀");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(500);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.logoserver.config;
+
+import com.ssafy.logoserver.service.EntityCacheInvalidator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Hibernate 2차 캐시(엔티티/쿼리 캐시) 설정 클래스
+ * 로컬 Caffeine(JCache) 캐시를 사용하고, 다른 인스턴스의 변경은 Redis Pub/Sub 으로 전달받아 무효화합니다.
+ * 리전별 크기와 만료 시간은 hibernate-caffeine.conf 에 정의되어 있습니다.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    /**
+     * 엔티티 캐시 리전
+     */
+    public static final String USER_REGION = "entity.user";
+    public static final String PLACE_REGION = "entity.place";
+    public static final String AREA_REGION = "entity.area";
+
+    /**
+     * 쿼리 캐시 리전 (엔티티별로 나누어 변경된 엔티티의 쿼리 결과만 무효화)
+     */
+    public static final String USER_QUERY_REGION = "query.user";
+    public static final String PLACE_QUERY_REGION = "query.place";
+    public static final String AREA_QUERY_REGION = "query.area";
+
+    /**
+     * 인스턴스 간 캐시 무효화 채널
+     */
+    public static final String INVALIDATION_CHANNEL = "entity_cache:invalidate";
+
+    /**
+     * 캐시 무효화 메시지 구독 컨테이너 Bean 생성
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param entityCacheInvalidator 무효화 메시지 처리기
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer entityCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      EntityCacheInvalidator entityCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(entityCacheInvalidator, new ChannelTopic(INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.logoserver.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 2차 캐시 리전별 통계 Actuator 엔드포인트 (/actuator/entitycache)
+ * hibernate.generate_statistics 가 켜져 있어야 값이 집계됩니다.
+ */
+@Component
+@Endpoint(id = "entitycache")
+@RequiredArgsConstructor
+public class EntityCacheStatisticsEndpoint {
+
+    private static final List<String> ENTITY_REGIONS = List.of(
+            EntityCacheConfig.USER_REGION, EntityCacheConfig.PLACE_REGION, EntityCacheConfig.AREA_REGION);
+
+    private static final List<String> QUERY_REGIONS = List.of(
+            EntityCacheConfig.USER_QUERY_REGION, EntityCacheConfig.PLACE_QUERY_REGION, EntityCacheConfig.AREA_QUERY_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, RegionStatistics> regions = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            regions.put(region, RegionStatistics.of(statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : QUERY_REGIONS) {
+            regions.put(region, RegionStatistics.of(statistics.getQueryRegionStatistics(region)));
+        }
+        return regions;
+    }
+
+    /**
+     * 리전 통계 응답
+     *
+     * @param hits 캐시 적중 수
+     * @param misses 캐시 미스 수
+     * @param puts 캐시 저장 수
+     * @param hitRatio 적중률 (조회가 없으면 0)
+     * @param elementsInMemory 로컬 캐시 항목 수 (지원하지 않으면 음수)
+     */
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio, long elementsInMemory) {
+
+        private static final RegionStatistics EMPTY = new RegionStatistics(0, 0, 0, 0, -1);
+
+        static RegionStatistics of(CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                // 아직 한 번도 사용되지 않은 쿼리 리전
+                return EMPTY;
+            }
+            long hits = statistics.getHitCount();
+            long misses = statistics.getMissCount();
+            long lookups = hits + misses;
+            return new RegionStatistics(hits, misses, statistics.getPutCount(),
+                    lookups == 0 ? 0 : (double) hits / lookups,
+                    statistics.getElementCountInMemory());
+        }
+    }
+}
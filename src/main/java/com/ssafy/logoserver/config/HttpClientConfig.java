@@ -0,0 +1,167 @@
+package com.ssafy.logoserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 외부 HTTP 호출 클라이언트 설정 클래스
+ * Apache HttpClient 5 커넥션 풀을 하나 만들어 RestTemplate 과 Notion 전용 RestClient 가 함께 사용합니다.
+ * 커넥션을 keep-alive 로 재사용하고, 연결/응답 타임아웃과 호스트(라우트)별 커넥션 상한을 적용합니다.
+ */
+@Configuration
+@Slf4j
+public class HttpClientConfig {
+
+    public static final String NOTION_API_BASE_URL = "https://api.notion.com/v1";
+    public static final String NOTION_VERSION = "2022-06-28";
+
+    /**
+     * 풀 전체 최대 커넥션 수
+     */
+    @Value("${http.client.max-total:200}")
+    private int maxTotal;
+
+    /**
+     * 라우트(호스트)별 기본 최대 커넥션 수
+     */
+    @Value("${http.client.max-per-route:20}")
+    private int maxPerRoute;
+
+    /**
+     * Notion API 호스트 최대 커넥션 수
+     */
+    @Value("${http.client.notion-max-per-route:20}")
+    private int notionMaxPerRoute;
+
+    @Value("${http.client.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    /**
+     * 응답(소켓 읽기) 타임아웃
+     */
+    @Value("${http.client.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    /**
+     * 풀에서 커넥션을 빌리기 위해 기다리는 최대 시간
+     */
+    @Value("${http.client.connection-request-timeout:2s}")
+    private Duration connectionRequestTimeout;
+
+    /**
+     * 서버가 Keep-Alive 시간을 주지 않을 때 커넥션을 유지할 시간
+     */
+    @Value("${http.client.keep-alive:30s}")
+    private Duration keepAlive;
+
+    /**
+     * 이 시간 이상 쓰이지 않은 커넥션은 풀에서 제거
+     */
+    @Value("${http.client.idle-eviction:60s}")
+    private Duration idleEviction;
+
+    /**
+     * 공용 커넥션 풀 생성
+     *
+     * @return PoolingHttpClientConnectionManager
+     */
+    @Bean
+    public PoolingHttpClientConnectionManager pooledConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(responseTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        // Notion API 는 요청이 몰리는 호스트이므로 별도 상한 지정
+        // 라우트는 secure 여부까지 비교하므로 HttpClient 가 https 요청에 쓰는 라우트(프록시 없음, secure)와 같게 만듦
+        connectionManager.setMaxPerRoute(notionRoute(), notionMaxPerRoute);
+
+        log.info("HTTP 커넥션 풀 초기화 - 전체: {}, 라우트별: {}, Notion: {}", maxTotal, maxPerRoute, notionMaxPerRoute);
+        return connectionManager;
+    }
+
+    /**
+     * 커넥션 풀을 사용하는 공용 HttpClient Bean 생성
+     *
+     * @return CloseableHttpClient 애플리케이션 종료 시 커넥션 풀과 함께 닫힘
+     */
+    @Bean
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager pooledConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(pooledConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    /**
+     * Notion API 호스트 라우트
+     */
+    static HttpRoute notionRoute() {
+        return new HttpRoute(new HttpHost("https", "api.notion.com", 443), null, true);
+    }
+
+    /**
+     * 공용 커넥션 풀을 사용하는 요청 팩토리
+     */
+    @Bean
+    public HttpComponentsClientHttpRequestFactory pooledRequestFactory(CloseableHttpClient pooledHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    }
+
+    /**
+     * 공용 커넥션 풀 기반 RestTemplate Bean 생성
+     * PATCH 메서드도 지원됩니다.
+     *
+     * @return RestTemplate
+     */
+    @Bean
+    public RestTemplate restTemplate(HttpComponentsClientHttpRequestFactory pooledRequestFactory) {
+        return new RestTemplate(pooledRequestFactory);
+    }
+
+    /**
+     * Notion API 전용 RestClient Bean 생성
+     * 기본 URL 과 Notion-Version 헤더가 미리 설정되어 있습니다.
+     * 기본 URL 은 notion.api.base-url 로 바꿀 수 있습니다 (부하 테스트용 로컬 스텁 서버).
+     *
+     * @return RestClient
+     */
+    @Bean
+    public RestClient notionRestClient(RestClient.Builder builder,
+                                       HttpComponentsClientHttpRequestFactory pooledRequestFactory,
+                                       @Value("${notion.api.base-url:" + NOTION_API_BASE_URL + "}") String baseUrl) {
+        return builder
+                .requestFactory(pooledRequestFactory)
+                .baseUrl(baseUrl)
+                .defaultHeader("Notion-Version", NOTION_VERSION)
+                .build();
+    }
+}
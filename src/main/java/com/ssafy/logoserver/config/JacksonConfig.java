@@ -0,0 +1,26 @@
+package com.ssafy.logoserver.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 직렬화 설정 클래스
+ * Spring Boot 가 Module Bean 을 자동으로 ObjectMapper 에 등록합니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Blackbird 모듈 Bean 생성
+     * getter/record 접근자를 리플렉션 대신 LambdaMetafactory 로 생성한 함수로 호출해
+     * 응답 봉투(ResponseEnvelope)와 목록 DTO 직렬화 비용을 줄입니다.
+     *
+     * @return BlackbirdModule
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.logoserver.config;
+
+import com.ssafy.logoserver.domain.area.service.PlaceIndexEventHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 장소 메모리 색인(공간 인덱스, 검색 색인) 설정 클래스
+ * 커밋된 장소 변경은 Redis Pub/Sub 으로 모든 인스턴스에 전달되어 각자의 색인에 반영됩니다.
+ */
+@Configuration
+public class PlaceIndexConfig {
+
+    /**
+     * 장소 색인 갱신 메시지 구독 컨테이너 Bean 생성
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param placeIndexEventHandler 색인 갱신 메시지 처리기
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer placeIndexListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     PlaceIndexEventHandler placeIndexEventHandler) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(placeIndexEventHandler, new ChannelTopic(PlaceIndexEventHandler.CHANNEL));
+        return container;
+    }
+}
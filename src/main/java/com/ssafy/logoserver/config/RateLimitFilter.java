@@ -0,0 +1,136 @@
+package com.ssafy.logoserver.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.config.RateLimitProperties.KeyType;
+import com.ssafy.logoserver.config.RateLimitProperties.Policy;
+import com.ssafy.logoserver.security.jwt.JwtTokenProvider;
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import com.ssafy.logoserver.service.TokenBucketLimiter.Bucket;
+import com.ssafy.logoserver.service.TokenBucketLimiter.Decision;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
+import com.ssafy.logoserver.utils.ResponseUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 경로 패턴별 요청 한도 필터
+ * 로그인(BCrypt 검증), 토큰 재발급, Notion·AI 호출처럼 비싼 공개 엔드포인트를 정책(rate-limit.policies)에 따라
+ * IP, 사용자 ID 또는 클라이언트 ID 별 Redis 토큰 버킷으로 제한하고, 한도를 넘으면 429 와 Retry-After 로 바로 응답합니다.
+ * 인증·토큰 재발급보다 먼저 거절하도록 JwtFilter 앞에서 실행하므로, 사용자 키는 액세스 토큰의 서명만 확인해 얻습니다.
+ * Redis 가 느리거나 장애이면 TokenBucketLimiter 가 인스턴스 로컬 버킷으로 대신 판단합니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimitProperties properties;
+    private final TokenBucketLimiter tokenBucketLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           TokenBucketLimiter tokenBucketLimiter,
+                           JwtTokenProvider jwtTokenProvider,
+                           MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.tokenBucketLimiter = tokenBucketLimiter;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight 는 제외
+        return !properties.isEnabled() || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Policy policy : properties.getPolicies()) {
+            if (!matches(policy, request.getMethod(), path)) {
+                continue;
+            }
+
+            String key = resolveKey(policy, request);
+            Decision decision = tokenBucketLimiter.tryConsume("http:" + policy.getName() + ":" + key,
+                    new Bucket(policy.capacity(), policy.refillPerSecond()), 1);
+            if (!decision.allowed()) {
+                Counter.builder("http.server.rate.limited")
+                        .description("요청 한도 초과로 거절한 요청 수")
+                        .tag("policy", policy.getName())
+                        .tag("key", policy.getKey().name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry)
+                        .increment();
+                log.info("요청 한도 초과 - 정책: {}, 키: {}, {} {}", policy.getName(), key, request.getMethod(), path);
+                reject(response, decision);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(Policy policy, String method, String path) {
+        if (!policy.getMethods().isEmpty()
+                && policy.getMethods().stream().noneMatch(allowed -> allowed.equalsIgnoreCase(method))) {
+            return false;
+        }
+        return policy.getPatterns().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * 정책의 키 종류에 따라 요청자 식별 (식별할 수 없으면 IP)
+     * IP 는 신뢰 프록시가 보낸 X-Forwarded-For 를 Tomcat 이 반영한 주소입니다. (application-prod.yml 의 server.tomcat.remoteip)
+     */
+    private String resolveKey(Policy policy, HttpServletRequest request) {
+        if (policy.getKey() == KeyType.USER) {
+            String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+                String userId = jwtTokenProvider.getSubjectIgnoringExpiry(bearerToken.substring(BEARER_PREFIX.length()));
+                if (userId != null) {
+                    return "user:" + userId;
+                }
+            }
+        } else if (policy.getKey() == KeyType.CLIENT) {
+            // 헤더는 누구나 보낼 수 있으므로 등록된 ID 만 인정하고 (임의 ID 로 새 버킷을 만드는 우회 방지),
+            // IP 와 묶어 다른 곳에서 같은 ID 를 보내도 해당 클라이언트의 버킷을 소진시키지 못하게 함
+            String clientId = request.getHeader(properties.getClientIdHeader());
+            if (StringUtils.hasText(clientId) && properties.getClientIds().contains(clientId)) {
+                return "client:" + clientId + ":ip:" + request.getRemoteAddr();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, Decision decision) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ResponseUtil.retryAfterSeconds(decision.retryAfter())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                new ResponseEnvelope.Error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
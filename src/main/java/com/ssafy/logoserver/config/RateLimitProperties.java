@@ -0,0 +1,101 @@
+package com.ssafy.logoserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요청 한도 설정 (rate-limit.*)
+ * 경로 패턴별 정책을 선언하며, 요청 하나에 여러 정책이 걸리면 모두 적용합니다. (예: 로그인 전용 정책 + /api/** 공통 정책)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 요청 한도 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 클라이언트 ID 를 담는 헤더 (key: client 정책용)
+     */
+    private String clientIdHeader = "X-Client-Id";
+
+    /**
+     * 등록된 클라이언트 ID (목록에 없는 클라이언트 ID 는 무시하고 IP 로 제한)
+     */
+    private Set<String> clientIds = new HashSet<>();
+
+    /**
+     * 정책 목록
+     */
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * 한도 키 종류
+     */
+    public enum KeyType {
+        /**
+         * 클라이언트 IP
+         */
+        IP,
+        /**
+         * 액세스 토큰의 사용자 ID (토큰이 없거나 유효하지 않으면 IP)
+         */
+        USER,
+        /**
+         * 등록된 클라이언트 ID 헤더와 IP 의 조합 (헤더가 없거나 등록되지 않은 ID 면 IP)
+         */
+        CLIENT
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 정책 이름 (Redis 키와 메트릭 태그에 사용)
+         */
+        private String name;
+
+        /**
+         * 적용할 경로 패턴 (Ant 스타일, 예: /api/notion/**)
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * 적용할 HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        private KeyType key = KeyType.IP;
+
+        /**
+         * 기간당 허용 요청 수
+         */
+        private int limit;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * 한 번에 허용할 최대 요청 수 (없으면 limit)
+         */
+        private Integer burst;
+
+        public long capacity() {
+            return burst != null ? burst : limit;
+        }
+
+        public double refillPerSecond() {
+            return limit / (period.toMillis() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.logoserver.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링(@Scheduled) 설정 클래스
+ * spring.threads.virtual.enabled 가 true 이면 Spring Boot 가 스케줄러도 가상 스레드로 실행합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.logoserver.security.jwt.JwtCookieProvider;
 import com.ssafy.logoserver.security.jwt.JwtFilter;
 import com.ssafy.logoserver.security.jwt.JwtTokenProvider;
@@ -8,7 +9,11 @@ import com.ssafy.logoserver.security.oauth2.CustomOAuth2UserService;
 import com.ssafy.logoserver.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.ssafy.logoserver.security.oauth2.OAuth2AuthenticationFailureHandler;
 import com.ssafy.logoserver.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -20,6 +25,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -29,6 +36,7 @@ import java.util.Arrays;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -38,6 +46,13 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenBucketLimiter tokenBucketLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${management.server.port}")
+    private int managementPort;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -88,7 +103,11 @@ public class SecurityConfig {
                         // AI 관련 API는 인증 없이 접근 가능
                         .requestMatchers("/api/chat/**").permitAll()
                         // 회원가입과 로그인, 헬스체크는 인증 없이 접근 가능
-                        .requestMatchers("/api/auth/**", "/health").permitAll()
+                        .requestMatchers("/api/auth/**", "/health", "/actuator/health/**").permitAll()
+                        // Prometheus 수집은 관리 포트(management.server.port)로 들어온 요청만 허용
+                        .requestMatchers(new AndRequestMatcher(
+                                request -> request.getLocalPort() == managementPort,
+                                AntPathRequestMatcher.antMatcher("/actuator/prometheus"))).permitAll()
                         // 뷰 템플릿 접근 허용
                         .requestMatchers("/", "/login", "/signup", "/error", "/mypage").permitAll()
                         // 정적 리소스 접근 허용
@@ -109,6 +128,10 @@ public class SecurityConfig {
         // 커스텀 JWT 필터 추가
         http.addFilterBefore(new JwtFilter(jwtTokenProvider, tokenRotationService, jwtCookieProvider), UsernamePasswordAuthenticationFilter.class);
 
+        // 요청 한도 필터 - 토큰 검증·재발급과 로그인 처리 전에 거절
+        http.addFilterBefore(new RateLimitFilter(rateLimitProperties, tokenBucketLimiter, jwtTokenProvider,
+                meterRegistry, objectMapper), JwtFilter.class);
+
         return http.build();
     }
 
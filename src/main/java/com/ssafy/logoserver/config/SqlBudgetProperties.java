@@ -0,0 +1,37 @@
+package com.ssafy.logoserver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 문 실행 예산 설정 (sql-budget.*)
+ * 키는 "HTTP 메서드 + 공백 + 매핑 패턴" 형식입니다. (예: "GET /api/places/{puid}/detail")
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql-budget")
+public class SqlBudgetProperties {
+
+    /**
+     * 예산 초과 감지 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별 예산이 없을 때 적용할 기본 예산
+     */
+    private int defaultBudget = 20;
+
+    /**
+     * 엔드포인트별 예산
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
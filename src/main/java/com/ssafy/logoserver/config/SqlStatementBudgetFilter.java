@@ -0,0 +1,82 @@
+package com.ssafy.logoserver.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 문 실행 수 측정 필터
+ * 요청 처리 전후의 SqlStatementCounter 값 차이를 엔드포인트별로 기록하고,
+ * 설정된 예산(sql-budget.*)을 넘으면 경고 로그와 http.server.sql.budget.exceeded 카운터를 남깁니다.
+ * 지연 로딩 반복(N+1)으로 쿼리 수가 늘어난 엔드포인트를 운영 전에 찾기 위한 용도입니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = SqlStatementCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, SqlStatementCounter.current() - before);
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements) {
+        // 컨트롤러에 매핑되지 않은 요청(정적 리소스, 404 등)은 제외
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return;
+        }
+        String uri = pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 SQL 문 실행 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = properties.budgetFor(method + " " + uri);
+        if (statements > budget) {
+            Counter.builder("http.server.sql.budget.exceeded")
+                    .description("SQL 문 실행 예산 초과 요청 수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("SQL 실행 예산 초과 (N+1 의심) - {} {}, 실행: {}회, 예산: {}회",
+                    method, uri, statements, budget);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.logoserver.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 문 실행 수 집계기 (Hibernate StatementInspector)
+ * hibernate.session_factory.statement_inspector 로 등록되어 Hibernate 가 준비하는 모든 SQL 을 셉니다.
+ * 요청(SqlStatementBudgetFilter)이나 테스트(SqlStatementAssertions)는 전후 값의 차이로 실행 수를 구합니다.
+ * 누적 값만 증가시키므로 요청 필터와 테스트 측정이 겹쳐도 서로의 값을 지우지 않습니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행한 SQL 문 수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
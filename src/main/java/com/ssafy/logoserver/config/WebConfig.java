@@ -16,7 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "http://localhost:8080", "http://localhost:8090")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
-                .exposedHeaders("Authorization") // Authorization 헤더 노출 추가
+                .exposedHeaders("Authorization", "ETag") // Authorization, ETag 헤더 노출 추가
                 .allowCredentials(true)
                 .maxAge(3600);
     }
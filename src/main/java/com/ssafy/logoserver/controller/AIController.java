@@ -1,11 +1,12 @@
 package com.ssafy.logoserver.controller;
 
+import com.ssafy.logoserver.domain.ai.dto.ChatMemoryUsage;
 import com.ssafy.logoserver.domain.ai.dto.ChatRequest;
 import com.ssafy.logoserver.domain.ai.dto.ChatResponse;
 import com.ssafy.logoserver.domain.ai.service.AIService;
-import com.ssafy.logoserver.service.NotionService;
+import com.ssafy.logoserver.domain.ai.service.TokenBudgetChatMemory;
+import com.ssafy.logoserver.domain.ai.service.TravelGuideRenderer;
 import com.ssafy.logoserver.utils.ResponseUtil;
-import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.core.io.ByteArrayResource;
@@ -23,6 +25,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.io.IOException;
+import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,18 +35,25 @@ import java.io.IOException;
 public class AIController {
 
     private final AIService AIService;
-    private final NotionService notionService;
+    private final TravelGuideRenderer travelGuideRenderer;
+    private final TokenBudgetChatMemory tokenBudgetChatMemory;
 
     @PostMapping("/openai")
     @Operation(summary = "OpenAI 모델과 채팅", description = "OpenAI 모델을 사용한 채팅 응답을 제공합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "채팅 성공"),
+            @ApiResponse(responseCode = "429", description = "AI 사용량 한도 초과 또는 요청 과다 (Retry-After 후 재시도)", content = @Content),
+            @ApiResponse(responseCode = "503", description = "AI 서비스 일시 중단", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
     public ResponseEntity<ChatResponse> chatWithOpenAi(
             @Parameter(description = "채팅 요청 정보", required = true)
             @RequestBody ChatRequest chatRequest) {
         ChatResponse chatResponse = AIService.chatWithOpenAi(chatRequest);
+        if (chatResponse.getAnswer() == null) {
+            // LLM 장애로 대체 응답이 반환된 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(chatResponse);
+        }
         return ResponseEntity.ok(chatResponse);
     }
 
@@ -51,15 +61,30 @@ public class AIController {
     @Operation(summary = "Anthropic Claude 모델과 채팅", description = "Anthropic Claude 모델을 사용한 채팅 응답을 제공합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "채팅 성공"),
+            @ApiResponse(responseCode = "429", description = "AI 사용량 한도 초과 또는 요청 과다 (Retry-After 후 재시도)", content = @Content),
+            @ApiResponse(responseCode = "503", description = "AI 서비스 일시 중단", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
     public ResponseEntity<ChatResponse> chatWithAnthropic(
             @Parameter(description = "채팅 요청 정보", required = true)
             @RequestBody ChatRequest chatRequest) {
         ChatResponse chatResponse = AIService.chatWithAnthropic(chatRequest);
+        if (chatResponse.getAnswer() == null) {
+            // LLM 장애로 대체 응답이 반환된 경우
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(chatResponse);
+        }
         return ResponseEntity.ok(chatResponse);
     }
 
+    @GetMapping("/{chatId}/memory")
+    @Operation(summary = "대화 기록 토큰 사용량 조회",
+            description = "다음 요청에 포함될 요약·최근 대화의 추정 토큰 수와 대화 전체 누적 토큰 수를 조회합니다.")
+    public ResponseEntity<ChatMemoryUsage> getChatMemoryUsage(
+            @Parameter(description = "채팅 세션 ID", required = true)
+            @PathVariable("chatId") UUID chatId) {
+        return ResponseEntity.ok(tokenBudgetChatMemory.usage(chatId.toString()));
+    }
+
     // 새로운 마크다운 파일 다운로드 메서드
     @GetMapping("/anthropic/markdown/{tuid}")
     @Operation(summary = "Anthropic Claude 모델과 채팅 (마크다운 파일 다운로드)",
@@ -67,31 +92,19 @@ public class AIController {
     public ResponseEntity<Resource> chatWithAnthropicAsMarkdown(
             @PathVariable("tuid") Long tuid) throws IOException {
 
-        String currentUserId = SecurityUtil.getCurrentUserId();
-
-        // 질문 만들기
-        log.info("여행 데이터 기반 AI 질문 생성 시작");
-        String question = notionService.getQuestionByTravelId(tuid, currentUserId);
-
-        if (question == null || question.trim().isEmpty()) {
-            log.error("AI 질문 생성 실패 - tuid: {}", tuid);
-        }
-
-        ChatRequest chatRequest = ChatRequest.builder()
-                .question(question)
-                .build();
-        ChatResponse chatResponse = AIService.chatWithAnthropic(chatRequest);
+        // 일정표는 서버에서 렌더링하고 여행 팁·총평만 AI로 생성
+        String guide = travelGuideRenderer.render(tuid);
 
         // 마크다운 콘텐츠를 바이트 배열로 변환
-        byte[] markdownContent = chatResponse.getAnswer().getBytes(StandardCharsets.UTF_8);
+        byte[] markdownContent = guide.getBytes(StandardCharsets.UTF_8);
 
         // ByteArrayResource 생성
         ByteArrayResource resource = new ByteArrayResource(markdownContent);
 
-        // 파일명 생성 (날짜 + chatId 사용)
-        String filename = String.format("travel-guide-%s-%s.md",
+        // 파일명 생성 (날짜 + 여행 ID 사용)
+        String filename = String.format("travel-guide-%s-%d.md",
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")),
-                chatResponse.getChatId().toString().substring(0, 8));
+                tuid);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
@@ -0,0 +1,21 @@
+package com.ssafy.logoserver.controller;
+
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionException;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
+import com.ssafy.logoserver.utils.ResponseUtil;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * AI 요청 거절을 429 응답으로 변환
+ * 클라이언트가 Retry-After 만큼 기다린 뒤 다시 요청하도록 합니다.
+ */
+@RestControllerAdvice
+public class AiAdmissionExceptionHandler {
+
+    @ExceptionHandler(AiAdmissionException.class)
+    public ResponseEntity<ResponseEnvelope> handleAiAdmission(AiAdmissionException e) {
+        return ResponseUtil.tooManyRequests(e.getMessage(), e.getRetryAfter());
+    }
+}
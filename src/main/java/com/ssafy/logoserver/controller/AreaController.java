@@ -2,6 +2,8 @@ package com.ssafy.logoserver.controller;
 
 import com.ssafy.logoserver.domain.area.dto.AreaDto;
 import com.ssafy.logoserver.domain.area.service.AreaService;
+import com.ssafy.logoserver.service.ResourceVersionService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,11 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/areas")
@@ -22,7 +26,13 @@ import java.util.Map;
 @Tag(name = "Area API", description = "지역 관리 API")
 public class AreaController {
 
+    /**
+     * 지역 목록 캐시 정책 - 공용 데이터이므로 1시간 동안 공유 캐시 허용
+     */
+    private static final CacheControl AREAS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
     private final AreaService areaService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @Operation(summary = "모든 지역 조회", description = "시스템에 등록된 모든 지역 정보를 조회합니다.")
@@ -30,9 +40,15 @@ public class AreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllAreas() {
+    public ResponseEntity<ResponseEnvelope> getAllAreas(ServletWebRequest webRequest) {
+        // 지역 목록은 거의 바뀌지 않으므로 버전이 같으면 조회 없이 304 응답
+        String eTag = resourceVersionService.eTag(ResourceVersionService.AREAS);
+        if (resourceVersionService.checkNotModified(webRequest, eTag, AREAS_CACHE_CONTROL)) {
+            return null;
+        }
+
         List<AreaDto> areas = areaService.getAllAreas();
-        return ResponseUtil.success(areas);
+        return ResponseUtil.success(areas, eTag, AREAS_CACHE_CONTROL);
     }
 
     @GetMapping("/{auid}")
@@ -41,7 +57,7 @@ public class AreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "지역을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAreaById(
+    public ResponseEntity<ResponseEnvelope> getAreaById(
             @Parameter(description = "지역 ID", required = true)
             @PathVariable Long auid) {
         try {
@@ -58,7 +74,7 @@ public class AreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "지역을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getSigsByRegion(
+    public ResponseEntity<ResponseEnvelope> getSigsByRegion(
             @Parameter(description = "지역 코드", required = true)
             @PathVariable Long regionCode) {
         try {
@@ -75,7 +91,7 @@ public class AreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "지역을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getRegionBySig(
+    public ResponseEntity<ResponseEnvelope> getRegionBySig(
             @Parameter(description = "시/군/구 코드", required = true)
             @PathVariable Long sigCode) {
         try {
@@ -4,6 +4,7 @@ import com.ssafy.logoserver.domain.user.dto.*;
 import com.ssafy.logoserver.domain.user.service.UserService;
 import com.ssafy.logoserver.security.jwt.JwtTokenProvider;
 import com.ssafy.logoserver.security.jwt.TokenRotationService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,7 +28,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,7 +49,7 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "로그인 성공"),
             @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> login(
+    public ResponseEntity<ResponseEnvelope> login(
             @Valid @RequestBody LoginRequestDto loginRequestDto,
             HttpServletResponse response) {
         try {
@@ -74,7 +74,7 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "등록 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> signup(@Valid @RequestBody UserRequestDto userRequestDto) {
+    public ResponseEntity<ResponseEnvelope> signup(@Valid @RequestBody UserRequestDto userRequestDto) {
         try {
             UserDto createdUser = userService.createUser(userRequestDto);
             return ResponseUtil.success(createdUser);
@@ -91,7 +91,7 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "갱신 성공"),
             @ApiResponse(responseCode = "401", description = "토큰 검증 실패", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> refreshToken(
+    public ResponseEntity<ResponseEnvelope> refreshToken(
             HttpServletRequest request,
             HttpServletResponse response) {
 
@@ -109,30 +109,15 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     })
-    public ResponseEntity<Map<String, Object>> logout(
+    public ResponseEntity<ResponseEnvelope> logout(
             HttpServletRequest request,
             HttpServletResponse response) {
 
         log.info("로그아웃 요청 받음");
 
-        // 쿠키 정보 로깅
+        // 쿠키는 개수만 기록 (Cookie, Authorization 헤더 값에 액세스·리프레시 토큰이 들어 있으므로 헤더는 기록하지 않음)
         Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                log.info("쿠키 발견: {} = {}", cookie.getName(), "값 있음");
-            }
-        } else {
-            log.info("요청에 쿠키 없음");
-        }
-
-        // Headers 정보 로깅
-        Enumeration<String> headerNames = request.getHeaderNames();
-        if (headerNames != null) {
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement();
-                log.info("헤더 발견: {} = {}", headerName, request.getHeader(headerName));
-            }
-        }
+        log.debug("요청 쿠키 수: {}", cookies != null ? cookies.length : 0);
 
         try {
             tokenRotationService.logout(request, response);
@@ -152,7 +137,7 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getCurrentUser() {
+    public ResponseEntity<ResponseEnvelope> getCurrentUser() {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
             if (currentUserId == null) {
@@ -173,14 +158,14 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "유효한 토큰"),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> validateToken() {
+    public ResponseEntity<ResponseEnvelope> validateToken() {
         // 인증되어 있다면 200 OK 반환
         return ResponseUtil.success();
     }
 
     @GetMapping("/oauth2/status")
     @Operation(summary = "OAuth2 로그인 상태 확인", description = "현재 OAuth2 로그인 상태를 확인합니다.")
-    public ResponseEntity<Map<String, Object>> getOAuth2LoginStatus(HttpServletRequest request) {
+    public ResponseEntity<ResponseEnvelope> getOAuth2LoginStatus(HttpServletRequest request) {
         // 토큰 확인을 통해 로그인 상태 판단
         String token = getTokenFromRequest(request);
         if (token != null && jwtTokenProvider.validateToken(token)) {
@@ -1,10 +1,8 @@
 package com.ssafy.logoserver.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.logoserver.service.NotionTokenRequester;
+import com.ssafy.logoserver.service.NotionApiClient;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -14,8 +12,11 @@ import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
+@Slf4j
 public class NotionApiController {
 
+    private final NotionApiClient notionApiClient;
+
     private static final String callBackUrl = "http://localhost:8080/api/notion/test"; // redirection url 을 입력해주세요
     private static final String clientId = "1f2d872b-594c-8040-b9b5-003752b84140";//clientId 를 입력해주세요
     private static final String authorizeUrl = "https://api.notion.com/v1/oauth/authorize?owner=user";
@@ -36,23 +37,14 @@ public class NotionApiController {
     //리다이렉션 url로부터 code를 받아와 json 을 요청하여 액세스토큰을 받는 메소드
     @GetMapping("/api/notion/test")
     @ResponseBody
-    public String handleCallback(@RequestParam("code") String code) throws JsonProcessingException {
-        // Do something with the code
-        System.out.println("Authorization Code: " + code);
-
-        NotionTokenRequester requester = new NotionTokenRequester(clientId, clientPw);
-        requester.addParameter("grant_type", "authorization_code");
-        requester.addParameter("code", code);
-        requester.addParameter("redirect_uri", callBackUrl);
+    public String handleCallback(@RequestParam("code") String code) {
+        // 인가 코드와 액세스 토큰은 로그에 남기지 않음
+        log.debug("Notion OAuth 콜백 수신 - 액세스 토큰 교환 시작");
 
-        String response = requester.requestToken("https://api.notion.com/v1/oauth/token");
-
-        System.out.println(response);
-        Map<String, Object> jsonMap = new ObjectMapper().readValue(response, new TypeReference<Map<String, Object>>() {});
+        Map<String, Object> jsonMap = notionApiClient.exchangeOAuthCode(clientId, clientPw, code, callBackUrl);
         String accessToken = (String) jsonMap.get("access_token");
 
-
-        System.out.println("Access Token: " + accessToken);
+        log.debug("Notion 액세스 토큰 교환 완료 - 발급 여부: {}", accessToken != null);
 
         // Redirect to another page
         return accessToken;
@@ -1,14 +1,13 @@
 package com.ssafy.logoserver.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionException;
 import com.ssafy.logoserver.domain.notion.dto.NotionIntegrationDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelIdDto;
 import com.ssafy.logoserver.domain.user.service.UserService;
 import com.ssafy.logoserver.service.NotionIntegrationService;
 import com.ssafy.logoserver.service.NotionService;
-import com.ssafy.logoserver.service.NotionTokenRequester;
+import com.ssafy.logoserver.service.NotionApiClient;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,17 +21,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -62,13 +54,15 @@ public class NotionIntegrationController {
     private final Map<String, String> sessionUserMap = new ConcurrentHashMap<>();
     private final NotionIntegrationService notionIntegrationService;
     private final NotionService notionService;
-    public NotionIntegrationController(WebClient.Builder webClientBuilder,
-                                       NotionIntegrationService notionIntegrationService,
+    private final NotionApiClient notionApiClient;
+    public NotionIntegrationController(NotionIntegrationService notionIntegrationService,
                                        NotionService notionService,
+                                       NotionApiClient notionApiClient,
                                        TravelIdDto travelIdDto,
                                        UserService userService) {
         this.notionIntegrationService = notionIntegrationService;
         this.notionService = notionService;
+        this.notionApiClient = notionApiClient;
         this.userService = userService;
     }
 
@@ -140,9 +134,10 @@ public class NotionIntegrationController {
             @ApiResponse(responseCode = "200", description = "처리 성공 (AI 분석 및 Notion 작성 결과 포함)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 (인증 코드 누락 등)", content = @Content),
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
+            @ApiResponse(responseCode = "429", description = "AI 사용량 한도 초과 (Retry-After 후 재시도)", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> processAiToNotion(
+    public ResponseEntity<ResponseEnvelope> processAiToNotion(
             @Parameter(description = "노션 인증 코드", required = true)
             @RequestParam("code") String code) {
         try {
@@ -169,18 +164,7 @@ public class NotionIntegrationController {
 
             log.info("노션 액세스 토큰 획득 완료");
 
-            // 질문 만들기
-            log.info("여행 데이터 기반 AI 질문 생성 시작 - tuid: {}", tuid);
-            String question = notionService.getQuestionByTravelId(tuid, currentUserId);
-
-            if (question == null || question.trim().isEmpty()) {
-                log.error("AI 질문 생성 실패 - tuid: {}", tuid);
-                return ResponseUtil.badRequest("여행 데이터를 기반으로 질문을 생성할 수 없습니다.");
-            }
-
-            log.info("AI 질문 생성 완료 - 질문 길이: {} 글자", question.length());
-
-            // 5. 사용자의 노션 페이지 ID 가져오기
+            // 4. 사용자의 노션 페이지 ID 가져오기
             String notionPageId = userService.getNotionPageIdById(currentUserId);
             if (notionPageId == null || notionPageId.trim().isEmpty()) {
                 log.error("사용자의 노션 페이지 ID가 설정되지 않음 - 사용자: {}", currentUserId);
@@ -189,18 +173,12 @@ public class NotionIntegrationController {
 
             log.info("사용자 노션 페이지 ID 확인 완료: {}", notionPageId);
 
-            // 6. NotionIntegrationDto 생성
-            NotionIntegrationDto request = NotionIntegrationDto.builder()
-                    .question(question)
-                    .notionAccessToken(notionAccessToken)
-                    .notionPageId(notionPageId)
-                    .build();
-
-            // 7. AI 분석 및 Notion 작성 처리
-            log.info("AI 분석 및 노션 작성 시작");
-            NotionIntegrationDto.Response response = notionIntegrationService.processAiToNotion(request);
+            // 5. 일정표는 서버에서 렌더링하고 조언만 AI로 생성한 가이드를 Notion에 작성
+            log.info("여행 가이드 생성 및 노션 작성 시작 - tuid: {}", tuid);
+            NotionIntegrationDto.Response response =
+                    notionIntegrationService.processGuideToNotion(tuid, notionAccessToken, notionPageId);
 
-            // 8. 세션 정리 (처리 완료 후)
+            // 6. 세션 정리 (처리 완료 후)
             sessionTravelMap.remove(currentUserId);
             log.info("세션 정리 완료 - 사용자: {}", currentUserId);
 
@@ -209,6 +187,8 @@ public class NotionIntegrationController {
 
             return ResponseUtil.success(response);
 
+        } catch (AiAdmissionException e) {
+            return ResponseUtil.tooManyRequests(e.getMessage(), e.getRetryAfter());
         } catch (Exception e) {
             log.error("AI-Notion 통합 처리 중 오류 발생", e);
             return ResponseUtil.internalServerError("처리 중 오류가 발생했습니다: " + e.getMessage());
@@ -234,9 +214,10 @@ public class NotionIntegrationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "처리 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
+            @ApiResponse(responseCode = "429", description = "AI 사용량 한도 초과 (Retry-After 후 재시도)", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> processTravelToNotion(
+    public ResponseEntity<ResponseEnvelope> processTravelToNotion(
             @Parameter(description = "여행 데이터 JSON 문자열", required = true)
             @RequestParam String travelData,
             @Parameter(description = "Notion 액세스 토큰", required = true)
@@ -261,30 +242,53 @@ public class NotionIntegrationController {
                 return ResponseUtil.badRequest("Notion 페이지 ID가 필요합니다.");
             }
 
-            // 여행 데이터를 AI 질문으로 포맷팅
-            String formattedQuestion = notionIntegrationService.formatTravelDataForAi(travelData);
-
-            // NotionIntegrationDto 생성
-            NotionIntegrationDto request = NotionIntegrationDto.builder()
-                    .question(formattedQuestion)
-                    .notionAccessToken(notionAccessToken)
-                    .notionPageId(notionPageId)
-                    .build();
-
-            // AI 분석 및 Notion 작성 처리
-            NotionIntegrationDto.Response response = notionIntegrationService.processAiToNotion(request);
+            // 여행 데이터를 AI로 분석 (긴 여행은 일자별 분할 생성) 후 Notion 작성
+            NotionIntegrationDto.Response response = notionIntegrationService.processTravelDataToNotion(
+                    travelData, notionAccessToken, notionPageId);
 
             log.info("여행 데이터 AI-Notion 통합 처리 완료 - 성공: {}, Notion 작성: {}",
                     response.isSuccess(), response.isNotionWriteSuccess());
 
             return ResponseUtil.success(response);
 
+        } catch (AiAdmissionException e) {
+            return ResponseUtil.tooManyRequests(e.getMessage(), e.getRetryAfter());
         } catch (Exception e) {
             log.error("여행 데이터 AI-Notion 통합 처리 중 오류 발생", e);
             return ResponseUtil.internalServerError("처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 여행 데이터 가이드 생성 예상치 조회
+     * travel-to-notion 요청 전에 호출해 예상 소요 시간으로 진행률을 표시합니다.
+     *
+     * @param travelData 여행 데이터 JSON 문자열
+     * @return 생성 방식, 요청 수, 예상 출력 토큰 수, 예상 소요 시간(초)
+     */
+    @PostMapping("/travel-to-notion/estimate")
+    @ResponseBody
+    @Operation(
+            summary = "여행 데이터 가이드 생성 예상치",
+            description = "여행 일수와 방문지 수로 AI 가이드 생성에 필요한 출력 토큰 수와 예상 소요 시간을 계산합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> estimateTravelToNotion(
+            @Parameter(description = "여행 데이터 JSON 문자열", required = true)
+            @RequestParam String travelData) {
+        if (travelData == null || travelData.trim().isEmpty()) {
+            return ResponseUtil.badRequest("여행 데이터가 필요합니다.");
+        }
+        try {
+            return ResponseUtil.success(notionIntegrationService.estimateTravelDataGuide(travelData));
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
     /**
      * Notion 페이지 접근 가능 여부 확인
      * 주어진 액세스 토큰으로 지정된 페이지에 접근할 수 있는지 확인합니다.
@@ -303,7 +307,7 @@ public class NotionIntegrationController {
             @ApiResponse(responseCode = "200", description = "확인 완료"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> checkNotionPage(
+    public ResponseEntity<ResponseEnvelope> checkNotionPage(
             @Parameter(description = "Notion 액세스 토큰", required = true)
             @RequestParam String notionAccessToken,
             @Parameter(description = "확인할 Notion 페이지 ID", required = true)
@@ -344,28 +348,21 @@ public class NotionIntegrationController {
      * 노션 인증 코드를 액세스 토큰으로 교환
      * @param code 노션 인증 코드
      * @return 노션 액세스 토큰
-     * @throws JsonProcessingException JSON 처리 오류
      */
-    private String handleRedirectUrl(String code) throws JsonProcessingException {
+    private String handleRedirectUrl(String code) {
         log.info("노션 토큰 교환 시작");
 
-        NotionTokenRequester requester = new NotionTokenRequester(clientId, clientPw);
-        requester.addParameter("grant_type", "authorization_code");
-        requester.addParameter("code", code);
-        requester.addParameter("redirect_uri", callBackUrl);
-
-        String response = requester.requestToken("https://api.notion.com/v1/oauth/token");
+        Map<String, Object> jsonMap = notionApiClient.exchangeOAuthCode(clientId, clientPw, code, callBackUrl);
         log.info("노션 토큰 응답 수신");
 
-        Map<String, Object> jsonMap = new ObjectMapper().readValue(response, new TypeReference<Map<String, Object>>() {});
-        String notionAccessToken = (String) jsonMap.get("access_token");
+        String notionAccessToken = jsonMap == null ? null : (String) jsonMap.get("access_token");
 
         if (notionAccessToken == null) {
-            log.error("노션 액세스 토큰이 응답에 없음: {}", response);
+            log.error("노션 액세스 토큰이 응답에 없음");
             throw new RuntimeException("노션 액세스 토큰을 받을 수 없습니다.");
         }
 
         log.info("노션 액세스 토큰 획득 성공");
         return notionAccessToken;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ package com.ssafy.logoserver.controller;
 import com.ssafy.logoserver.domain.user.dto.OAuth2UserCompletionDto;
 import com.ssafy.logoserver.domain.user.dto.UserDto;
 import com.ssafy.logoserver.domain.user.service.OAuth2UserService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,7 +51,7 @@ public class OAuth2UserController {
             @ApiResponse(responseCode = "200", description = "Success"),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
-    public ResponseEntity<Map<String, Object>> getOAuth2UserInfo(@AuthenticationPrincipal OAuth2User oAuth2User) {
+    public ResponseEntity<ResponseEnvelope> getOAuth2UserInfo(@AuthenticationPrincipal OAuth2User oAuth2User) {
         if (oAuth2User == null) {
             return ResponseUtil.error(org.springframework.http.HttpStatus.UNAUTHORIZED, "OAuth2 authentication required.");
         }
@@ -72,7 +73,7 @@ public class OAuth2UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Status retrieved successfully")
     })
-    public ResponseEntity<Map<String, Object>> getOnboardingStatus(HttpServletRequest request) {
+    public ResponseEntity<ResponseEnvelope> getOnboardingStatus(HttpServletRequest request) {
         log.info("OAuth2 온보딩 상태 확인 시작");
 
         // 인증 쿠키 확인 - 사용자가 로그인되어 있어야 함
@@ -142,7 +143,7 @@ public class OAuth2UserController {
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "409", description = "Nickname already exists")
     })
-    public ResponseEntity<Map<String, Object>> completeOAuth2UserInfo(
+    public ResponseEntity<ResponseEnvelope> completeOAuth2UserInfo(
             @Valid @RequestBody OAuth2UserCompletionDto completionDto,
             HttpServletRequest request,
             HttpServletResponse response) {
@@ -193,7 +194,7 @@ public class OAuth2UserController {
      */
     @GetMapping("/login-urls")
     @Operation(summary = "Get OAuth2 Login URLs", description = "Retrieve available OAuth2 login URLs.")
-    public ResponseEntity<Map<String, Object>> getOAuth2LoginUrls() {
+    public ResponseEntity<ResponseEnvelope> getOAuth2LoginUrls() {
         Map<String, String> loginUrls = oAuth2UserService.getOAuth2LoginUrls();
         return ResponseUtil.success(loginUrls);
     }
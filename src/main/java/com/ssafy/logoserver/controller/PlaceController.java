@@ -1,9 +1,19 @@
 package com.ssafy.logoserver.controller;
 
+import com.ssafy.logoserver.domain.area.dto.NearbyPlaceDto;
 import com.ssafy.logoserver.domain.area.dto.PlaceDetailDto;
 import com.ssafy.logoserver.domain.area.dto.PlaceDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceRankingPageDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceSearchPageDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceSuggestionDto;
+import com.ssafy.logoserver.domain.area.service.NearbyPlaceService;
+import com.ssafy.logoserver.domain.area.service.PlaceRankingService;
+import com.ssafy.logoserver.domain.area.service.PlaceSearchService;
 import com.ssafy.logoserver.domain.area.service.PlaceService;
+import com.ssafy.logoserver.service.ResourceVersionService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
+import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,11 +22,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/places")
@@ -25,7 +37,21 @@ import java.util.Map;
 @Tag(name = "Place API", description = "장소 관리 API")
 public class PlaceController {
 
+    /**
+     * 장소 상세 캐시 정책 - 사용자별 응답이므로 브라우저에만 저장하고 매번 ETag 로 재검증
+     */
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    /**
+     * 인증 이미지 Presigned URL(30분) 재발급 주기 (밀리초)
+     */
+    private static final long PRESIGN_BUCKET_MILLIS = 15 * 60 * 1000L;
+
     private final PlaceService placeService;
+    private final NearbyPlaceService nearbyPlaceService;
+    private final PlaceSearchService placeSearchService;
+    private final PlaceRankingService placeRankingService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @Operation(summary = "모든 장소 조회", description = "시스템에 등록된 모든 장소 정보를 조회합니다.")
@@ -33,7 +59,7 @@ public class PlaceController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllPlaces() {
+    public ResponseEntity<ResponseEnvelope> getAllPlaces() {
         List<PlaceDto> places = placeService.getAllPlaces();
         return ResponseUtil.success(places);
     }
@@ -44,7 +70,7 @@ public class PlaceController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "장소를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getPlaceById(
+    public ResponseEntity<ResponseEnvelope> getPlaceById(
             @Parameter(description = "장소 ID", required = true)
             @PathVariable Long puid,
             @Parameter(description = "장소 주소", required = true)
@@ -63,7 +89,7 @@ public class PlaceController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "지역을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getPlacesByAreaId(
+    public ResponseEntity<ResponseEnvelope> getPlacesByAreaId(
             @Parameter(description = "지역 ID", required = true)
             @PathVariable Long areaId) {
         try {
@@ -79,7 +105,7 @@ public class PlaceController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Map<String, Object>> getPlacesByName(
+    public ResponseEntity<ResponseEnvelope> getPlacesByName(
             @Parameter(description = "장소 이름", required = true)
             @PathVariable String name) {
         List<PlaceDto> places = placeService.getPlacesByName(name);
@@ -87,15 +113,120 @@ public class PlaceController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "장소 검색", description = "이름에 특정 키워드가 포함된 모든 장소 정보를 검색합니다.")
+    @Operation(summary = "장소 검색", description = "이름 또는 주소에 키워드가 포함된 장소를 관련도(이름 접두 일치, 인기도)순으로 페이지 단위 검색합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "검색 성공")
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 요청", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> searchPlacesByNameKeyword(
+    public ResponseEntity<ResponseEnvelope> searchPlacesByNameKeyword(
             @Parameter(description = "검색 키워드", required = true)
-            @RequestParam String keyword) {
-        List<PlaceDto> places = placeService.searchPlacesByNameKeyword(keyword);
-        return ResponseUtil.success(places);
+            @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            PlaceSearchPageDto result = placeSearchService.search(keyword, page, size);
+            return ResponseUtil.success(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "장소 이름 자동완성", description = "입력 중인 접두어로 시작하는 장소 이름을 인기도순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 결과 수", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> autocompletePlaceNames(
+            @Parameter(description = "입력 중인 접두어", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "최대 결과 수 (최대 20)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<PlaceSuggestionDto> suggestions = placeSearchService.autocomplete(prefix, limit);
+            return ResponseUtil.success(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 장소 검색", description = "중심 좌표로부터 반경 내의 장소를 거리와 평균 별점을 반영한 순서로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 반경", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> getNearbyPlaces(
+            @Parameter(description = "중심 위도", required = true, example = "33.459198")
+            @RequestParam double latitude,
+            @Parameter(description = "중심 경도", required = true, example = "126.942394")
+            @RequestParam double longitude,
+            @Parameter(description = "반경 (km, 최대 50)", example = "3")
+            @RequestParam(defaultValue = "3") double radiusKm,
+            @Parameter(description = "최대 결과 수 (최대 200)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<NearbyPlaceDto> places = nearbyPlaceService.findNearbyPlaces(latitude, longitude, radiusKm, limit);
+            return ResponseUtil.success(places);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
+    @GetMapping("/ranking/areas/{auid}/most-liked")
+    @Operation(summary = "지역별 좋아요 순위", description = "지역(시/군/구)에서 좋아요가 많은 장소를 순위순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 요청", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> getMostLikedPlaces(
+            @Parameter(description = "지역 ID", required = true)
+            @PathVariable Long auid,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            PlaceRankingPageDto ranking = placeRankingService.getMostLikedInArea(auid, page, size);
+            return ResponseUtil.success(ranking);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
+    @GetMapping("/ranking/regions/{region}/trending")
+    @Operation(summary = "시/도별 주간 인기 장소", description = "이번 주 좋아요·방문 인증이 최근에 많이 몰린 장소를 순위순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 요청", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> getTrendingPlaces(
+            @Parameter(description = "시/도 코드", required = true)
+            @PathVariable Long region,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            PlaceRankingPageDto ranking = placeRankingService.getTrendingInRegion(region, page, size);
+            return ResponseUtil.success(ranking);
+        } catch (IllegalArgumentException e) {
+            return ResponseUtil.badRequest(e.getMessage());
+        }
+    }
+
+    @PostMapping("/ranking/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "장소 순위 재구성 (관리자 전용)", description = "DB 의 좋아요·인증 기록으로 모든 장소 순위를 다시 만듭니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재구성 완료 또는 다른 인스턴스에서 진행 중"),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
+    })
+    public ResponseEntity<ResponseEnvelope> rebuildRanking() {
+        boolean rebuilt = placeRankingService.rebuild();
+        return ResponseUtil.success(rebuilt ? "장소 순위 재구성이 완료되었습니다." : "다른 인스턴스에서 재구성 중입니다.");
     }
 
     @GetMapping("/{puid}/detail")
@@ -105,18 +236,25 @@ public class PlaceController {
             @ApiResponse(responseCode = "404", description = "장소를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getPlaceDetail(
+    public ResponseEntity<ResponseEnvelope> getPlaceDetail(
             @Parameter(description = "장소 ID", required = true)
-            @PathVariable Long puid) {
+            @PathVariable Long puid,
+            ServletWebRequest webRequest) {
         try {
             log.info("장소 상세 정보 조회 요청 - puid: {}", puid);
 
+            // 좋아요 여부는 사용자마다 다르고 이미지 URL 은 만료되므로 사용자와 발급 구간을 ETag 에 포함
+            String eTag = resourceVersionService.eTagWithVariant(placeDetailVariant(), ResourceVersionService.placeKey(puid));
+            if (resourceVersionService.checkNotModified(webRequest, eTag, DETAIL_CACHE_CONTROL)) {
+                return null;
+            }
+
             PlaceDetailDto placeDetail = placeService.getPlaceDetailById(puid);
 
             log.info("장소 상세 정보 조회 완료 - 장소명: {}, 인증 수: {}, 좋아요 수: {}",
                     placeDetail.getName(), placeDetail.getTotalReviewCount(), placeDetail.getTotalLikeCount());
 
-            return ResponseUtil.success(placeDetail);
+            return ResponseUtil.success(placeDetail, eTag, DETAIL_CACHE_CONTROL);
         } catch (IllegalArgumentException e) {
             log.error("장소 상세 정보 조회 실패 - puid: {}, 오류: {}", puid, e.getMessage());
             return ResponseUtil.notFound(e.getMessage());
@@ -125,4 +263,13 @@ public class PlaceController {
             return ResponseUtil.internalServerError("장소 상세 정보 조회 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 장소 상세 ETag 구분값 - 현재 사용자와 Presigned URL 발급 구간
+     */
+    private String placeDetailVariant() {
+        String currentUserId = SecurityUtil.getCurrentUserId();
+        String user = currentUserId != null ? Integer.toHexString(currentUserId.hashCode()) : "anonymous";
+        return user + "-" + (System.currentTimeMillis() / PRESIGN_BUCKET_MILLIS);
+    }
+}
@@ -3,6 +3,7 @@ package com.ssafy.logoserver.controller;
 import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelAreaRequestDto;
 import com.ssafy.logoserver.domain.travel.service.TravelAreaService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,7 +18,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * 여행 지역 컨트롤러
@@ -42,7 +42,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllTravelAreas() {
+    public ResponseEntity<ResponseEnvelope> getAllTravelAreas() {
         List<TravelAreaDto> travelAreas = travelAreaService.getAllTravelAreas();
         return ResponseUtil.success(travelAreas);
     }
@@ -58,7 +58,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행 지역을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelAreaById(
+    public ResponseEntity<ResponseEnvelope> getTravelAreaById(
             @Parameter(description = "여행 지역 ID", required = true)
             @PathVariable Long tauid) {
         try {
@@ -80,7 +80,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelAreasByTravelId(
+    public ResponseEntity<ResponseEnvelope> getTravelAreasByTravelId(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId) {
         try {
@@ -102,7 +102,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행 루트를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelAreasByTravelRootId(
+    public ResponseEntity<ResponseEnvelope> getTravelAreasByTravelRootId(
             @Parameter(description = "여행 루트 ID", required = true)
             @PathVariable Long travelRootId) {
         try {
@@ -126,7 +126,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> createTravelArea(
+    public ResponseEntity<ResponseEnvelope> createTravelArea(
             @Parameter(description = "여행 지역 정보", required = true)
             @RequestBody TravelAreaDto travelAreaDto) {
         try {
@@ -155,7 +155,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "404", description = "여행 지역을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateTravelArea(
+    public ResponseEntity<ResponseEnvelope> updateTravelArea(
             @Parameter(description = "여행 지역 ID", required = true)
             @PathVariable Long tauid,
             @Parameter(description = "수정할 여행 지역 정보", required = true)
@@ -185,7 +185,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> addTravelArea(
+    public ResponseEntity<ResponseEnvelope> addTravelArea(
             @Parameter(description = "여행 지역 추가 정보", required = true)
             @RequestBody TravelAreaRequestDto requestDto) {
         try {
@@ -220,7 +220,7 @@ public class TravelAreaController {
             @ApiResponse(responseCode = "404", description = "여행 지역을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteTravelArea(
+    public ResponseEntity<ResponseEnvelope> deleteTravelArea(
             @Parameter(description = "여행 지역 ID", required = true)
             @PathVariable Long tauid) {
         try {
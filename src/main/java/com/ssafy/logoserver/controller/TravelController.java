@@ -6,6 +6,8 @@ import com.ssafy.logoserver.domain.travel.dto.TravelDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelUpdateDto;
 import com.ssafy.logoserver.domain.travel.service.TravelService;
 import com.ssafy.logoserver.domain.user.service.UserService;
+import com.ssafy.logoserver.service.ResourceVersionService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,12 +19,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/travels")
@@ -31,8 +35,14 @@ import java.util.Map;
 @Slf4j
 public class TravelController {
 
+    /**
+     * 여행 상세 캐시 정책 - 브라우저에만 저장하고 매번 ETag 로 재검증
+     */
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final TravelService travelService;
     private final UserService userService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @Operation(summary = "모든 여행 조회", description = "시스템에 등록된 모든 여행 정보를 조회합니다.")
@@ -40,7 +50,7 @@ public class TravelController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllTravels(
+    public ResponseEntity<ResponseEnvelope> getAllTravels(
             @Parameter(description = "상세 정보 포함 여부", example = "false")
             @RequestParam(required = false, defaultValue = "false") boolean details) {
         List<TravelDto> travels;
@@ -58,7 +68,7 @@ public class TravelController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelById(
+    public ResponseEntity<ResponseEnvelope> getTravelById(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long tuid,
             @Parameter(description = "상세 정보 포함 여부", example = "false")
@@ -82,7 +92,7 @@ public class TravelController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelsByUserId(
+    public ResponseEntity<ResponseEnvelope> getTravelsByUserId(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable String userId) {
         try {
@@ -98,7 +108,7 @@ public class TravelController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Map<String, Object>> getTravelsByLocation(
+    public ResponseEntity<ResponseEnvelope> getTravelsByLocation(
             @Parameter(description = "여행 위치", required = true)
             @PathVariable String location) {
         List<TravelDto> travels = travelService.getTravelsByLocation(location);
@@ -110,7 +120,7 @@ public class TravelController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Map<String, Object>> getTravelsByTitle(
+    public ResponseEntity<ResponseEnvelope> getTravelsByTitle(
             @Parameter(description = "여행 제목 키워드", required = true)
             @PathVariable String title) {
         List<TravelDto> travels = travelService.getTravelsByTitle(title);
@@ -126,7 +136,7 @@ public class TravelController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> createTravel(
+    public ResponseEntity<ResponseEnvelope> createTravel(
             @Parameter(description = "여행 생성 정보", required = true)
             @Valid @RequestBody TravelCreateDto createDto) {
         try {
@@ -169,7 +179,7 @@ public class TravelController {
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateTravel(
+    public ResponseEntity<ResponseEnvelope> updateTravel(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long tuid,
             @Parameter(description = "수정할 여행 기본 정보", required = true)
@@ -213,7 +223,7 @@ public class TravelController {
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteTravel(
+    public ResponseEntity<ResponseEnvelope> deleteTravel(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long tuid) {
         try {
@@ -242,12 +252,23 @@ public class TravelController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelDetail(
+    public ResponseEntity<ResponseEnvelope> getTravelDetail(
             @Parameter(description = "여행 ID", required = true)
-            @PathVariable Long tuid) {
+            @PathVariable Long tuid,
+            ServletWebRequest webRequest) {
         try {
+            // 여행과 포함된 장소의 버전이 모두 그대로면 엔티티 조회 없이 304 응답
+            // (장소 정보는 여행 버전을 올리지 않고 바뀌므로 장소 ID 만 먼저 조회해 장소 버전도 포함)
+            List<String> versionKeys = new ArrayList<>();
+            versionKeys.add(ResourceVersionService.travelKey(tuid));
+            travelService.getPlaceIdsInTravel(tuid).forEach(puid -> versionKeys.add(ResourceVersionService.placeKey(puid)));
+            String eTag = resourceVersionService.eTag(versionKeys.toArray(String[]::new));
+            if (resourceVersionService.checkNotModified(webRequest, eTag, DETAIL_CACHE_CONTROL)) {
+                return null;
+            }
+
             TravelDetailDto travelDetail = travelService.getTravelDetailById(tuid);
-            return ResponseUtil.success(travelDetail);
+            return ResponseUtil.success(travelDetail, eTag, DETAIL_CACHE_CONTROL);
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
         } catch (Exception e) {
@@ -1,7 +1,11 @@
 package com.ssafy.logoserver.controller;
 
+import com.ssafy.logoserver.domain.image.dto.ImageUrlDto;
 import com.ssafy.logoserver.domain.image.dto.TravelImageDto;
+import com.ssafy.logoserver.domain.image.dto.TravelImageUrlDto;
+import com.ssafy.logoserver.domain.image.dto.UserImageUrlDto;
 import com.ssafy.logoserver.domain.image.service.TravelImageService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/travel-images")
@@ -31,7 +33,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllTravelImages() {
+    public ResponseEntity<ResponseEnvelope> getAllTravelImages() {
         List<TravelImageDto> travelImages = travelImageService.getAllTravelImages();
         return ResponseUtil.success(travelImages);
     }
@@ -42,7 +44,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행 이미지를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImageById(
+    public ResponseEntity<ResponseEnvelope> getTravelImageById(
             @Parameter(description = "여행 이미지 ID", required = true)
             @PathVariable Long tiuid) {
         try {
@@ -59,7 +61,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImagesByUserId(
+    public ResponseEntity<ResponseEnvelope> getTravelImagesByUserId(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable Long userId) {
         try {
@@ -76,7 +78,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImagesByTravelId(
+    public ResponseEntity<ResponseEnvelope> getTravelImagesByTravelId(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId) {
         try {
@@ -93,7 +95,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImagesByUserAndTravelId(
+    public ResponseEntity<ResponseEnvelope> getTravelImagesByUserAndTravelId(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable Long userId,
             @Parameter(description = "여행 ID", required = true)
@@ -117,7 +119,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "404", description = "여행 이미지를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImageUrl(
+    public ResponseEntity<ResponseEnvelope> getTravelImageUrl(
             @Parameter(description = "여행 이미지 ID", required = true)
             @PathVariable Long tiuid,
             @Parameter(description = "URL 만료 시간(분)", example = "30")
@@ -125,11 +127,7 @@ public class TravelImageController {
         try {
             String imageUrl = travelImageService.getTravelImageUrl(tiuid, expiryMinutes);
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("imageUrl", imageUrl);
-            response.put("expiryMinutes", expiryMinutes);
-
-            return ResponseUtil.success(response);
+            return ResponseUtil.success(new ImageUrlDto(imageUrl, expiryMinutes));
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
         } catch (Exception e) {
@@ -148,13 +146,13 @@ public class TravelImageController {
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelImageUrls(
+    public ResponseEntity<ResponseEnvelope> getTravelImageUrls(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId,
             @Parameter(description = "URL 만료 시간(분)", example = "30")
             @RequestParam(defaultValue = "30") int expiryMinutes) {
         try {
-            List<Map<String, Object>> imageUrls = travelImageService.getTravelImageUrls(travelId, expiryMinutes);
+            List<TravelImageUrlDto> imageUrls = travelImageService.getTravelImageUrls(travelId, expiryMinutes);
             return ResponseUtil.success(imageUrls);
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
@@ -174,13 +172,13 @@ public class TravelImageController {
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserImageUrls(
+    public ResponseEntity<ResponseEnvelope> getUserImageUrls(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable Long userId,
             @Parameter(description = "URL 만료 시간(분)", example = "30")
             @RequestParam(defaultValue = "30") int expiryMinutes) {
         try {
-            List<Map<String, Object>> imageUrls = travelImageService.getUserImageUrls(userId, expiryMinutes);
+            List<UserImageUrlDto> imageUrls = travelImageService.getUserImageUrls(userId, expiryMinutes);
             return ResponseUtil.success(imageUrls);
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
@@ -197,7 +195,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> createTravelImage(
+    public ResponseEntity<ResponseEnvelope> createTravelImage(
             @Parameter(description = "여행 이미지 정보", required = true)
             @RequestBody TravelImageDto travelImageDto) {
         try {
@@ -221,7 +219,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateTravelImage(
+    public ResponseEntity<ResponseEnvelope> updateTravelImage(
             @Parameter(description = "여행 이미지 ID", required = true)
             @PathVariable Long tiuid,
             @Parameter(description = "수정할 여행 이미지 정보", required = true)
@@ -247,7 +245,7 @@ public class TravelImageController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteTravelImage(
+    public ResponseEntity<ResponseEnvelope> deleteTravelImage(
             @Parameter(description = "여행 이미지 ID", required = true)
             @PathVariable Long tiuid,
             @Parameter(description = "사용자 ID", required = true)
@@ -4,6 +4,7 @@ import com.ssafy.logoserver.domain.travel.dto.TravelPaymentDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelPaymentRequestDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelPaymentUpdateDto;
 import com.ssafy.logoserver.domain.travel.service.TravelPaymentService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,7 +20,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * 여행 결제 내역 관리 컨트롤러
@@ -47,7 +47,7 @@ public class TravelPaymentController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelPaymentsByTravelId(
+    public ResponseEntity<ResponseEnvelope> getTravelPaymentsByTravelId(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId) {
         try {
@@ -81,7 +81,7 @@ public class TravelPaymentController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> addTravelPayment(
+    public ResponseEntity<ResponseEnvelope> addTravelPayment(
             @Parameter(description = "결제 내역 정보", required = true)
             @Valid @RequestBody TravelPaymentRequestDto requestDto) {
         try {
@@ -132,7 +132,7 @@ public class TravelPaymentController {
             @ApiResponse(responseCode = "404", description = "결제 내역을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateTravelPayment(
+    public ResponseEntity<ResponseEnvelope> updateTravelPayment(
             @Parameter(description = "결제 내역 ID", required = true)
             @PathVariable Long tpuid,
             @Parameter(description = "수정할 결제 내역 정보", required = true)
@@ -182,7 +182,7 @@ public class TravelPaymentController {
             @ApiResponse(responseCode = "404", description = "결제 내역을 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteTravelPayment(
+    public ResponseEntity<ResponseEnvelope> deleteTravelPayment(
             @Parameter(description = "결제 내역 ID", required = true)
             @PathVariable Long tpuid) {
         try {
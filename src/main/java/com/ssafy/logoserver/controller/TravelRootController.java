@@ -3,6 +3,8 @@ package com.ssafy.logoserver.controller;
 import com.ssafy.logoserver.domain.travel.dto.TravelRootDetailDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelRootDto;
 import com.ssafy.logoserver.domain.travel.service.TravelRootService;
+import com.ssafy.logoserver.service.ResourceVersionService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,13 +15,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/travel-roots")
@@ -28,7 +31,13 @@ import java.util.Map;
 @Slf4j
 public class TravelRootController {
 
+    /**
+     * 여행 루트 상세 캐시 정책 - 브라우저에만 저장하고 매번 ETag 로 재검증
+     */
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final TravelRootService travelRootService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping
     @Operation(summary = "모든 여행 루트 조회", description = "시스템에 등록된 모든 여행 루트 정보를 조회합니다.")
@@ -36,7 +45,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllTravelRoots() {
+    public ResponseEntity<ResponseEnvelope> getAllTravelRoots() {
         List<TravelRootDto> travelRoots = travelRootService.getAllTravelRoots();
         return ResponseUtil.success(travelRoots);
     }
@@ -47,7 +56,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행 루트를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelRootById(
+    public ResponseEntity<ResponseEnvelope> getTravelRootById(
             @Parameter(description = "여행 루트 ID", required = true)
             @PathVariable Long truid) {
         try {
@@ -64,7 +73,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelRootsByTravelId(
+    public ResponseEntity<ResponseEnvelope> getTravelRootsByTravelId(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId) {
         try {
@@ -81,7 +90,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "여행을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelRootsByTravelAndDay(
+    public ResponseEntity<ResponseEnvelope> getTravelRootsByTravelAndDay(
             @Parameter(description = "여행 ID", required = true)
             @PathVariable Long travelId,
             @Parameter(description = "여행 일자", required = true)
@@ -99,7 +108,7 @@ public class TravelRootController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Map<String, Object>> getTravelRootsByDate(
+    public ResponseEntity<ResponseEnvelope> getTravelRootsByDate(
             @Parameter(description = "조회 날짜 (yyyy-MM-dd)", required = true)
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         List<TravelRootDto> travelRoots = travelRootService.getTravelRootsByDate(date);
@@ -113,7 +122,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> createTravelRoot(
+    public ResponseEntity<ResponseEnvelope> createTravelRoot(
             @Parameter(description = "여행 루트 정보", required = true)
             @RequestBody TravelRootDto travelRootDto) {
         try {
@@ -133,7 +142,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "404", description = "여행 루트를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateTravelRoot(
+    public ResponseEntity<ResponseEnvelope> updateTravelRoot(
             @Parameter(description = "여행 루트 ID", required = true)
             @PathVariable Long truid,
             @Parameter(description = "수정할 여행 루트 정보", required = true)
@@ -155,7 +164,7 @@ public class TravelRootController {
             @ApiResponse(responseCode = "404", description = "여행 루트를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteTravelRoot(
+    public ResponseEntity<ResponseEnvelope> deleteTravelRoot(
             @Parameter(description = "여행 루트 ID", required = true)
             @PathVariable Long truid) {
         try {
@@ -176,12 +185,20 @@ public class TravelRootController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "404", description = "여행 루트를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getTravelRootDetail(
+    public ResponseEntity<ResponseEnvelope> getTravelRootDetail(
             @Parameter(description = "여행 루트 ID", required = true)
-            @PathVariable Long truid) {
+            @PathVariable Long truid,
+            ServletWebRequest webRequest) {
         try {
+            // 루트 상세에는 방문 장소의 인증 정보가 포함되므로 인증 버전도 함께 반영
+            String eTag = resourceVersionService.eTag(
+                    ResourceVersionService.travelRootKey(truid), ResourceVersionService.VERIFICATIONS);
+            if (resourceVersionService.checkNotModified(webRequest, eTag, DETAIL_CACHE_CONTROL)) {
+                return null;
+            }
+
             TravelRootDetailDto travelRootDetail = travelRootService.getTravelRootDetailById(truid);
-            return ResponseUtil.success(travelRootDetail);
+            return ResponseUtil.success(travelRootDetail, eTag, DETAIL_CACHE_CONTROL);
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
         } catch (Exception e) {
@@ -2,6 +2,7 @@ package com.ssafy.logoserver.controller;
 
 import com.ssafy.logoserver.domain.image.dto.TravelImageDto;
 import com.ssafy.logoserver.domain.image.service.TravelImageService;
+import com.ssafy.logoserver.domain.travel.dto.TravelCursorPageDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelDto;
 import com.ssafy.logoserver.domain.travel.service.TravelService;
 import com.ssafy.logoserver.domain.user.dto.UserDto;
@@ -10,6 +11,7 @@ import com.ssafy.logoserver.domain.user.dto.UserProfileWithTravelsDto;
 import com.ssafy.logoserver.domain.user.dto.UserRequestDto;
 import com.ssafy.logoserver.domain.user.service.UserLikeService;
 import com.ssafy.logoserver.domain.user.service.UserService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,7 +50,7 @@ public class UserController {
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
+    public ResponseEntity<ResponseEnvelope> getAllUsers() {
         List<UserDto> users = userService.getAllUsers();
         return ResponseUtil.success(users);
     }
@@ -59,7 +61,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserByUuid(
+    public ResponseEntity<ResponseEnvelope> getUserByUuid(
             @Parameter(description = "사용자 UUID", required = true)
             @PathVariable Long uuid) {
         try {
@@ -76,7 +78,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserById(
+    public ResponseEntity<ResponseEnvelope> getUserById(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable String id) {
         try {
@@ -93,7 +95,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserByNickname(
+    public ResponseEntity<ResponseEnvelope> getUserByNickname(
             @Parameter(description = "사용자 닉네임", required = true)
             @PathVariable String nickname) {
         try {
@@ -110,7 +112,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserTravels(
+    public ResponseEntity<ResponseEnvelope> getUserTravels(
             @Parameter(description = "사용자 UUID", required = true)
             @PathVariable Long uuid) {
         try {
@@ -128,7 +130,7 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserImages(
+    public ResponseEntity<ResponseEnvelope> getUserImages(
             @Parameter(description = "사용자 UUID", required = true)
             @PathVariable Long uuid) {
         try {
@@ -140,16 +142,20 @@ public class UserController {
     }
 
     @GetMapping("/{uuid}/liked-travels")
-    @Operation(summary = "사용자가 좋아요한 여행 목록 조회", description = "특정 사용자가 좋아요한 모든 여행 정보를 조회합니다.")
+    @Operation(summary = "사용자가 좋아요한 여행 목록 조회", description = "특정 사용자가 좋아요한 장소의 지역을 지나는 여행을 최신순으로 커서 페이지 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getUserLikedTravels(
+    public ResponseEntity<ResponseEnvelope> getUserLikedTravels(
             @Parameter(description = "사용자 UUID", required = true)
-            @PathVariable Long uuid) {
+            @PathVariable Long uuid,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<TravelDto> likedTravels = userLikeService.getLikedTravelsByUserId(uuid);
+            TravelCursorPageDto likedTravels = userLikeService.getLikedTravelsByUserId(uuid, cursor, size);
             return ResponseUtil.success(likedTravels);
         } catch (IllegalArgumentException e) {
             return ResponseUtil.notFound(e.getMessage());
@@ -190,7 +196,7 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateUser(
+    public ResponseEntity<ResponseEnvelope> updateUser(
             @Parameter(description = "사용자 UUID", required = true)
             @PathVariable Long uuid,
             @Parameter(description = "수정할 사용자 정보", required = true)
@@ -217,7 +223,7 @@ public class UserController {
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteUser(
+    public ResponseEntity<ResponseEnvelope> deleteUser(
             @Parameter(description = "사용자 UUID", required = true)
             @PathVariable Long uuid) {
         try {
@@ -238,7 +244,7 @@ public class UserController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getMyProfileWithTravels() {
+    public ResponseEntity<ResponseEnvelope> getMyProfileWithTravels() {
         try {
             String currentUserId = SecurityUtil.getCurrentUserId();
             if (currentUserId == null) {
@@ -280,7 +286,7 @@ public class UserController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> updateMyProfile(
+    public ResponseEntity<ResponseEnvelope> updateMyProfile(
             @Parameter(description = "수정할 프로필 정보", required = true)
             @Valid @RequestBody UserProfileUpdateDto updateDto) {
         try {
@@ -3,6 +3,7 @@ package com.ssafy.logoserver.controller;
 import com.ssafy.logoserver.domain.user.dto.UserLikeDetailDto;
 import com.ssafy.logoserver.domain.user.dto.UserLikeRequestDto;
 import com.ssafy.logoserver.domain.user.service.UserLikeService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,7 +19,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/user-likes")
@@ -41,7 +41,7 @@ public class UserLikeController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getMyLikes() {
+    public ResponseEntity<ResponseEnvelope> getMyLikes() {
         try {
             List<UserLikeDetailDto> userLikes = userLikeService.getCurrentUserLikes();
             return ResponseUtil.success(userLikes);
@@ -69,7 +69,7 @@ public class UserLikeController {
             @ApiResponse(responseCode = "409", description = "이미 좋아요한 장소", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> createUserLike(
+    public ResponseEntity<ResponseEnvelope> createUserLike(
             @Parameter(description = "좋아요 생성 요청 정보", required = true)
             @Valid @RequestBody UserLikeRequestDto requestDto) {
         try {
@@ -109,7 +109,7 @@ public class UserLikeController {
             @ApiResponse(responseCode = "404", description = "좋아요 정보를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteUserLikeById(
+    public ResponseEntity<ResponseEnvelope> deleteUserLikeById(
             @Parameter(description = "UserLike ID", required = true)
             @PathVariable Long uluid) {
         try {
@@ -152,7 +152,7 @@ public class UserLikeController {
             @ApiResponse(responseCode = "404", description = "장소 또는 좋아요 정보를 찾을 수 없음", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> deleteUserLikeByAddress(
+    public ResponseEntity<ResponseEnvelope> deleteUserLikeByAddress(
             @Parameter(description = "장소 주소", required = true)
             @RequestParam String address) {
         try {
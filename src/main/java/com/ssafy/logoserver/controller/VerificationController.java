@@ -3,6 +3,7 @@ package com.ssafy.logoserver.controller;
 import com.ssafy.logoserver.domain.travel.dto.VerificationDto;
 import com.ssafy.logoserver.domain.travel.dto.VerificationRequestDto;
 import com.ssafy.logoserver.domain.travel.service.VerificationService;
+import com.ssafy.logoserver.utils.ResponseEnvelope;
 import com.ssafy.logoserver.utils.ResponseUtil;
 import com.ssafy.logoserver.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/verifications")
@@ -37,7 +37,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getAllVerifications() {
+    public ResponseEntity<ResponseEnvelope> getAllVerifications() {
         List<VerificationDto> verifications = verificationService.getAllVerifications();
         return ResponseUtil.success(verifications);
     }
@@ -48,7 +48,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "위치 인증을 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getVerificationById(
+    public ResponseEntity<ResponseEnvelope> getVerificationById(
             @Parameter(description = "위치 인증 ID", required = true)
             @PathVariable Long vuid) {
         try {
@@ -65,7 +65,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getVerificationsByUserId(
+    public ResponseEntity<ResponseEnvelope> getVerificationsByUserId(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable Long userId) {
         try {
@@ -82,7 +82,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "장소를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getVerificationsByPlace(
+    public ResponseEntity<ResponseEnvelope> getVerificationsByPlace(
             @Parameter(description = "장소 ID", required = true)
             @RequestParam Long placeId,
             @Parameter(description = "장소 주소", required = true)
@@ -101,7 +101,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자 또는 장소를 찾을 수 없음", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> getVerificationByUserAndPlace(
+    public ResponseEntity<ResponseEnvelope> getVerificationByUserAndPlace(
             @Parameter(description = "사용자 ID", required = true)
             @PathVariable Long userId,
             @Parameter(description = "장소 ID", required = true)
@@ -129,7 +129,7 @@ public class VerificationController {
             @ApiResponse(responseCode = "401", description = "인증 필요", content = @Content),
             @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content)
     })
-    public ResponseEntity<Map<String, Object>> verifyPlace(
+    public ResponseEntity<ResponseEnvelope> verifyPlace(
             @Parameter(description = "방문 인증 정보", required = true)
             @RequestPart("verification") VerificationRequestDto requestDto,
             @Parameter(description = "인증 이미지 파일", required = true)
@@ -0,0 +1,35 @@
+package com.ssafy.logoserver.domain.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "대화 기록 토큰 사용량 DTO (토큰 수는 추정치)")
+public class ChatMemoryUsage {
+
+    @Schema(description = "채팅 세션 ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private String chatId;
+
+    @Schema(description = "다음 요청에 포함될 대화 기록 토큰 수 (요약 + 최근 대화)", example = "1850")
+    private int promptTokens;
+
+    @Schema(description = "누적 요약 토큰 수", example = "320")
+    private int summaryTokens;
+
+    @Schema(description = "그대로 포함되는 최근 대화 토큰 수", example = "1530")
+    private int recentTokens;
+
+    @Schema(description = "그대로 포함되는 최근 메시지 수", example = "8")
+    private int recentMessages;
+
+    @Schema(description = "요약을 기다리는 이전 메시지 수", example = "2")
+    private int pendingMessages;
+
+    @Schema(description = "요약으로 압축된 메시지 수", example = "24")
+    private int summarizedMessages;
+
+    @Schema(description = "대화 전체에서 저장된 메시지 토큰 합계", example = "15400")
+    private long totalTokens;
+}
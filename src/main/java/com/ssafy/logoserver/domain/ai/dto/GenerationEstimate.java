@@ -0,0 +1,23 @@
+package com.ssafy.logoserver.domain.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "AI 가이드 생성 예상치 DTO (진행률 표시용)")
+public class GenerationEstimate {
+
+    @Schema(description = "생성 방식 (single: 한 번에 생성, fan_out: 일자별 분할 생성)", example = "single")
+    private String mode;
+
+    @Schema(description = "LLM 요청 수", example = "1")
+    private int requests;
+
+    @Schema(description = "예상 출력 토큰 수 (모든 요청 합계)", example = "4200")
+    private int expectedTokens;
+
+    @Schema(description = "예상 소요 시간(초)", example = "84")
+    private long expectedSeconds;
+}
@@ -0,0 +1,40 @@
+package com.ssafy.logoserver.domain.ai.dto;
+
+import java.util.List;
+
+/**
+ * LLM이 작성하는 여행 가이드 조언 (구조화 출력)
+ * 일정표·통계처럼 데이터로 정해지는 부분은 서버에서 렌더링하고, LLM은 이 조언 항목만 생성합니다.
+ *
+ * @param transport 교통편 추천
+ * @param food 맛집 정보
+ * @param weather 날씨 및 준비물
+ * @param budget 예산 분석
+ * @param improvement 일정이 없는 날에 대한 개선 제안
+ * @param recommendations 빈 일정 날짜 추천 장소
+ * @param review 여행 총평
+ * @param improvements 개선 사항
+ * @param successTips 여행 성공을 위한 팁
+ */
+public record GuideAdvice(String transport,
+                          String food,
+                          String weather,
+                          String budget,
+                          String improvement,
+                          List<Recommendation> recommendations,
+                          String review,
+                          List<String> improvements,
+                          List<String> successTips) {
+
+    /**
+     * 추천 장소
+     *
+     * @param name 장소명
+     * @param address 주소 (지도 링크 생성에 사용)
+     * @param reason 추천 이유
+     * @param duration 소요 시간
+     * @param cost 예상 비용
+     */
+    public record Recommendation(String name, String address, String reason, String duration, String cost) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.logoserver.domain.ai.dto;
+
+import java.util.List;
+
+/**
+ * LLM 입력용 압축 여행 일정
+ * 일차별로 방문지를 미리 묶고 시간순으로 정렬한 형태로, ID·이미지·결제 정보처럼 일정 작성에 쓰이지 않는 필드는 담지 않습니다.
+ *
+ * @param title 여행 제목
+ * @param location 여행 지역
+ * @param period 여행 기간 (2025-05-28~2025-05-30)
+ * @param days 여행 일수 (양 끝 포함)
+ * @param peoples 여행 인원수
+ * @param budget 총 예산
+ * @param memo 여행 메모
+ * @param schedule 일차별 일정 (일차 오름차순, 방문지가 없는 날 포함)
+ * @param unassigned 일차에 연결되지 않은 방문지
+ */
+public record TravelPrompt(String title,
+                           String location,
+                           String period,
+                           Long days,
+                           Integer peoples,
+                           Integer budget,
+                           String memo,
+                           List<Day> schedule,
+                           List<Stop> unassigned) {
+
+    /**
+     * 하루 일정
+     *
+     * @param day 일차
+     * @param date 날짜 (2025-05-28)
+     * @param stops 방문지 (방문 시간 오름차순)
+     */
+    public record Day(Integer day, String date, List<Stop> stops) {
+    }
+
+    /**
+     * 방문지
+     *
+     * @param time 방문 시간 (09:00, 없으면 생략)
+     * @param name 장소명
+     * @param address 주소
+     * @param coord 좌표 (위도,경도)
+     * @param memo 장소 메모
+     */
+    public record Stop(String time, String name, String address, String coord, String memo) {
+    }
+}
@@ -2,6 +2,10 @@ package com.ssafy.logoserver.domain.ai.service;
 
 import com.ssafy.logoserver.domain.ai.dto.ChatRequest;
 import com.ssafy.logoserver.domain.ai.dto.ChatResponse;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -10,16 +14,36 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Service
+@Observed(name = "domain.service")
+@Slf4j
 public class AIService {
 
     private final ChatClient openAiChatClient;
     private final ChatClient anthropicChatClient;
+    private final RoutingChatClient chatRoutingClient;
+    private final GenerationCoalescer generationCoalescer;
+    private final OutputBudgetEstimator outputBudgetEstimator;
+    private final AiAdmissionControl aiAdmissionControl;
+    private final DownstreamLimiter downstreamLimiter;
+    private final LlmUsageMetrics llmUsageMetrics;
 
     public AIService(
             @Qualifier("openAiChatClient") ChatClient openAiChatClient,
-            @Qualifier("anthropicChatClient") ChatClient anthropicChatClient) {
+            @Qualifier("anthropicChatClient") ChatClient anthropicChatClient,
+            @Qualifier("chatRoutingClient") RoutingChatClient chatRoutingClient,
+            GenerationCoalescer generationCoalescer,
+            OutputBudgetEstimator outputBudgetEstimator,
+            AiAdmissionControl aiAdmissionControl,
+            DownstreamLimiter downstreamLimiter,
+            LlmUsageMetrics llmUsageMetrics) {
         this.openAiChatClient = openAiChatClient;
         this.anthropicChatClient = anthropicChatClient;
+        this.chatRoutingClient = chatRoutingClient;
+        this.generationCoalescer = generationCoalescer;
+        this.outputBudgetEstimator = outputBudgetEstimator;
+        this.aiAdmissionControl = aiAdmissionControl;
+        this.downstreamLimiter = downstreamLimiter;
+        this.llmUsageMetrics = llmUsageMetrics;
     }
 
     public ChatResponse chatWithOpenAi(ChatRequest chatRequest) {
@@ -27,16 +51,24 @@ public class AIService {
                 .ofNullable(chatRequest.getChatId())
                 .orElse(UUID.randomUUID());
 
-        String answer = openAiChatClient
-                .prompt()
-                .user(chatRequest.getQuestion())
-                .advisors(advisorSpec ->
-                        advisorSpec
-                                .param("chat_memory_conversation_id", chatId))
-                .call()
-                .content();
+        // 요청자 토큰 한도를 먼저 확인하고, 제공자 동시 호출 슬롯을 얻은 뒤 LLM 호출 (AiAdmissionControl)
+        // LLM 호출은 벌크헤드/타임아웃/서킷 브레이커를 거치며, 실패 시 응답 없이(null) 반환
+        // 같은 요청이 동시에 들어오면 LLM 호출은 한 번만 수행 (GenerationCoalescer)
+        try (AiAdmissionControl.Ticket ticket = aiAdmissionControl.admit(chatRequest.getQuestion(), null)) {
+            String answer = generationCoalescer.coalesce("openai", coalescingKey(chatRequest), () ->
+                    aiAdmissionControl.withPermit("openai", () ->
+                            downstreamLimiter.call(Downstream.LLM_OPENAI, () -> llmUsageMetrics.answer("openai",
+                                    ticket.record(openAiChatClient
+                                            .prompt()
+                                            .user(chatRequest.getQuestion())
+                                            .advisors(advisorSpec ->
+                                                    advisorSpec
+                                                            .param("chat_memory_conversation_id", chatId))
+                                            .call()
+                                            .chatResponse())), this::answerFallback)));
 
-        return new ChatResponse(chatId, answer);
+            return new ChatResponse(chatId, answer);
+        }
     }
 
     public ChatResponse chatWithAnthropic(ChatRequest chatRequest) {
@@ -44,15 +76,90 @@ public class AIService {
                 .ofNullable(chatRequest.getChatId())
                 .orElse(UUID.randomUUID());
 
-        String answer = anthropicChatClient
-                .prompt()
-                .user(chatRequest.getQuestion())
-                .advisors(advisorSpec ->
-                        advisorSpec
-                                .param("chat_memory_conversation_id", chatId))
-                .call()
-                .content();
+        // 요청자 토큰 한도를 먼저 확인하고, 제공자 동시 호출 슬롯을 얻은 뒤 LLM 호출 (AiAdmissionControl)
+        // LLM 호출은 벌크헤드/타임아웃/서킷 브레이커를 거치며, 실패 시 응답 없이(null) 반환
+        // 같은 요청이 동시에 들어오면 LLM 호출은 한 번만 수행 (GenerationCoalescer)
+        try (AiAdmissionControl.Ticket ticket = aiAdmissionControl.admit(chatRequest.getQuestion(), null)) {
+            String answer = generationCoalescer.coalesce("anthropic", coalescingKey(chatRequest), () ->
+                    aiAdmissionControl.withPermit("anthropic", () ->
+                            downstreamLimiter.call(Downstream.LLM, () -> llmUsageMetrics.answer("anthropic",
+                                    ticket.record(anthropicChatClient
+                                            .prompt()
+                                            .user(chatRequest.getQuestion())
+                                            .advisors(advisorSpec ->
+                                                    advisorSpec
+                                                            .param("chat_memory_conversation_id", chatId))
+                                            .call()
+                                            .chatResponse())), this::answerFallback)));
 
-        return new ChatResponse(chatId, answer);
+            return new ChatResponse(chatId, answer);
+        }
     }
-}
\ No newline at end of file
+
+    /**
+     * 제공자 라우팅을 거친 대화 요청
+     * 응답 시간 분위수로 고른 1차 제공자가 지연되면 다른 제공자에 헤지 요청을 보내고, 5xx·429 오류면 페일오버합니다.
+     *
+     * @param chatRequest 대화 요청
+     * @return 대화 응답 (모든 제공자가 실패하면 answer 가 null)
+     * @throws AiAdmissionException 요청자 토큰 한도 초과 또는 동시 호출 대기 시간 초과
+     */
+    public ChatResponse chat(ChatRequest chatRequest) {
+        return chat(chatRequest, null);
+    }
+
+    /**
+     * 출력 예산을 지정한 라우팅 대화 요청
+     *
+     * @param chatRequest 대화 요청
+     * @param budget      출력 예산 (null 이면 클라이언트 기본 max-tokens)
+     * @return 대화 응답 (모든 제공자가 실패하면 answer 가 null)
+     */
+    public ChatResponse chat(ChatRequest chatRequest, OutputBudgetEstimator.Estimate budget) {
+        UUID chatId = Optional
+                .ofNullable(chatRequest.getChatId())
+                .orElse(UUID.randomUUID());
+
+        // 헤지 요청으로 두 제공자의 응답을 받으면 두 응답의 토큰 모두 요청자 사용량으로 정산
+        try (AiAdmissionControl.Ticket ticket = aiAdmissionControl.admit(chatRequest.getQuestion(), budget)) {
+            String answer = generationCoalescer.coalesce("chat", coalescingKey(chatRequest), () ->
+                    aiAdmissionControl.withPermit("chat", () -> chatRoutingClient.call(client -> {
+                        ChatClient.ChatClientRequestSpec spec = client
+                                .prompt()
+                                .user(chatRequest.getQuestion())
+                                .advisors(advisorSpec ->
+                                        advisorSpec
+                                                .param("chat_memory_conversation_id", chatId));
+                        if (budget == null) {
+                            return ticket.record(spec.call().chatResponse());
+                        }
+                        return ticket.record(outputBudgetEstimator.measure(budget, () -> spec
+                                .options(outputBudgetEstimator.options(budget))
+                                .call()
+                                .chatResponse()));
+                    }, this::answerFallback)));
+
+            return new ChatResponse(chatId, answer);
+        }
+    }
+
+    /**
+     * 동일 요청 병합 키
+     * 클라이언트가 대화 ID를 지정하면 대화 기록에 따라 응답이 달라지므로 키에 포함하고,
+     * 새 대화(대화 ID 없음)는 질문이 같으면 같은 요청으로 봅니다. 병합된 요청의 응답은 먼저 시작한 대화에만 기록됩니다.
+     */
+    private static String coalescingKey(ChatRequest chatRequest) {
+        return chatRequest.getChatId() != null
+                ? chatRequest.getChatId() + "\n" + chatRequest.getQuestion()
+                : chatRequest.getQuestion();
+    }
+
+    /**
+     * LLM 호출 실패 시 대체 응답
+     * 응답 내용을 비워 두어 호출 측에서 실패를 구분할 수 있도록 합니다.
+     */
+    private String answerFallback(Throwable cause) {
+        log.warn("LLM 호출 실패 - {}", cause.getMessage());
+        return null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import com.ssafy.logoserver.service.TokenBucketLimiter.Bucket;
+import com.ssafy.logoserver.service.TokenBucketLimiter.Decision;
+import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AI 요청 승인 제어
+ * /api/chat/** 는 인증 없이 호출할 수 있으므로 LLM 토큰 사용량을 요청자별로 제한하고, 제공자별 동시 호출 수를 제한합니다.
+ * - 토큰 한도: 로그인 사용자는 사용자 ID, 비로그인 요청은 IP 별 Redis 토큰 버킷 (TokenBucketLimiter)
+ *   요청 시 예상 토큰(질문 + 예상 출력)을 예약하고, 완료 후 응답 메타데이터의 실제 입력·출력 토큰 수로 정산
+ *   (병합된 요청이나 실패한 요청은 LLM 을 직접 호출하지 않았으므로 예약을 환불)
+ * - 동시 호출: 제공자(또는 라우트)별 공정 세마포어, 꽉 차면 queue-timeout 까지 순서대로 대기
+ *   (guide 는 여행 가이드 생성 단위 - 조언 호출 하나 또는 분할 생성 한 건)
+ * 거절은 AiAdmissionException 으로 알리며 429 + Retry-After 로 응답됩니다.
+ * 동시 호출 상한은 인스턴스별 값입니다 (전체 상한 = 설정값 × 인스턴스 수).
+ */
+@Component
+@Slf4j
+public class AiAdmissionControl {
+
+    private static final String KEY_PREFIX = "ai:";
+
+    private final TokenBucketLimiter tokenBucketLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Bucket userBucket;
+    private final Bucket ipBucket;
+    private final int defaultCompletionReservation;
+    private final Duration queueTimeout;
+    private final Duration busyRetryAfter;
+    private final Map<String, Semaphore> concurrency;
+
+    public AiAdmissionControl(TokenBucketLimiter tokenBucketLimiter,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai.admission.user.capacity:100000}") long userCapacity,
+                              @Value("${ai.admission.user.refill-per-hour:100000}") long userRefillPerHour,
+                              @Value("${ai.admission.ip.capacity:30000}") long ipCapacity,
+                              @Value("${ai.admission.ip.refill-per-hour:30000}") long ipRefillPerHour,
+                              @Value("${ai.admission.default-completion-reservation:4000}") int defaultCompletionReservation,
+                              @Value("${ai.admission.max-concurrency.anthropic:6}") int anthropicConcurrency,
+                              @Value("${ai.admission.max-concurrency.openai:6}") int openAiConcurrency,
+                              @Value("${ai.admission.max-concurrency.chat:6}") int chatConcurrency,
+                              @Value("${ai.admission.max-concurrency.guide:4}") int guideConcurrency,
+                              @Value("${ai.admission.queue-timeout:5s}") Duration queueTimeout,
+                              @Value("${ai.admission.busy-retry-after:10s}") Duration busyRetryAfter) {
+        this.tokenBucketLimiter = tokenBucketLimiter;
+        this.meterRegistry = meterRegistry;
+        this.userBucket = Bucket.perHour(userCapacity, userRefillPerHour);
+        this.ipBucket = Bucket.perHour(ipCapacity, ipRefillPerHour);
+        this.defaultCompletionReservation = defaultCompletionReservation;
+        this.queueTimeout = queueTimeout;
+        this.busyRetryAfter = busyRetryAfter;
+        this.concurrency = Map.of(
+                "anthropic", new Semaphore(anthropicConcurrency, true),
+                "openai", new Semaphore(openAiConcurrency, true),
+                "chat", new Semaphore(chatConcurrency, true),
+                "guide", new Semaphore(guideConcurrency, true));
+    }
+
+    /**
+     * 요청자의 토큰 한도에서 예상 토큰을 예약 (한도를 넘으면 거절)
+     * 요청 스레드에서 호출해야 요청자(사용자 ID 또는 IP)를 알 수 있으며, 요청자를 알 수 없는 내부 호출은 제한하지 않습니다.
+     *
+     * @param question 질문
+     * @param budget   출력 예산 (null 이면 기본 예약량)
+     * @return 사용량 정산용 티켓 (try-with-resources 로 닫아야 정산됨)
+     * @throws AiAdmissionException 토큰 한도 초과
+     */
+    public Ticket admit(String question, OutputBudgetEstimator.Estimate budget) {
+        return admit(TravelPromptEncoder.estimateTokens(question)
+                + (budget != null ? budget.expectedTokens() : defaultCompletionReservation));
+    }
+
+    /**
+     * 요청자의 토큰 한도에서 여러 LLM 호출의 예상 토큰 합계를 한 번에 예약 (분할 생성처럼 한 요청이 여러 번 호출할 때)
+     *
+     * @param reserved 예약할 토큰 수 (입력 + 예상 출력)
+     * @return 사용량 정산용 티켓 (try-with-resources 로 닫아야 정산됨)
+     * @throws AiAdmissionException 토큰 한도 초과
+     */
+    public Ticket admit(long reserved) {
+        Requester requester = requester();
+        if (requester == null) {
+            return new Ticket(null, null, 0);
+        }
+
+        Decision decision = tokenBucketLimiter.tryConsume(requester.key(), requester.bucket(), reserved);
+        if (!decision.allowed()) {
+            count(requester.type(), "rejected_quota");
+            log.info("AI 토큰 한도 초과 - 요청자: {}, 예약: {}토큰, 재시도까지: {}", requester.key(), reserved,
+                    decision.retryAfter());
+            throw new AiAdmissionException("AI 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요.",
+                    decision.retryAfter());
+        }
+        count(requester.type(), "admitted");
+        return new Ticket(requester.key(), requester.bucket(), reserved);
+    }
+
+    /**
+     * 제공자(또는 라우트)의 동시 호출 슬롯을 얻어 LLM 호출 (슬롯이 없으면 queue-timeout 까지 대기)
+     *
+     * @param scope 제공자 또는 라우트 이름 (anthropic, openai, chat, guide)
+     * @param call  LLM 호출
+     * @return 호출 결과
+     * @throws AiAdmissionException 대기 시간 초과
+     */
+    public <T> T withPermit(String scope, Supplier<T> call) {
+        Semaphore permits = concurrency.get(scope);
+        if (permits == null) {
+            throw new IllegalArgumentException("동시 호출 상한이 설정되지 않은 범위: " + scope);
+        }
+
+        try {
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                count(scope, "rejected_busy");
+                throw new AiAdmissionException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        busyRetryAfter);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 요청 대기 중 취소되었습니다.", e);
+        }
+
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 현재 요청의 요청자 (로그인 사용자 우선, 없으면 IP)
+     * IP 는 신뢰 프록시가 보낸 X-Forwarded-For 를 Tomcat 이 반영한 주소입니다. (application-prod.yml 의 server.tomcat.remoteip)
+     */
+    private Requester requester() {
+        String userId = SecurityUtil.getCurrentUserId();
+        if (userId != null && !"anonymousUser".equals(userId)) {
+            return new Requester("user", KEY_PREFIX + "user:" + userId, userBucket);
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return new Requester("ip", KEY_PREFIX + "ip:" + attributes.getRequest().getRemoteAddr(), ipBucket);
+        }
+        return null;
+    }
+
+    private void count(String type, String outcome) {
+        Counter.builder("llm.admission")
+                .description("AI 요청 승인 제어 결과")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Requester(String type, String key, Bucket bucket) {
+    }
+
+    /**
+     * 예약한 토큰의 정산 티켓
+     * LLM 응답을 record 로 넘기면 닫을 때 실제 사용량과 예약량의 차이를 정산하고, 응답이 없으면 예약 전체를 환불합니다.
+     * 헤지 요청처럼 한 요청에서 여러 응답을 받으면 모두 합산합니다.
+     */
+    public final class Ticket implements AutoCloseable {
+
+        private final String key;
+        private final Bucket bucket;
+        private final long reserved;
+        private final AtomicLong used = new AtomicLong();
+        private volatile boolean recorded;
+
+        private Ticket(String key, Bucket bucket, long reserved) {
+            this.key = key;
+            this.bucket = bucket;
+            this.reserved = reserved;
+        }
+
+        /**
+         * 응답 메타데이터의 입력·출력 토큰 수를 사용량에 더함
+         *
+         * @param response LLM 응답
+         * @return 같은 응답 (호출 체인에 그대로 끼워 넣을 수 있도록)
+         */
+        public ChatResponse record(ChatResponse response) {
+            if (response != null && response.getMetadata() != null && response.getMetadata().getUsage() != null) {
+                Usage usage = response.getMetadata().getUsage();
+                Integer promptTokens = usage.getPromptTokens();
+                Integer completionTokens = usage.getCompletionTokens();
+                used.addAndGet((promptTokens != null ? promptTokens : 0)
+                        + (completionTokens != null ? completionTokens : 0));
+                recorded = true;
+            }
+            return response;
+        }
+
+        @Override
+        public void close() {
+            if (key == null) {
+                return;
+            }
+            long actual = recorded ? used.get() : 0;
+            tokenBucketLimiter.adjust(key, bucket, actual - reserved);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * AI 요청 거절 (토큰 한도 초과 또는 제공자 동시 호출 대기 시간 초과)
+ * AiAdmissionExceptionHandler 가 429 응답과 Retry-After 헤더로 변환합니다.
+ */
+@Getter
+public class AiAdmissionException extends RuntimeException {
+
+    /**
+     * 다시 시도할 수 있을 때까지의 시간
+     */
+    private final Duration retryAfter;
+
+    public AiAdmissionException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,328 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 AI 생성 요청 병합기 (single-flight)
+ * 가이드 다운로드 버튼을 두 번 누르거나 Notion 콜백이 재시도되어 같은 프롬프트가 동시에 들어오면 LLM 호출을 한 번만 수행합니다.
+ * - 인스턴스 내부: (범위, 프롬프트 해시)마다 진행 중인 생성 하나에 나머지 요청이 붙어 같은 결과를 받음
+ * - 인스턴스 간: Redis 락을 잡은 인스턴스만 생성하고, 결과를 잠시 저장한 뒤 완료 채널로 알림.
+ *   락은 생성이 끝날 때까지 lock-ttl 의 1/3 마다 연장하므로 헤지·페일오버로 생성이 길어져도 만료되지 않고,
+ *   락을 잡은 인스턴스가 죽으면 lock-ttl 안에 풀립니다.
+ *   락을 못 잡은 인스턴스는 락이 남아 있는 동안 알림을 기다렸다가 저장된 결과를 사용하고,
+ *   결과가 없으면(생성 실패, 락 소유 인스턴스 중단) 직접 생성합니다.
+ * Redis 장애 시에는 인스턴스 내부 병합만 동작합니다.
+ */
+@Component
+@Slf4j
+public class GenerationCoalescer implements MessageListener {
+
+    /**
+     * 생성 완료 알림 채널 (메시지 본문은 생성 키)
+     */
+    public static final String DONE_CHANNEL = "ai_generation:done";
+
+    private static final String LOCK_PREFIX = "ai_generation:lock:";
+    private static final String RESULT_PREFIX = "ai_generation:result:";
+
+    /**
+     * 자신이 잡은 락만 해제
+     */
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 자신이 잡은 락만 연장 (1: 연장, 0: 만료되어 잃음)
+     */
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    /**
+     * 락 소유자를 구분하기 위한 인스턴스 ID
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> remoteWaiters = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 생성의 락 연장
+     */
+    private final ScheduledExecutorService lockRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("ai-generation-lock-renewer").factory());
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Duration lockTtl;
+    private final Duration resultTtl;
+
+    public GenerationCoalescer(RedisTemplate<String, String> redisTemplate,
+                               DownstreamLimiter downstreamLimiter,
+                               MeterRegistry meterRegistry,
+                               @Value("${ai.coalescing.lock-ttl:30s}") Duration lockTtl,
+                               @Value("${ai.coalescing.result-ttl:60s}") Duration resultTtl) {
+        this.redisTemplate = redisTemplate;
+        this.downstreamLimiter = downstreamLimiter;
+        this.meterRegistry = meterRegistry;
+        this.lockTtl = lockTtl;
+        this.resultTtl = resultTtl;
+    }
+
+    /**
+     * 같은 범위·프롬프트의 생성이 진행 중이면 그 결과를 함께 받고, 없으면 직접 생성
+     *
+     * @param scope      생성 범위 (제공자나 라우트 이름, 같은 프롬프트라도 범위가 다르면 따로 생성)
+     * @param prompt     생성 결과를 결정하는 프롬프트 전체
+     * @param generation LLM 호출
+     * @return 생성 결과 (실패하면 generation 의 대체 응답)
+     */
+    public String coalesce(String scope, String prompt, Supplier<String> generation) {
+        String key = scope + ":" + hash(prompt);
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            count(scope, "local");
+            return await(existing);
+        }
+
+        try {
+            String answer = generateOnce(scope, key, generation);
+            mine.complete(answer);
+            return answer;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 생성 완료 알림 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CompletableFuture<Void> waiter = remoteWaiters.get(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (waiter != null) {
+            waiter.complete(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lockRenewer.shutdownNow();
+    }
+
+    private String generateOnce(String scope, String key, Supplier<String> generation) {
+        LockState lock = tryLock(key);
+        if (lock != LockState.BUSY) {
+            ScheduledFuture<?> renewal = lock == LockState.ACQUIRED ? scheduleRenewal(key) : null;
+            try {
+                String answer = generation.get();
+                storeResult(key, answer);
+                return answer;
+            } finally {
+                if (renewal != null) {
+                    renewal.cancel(false);
+                }
+                releaseLock(key);
+                publishDone(key);
+            }
+        }
+
+        String remote = awaitRemote(key);
+        if (remote != null) {
+            count(scope, "remote");
+            return remote;
+        }
+        log.debug("다른 인스턴스의 생성 결과 없음, 직접 생성 - {}", key);
+        return generation.get();
+    }
+
+    /**
+     * 생성 락 획득 (Redis 장애 시에는 락 없이 생성하도록 UNAVAILABLE)
+     */
+    private LockState tryLock(String key) {
+        try {
+            return Boolean.TRUE.equals(downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, instanceId, lockTtl)))
+                    ? LockState.ACQUIRED : LockState.BUSY;
+        } catch (Exception e) {
+            log.warn("생성 락 획득 실패, 인스턴스 내부 병합만 사용 - {}", e.getMessage());
+            return LockState.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 생성이 끝날 때까지 lock-ttl 의 1/3 마다 락 연장
+     */
+    private ScheduledFuture<?> scheduleRenewal(String key) {
+        long period = Math.max(1, lockTtl.toMillis() / 3);
+        return lockRenewer.scheduleAtFixedRate(() -> renewLock(key), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewLock(String key) {
+        try {
+            Long renewed = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.execute(RENEW_LOCK,
+                    List.of(LOCK_PREFIX + key), instanceId, String.valueOf(lockTtl.toMillis())));
+            if (renewed == null || renewed == 0) {
+                log.warn("생성 락을 잃음, 다른 인스턴스가 같은 생성을 시작할 수 있음 - {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("생성 락 연장 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 아직 생성 락을 가지고 있는지 (Redis 장애 시 false)
+     */
+    private boolean isLocked(String key) {
+        try {
+            return Boolean.TRUE.equals(downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.hasKey(LOCK_PREFIX + key)));
+        } catch (Exception e) {
+            log.warn("생성 락 확인 실패 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock(String key) {
+        try {
+            downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_PREFIX + key), instanceId));
+        } catch (Exception e) {
+            log.warn("생성 락 해제 실패, 만료까지 유지 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실패한 생성(null)은 저장하지 않아 대기 중인 인스턴스가 직접 생성하도록 함
+     */
+    private void storeResult(String key, String answer) {
+        if (answer == null || answer.isBlank()) {
+            return;
+        }
+        try {
+            downstreamLimiter.run(Downstream.REDIS,
+                    () -> redisTemplate.opsForValue().set(RESULT_PREFIX + key, answer, resultTtl));
+        } catch (Exception e) {
+            log.warn("생성 결과 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    private String readResult(String key) {
+        try {
+            return downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.opsForValue().get(RESULT_PREFIX + key));
+        } catch (Exception e) {
+            log.warn("생성 결과 조회 실패 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void publishDone(String key) {
+        try {
+            downstreamLimiter.run(Downstream.REDIS, () -> redisTemplate.convertAndSend(DONE_CHANNEL, key));
+        } catch (Exception e) {
+            log.warn("생성 완료 알림 발행 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 생성 완료를 락이 남아 있는 동안 기다린 뒤 저장된 결과 조회
+     * 완료 알림을 놓쳐도 lock-ttl 마다 락을 확인하므로, 락이 풀렸으면(완료, 소유 인스턴스 중단) 대기를 끝냅니다.
+     */
+    private String awaitRemote(String key) {
+        CompletableFuture<Void> done = remoteWaiters.computeIfAbsent(key, k -> new CompletableFuture<>());
+        try {
+            // 알림 대기를 등록한 뒤 조회해야 그 사이에 끝난 생성을 놓치지 않음
+            String stored = readResult(key);
+            if (stored != null) {
+                return stored;
+            }
+            while (true) {
+                try {
+                    done.get(lockTtl.toMillis(), TimeUnit.MILLISECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    if (!isLocked(key)) {
+                        break;
+                    }
+                }
+            }
+            return readResult(key);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 생성 대기 중 취소되었습니다.", e);
+        } finally {
+            remoteWaiters.remove(key, done);
+        }
+    }
+
+    private static String await(CompletableFuture<String> existing) {
+        try {
+            return existing.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime
+                    ? runtime : new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 생성 대기 중 취소되었습니다.", e);
+        }
+    }
+
+    private void count(String scope, String source) {
+        meterRegistry.counter("llm.coalesced", "scope", scope, "source", source).increment();
+    }
+
+    private static String hash(String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(prompt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private enum LockState {
+        ACQUIRED,
+        BUSY,
+        /**
+         * Redis 장애로 락 없이 생성
+         */
+        UNAVAILABLE
+    }
+}
@@ -0,0 +1,205 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.domain.ai.dto.GenerationEstimate;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import com.ssafy.logoserver.domain.ai.service.LlmRouter.Provider;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 긴 여행 가이드 분할 생성기
+ * 한 번의 긴 LLM 응답 대신 일자별 상세 분석과 마무리 섹션(개요·팁·총평)을 각각 짧게 요청해 동시에 생성하고,
+ * 일차 순서대로 합쳐 하나의 마크다운 문서를 만듭니다. 전체 소요 시간은 여행 일수가 아니라 가장 긴 하루에 맞춰집니다.
+ * - 동시 호출: 가상 스레드에서 실행하되 제공자별 허가 수(ai.fan-out.max-concurrency.*)로 제한하며, 섹션마다 제공자 라우팅(헤지·페일오버)을 거침
+ * - 실패: 일자 섹션은 일정 목록으로, 마무리 섹션은 생략하여 문서 순서를 유지
+ * - 렌더링: 기본 정보와 대체 일자 섹션은 하이브리드 가이드와 같은 템플릿(TravelGuideRenderer)으로 렌더링
+ * - 승인: 모든 섹션의 예상 토큰을 요청자 한도에서 한 번에 예약하고(AiAdmissionControl), 가이드 동시 생성 슬롯 하나를 차지한 채 생성
+ */
+@Service
+@Observed(name = "domain.service")
+@Slf4j
+public class GuideFanOutGenerator {
+
+    /**
+     * 제공자별 동시 호출 상한을 둔 섹션 라우팅 클라이언트 (LLM 벌크헤드보다 작게 두어 다른 AI 요청의 자리를 남김)
+     */
+    private final RoutingChatClient guideSectionRoutingClient;
+    private final TravelPromptEncoder travelPromptEncoder;
+    private final TravelGuideRenderer travelGuideRenderer;
+    private final GenerationCoalescer generationCoalescer;
+    private final OutputBudgetEstimator outputBudgetEstimator;
+    private final AiAdmissionControl aiAdmissionControl;
+    private final Resource daySystemPrompt;
+    private final Resource summarySystemPrompt;
+    private final int minDays;
+    private final int maxConcurrency;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public GuideFanOutGenerator(@Qualifier("guideSectionRoutingClient") RoutingChatClient guideSectionRoutingClient,
+                                TravelPromptEncoder travelPromptEncoder,
+                                TravelGuideRenderer travelGuideRenderer,
+                                GenerationCoalescer generationCoalescer,
+                                OutputBudgetEstimator outputBudgetEstimator,
+                                AiAdmissionControl aiAdmissionControl,
+                                @Value("classpath:prompts/travel-guide-day.st") Resource daySystemPrompt,
+                                @Value("classpath:prompts/travel-guide-summary.st") Resource summarySystemPrompt,
+                                @Value("${ai.fan-out.min-days:7}") int minDays,
+                                @Value("${ai.fan-out.max-concurrency.anthropic:4}") int anthropicConcurrency,
+                                @Value("${ai.fan-out.max-concurrency.openai:4}") int openAiConcurrency) {
+        this.guideSectionRoutingClient = guideSectionRoutingClient.withConcurrencyLimits(Map.of(
+                Provider.ANTHROPIC, anthropicConcurrency,
+                Provider.OPENAI, openAiConcurrency));
+        this.travelPromptEncoder = travelPromptEncoder;
+        this.travelGuideRenderer = travelGuideRenderer;
+        this.generationCoalescer = generationCoalescer;
+        this.outputBudgetEstimator = outputBudgetEstimator;
+        this.aiAdmissionControl = aiAdmissionControl;
+        this.daySystemPrompt = daySystemPrompt;
+        this.summarySystemPrompt = summarySystemPrompt;
+        this.minDays = minDays;
+        this.maxConcurrency = anthropicConcurrency;
+    }
+
+    /**
+     * 분할 생성 대상 여부 (설정한 일수 이상의 여행)
+     *
+     * @param prompt 압축 일정
+     * @return 분할 생성 대상이면 true
+     */
+    public boolean supports(TravelPrompt prompt) {
+        return prompt.schedule() != null && prompt.schedule().size() >= minDays;
+    }
+
+    /**
+     * 분할 생성 예상치 (진행률 표시용)
+     * 일자 섹션은 동시 호출 상한만큼씩 나누어 진행되므로 가장 긴 하루 × 회차 수와 마무리 섹션 중 긴 쪽을 예상 시간으로 봅니다.
+     *
+     * @param prompt 압축 일정
+     * @return 생성 예상치
+     */
+    public GenerationEstimate estimate(TravelPrompt prompt) {
+        List<OutputBudgetEstimator.Estimate> days = prompt.schedule().stream()
+                .map(day -> outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE_DAY, dayPrompt(prompt, day)))
+                .toList();
+        OutputBudgetEstimator.Estimate summary = outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE_SUMMARY,
+                prompt);
+
+        long slowestDay = days.stream().mapToLong(day -> day.expectedDuration().toSeconds()).max().orElse(0);
+        long waves = (days.size() + maxConcurrency - 1) / maxConcurrency;
+        int tokens = summary.expectedTokens() + days.stream().mapToInt(OutputBudgetEstimator.Estimate::expectedTokens).sum();
+        return new GenerationEstimate("fan_out", days.size() + 1, tokens,
+                Math.max(slowestDay * waves, summary.expectedDuration().toSeconds()));
+    }
+
+    /**
+     * 일자별 섹션과 마무리 섹션을 동시에 생성해 하나의 가이드로 합침
+     * 요청자는 요청 스레드에서만 알 수 있으므로 승인은 섹션을 나누기 전에 받습니다.
+     *
+     * @param prompt 압축 일정
+     * @return 가이드 마크다운
+     * @throws AiAdmissionException 요청자 토큰 한도 초과 또는 동시 생성 대기 시간 초과
+     */
+    public String generate(TravelPrompt prompt) {
+        SectionRequest summaryRequest = new SectionRequest(summarySystemPrompt,
+                "여행 정보: " + travelPromptEncoder.encode(prompt, "fan_out_summary"),
+                outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE_SUMMARY, prompt));
+        List<SectionRequest> dayRequests = prompt.schedule().stream()
+                .map(day -> dayPrompt(prompt, day))
+                .map(dayPrompt -> new SectionRequest(daySystemPrompt,
+                        "여행 정보: " + travelPromptEncoder.encode(dayPrompt, "fan_out_day"),
+                        outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE_DAY, dayPrompt)))
+                .toList();
+        long reserved = summaryRequest.reservedTokens()
+                + dayRequests.stream().mapToLong(SectionRequest::reservedTokens).sum();
+
+        try (AiAdmissionControl.Ticket ticket = aiAdmissionControl.admit(reserved)) {
+            return aiAdmissionControl.withPermit("guide", () -> assemble(prompt, summaryRequest, dayRequests, ticket));
+        }
+    }
+
+    private String assemble(TravelPrompt prompt, SectionRequest summaryRequest, List<SectionRequest> dayRequests,
+                            AiAdmissionControl.Ticket ticket) {
+        // 마무리 섹션은 일자별 결과가 아닌 일정 자체로 작성하므로 일자 섹션과 함께 시작
+        CompletableFuture<String> summary = submit(() -> callLlm(summaryRequest, ticket));
+        List<CompletableFuture<String>> daySections = new ArrayList<>();
+        for (int i = 0; i < dayRequests.size(); i++) {
+            TravelPrompt.Day day = prompt.schedule().get(i);
+            SectionRequest request = dayRequests.get(i);
+            daySections.add(submit(() -> daySection(day, request, ticket)));
+        }
+
+        // 완료 순서와 관계없이 일차 순서대로 합침
+        String guide = travelGuideRenderer.renderFanOut(prompt,
+                daySections.stream().map(CompletableFuture::join).toList(), summary.join());
+
+        log.debug("분할 생성 가이드 완료 - {}일, {}자", daySections.size(), guide.length());
+        return guide;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<String> submit(Supplier<String> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    private String daySection(TravelPrompt.Day day, SectionRequest request, AiAdmissionControl.Ticket ticket) {
+        String answer = callLlm(request, ticket);
+        if (answer == null || answer.isBlank()) {
+            log.warn("일자 섹션 생성 실패, 일정 목록으로 대체 - {}일차", day.day());
+            return travelGuideRenderer.renderDay(day);
+        }
+        return answer;
+    }
+
+    /**
+     * 제공자 라우팅을 거쳐 LLM 호출하고 사용량을 티켓에 기록 (실패하면 null)
+     * 같은 여행이 동시에 다시 요청되면(Notion 콜백 재시도 등) 섹션별로 진행 중인 생성을 함께 사용합니다.
+     */
+    private String callLlm(SectionRequest request, AiAdmissionControl.Ticket ticket) {
+        OutputBudgetEstimator.Estimate budget = request.budget();
+        return generationCoalescer.coalesce("guide-section",
+                request.systemPrompt().getFilename() + "\n" + request.question(), () ->
+                guideSectionRoutingClient.call(client -> ticket.record(outputBudgetEstimator.measure(budget, () -> client
+                        .prompt()
+                        .options(outputBudgetEstimator.options(budget))
+                        .system(request.systemPrompt())
+                        .user(request.question())
+                        .call()
+                        .chatResponse())), cause -> {
+                    log.warn("가이드 섹션 LLM 호출 실패 - {}", cause.getMessage());
+                    return null;
+                }));
+    }
+
+    private static TravelPrompt dayPrompt(TravelPrompt prompt, TravelPrompt.Day day) {
+        return new TravelPrompt(prompt.title(), prompt.location(), prompt.period(), prompt.days(),
+                prompt.peoples(), prompt.budget(), prompt.memo(), List.of(day), List.of());
+    }
+
+    /**
+     * 섹션 하나의 LLM 요청 (시스템 프롬프트, 질문, 출력 예산)
+     */
+    private record SectionRequest(Resource systemPrompt, String question, OutputBudgetEstimator.Estimate budget) {
+
+        long reservedTokens() {
+            return TravelPromptEncoder.estimateTokens(question) + budget.expectedTokens();
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * LLM 제공자 라우터
+ * RoutingChatClient 호출을 제공자별 격리 계층(llm, llm-openai)으로 보내며 다음을 처리합니다.
+ * - 헤지: 1차 제공자가 지연 기준 안에 응답하지 않으면 2차 제공자에 같은 요청을 보내고, 먼저 끝난 응답을 쓰고 나머지는 취소
+ * - 페일오버: 5xx, 429, 타임아웃, 서킷 열림처럼 다른 제공자로 다시 보낼 만한 실패면 2차 제공자로 재요청 (그 외 4xx는 그대로 실패)
+ * - 적응형 선택: 라우트·제공자별 응답 시간 분위수(llm.router.latency)를 비교해 p99가 낮은 제공자를 1차로 선택
+ *
+ * 호출은 스트리밍이 아니므로 헤지 기준은 첫 토큰이 아니라 전체 응답 시간입니다.
+ * 분위수는 최근 ai.routing.latency-window 동안의 표본으로 직접 계산하며, 그 창 안의 표본이 min-samples 보다 적으면
+ * (기동 직후, 한동안 호출이 없었을 때) ai.routing.hedge-delay와 기본 제공자 순서를 씁니다.
+ *
+ * 헤지에서 진 요청은 실행 스레드를 인터럽트해 취소합니다. 실제 HTTP 호출은 DownstreamLimiter의 타임아웃 실행기(가상 스레드)에서
+ * 돌고 있으므로 인터럽트가 그 스레드까지 전달되고, 가상 스레드에서 블로킹 소켓 I/O 중 인터럽트되면 JDK가 소켓을 닫아
+ * HttpClient 읽기가 예외로 끝나며 커넥션은 풀로 돌아가지 않고 폐기됩니다. (LlmRouterTest.abortsInFlightHttpCallOfHedgeLoser)
+ */
+@Component
+@Slf4j
+public class LlmRouter {
+
+    /**
+     * 라우팅 대상 LLM 제공자
+     */
+    public enum Provider {
+        ANTHROPIC("anthropic", Downstream.LLM),
+        OPENAI("openai", Downstream.LLM_OPENAI);
+
+        private final String id;
+        private final Downstream downstream;
+
+        Provider(String id, Downstream downstream) {
+            this.id = id;
+            this.downstream = downstream;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public static Provider of(String id) {
+            for (Provider provider : values()) {
+                if (provider.id.equalsIgnoreCase(id)) {
+                    return provider;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 LLM 제공자입니다: " + id);
+        }
+    }
+
+    private static final double SELECT_PERCENTILE = 0.99;
+    private static final double HEDGE_PERCENTILE = 0.95;
+
+    /**
+     * 라우트·제공자별로 보관할 최대 응답 시간 표본 수
+     */
+    private static final int MAX_WINDOW_SAMPLES = 1_000;
+
+    private final DownstreamLimiter downstreamLimiter;
+    private final LlmUsageMetrics llmUsageMetrics;
+    private final MeterRegistry meterRegistry;
+    private final Provider preferred;
+    private final Duration hedgeDelay;
+    private final Duration minHedgeDelay;
+    private final long minSamples;
+    private final Duration latencyWindow;
+
+    /**
+     * 라우트·제공자별 최근 응답 시간 (Micrometer 분위수는 감쇠 창이 짧고 표본 수를 알 수 없어 라우팅에는 따로 보관)
+     */
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LlmRouter(DownstreamLimiter downstreamLimiter,
+                     LlmUsageMetrics llmUsageMetrics,
+                     MeterRegistry meterRegistry,
+                     @Value("${ai.routing.preferred:anthropic}") String preferred,
+                     @Value("${ai.routing.hedge-delay:30s}") Duration hedgeDelay,
+                     @Value("${ai.routing.min-hedge-delay:3s}") Duration minHedgeDelay,
+                     @Value("${ai.routing.min-samples:20}") long minSamples,
+                     @Value("${ai.routing.latency-window:5m}") Duration latencyWindow) {
+        this.downstreamLimiter = downstreamLimiter;
+        this.llmUsageMetrics = llmUsageMetrics;
+        this.meterRegistry = meterRegistry;
+        this.preferred = Provider.of(preferred);
+        this.hedgeDelay = hedgeDelay;
+        this.minHedgeDelay = minHedgeDelay;
+        this.minSamples = minSamples;
+        this.latencyWindow = latencyWindow;
+    }
+
+    /**
+     * 제공자별 ChatClient를 하나의 라우트로 묶음
+     *
+     * @param name    라우트 이름 (메트릭 태그, 응답 시간은 라우트별로 따로 집계)
+     * @param clients 제공자별 ChatClient
+     * @return 라우팅 클라이언트
+     */
+    public RoutingChatClient route(String name, Map<Provider, ChatClient> clients) {
+        return new RoutingChatClient(name, clients, Map.of(), this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 1차 제공자로 요청하고, 지연되면 헤지·실패하면 페일오버
+     */
+    String call(RoutingChatClient route, Function<ChatClient, ChatResponse> request) {
+        List<Provider> order = order(route);
+        Attempt primary = start(route, order.get(0), request);
+        if (order.size() == 1) {
+            return primary.await();
+        }
+        Provider secondary = order.get(1);
+
+        try {
+            return primary.result.get(hedgeDelay(route, primary.provider).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.info("LLM 헤지 요청 - route: {}, {} 지연으로 {} 동시 요청", route.name(), primary.provider.id, secondary.id);
+            count(route, "hedge");
+            return firstCompleted(List.of(primary, start(route, secondary, request)));
+        } catch (ExecutionException e) {
+            if (!isFailoverable(e.getCause())) {
+                throw unwrap(e.getCause());
+            }
+            log.warn("LLM 페일오버 - route: {}, {} -> {}, 원인: {}", route.name(), primary.provider.id, secondary.id,
+                    e.getCause().getMessage());
+            count(route, "failover");
+            return start(route, secondary, request).await();
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM 호출이 취소되었습니다.", e);
+        }
+    }
+
+    /**
+     * 1차 제공자 선택 순서
+     * 기본 제공자를 앞에 두고, 모든 제공자에 최근 표본이 충분하면 p99 순으로, 서킷이 열린 제공자는 맨 뒤로 보냅니다.
+     */
+    List<Provider> order(RoutingChatClient route) {
+        List<Provider> providers = new ArrayList<>(route.providers());
+        providers.sort(Comparator.comparing(provider -> provider != preferred));
+        Map<Provider, long[]> recent = new EnumMap<>(Provider.class);
+        providers.forEach(provider -> recent.put(provider, recentMillis(route, provider)));
+        if (recent.values().stream().allMatch(samples -> samples.length >= minSamples)) {
+            providers.sort(Comparator.comparingLong(provider -> percentile(recent.get(provider), SELECT_PERCENTILE)));
+        }
+        providers.sort(Comparator.comparing(provider ->
+                downstreamLimiter.circuitState(provider.downstream) == CircuitBreaker.State.OPEN));
+        return providers;
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다릴 시간 (최근 표본이 충분하면 1차 제공자의 p95)
+     */
+    Duration hedgeDelay(RoutingChatClient route, Provider provider) {
+        long[] samples = recentMillis(route, provider);
+        if (samples.length < minSamples) {
+            return hedgeDelay;
+        }
+        Duration p95 = Duration.ofMillis(percentile(samples, HEDGE_PERCENTILE));
+        return p95.compareTo(minHedgeDelay) < 0 ? minHedgeDelay : p95;
+    }
+
+    /**
+     * 다른 제공자로 다시 보낼 만한 실패인지 판단
+     * 5xx, 429, 연결 실패, 타임아웃, 서킷 열림/벌크헤드 포화는 페일오버하고 그 외 4xx(잘못된 요청 등)는 그대로 실패합니다.
+     */
+    static boolean isFailoverable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof TransientAiException
+                    || cause instanceof TimeoutException
+                    || cause instanceof CallNotPermittedException
+                    || cause instanceof BulkheadFullException
+                    || cause instanceof ResourceAccessException) {
+                return true;
+            }
+            if (cause instanceof RestClientResponseException response) {
+                return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+            }
+            // Spring AI 기본 오류 처리기는 4xx를 "HTTP 429 - ..." 형태의 NonTransientAiException으로 던짐
+            if (cause instanceof NonTransientAiException && cause.getMessage() != null
+                    && cause.getMessage().startsWith("HTTP 429")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Attempt start(RoutingChatClient route, Provider provider, Function<ChatClient, ChatResponse> request) {
+        Attempt attempt = new Attempt(provider);
+        attempt.task = executor.submit(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                String answer = route.withPermit(provider, () -> downstreamLimiter.call(provider.downstream,
+                        () -> llmUsageMetrics.answer(provider.id, request.apply(route.client(provider)))));
+                recordLatency(route, provider, System.nanoTime() - startedAt);
+                attempts(route, provider, "success");
+                attempt.result.complete(answer);
+            } catch (Throwable t) {
+                if (attempt.cancelled) {
+                    // 헤지에서 진 요청은 최소한 이만큼 걸렸으므로 응답 시간 분포에 포함 (느려진 제공자가 계속 1차로 뽑히지 않도록)
+                    recordLatency(route, provider, System.nanoTime() - startedAt);
+                    attempts(route, provider, "cancelled");
+                } else {
+                    attempts(route, provider, "error");
+                }
+                attempt.result.completeExceptionally(t);
+            }
+        });
+        return attempt;
+    }
+
+    /**
+     * 먼저 성공한 응답을 반환하고 나머지 요청은 취소 (모두 실패하면 마지막 실패를 던짐)
+     */
+    private String firstCompleted(List<Attempt> attempts) {
+        CompletableFuture<String> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(attempts.size());
+        attempts.forEach(attempt -> attempt.result.whenComplete((answer, error) -> {
+            if (error == null) {
+                winner.complete(answer);
+            } else if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(error);
+            }
+        }));
+
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("LLM 호출이 취소되었습니다.", e);
+        } finally {
+            attempts.stream().filter(attempt -> !attempt.result.isDone()).forEach(Attempt::cancel);
+        }
+    }
+
+    private void recordLatency(RoutingChatClient route, Provider provider, long nanos) {
+        Timer.builder("llm.router.latency")
+                .description("제공자별 LLM 응답 시간 (헤지에서 취소된 요청은 취소 시점까지)")
+                .tag("route", route.name())
+                .tag("provider", provider.id)
+                .publishPercentiles(0.5, HEDGE_PERCENTILE, SELECT_PERCENTILE)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        latencyWindows.computeIfAbsent(route.name() + ":" + provider.id, key -> new LatencyWindow())
+                .record(System.nanoTime(), TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * 최근 창 안의 응답 시간(ms)을 오름차순으로 반환
+     */
+    private long[] recentMillis(RoutingChatClient route, Provider provider) {
+        LatencyWindow window = latencyWindows.get(route.name() + ":" + provider.id);
+        return window == null ? new long[0] : window.sortedSince(System.nanoTime() - latencyWindow.toNanos());
+    }
+
+    /**
+     * 오름차순 표본의 분위수 (nearest-rank)
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private void attempts(RoutingChatClient route, Provider provider, String outcome) {
+        meterRegistry.counter("llm.router.attempts", "route", route.name(), "provider", provider.id, "outcome", outcome)
+                .increment();
+    }
+
+    private void count(RoutingChatClient route, String type) {
+        meterRegistry.counter("llm.router.reroutes", "route", route.name(), "type", type).increment();
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause.getMessage(), cause);
+    }
+
+    /**
+     * 최근 응답 시간 표본 (기록 시각 순, 최대 MAX_WINDOW_SAMPLES 개)
+     */
+    private static final class LatencyWindow {
+
+        /**
+         * {기록 시각(nanoTime), 응답 시간(ms)}
+         */
+        private final Deque<long[]> samples = new ArrayDeque<>();
+
+        private synchronized void record(long recordedAt, long millis) {
+            if (samples.size() >= MAX_WINDOW_SAMPLES) {
+                samples.pollFirst();
+            }
+            samples.addLast(new long[]{recordedAt, millis});
+        }
+
+        private synchronized long[] sortedSince(long since) {
+            while (!samples.isEmpty() && samples.peekFirst()[0] - since < 0) {
+                samples.pollFirst();
+            }
+            long[] millis = samples.stream().mapToLong(sample -> sample[1]).toArray();
+            Arrays.sort(millis);
+            return millis;
+        }
+    }
+
+    /**
+     * 제공자 한 곳에 보낸 요청
+     */
+    private static final class Attempt {
+
+        private final Provider provider;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private volatile Future<?> task;
+        private volatile boolean cancelled;
+
+        private Attempt(Provider provider) {
+            this.provider = provider;
+        }
+
+        private String await() {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw unwrap(e.getCause());
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("LLM 호출이 취소되었습니다.", e);
+            }
+        }
+
+        /**
+         * 실행 스레드를 인터럽트해 진행 중인 HTTP 호출까지 중단 (클래스 설명 참고)
+         */
+        private void cancel() {
+            cancelled = true;
+            task.cancel(true);
+        }
+    }
+}
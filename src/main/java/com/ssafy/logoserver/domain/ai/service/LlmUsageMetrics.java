@@ -0,0 +1,77 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 토큰 사용량 메트릭
+ * 응답 메타데이터의 사용량을 llm.tokens 카운터(provider, model, type=prompt|completion)로 누적합니다.
+ * 요청 전 입력 토큰 추정치는 llm.prompt.tokens.estimated 분포로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmUsageMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 토큰 사용량을 기록하고 응답 본문 반환
+     *
+     * @param provider LLM 제공자 (openai, anthropic)
+     * @param response LLM 응답
+     * @return 응답 본문 (응답이 비어 있으면 null)
+     */
+    public String answer(String provider, ChatResponse response) {
+        if (response == null) {
+            return null;
+        }
+        record(provider, response.getMetadata());
+        return response.getResult() != null ? response.getResult().getOutput().getText() : null;
+    }
+
+    /**
+     * 요청 전에 추정한 입력 토큰 수를 llm.prompt.tokens.estimated 분포(source)로 기록
+     *
+     * @param source 입력 출처 (travel_detail, client_json)
+     * @param estimatedTokens 추정 토큰 수
+     */
+    public void recordPromptEstimate(String source, int estimatedTokens) {
+        DistributionSummary.builder("llm.prompt.tokens.estimated")
+                .description("LLM 입력 토큰 추정치")
+                .baseUnit("tokens")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(estimatedTokens);
+    }
+
+    private void record(String provider, ChatResponseMetadata metadata) {
+        if (metadata == null || metadata.getUsage() == null) {
+            return;
+        }
+        Usage usage = metadata.getUsage();
+        String model = metadata.getModel() != null && !metadata.getModel().isBlank() ? metadata.getModel() : "unknown";
+
+        increment(provider, model, "prompt", usage.getPromptTokens());
+        increment(provider, model, "completion", usage.getCompletionTokens());
+    }
+
+    private void increment(String provider, String model, String type, Integer tokens) {
+        if (tokens == null || tokens <= 0) {
+            return;
+        }
+        Counter.builder("llm.tokens")
+                .description("LLM 토큰 사용량")
+                .baseUnit("tokens")
+                .tag("provider", provider)
+                .tag("model", model)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+}
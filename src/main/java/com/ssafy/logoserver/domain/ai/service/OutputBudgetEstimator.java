@@ -0,0 +1,248 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * LLM 출력 토큰 예산 추정기
+ * 모든 요청에 같은 max-tokens(40000)를 쓰는 대신 생성할 섹션 종류와 일정 크기(일수, 방문지 수)로 출력 토큰 수와 생성 시간을 추정해
+ * 요청별 ChatOptions 로 전달합니다. 예산이 작을수록 제공자 대기열에서 덜 기다리고, 추정 시간은 진행률 표시에 사용합니다.
+ * - 추정: 섹션별 기본값(base + perDay × 일수 + perStop × 방문지 수) × 관측 보정 비율
+ * - 학습: 완료된 응답의 출력 토큰 수와 소요 시간으로 보정 비율과 초당 토큰 수를 지수 이동 평균으로 갱신
+ *   (max-tokens 로 잘린 응답은 실제 필요량보다 작으므로 비율을 한 단계 더 올림)
+ */
+@Component
+@Slf4j
+public class OutputBudgetEstimator {
+
+    /**
+     * 생성 섹션 종류와 기본 토큰 모델
+     */
+    public enum Section {
+        /**
+         * 한 번에 생성하는 전체 가이드 (기본 정보, 일자별 분석, 통계, 팁, 총평)
+         */
+        GUIDE("guide", 1500, 120, 220),
+        /**
+         * 분할 생성의 하루 상세 분석
+         */
+        GUIDE_DAY("guide_day", 150, 0, 220),
+        /**
+         * 분할 생성의 마무리 섹션 (개요, 팁, 총평)
+         */
+        GUIDE_SUMMARY("guide_summary", 900, 20, 10),
+        /**
+         * 하이브리드 렌더러의 구조화 조언 (빈 날마다 추천 장소 포함)
+         */
+        GUIDE_ADVICE("guide_advice", 500, 60, 10);
+
+        private final String id;
+        private final int base;
+        private final int perDay;
+        private final int perStop;
+
+        Section(String id, int base, int perDay, int perStop) {
+            this.id = id;
+            this.base = base;
+            this.perDay = perDay;
+            this.perStop = perStop;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        private int baseline(int days, int stops) {
+            return base + perDay * days + perStop * stops;
+        }
+    }
+
+    /**
+     * 요청 하나의 출력 예산
+     *
+     * @param section          섹션 종류
+     * @param baselineTokens   보정 전 기본 추정 토큰 수
+     * @param expectedTokens   보정 후 예상 출력 토큰 수
+     * @param maxTokens        요청에 지정할 출력 토큰 상한
+     * @param expectedDuration 예상 생성 시간
+     */
+    public record Estimate(Section section, int baselineTokens, int expectedTokens, int maxTokens,
+                           Duration expectedDuration) {
+    }
+
+    private static final double ALPHA = 0.2;
+    private static final double MIN_RATIO = 0.25;
+    private static final double MAX_RATIO = 4.0;
+    private static final double TRUNCATED_BOOST = 1.25;
+
+    private final MeterRegistry meterRegistry;
+    private final double headroom;
+    private final int minTokens;
+    private final int maxTokens;
+    private final double temperature;
+
+    private final Map<Section, Learned> learned = new EnumMap<>(Section.class);
+
+    public OutputBudgetEstimator(MeterRegistry meterRegistry,
+                                 @Value("${ai.output-budget.headroom:1.3}") double headroom,
+                                 @Value("${ai.output-budget.min-tokens:1024}") int minTokens,
+                                 @Value("${ai.output-budget.max-tokens:16000}") int maxTokens,
+                                 @Value("${ai.output-budget.tokens-per-second:50}") double tokensPerSecond,
+                                 @Value("${ai.output-budget.temperature:0.7}") double temperature) {
+        this.meterRegistry = meterRegistry;
+        this.headroom = headroom;
+        this.minTokens = minTokens;
+        this.maxTokens = maxTokens;
+        this.temperature = temperature;
+        for (Section section : Section.values()) {
+            learned.put(section, new Learned(tokensPerSecond));
+        }
+    }
+
+    /**
+     * 압축 일정으로 섹션의 출력 예산 추정
+     *
+     * @param section 섹션 종류
+     * @param prompt  압축 일정 (일자 섹션이면 해당 하루만 담긴 일정)
+     * @return 출력 예산
+     */
+    public Estimate estimate(Section section, TravelPrompt prompt) {
+        int days = prompt.schedule() != null ? prompt.schedule().size() : 0;
+        int stops = countStops(prompt);
+        return estimate(section, days, stops);
+    }
+
+    /**
+     * 일수와 방문지 수로 섹션의 출력 예산 추정
+     */
+    public Estimate estimate(Section section, int days, int stops) {
+        int baseline = section.baseline(days, stops);
+        Learned model = learned.get(section);
+        double ratio;
+        double tokensPerSecond;
+        synchronized (model) {
+            ratio = model.ratio;
+            tokensPerSecond = model.tokensPerSecond;
+        }
+
+        int expected = (int) Math.round(baseline * ratio);
+        int budget = Math.max(minTokens, Math.min(maxTokens, (int) Math.round(expected * headroom)));
+        Duration duration = Duration.ofMillis((long) (Math.min(expected, budget) / tokensPerSecond * 1000));
+        return new Estimate(section, baseline, expected, budget, duration);
+    }
+
+    /**
+     * 예산을 적용한 요청 옵션 (요청 옵션은 클라이언트 기본 옵션을 대체하므로 temperature 도 함께 지정)
+     *
+     * @param estimate 출력 예산
+     * @return 요청별 ChatOptions
+     */
+    public ChatOptions options(Estimate estimate) {
+        return ChatOptions.builder()
+                .maxTokens(estimate.maxTokens())
+                .temperature(temperature)
+                .build();
+    }
+
+    /**
+     * LLM 호출 시간을 재고 응답의 출력 토큰 수로 추정 모델 갱신
+     *
+     * @param estimate 요청에 사용한 출력 예산
+     * @param call     LLM 호출
+     * @return LLM 응답
+     */
+    public ChatResponse measure(Estimate estimate, Supplier<ChatResponse> call) {
+        long startedAt = System.nanoTime();
+        ChatResponse response = call.get();
+        observe(estimate, response, Duration.ofNanos(System.nanoTime() - startedAt));
+        return response;
+    }
+
+    private void observe(Estimate estimate, ChatResponse response, Duration elapsed) {
+        Integer completionTokens = completionTokens(response);
+        if (completionTokens == null || completionTokens <= 0) {
+            return;
+        }
+
+        boolean truncated = truncated(response);
+        double observedRatio = (double) completionTokens / estimate.baselineTokens() * (truncated ? TRUNCATED_BOOST : 1);
+        double observedRate = completionTokens / Math.max(elapsed.toMillis() / 1000.0, 0.001);
+
+        Learned model = learned.get(estimate.section());
+        synchronized (model) {
+            model.ratio = clamp(ALPHA * observedRatio + (1 - ALPHA) * model.ratio);
+            model.tokensPerSecond = ALPHA * observedRate + (1 - ALPHA) * model.tokensPerSecond;
+        }
+
+        // 예산 대비 실제 사용 비율 - 1에 가까우면 잘림 위험, 너무 낮으면 예산 과다
+        DistributionSummary.builder("llm.output.budget.utilization")
+                .description("출력 토큰 예산 대비 실제 사용 비율")
+                .tag("section", estimate.section().getId())
+                .tag("truncated", String.valueOf(truncated))
+                .register(meterRegistry)
+                .record((double) completionTokens / estimate.maxTokens());
+        if (truncated) {
+            log.warn("출력 토큰 예산 초과로 응답이 잘림 - 섹션: {}, 예산: {}", estimate.section().getId(), estimate.maxTokens());
+        }
+    }
+
+    private static int countStops(TravelPrompt prompt) {
+        int stops = prompt.unassigned() != null ? prompt.unassigned().size() : 0;
+        if (prompt.schedule() != null) {
+            for (TravelPrompt.Day day : prompt.schedule()) {
+                stops += day.stops() != null ? day.stops().size() : 0;
+            }
+        }
+        return stops;
+    }
+
+    private static Integer completionTokens(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        return usage != null ? usage.getCompletionTokens() : null;
+    }
+
+    /**
+     * 출력 상한에 걸려 잘린 응답인지 확인 (Anthropic: max_tokens, OpenAI: length)
+     */
+    private static boolean truncated(ChatResponse response) {
+        if (response.getResult() == null || response.getResult().getMetadata() == null
+                || response.getResult().getMetadata().getFinishReason() == null) {
+            return false;
+        }
+        String finishReason = response.getResult().getMetadata().getFinishReason().toLowerCase(Locale.ROOT);
+        return finishReason.equals("max_tokens") || finishReason.equals("length");
+    }
+
+    private static double clamp(double ratio) {
+        return Math.max(MIN_RATIO, Math.min(MAX_RATIO, ratio));
+    }
+
+    /**
+     * 섹션별 학습 값 (접근 시 객체 자체로 동기화)
+     */
+    private static final class Learned {
+
+        private double ratio = 1.0;
+        private double tokensPerSecond;
+
+        private Learned(double tokensPerSecond) {
+            this.tokensPerSecond = tokensPerSecond;
+        }
+    }
+}
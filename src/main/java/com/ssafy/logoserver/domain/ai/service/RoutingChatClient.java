@@ -0,0 +1,96 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.ssafy.logoserver.domain.ai.service.LlmRouter.Provider;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 제공자 라우팅 ChatClient
+ * 같은 용도(시스템 프롬프트, 옵션)로 만든 제공자별 ChatClient를 묶어 두고, 호출은 LlmRouter가 제공자를 골라 수행합니다.
+ * 요청 내용은 ChatClient를 받아 응답을 만드는 함수로 전달하므로 어느 제공자로 보내도 같은 요청이 됩니다.
+ */
+public class RoutingChatClient {
+
+    private final String name;
+    private final Map<Provider, ChatClient> clients;
+    private final Map<Provider, Semaphore> permits;
+    private final LlmRouter router;
+
+    RoutingChatClient(String name, Map<Provider, ChatClient> clients, Map<Provider, Semaphore> permits, LlmRouter router) {
+        if (clients.isEmpty()) {
+            throw new IllegalArgumentException("라우팅할 ChatClient가 없습니다: " + name);
+        }
+        this.name = name;
+        this.clients = new EnumMap<>(clients);
+        this.permits = permits;
+        this.router = router;
+    }
+
+    /**
+     * 선택된 제공자로 요청하고 응답 본문 반환
+     * 1차 제공자가 지연되면 2차 제공자로 헤지 요청을, 5xx·429·타임아웃이면 2차 제공자로 페일오버합니다.
+     *
+     * @param request  ChatClient로 응답을 만드는 요청
+     * @param fallback 모든 제공자가 실패했을 때의 대체 응답
+     * @return 응답 본문
+     */
+    public String call(Function<ChatClient, ChatResponse> request, Function<Throwable, String> fallback) {
+        try {
+            return router.call(this, request);
+        } catch (RuntimeException e) {
+            return fallback.apply(e);
+        }
+    }
+
+    /**
+     * 제공자별 동시 호출 상한을 둔 같은 라우트 (벌크헤드보다 작게 두어 다른 AI 요청의 자리를 남길 때 사용)
+     *
+     * @param limits 제공자별 동시 호출 수
+     * @return 상한이 적용된 라우팅 클라이언트
+     */
+    public RoutingChatClient withConcurrencyLimits(Map<Provider, Integer> limits) {
+        Map<Provider, Semaphore> limited = new EnumMap<>(Provider.class);
+        limits.forEach((provider, limit) -> limited.put(provider, new Semaphore(limit, true)));
+        return new RoutingChatClient(name, clients, limited, router);
+    }
+
+    String name() {
+        return name;
+    }
+
+    Set<Provider> providers() {
+        return clients.keySet();
+    }
+
+    ChatClient client(Provider provider) {
+        return clients.get(provider);
+    }
+
+    /**
+     * 제공자별 허가를 얻은 뒤 실행 (상한이 없으면 바로 실행)
+     */
+    <T> T withPermit(Provider provider, Supplier<T> action) {
+        Semaphore semaphore = permits.get(provider);
+        if (semaphore == null) {
+            return action.get();
+        }
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(provider.getId() + " 호출 허가 대기 중 취소되었습니다.", e);
+        }
+        try {
+            return action.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+}
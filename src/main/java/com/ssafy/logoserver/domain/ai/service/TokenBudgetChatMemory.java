@@ -0,0 +1,247 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.logoserver.domain.ai.dto.ChatMemoryUsage;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 토큰 예산 기반 대화 기록
+ * MessageChatMemoryAdvisor 가 매 요청마다 불러오는 대화 기록을 최근 K턴(사용자 + AI 응답)과 토큰 예산 안으로 제한하고,
+ * 그보다 오래된 대화는 누적 요약 하나로 압축해 시스템 메시지로 앞에 붙입니다. 대화가 아무리 길어져도 요청 크기가 일정합니다.
+ * - 요약: 응답이 저장된 뒤 별도 가상 스레드에서 생성하므로 요청 지연에 포함되지 않음 (대화별로 한 번에 하나)
+ * - 요약 전: 예산을 넘은 오래된 메시지는 요청에서 빠지고, 다음 요약에 포함됨
+ * - 요약 실패: 메시지를 그대로 두고 다음 응답 저장 시 다시 시도
+ * 토큰 수는 TravelPromptEncoder.estimateTokens 추정치입니다.
+ * 대화 기록은 인스턴스 메모리에 두므로, 일정 시간(idle-timeout) 쓰이지 않았거나 대화 수가 상한을 넘으면 오래된 대화부터 버립니다.
+ */
+@Component
+@Slf4j
+public class TokenBudgetChatMemory implements ChatMemory {
+
+    private static final String SUMMARY_PREFIX = "이전 대화 요약:\n";
+    private static final String PROVIDER = "anthropic";
+
+    private final ChatClient memorySummaryChatClient;
+    private final DownstreamLimiter downstreamLimiter;
+    private final LlmUsageMetrics llmUsageMetrics;
+    private final int keepTurns;
+    private final int tokenBudget;
+
+    private final Cache<String, Conversation> conversations;
+    private final ExecutorService summarizer = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TokenBudgetChatMemory(@Qualifier("memorySummaryChatClient") ChatClient memorySummaryChatClient,
+                                 DownstreamLimiter downstreamLimiter,
+                                 LlmUsageMetrics llmUsageMetrics,
+                                 @Value("${ai.memory.keep-turns:6}") int keepTurns,
+                                 @Value("${ai.memory.token-budget:6000}") int tokenBudget,
+                                 @Value("${ai.memory.idle-timeout:2h}") Duration idleTimeout,
+                                 @Value("${ai.memory.max-conversations:10000}") long maxConversations) {
+        this.memorySummaryChatClient = memorySummaryChatClient;
+        this.downstreamLimiter = downstreamLimiter;
+        this.llmUsageMetrics = llmUsageMetrics;
+        this.keepTurns = keepTurns;
+        this.tokenBudget = tokenBudget;
+        this.conversations = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxConversations)
+                .build();
+    }
+
+    /**
+     * 메시지를 저장하고, 최근 창을 벗어난 메시지가 있으면 비동기 요약 예약
+     */
+    @Override
+    public void add(String conversationId, List<Message> messages) {
+        Conversation conversation = conversations.get(conversationId, id -> new Conversation());
+        boolean summarize;
+        synchronized (conversation) {
+            for (Message message : messages) {
+                conversation.messages.add(message);
+                conversation.totalTokens += tokens(message);
+            }
+            summarize = !conversation.summarizing && keepFrom(conversation) > 0;
+            conversation.summarizing |= summarize;
+        }
+        if (summarize) {
+            summarizer.execute(() -> summarize(conversationId, conversation));
+        }
+    }
+
+    /**
+     * 요약(있으면)과 예산 안의 최근 메시지 반환
+     */
+    @Override
+    public List<Message> get(String conversationId, int lastN) {
+        Conversation conversation = conversations.getIfPresent(conversationId);
+        if (conversation == null) {
+            return List.of();
+        }
+
+        List<Message> window = new ArrayList<>();
+        int promptTokens;
+        synchronized (conversation) {
+            List<Message> recent = conversation.messages.subList(keepFrom(conversation), conversation.messages.size());
+            if (recent.size() > lastN) {
+                recent = recent.subList(recent.size() - lastN, recent.size());
+            }
+            if (conversation.summary != null) {
+                window.add(new SystemMessage(SUMMARY_PREFIX + conversation.summary));
+            }
+            window.addAll(recent);
+            promptTokens = conversation.summaryTokens() + tokens(recent);
+        }
+        llmUsageMetrics.recordPromptEstimate("chat_memory", promptTokens);
+        return window;
+    }
+
+    @Override
+    public void clear(String conversationId) {
+        conversations.invalidate(conversationId);
+    }
+
+    /**
+     * 대화별 토큰 사용량 조회
+     *
+     * @param conversationId 대화 ID
+     * @return 토큰 사용량 (기록이 없으면 모두 0)
+     */
+    public ChatMemoryUsage usage(String conversationId) {
+        Conversation conversation = conversations.getIfPresent(conversationId);
+        if (conversation == null) {
+            return new ChatMemoryUsage(conversationId, 0, 0, 0, 0, 0, 0, 0);
+        }
+        synchronized (conversation) {
+            int keepFrom = keepFrom(conversation);
+            int recentTokens = tokens(conversation.messages.subList(keepFrom, conversation.messages.size()));
+            return new ChatMemoryUsage(conversationId, conversation.summaryTokens() + recentTokens,
+                    conversation.summaryTokens(), recentTokens, conversation.messages.size() - keepFrom, keepFrom,
+                    conversation.summarizedMessages, conversation.totalTokens);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        summarizer.shutdownNow();
+    }
+
+    /**
+     * 최근 창을 벗어난 메시지를 기존 요약과 합쳐 새 요약 생성
+     * 요약하는 동안 새 메시지는 뒤에만 붙으므로 앞쪽 메시지를 개수만큼 제거하면 됩니다.
+     */
+    private void summarize(String conversationId, Conversation conversation) {
+        try {
+            String previousSummary;
+            List<Message> folded;
+            synchronized (conversation) {
+                previousSummary = conversation.summary;
+                folded = List.copyOf(conversation.messages.subList(0, keepFrom(conversation)));
+            }
+            if (folded.isEmpty()) {
+                return;
+            }
+
+            String summary = downstreamLimiter.call(Downstream.LLM, () -> llmUsageMetrics.answer(PROVIDER,
+                    memorySummaryChatClient
+                            .prompt()
+                            .user(summaryRequest(previousSummary, folded))
+                            .call()
+                            .chatResponse()), cause -> {
+                log.warn("대화 요약 실패, 다음 응답 후 다시 시도 - 대화: {}, 원인: {}", conversationId, cause.getMessage());
+                return null;
+            });
+            if (summary == null || summary.isBlank()) {
+                return;
+            }
+
+            synchronized (conversation) {
+                conversation.messages.subList(0, folded.size()).clear();
+                conversation.summary = summary.strip();
+                conversation.summarizedMessages += folded.size();
+            }
+            log.debug("대화 요약 완료 - 대화: {}, 메시지 {}개 압축, 요약 {}토큰", conversationId, folded.size(),
+                    conversation.summaryTokens());
+        } finally {
+            synchronized (conversation) {
+                conversation.summarizing = false;
+            }
+        }
+    }
+
+    /**
+     * 요청에 그대로 포함할 최근 메시지의 시작 위치
+     * 최신 메시지부터 K턴(2K개)과 토큰 예산을 넘지 않을 때까지 포함하되, 마지막 한 턴은 예산과 관계없이 유지합니다.
+     */
+    private int keepFrom(Conversation conversation) {
+        List<Message> messages = conversation.messages;
+        int budget = tokenBudget - conversation.summaryTokens();
+        int used = 0;
+        int index = messages.size();
+        while (index > 0 && messages.size() - index < keepTurns * 2) {
+            int next = tokens(messages.get(index - 1));
+            if (messages.size() - index >= 2 && used + next > budget) {
+                break;
+            }
+            used += next;
+            index--;
+        }
+        return index;
+    }
+
+    private static String summaryRequest(String previousSummary, List<Message> messages) {
+        StringBuilder request = new StringBuilder();
+        if (previousSummary != null) {
+            request.append("기존 요약:\n").append(previousSummary).append("\n\n");
+        }
+        request.append("새로 요약할 대화:\n");
+        for (Message message : messages) {
+            request.append(message.getMessageType().getValue()).append(": ").append(message.getText()).append('\n');
+        }
+        return request.toString();
+    }
+
+    private static int tokens(List<Message> messages) {
+        int total = 0;
+        for (Message message : messages) {
+            total += tokens(message);
+        }
+        return total;
+    }
+
+    private static int tokens(Message message) {
+        return TravelPromptEncoder.estimateTokens(message.getText());
+    }
+
+    /**
+     * 대화별 저장 상태 (접근 시 객체 자체로 동기화)
+     */
+    private static final class Conversation {
+
+        private final List<Message> messages = new ArrayList<>();
+        private String summary;
+        private int summarizedMessages;
+        private long totalTokens;
+        private boolean summarizing;
+
+        private int summaryTokens() {
+            return summary != null ? TravelPromptEncoder.estimateTokens(SUMMARY_PREFIX + summary) : 0;
+        }
+    }
+}
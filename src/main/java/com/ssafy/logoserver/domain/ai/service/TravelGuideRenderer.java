@@ -0,0 +1,298 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import com.ssafy.logoserver.domain.ai.dto.GuideAdvice;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import com.ssafy.logoserver.domain.travel.dto.TravelDetailDto;
+import com.ssafy.logoserver.domain.travel.service.TravelService;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 여행 가이드 하이브리드 렌더러
+ * 기본 정보, 일자별 일정(네이버 지도 링크, 좌표), 통계처럼 데이터로 정해지는 섹션은 Mustache 템플릿으로 서버에서 렌더링하고,
+ * LLM에는 여행 팁·빈 일정 추천·총평만 구조화 출력(GuideAdvice)으로 요청한 뒤 두 결과를 합칩니다.
+ * LLM 호출이 실패하면 조언 섹션 없이 일정표만 반환합니다.
+ * 조언 호출은 요청자 토큰 한도와 가이드 동시 생성 상한(AiAdmissionControl)을 거치며, 한도를 넘으면 AiAdmissionException 으로 거절됩니다.
+ * 기본 정보·일자·방문지 부분 템플릿(guide/header, guide/day, guide/stop)은 분할 생성 가이드(GuideFanOutGenerator)와 함께 사용합니다.
+ */
+@Service
+@Observed(name = "domain.service")
+@Slf4j
+public class TravelGuideRenderer {
+
+    private static final String TEMPLATE_NAME = "guide/travel-guide";
+    private static final String FAN_OUT_TEMPLATE_NAME = "guide/travel-guide-fan-out";
+    private static final String DAY_TEMPLATE_NAME = "guide/day";
+    private static final String NAVER_MAP_SEARCH_URL = "https://map.naver.com/v5/search/";
+    private static final DateTimeFormatter KOREAN_DATE = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+
+    private final TravelService travelService;
+    private final TravelPromptEncoder travelPromptEncoder;
+    private final RoutingChatClient guideAdviceRoutingClient;
+    private final GenerationCoalescer generationCoalescer;
+    private final OutputBudgetEstimator outputBudgetEstimator;
+    private final AiAdmissionControl aiAdmissionControl;
+    private final Template template;
+    private final Template fanOutTemplate;
+    private final Template dayTemplate;
+    private final BeanOutputConverter<GuideAdvice> adviceConverter = new BeanOutputConverter<>(GuideAdvice.class);
+
+    public TravelGuideRenderer(TravelService travelService,
+                               TravelPromptEncoder travelPromptEncoder,
+                               @Qualifier("guideAdviceRoutingClient") RoutingChatClient guideAdviceRoutingClient,
+                               GenerationCoalescer generationCoalescer,
+                               OutputBudgetEstimator outputBudgetEstimator,
+                               AiAdmissionControl aiAdmissionControl,
+                               Mustache.Compiler mustacheCompiler) {
+        this.travelService = travelService;
+        this.travelPromptEncoder = travelPromptEncoder;
+        this.guideAdviceRoutingClient = guideAdviceRoutingClient;
+        this.generationCoalescer = generationCoalescer;
+        this.outputBudgetEstimator = outputBudgetEstimator;
+        this.aiAdmissionControl = aiAdmissionControl;
+        this.template = compile(mustacheCompiler, TEMPLATE_NAME);
+        this.fanOutTemplate = compile(mustacheCompiler, FAN_OUT_TEMPLATE_NAME);
+        this.dayTemplate = compile(mustacheCompiler, DAY_TEMPLATE_NAME);
+    }
+
+    /**
+     * 여행 ID로 전체 가이드 마크다운 생성
+     *
+     * @param tuid 여행 ID
+     * @return 가이드 마크다운
+     * @throws AiAdmissionException 요청자 토큰 한도 초과 또는 동시 생성 대기 시간 초과
+     */
+    public String render(Long tuid) {
+        TravelDetailDto travel = travelService.getTravelDetailById(tuid);
+        if (travel.getStartDate() == null || travel.getEndDate() == null) {
+            throw new IllegalArgumentException("여행 시작일 또는 종료일이 없습니다.");
+        }
+
+        TravelPrompt prompt = TravelPromptEncoder.toPrompt(travel);
+        GuideAdvice advice = requestAdvice(prompt);
+
+        String guide = render(prompt, advice);
+        log.debug("하이브리드 가이드 생성 완료 - tuid: {}, {}자, 조언 포함: {}", tuid, guide.length(), advice != null);
+        return guide;
+    }
+
+    /**
+     * 압축 일정과 LLM 조언을 합쳐 가이드 마크다운 렌더링
+     *
+     * @param prompt 압축 일정
+     * @param advice LLM 조언 (null 이면 조언 섹션 생략)
+     * @return 가이드 마크다운
+     */
+    public String render(TravelPrompt prompt, GuideAdvice advice) {
+        return template.execute(GuideView.of(prompt, advice));
+    }
+
+    /**
+     * 분할 생성한 일자 섹션과 마무리 섹션을 기본 정보와 합쳐 가이드 마크다운 렌더링
+     *
+     * @param prompt      압축 일정
+     * @param daySections 일차 순서의 일자 섹션 마크다운
+     * @param summary     마무리 섹션 마크다운 (null 이면 생략)
+     * @return 가이드 마크다운
+     */
+    public String renderFanOut(TravelPrompt prompt, List<String> daySections, String summary) {
+        return fanOutTemplate.execute(new FanOutView(GuideView.of(prompt, null),
+                daySections.stream().map(String::strip).toList(),
+                summary != null ? summary.strip() : null));
+    }
+
+    /**
+     * LLM 없이 일정 목록만으로 일자 섹션 마크다운 렌더링
+     *
+     * @param day 하루 일정
+     * @return 일자 섹션 마크다운
+     */
+    public String renderDay(TravelPrompt.Day day) {
+        return dayTemplate.execute(DayView.of(day));
+    }
+
+    /**
+     * LLM에 조언 항목만 요청 (실패하거나 응답을 해석할 수 없으면 null)
+     */
+    private GuideAdvice requestAdvice(TravelPrompt prompt) {
+        // 여행 JSON에 중괄호가 있으므로 템플릿 변수 없이 형식 지시문을 이어 붙임
+        String question = "여행 정보: " + travelPromptEncoder.encode(prompt) + "\n\n" + adviceConverter.getFormat();
+        OutputBudgetEstimator.Estimate budget = outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE_ADVICE,
+                prompt);
+
+        // 다운로드 중복 클릭이나 Notion 콜백 재시도로 같은 여행이 동시에 들어오면 조언은 한 번만 생성
+        String answer;
+        try (AiAdmissionControl.Ticket ticket = aiAdmissionControl.admit(question, budget)) {
+            answer = generationCoalescer.coalesce("guide-advice", question, () ->
+                    aiAdmissionControl.withPermit("guide", () -> guideAdviceRoutingClient.call(client ->
+                            ticket.record(outputBudgetEstimator.measure(budget, () -> client
+                                    .prompt()
+                                    .options(outputBudgetEstimator.options(budget))
+                                    .user(question)
+                                    .call()
+                                    .chatResponse())), cause -> {
+                        log.warn("가이드 조언 LLM 호출 실패, 일정표만 생성 - {}", cause.getMessage());
+                        return null;
+                    })));
+        }
+        if (answer == null || answer.isBlank()) {
+            return null;
+        }
+
+        try {
+            return adviceConverter.convert(answer);
+        } catch (RuntimeException e) {
+            log.warn("가이드 조언 응답 해석 실패, 일정표만 생성 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Template compile(Mustache.Compiler mustacheCompiler, String name) {
+        try {
+            // 마크다운이므로 HTML 이스케이프를 끄고, 값이 없는 항목은 빈 섹션으로 처리
+            return mustacheCompiler
+                    .escapeHTML(false)
+                    .defaultValue("")
+                    .emptyStringIsFalse(true)
+                    .loadTemplate(name);
+        } catch (Exception e) {
+            throw new IllegalStateException("여행 가이드 템플릿을 불러올 수 없습니다: " + name, e);
+        }
+    }
+
+    /**
+     * 네이버 지도 검색 링크 (마크다운 링크가 깨지지 않도록 공백과 괄호만 인코딩)
+     */
+    static String mapUrl(String address, String name) {
+        String query = address != null && !address.isBlank() ? address : name;
+        if (query == null) {
+            return NAVER_MAP_SEARCH_URL;
+        }
+        return NAVER_MAP_SEARCH_URL + query.trim()
+                .replace(" ", "%20")
+                .replace("(", "%28")
+                .replace(")", "%29");
+    }
+
+    static String koreanDate(String isoDate) {
+        return isoDate != null ? LocalDate.parse(isoDate).format(KOREAN_DATE) : "";
+    }
+
+    /**
+     * 좌표 표기 (소수점 6자리)
+     */
+    private static String coord(String coord) {
+        if (coord == null) {
+            return null;
+        }
+        String[] latLng = coord.split(",");
+        return String.format(Locale.ROOT, "%.6f, %.6f", Double.parseDouble(latLng[0]), Double.parseDouble(latLng[1]));
+    }
+
+    /**
+     * 템플릿 모델 - 날짜, 금액, 통계처럼 계산이 필요한 값은 모두 여기서 확정
+     */
+    record GuideView(String title, String location, String period, Long days, String peoples, String budget,
+                     String memo, List<DayView> schedule, List<StopView> unassigned, boolean hasUnassigned,
+                     int totalStops, String averageStops, AdviceView advice) {
+
+        static GuideView of(TravelPrompt prompt, GuideAdvice advice) {
+            String[] period = prompt.period() != null ? prompt.period().split("~") : new String[0];
+            List<DayView> schedule = prompt.schedule() != null
+                    ? prompt.schedule().stream().map(DayView::of).toList() : List.of();
+            List<StopView> unassigned = StopView.of(prompt.unassigned());
+
+            int totalStops = schedule.stream().mapToInt(day -> day.stops().size()).sum() + unassigned.size();
+            long days = prompt.days() != null && prompt.days() > 0 ? prompt.days() : Math.max(1, schedule.size());
+
+            return new GuideView(
+                    prompt.title(),
+                    prompt.location(),
+                    period.length == 2 ? koreanDate(period[0]) + " ~ " + koreanDate(period[1]) : "",
+                    days,
+                    prompt.peoples() != null ? prompt.peoples() + "명" : "미정",
+                    prompt.budget() != null ? String.format(Locale.ROOT, "%,d원", prompt.budget()) : "미정",
+                    prompt.memo(),
+                    schedule,
+                    unassigned,
+                    !unassigned.isEmpty(),
+                    totalStops,
+                    String.format(Locale.ROOT, "%.1f", (double) totalStops / days),
+                    AdviceView.of(advice));
+        }
+    }
+
+    /**
+     * 분할 생성 템플릿 모델 - 기본 정보와 날짜 미정 목록은 GuideView 로, 일자·마무리 섹션은 생성된 마크다운 그대로
+     */
+    record FanOutView(GuideView guide, List<String> daySections, String summary) {
+    }
+
+    record DayView(Integer day, String date, List<StopView> stops) {
+
+        static DayView of(TravelPrompt.Day day) {
+            return new DayView(day.day(), koreanDate(day.date()), StopView.of(day.stops()));
+        }
+    }
+
+    record StopView(String time, String name, String mapUrl, String address, String memo, String coord) {
+
+        static List<StopView> of(List<TravelPrompt.Stop> stops) {
+            if (stops == null) {
+                return List.of();
+            }
+            return stops.stream()
+                    .map(stop -> new StopView(
+                            stop.time() != null ? stop.time() : "미정",
+                            stop.name(),
+                            mapUrl(stop.address(), stop.name()),
+                            stop.address(),
+                            stop.memo(),
+                            coord(stop.coord())))
+                    .toList();
+        }
+    }
+
+    record AdviceView(String transport, String food, String weather, String budgetTip, String improvement,
+                      List<RecommendationView> recommendations, boolean hasRecommendations, String review,
+                      List<String> improvements, boolean hasImprovements,
+                      List<String> successTips, boolean hasSuccessTips) {
+
+        static AdviceView of(GuideAdvice advice) {
+            if (advice == null) {
+                return null;
+            }
+            List<RecommendationView> recommendations = advice.recommendations() != null
+                    ? advice.recommendations().stream()
+                    .filter(recommendation -> recommendation != null && recommendation.name() != null)
+                    .map(RecommendationView::of)
+                    .toList()
+                    : List.of();
+            List<String> improvements = advice.improvements() != null ? advice.improvements() : List.of();
+            List<String> successTips = advice.successTips() != null ? advice.successTips() : List.of();
+
+            return new AdviceView(advice.transport(), advice.food(), advice.weather(), advice.budget(),
+                    advice.improvement(), recommendations, !recommendations.isEmpty(), advice.review(),
+                    improvements, !improvements.isEmpty(), successTips, !successTips.isEmpty());
+        }
+    }
+
+    record RecommendationView(String name, String mapUrl, String reason, String duration, String cost) {
+
+        static RecommendationView of(GuideAdvice.Recommendation recommendation) {
+            return new RecommendationView(recommendation.name(),
+                    mapUrl(recommendation.address(), recommendation.name()),
+                    recommendation.reason(), recommendation.duration(), recommendation.cost());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.ssafy.logoserver.domain.ai.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import com.ssafy.logoserver.domain.area.dto.PlaceDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelDetailDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelRootDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 여행 일정 프롬프트 인코더
+ * 여행 상세 정보를 LLM 입력용 압축 JSON(TravelPrompt)으로 변환합니다.
+ * - 일차와 방문지를 travelDayId == truid 로 미리 묶고 일차·방문 시간 순으로 정렬
+ * - 날짜는 2025-05-28, 시간은 09:00 형태의 짧은 문자열로 표기
+ * - ID, 이미지, 결제, 인증 정보와 null·빈 값은 제외
+ * 변환 결과의 입력 토큰 추정치는 llm.prompt.tokens.estimated 분포로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TravelPromptEncoder {
+
+    /**
+     * 압축 JSON 직렬화용 공용 매퍼 (null·빈 값 생략)
+     */
+    private static final ObjectMapper PROMPT_MAPPER = JsonMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+            .build();
+
+    /**
+     * 클라이언트가 보낸 여행 JSON 해석용 공용 매퍼 (배열·ISO 날짜 모두 허용, 모르는 필드 무시)
+     */
+    private static final ObjectMapper TRAVEL_READER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    /**
+     * 일정 작성에 쓰이지 않아 해석 전에 제거하는 필드
+     */
+    private static final List<String> UNUSED_TRAVEL_FIELDS = List.of("travelImages", "travelPayments");
+
+    private final LlmUsageMetrics llmUsageMetrics;
+
+    /**
+     * 여행 상세 정보를 압축 JSON으로 변환
+     *
+     * @param travel 여행 상세 정보
+     * @return 압축 JSON 문자열
+     */
+    public String encode(TravelDetailDto travel) {
+        return encode(toPrompt(travel));
+    }
+
+    /**
+     * 이미 변환한 압축 일정을 JSON으로 직렬화
+     *
+     * @param prompt 압축 일정
+     * @return 압축 JSON 문자열
+     */
+    public String encode(TravelPrompt prompt) {
+        return write("travel_detail", prompt);
+    }
+
+    /**
+     * 압축 일정을 JSON으로 직렬화하고 입력 출처별로 토큰 추정치 기록
+     *
+     * @param prompt 압축 일정
+     * @param source 입력 출처 (메트릭 source 태그)
+     * @return 압축 JSON 문자열
+     */
+    public String encode(TravelPrompt prompt, String source) {
+        return write(source, prompt);
+    }
+
+    /**
+     * 클라이언트가 보낸 여행 JSON(응답 래퍼의 data 포함)을 압축 JSON으로 변환
+     * 여행 상세 형식으로 해석할 수 없으면 원문을 그대로 반환합니다.
+     *
+     * @param travelData 여행 JSON 문자열
+     * @return 압축 JSON 문자열 또는 원문
+     */
+    public String encodeJson(String travelData) {
+        return parse(travelData)
+                .map(prompt -> write("client_json", prompt))
+                .orElse(travelData);
+    }
+
+    /**
+     * 클라이언트가 보낸 여행 JSON(응답 래퍼의 data 포함)을 압축 일정으로 해석
+     *
+     * @param travelData 여행 JSON 문자열
+     * @return 압축 일정 (여행 상세 형식이 아니면 빈 값)
+     */
+    public Optional<TravelPrompt> parse(String travelData) {
+        try {
+            JsonNode root = TRAVEL_READER.readTree(travelData);
+            JsonNode node = root != null && root.has("data") ? root.get("data") : root;
+            if (!(node instanceof ObjectNode travelNode) || !travelNode.has("travelRoots")) {
+                return Optional.empty();
+            }
+            travelNode.remove(UNUSED_TRAVEL_FIELDS);
+            travelNode.path("travelAreas").forEach(area -> {
+                if (area instanceof ObjectNode areaNode) {
+                    areaNode.remove("verifications");
+                }
+            });
+            return Optional.of(toPrompt(TRAVEL_READER.treeToValue(travelNode, TravelDetailDto.class)));
+        } catch (Exception e) {
+            log.debug("여행 JSON 해석 실패, 원문 사용 - {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여행 상세 정보를 일차별로 묶은 압축 일정으로 변환
+     *
+     * @param travel 여행 상세 정보
+     * @return 압축 일정
+     */
+    public static TravelPrompt toPrompt(TravelDetailDto travel) {
+        Map<Long, List<TravelAreaDto>> areasByDay = new LinkedHashMap<>();
+        List<TravelRootDto> roots = travel.getTravelRoots() != null ? travel.getTravelRoots() : List.of();
+        roots.forEach(root -> areasByDay.put(root.getTruid(), new ArrayList<>()));
+
+        List<TravelAreaDto> unassigned = new ArrayList<>();
+        if (travel.getTravelAreas() != null) {
+            for (TravelAreaDto area : travel.getTravelAreas()) {
+                List<TravelAreaDto> dayAreas = area.getTravelDayId() != null ? areasByDay.get(area.getTravelDayId()) : null;
+                (dayAreas != null ? dayAreas : unassigned).add(area);
+            }
+        }
+
+        List<TravelPrompt.Day> schedule = roots.stream()
+                .sorted(Comparator.comparing(TravelRootDto::getDay, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(root -> new TravelPrompt.Day(root.getDay(), formatDate(root.getTravelDate()),
+                        toStops(areasByDay.get(root.getTruid()))))
+                .toList();
+
+        return new TravelPrompt(
+                travel.getTitle(),
+                travel.getLocation(),
+                formatPeriod(travel.getStartDate(), travel.getEndDate()),
+                travel.getStartDate() != null && travel.getEndDate() != null
+                        ? ChronoUnit.DAYS.between(travel.getStartDate(), travel.getEndDate()) + 1 : null,
+                travel.getPeoples(),
+                travel.getTotalBudget() != null && travel.getTotalBudget() > 0 ? travel.getTotalBudget() : null,
+                travel.getMemo(),
+                schedule,
+                toStops(unassigned));
+    }
+
+    /**
+     * 입력 토큰 수 추정
+     * 영문·숫자·기호는 약 4자당 1토큰, 한글 등 비ASCII 문자는 1자당 1토큰으로 계산한 보수적 추정치입니다.
+     *
+     * @param text 입력 문자열
+     * @return 추정 토큰 수
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (codePoint < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    private String write(String source, TravelPrompt prompt) {
+        try {
+            String json = PROMPT_MAPPER.writeValueAsString(prompt);
+            int estimatedTokens = estimateTokens(json);
+            llmUsageMetrics.recordPromptEstimate(source, estimatedTokens);
+            log.debug("여행 일정 프롬프트 인코딩 완료 - {}자, 추정 {}토큰", json.length(), estimatedTokens);
+            return json;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("여행 정보를 프롬프트로 변환하는 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private static List<TravelPrompt.Stop> toStops(List<TravelAreaDto> areas) {
+        if (areas == null || areas.isEmpty()) {
+            return List.of();
+        }
+        return areas.stream()
+                .sorted(TravelAreaDto.START_TIME_ORDER)
+                .map(TravelPromptEncoder::toStop)
+                .toList();
+    }
+
+    private static TravelPrompt.Stop toStop(TravelAreaDto area) {
+        PlaceDto place = area.getPlace();
+        return new TravelPrompt.Stop(
+                formatTime(area.getStartTime()),
+                place != null ? place.getName() : null,
+                place != null ? place.getAddress() : null,
+                place != null ? formatCoord(place.getLatitude(), place.getLongitude()) : null,
+                area.getMemo());
+    }
+
+    /**
+     * 방문 시간 표기 (시간이 없거나 00:00이면 미정으로 보고 생략)
+     */
+    private static String formatTime(LocalDateTime startTime) {
+        if (startTime == null || startTime.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+            return null;
+        }
+        return startTime.format(TIME_FORMAT);
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date != null ? date.toString() : null;
+    }
+
+    private static String formatPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return null;
+        }
+        return startDate + "~" + endDate;
+    }
+
+    /**
+     * 좌표 표기 (소수점 6자리까지, 뒤쪽 0 제거)
+     */
+    private static String formatCoord(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return formatDegree(latitude) + "," + formatDegree(longitude);
+    }
+
+    private static String formatDegree(double degree) {
+        return BigDecimal.valueOf(degree).setScale(6, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+}
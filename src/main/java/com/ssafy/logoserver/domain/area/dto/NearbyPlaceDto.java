@@ -0,0 +1,49 @@
+package com.ssafy.logoserver.domain.area.dto;
+
+import com.ssafy.logoserver.domain.area.entity.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "주변 장소 DTO")
+public class NearbyPlaceDto {
+
+    @Schema(description = "장소 ID", example = "1")
+    private Long puid;
+
+    @Schema(description = "장소 주소", example = "제주특별자치도 서귀포시 성산읍 일출로 284-12")
+    private String address;
+
+    @Schema(description = "장소 이름", example = "성산일출봉")
+    private String name;
+
+    @Schema(description = "위도", example = "33.459198")
+    private Double latitude;
+
+    @Schema(description = "경도", example = "126.942394")
+    private Double longitude;
+
+    @Schema(description = "검색 중심점으로부터의 거리 (km)", example = "1.27")
+    private Double distanceKm;
+
+    @Schema(description = "평균 별점 (인증이 없으면 null)", example = "4.5")
+    private Double averageRating;
+
+    public static NearbyPlaceDto fromEntity(Place place, double distanceKm, Double averageRating) {
+        return NearbyPlaceDto.builder()
+                .puid(place.getPuid())
+                .address(place.getAddress())
+                .name(place.getName())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .averageRating(averageRating)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.logoserver.domain.area.dto;
+
+/**
+ * 장소 색인 갱신 메시지 (PlaceIndexEventHandler 가 모든 인스턴스에 전달)
+ * 증감분이 아닌 커밋된 현재 값을 담으므로 같은 메시지를 다시 적용해도 결과가 같습니다.
+ *
+ * @param puid 장소 ID
+ * @param name 장소 이름
+ * @param address 장소 주소
+ * @param latitude 위도 (없으면 공간 인덱스에서 제외)
+ * @param longitude 경도
+ * @param rating 평균 별점 (인증이 없으면 null)
+ * @param popularity 인기도 (좋아요 수 + 인증 수)
+ */
+public record PlaceIndexEntry(Long puid,
+                              String name,
+                              String address,
+                              Double latitude,
+                              Double longitude,
+                              Double rating,
+                              long popularity) {
+}
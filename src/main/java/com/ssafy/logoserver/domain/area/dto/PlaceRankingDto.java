@@ -0,0 +1,45 @@
+package com.ssafy.logoserver.domain.area.dto;
+
+import com.ssafy.logoserver.domain.area.entity.Place;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장소 순위 DTO")
+public class PlaceRankingDto {
+
+    @Schema(description = "순위 (1부터)", example = "1")
+    private long rank;
+
+    @Schema(description = "장소 ID", example = "1")
+    private Long puid;
+
+    @Schema(description = "장소 이름", example = "성산일출봉")
+    private String name;
+
+    @Schema(description = "장소 주소", example = "제주특별자치도 서귀포시 성산읍 일출로 284-12")
+    private String address;
+
+    @Schema(description = "지역 ID", example = "1")
+    private Long areaId;
+
+    @Schema(description = "순위 점수 (좋아요 순위는 좋아요 수, 주간 인기는 감쇠 활동량)", example = "42.0")
+    private double score;
+
+    public static PlaceRankingDto fromEntity(Place place, long rank, double score) {
+        return PlaceRankingDto.builder()
+                .rank(rank)
+                .puid(place.getPuid())
+                .name(place.getName())
+                .address(place.getAddress())
+                .areaId(place.getArea() != null ? place.getArea().getAuid() : null)
+                .score(Math.round(score * 100) / 100.0)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.logoserver.domain.area.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장소 검색 결과 페이지 DTO")
+public class PlaceSearchPageDto {
+
+    @Schema(description = "현재 페이지 장소 목록 (관련도순)")
+    private List<PlaceDto> places;
+
+    @Schema(description = "페이지 번호 (0부터)", example = "0")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "전체 검색 결과 수", example = "42")
+    private long totalCount;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static PlaceSearchPageDto of(List<PlaceDto> places, int page, int size, long totalCount) {
+        return PlaceSearchPageDto.builder()
+                .places(places)
+                .page(page)
+                .size(size)
+                .totalCount(totalCount)
+                .hasNext(((long) page + 1) * size < totalCount)
+                .build();
+    }
+}
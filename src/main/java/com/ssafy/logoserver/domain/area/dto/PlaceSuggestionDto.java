@@ -0,0 +1,33 @@
+package com.ssafy.logoserver.domain.area.dto;
+
+import com.ssafy.logoserver.domain.area.service.PlaceSearchIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "장소 자동완성 후보 DTO")
+public class PlaceSuggestionDto {
+
+    @Schema(description = "장소 ID", example = "1")
+    private Long puid;
+
+    @Schema(description = "장소 이름", example = "성산일출봉")
+    private String name;
+
+    @Schema(description = "장소 주소", example = "제주특별자치도 서귀포시 성산읍 일출로 284-12")
+    private String address;
+
+    public static PlaceSuggestionDto fromHit(PlaceSearchIndex.Hit hit) {
+        return PlaceSuggestionDto.builder()
+                .puid(hit.id())
+                .name(hit.name())
+                .address(hit.address())
+                .build();
+    }
+}
@@ -1,17 +1,25 @@
 package com.ssafy.logoserver.domain.area.entity;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.travel.entity.TravelRoot;
 import com.ssafy.logoserver.domain.travel.entity.TravelArea;
+import com.ssafy.logoserver.service.EntityCacheListener;
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners({ResourceVersionListener.class, EntityCacheListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.AREA_REGION)
 @Table(name = "Areas")
 @Getter
 @NoArgsConstructor
@@ -1,11 +1,16 @@
 package com.ssafy.logoserver.domain.area.entity;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.user.entity.UserLike;
+import com.ssafy.logoserver.service.EntityCacheListener;
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +21,9 @@ import java.util.List;
  * UserLike와의 연관관계를 통해 사용자 좋아요 기능을 지원합니다.
  */
 @Entity
+@EntityListeners({ResourceVersionListener.class, EntityCacheListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.PLACE_REGION)
 @Table(name = "places")
 @Getter
 @NoArgsConstructor
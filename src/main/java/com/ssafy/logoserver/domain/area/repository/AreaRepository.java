@@ -1,7 +1,11 @@
 package com.ssafy.logoserver.domain.area.repository;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.area.entity.Area;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,14 +13,30 @@ import java.util.Optional;
 /**
  * 지역 정보 레포지토리
  * 지역 코드 기반 조회 기능을 제공합니다.
+ * 지역 데이터는 거의 변경되지 않으므로 조회 쿼리 결과를 쿼리 캐시에 저장합니다.
  */
 public interface AreaRepository extends JpaRepository<Area, Long> {
 
+    /**
+     * 전체 지역 조회
+     * @return 전체 지역 목록
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.AREA_QUERY_REGION)
+    })
+    @Override
+    List<Area> findAll();
+
     /**
      * 지역 코드로 시/군/구 목록 조회
      * @param regionCode 시/도 코드
      * @return 해당 지역의 시/군/구 목록
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.AREA_QUERY_REGION)
+    })
     List<Area> findSigsByRegion(Long regionCode);
 
     /**
@@ -24,6 +44,10 @@ public interface AreaRepository extends JpaRepository<Area, Long> {
      * @param sigCode 시/군/구 코드
      * @return 해당 지역 정보
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.AREA_QUERY_REGION)
+    })
     Optional<Area> findRegionBySig(Long sigCode);
 
     /**
@@ -33,5 +57,9 @@ public interface AreaRepository extends JpaRepository<Area, Long> {
      * @param sig 시/군/구 코드
      * @return 해당 지역 정보
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.AREA_QUERY_REGION)
+    })
     Optional<Area> findByRegionAndSig(Long region, Long sig);
 }
\ No newline at end of file
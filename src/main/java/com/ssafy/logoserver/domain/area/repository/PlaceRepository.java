@@ -1,13 +1,138 @@
 package com.ssafy.logoserver.domain.area.repository;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.entity.Place;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.PLACE_QUERY_REGION)
+    })
     List<Place> findByArea(Area area);
     List<Place> findByName(String name);
     List<Place> findByNameContaining(String keyword);
+
+    /**
+     * 공간 인덱스 적재용 좌표 조회 (좌표가 없는 장소 제외)
+     * @return 장소 ID 와 좌표 목록
+     */
+    @Query("select p.puid as puid, p.latitude as latitude, p.longitude as longitude from Place p "
+            + "where p.latitude is not null and p.longitude is not null")
+    List<PlaceCoordinate> findAllCoordinates();
+
+    /**
+     * 기준 ID 이후에 추가된 장소 좌표 조회 (공간 인덱스 주기 보정용, 좌표가 없는 장소 제외)
+     * @param puid 기준 장소 ID (제외)
+     * @return 장소 ID 와 좌표 목록
+     */
+    @Query("select p.puid as puid, p.latitude as latitude, p.longitude as longitude from Place p "
+            + "where p.puid > :puid and p.latitude is not null and p.longitude is not null")
+    List<PlaceCoordinate> findCoordinatesAfter(@Param("puid") Long puid);
+
+    /**
+     * 반경 내 장소 조회 (공간 인덱스가 준비되지 않았을 때 사용하는 DB 경로)
+     * location(POINT, SPATIAL 인덱스) 컬럼을 경계 상자로 먼저 거른 뒤 구면 거리로 반경을 확인합니다.
+     * 스키마: resources/sql/place-location-point.sql
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param envelope 반경을 덮는 경계 상자 (WKT POLYGON, x=경도, y=위도)
+     * @param radiusMeters 반경 (m)
+     * @return 장소 ID, 거리, 평균 별점 목록
+     */
+    @Query(value = "SELECT p.puid AS puid, "
+            + "ST_Distance_Sphere(p.location, POINT(:longitude, :latitude)) / 1000 AS distanceKm, "
+            + "(SELECT AVG(v.star) FROM verifications v WHERE v.place_id = p.puid) AS rating "
+            + "FROM places p "
+            + "WHERE MBRContains(ST_GeomFromText(:envelope), p.location) "
+            + "AND ST_Distance_Sphere(p.location, POINT(:longitude, :latitude)) <= :radiusMeters",
+            nativeQuery = true)
+    List<PlaceDistance> findWithinRadius(@Param("latitude") double latitude,
+                                         @Param("longitude") double longitude,
+                                         @Param("envelope") String envelope,
+                                         @Param("radiusMeters") double radiusMeters);
+
+    /**
+     * 반경 내 장소 조회 (location 컬럼이 없을 때 쓰는 DB 경로)
+     * latitude, longitude 컬럼을 경계 상자로 먼저 거른 뒤 구면 거리로 반경을 확인합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param minLatitude 경계 상자 최소 위도
+     * @param maxLatitude 경계 상자 최대 위도
+     * @param minLongitude 경계 상자 최소 경도
+     * @param maxLongitude 경계 상자 최대 경도
+     * @param radiusMeters 반경 (m)
+     * @return 장소 ID, 거리, 평균 별점 목록
+     */
+    @Query(value = "SELECT p.puid AS puid, "
+            + "ST_Distance_Sphere(POINT(p.longitude, p.latitude), POINT(:longitude, :latitude)) / 1000 AS distanceKm, "
+            + "(SELECT AVG(v.star) FROM verifications v WHERE v.place_id = p.puid) AS rating "
+            + "FROM places p "
+            + "WHERE p.latitude BETWEEN :minLatitude AND :maxLatitude "
+            + "AND p.longitude BETWEEN :minLongitude AND :maxLongitude "
+            + "AND ST_Distance_Sphere(POINT(p.longitude, p.latitude), POINT(:longitude, :latitude)) <= :radiusMeters",
+            nativeQuery = true)
+    List<PlaceDistance> findWithinBoundingBox(@Param("latitude") double latitude,
+                                              @Param("longitude") double longitude,
+                                              @Param("minLatitude") double minLatitude,
+                                              @Param("maxLatitude") double maxLatitude,
+                                              @Param("minLongitude") double minLongitude,
+                                              @Param("maxLongitude") double maxLongitude,
+                                              @Param("radiusMeters") double radiusMeters);
+
+    /**
+     * 검색 색인 적재용 이름·주소 스트리밍 조회
+     * 전체 장소를 한 번에 메모리에 올리지 않도록 MySQL 스트리밍 결과(fetch size = Integer.MIN_VALUE)로 읽습니다.
+     * 트랜잭션 안에서 try-with-resources 로 사용해야 합니다.
+     * @return 장소 ID, 이름, 주소 스트림
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select p.puid as puid, p.name as name, p.address as address from Place p")
+    Stream<PlaceText> streamAllTexts();
+
+    /**
+     * 기준 ID 이후에 추가된 장소 이름·주소 스트리밍 조회 (검색 색인 주기 보정용)
+     * 트랜잭션 안에서 try-with-resources 로 사용해야 합니다.
+     * @param puid 기준 장소 ID (제외)
+     * @return 장소 ID, 이름, 주소 스트림
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select p.puid as puid, p.name as name, p.address as address from Place p where p.puid > :puid")
+    Stream<PlaceText> streamTextsAfter(@Param("puid") Long puid);
+
+    /**
+     * 장소 좌표 프로젝션
+     */
+    interface PlaceCoordinate {
+        Long getPuid();
+        Double getLatitude();
+        Double getLongitude();
+    }
+
+    /**
+     * 반경 조회 결과 프로젝션
+     */
+    interface PlaceDistance {
+        Long getPuid();
+        Double getDistanceKm();
+        Double getRating();
+    }
+
+    /**
+     * 장소 이름·주소 프로젝션
+     */
+    interface PlaceText {
+        Long getPuid();
+        String getName();
+        String getAddress();
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.ssafy.logoserver.domain.area.service;
 import com.ssafy.logoserver.domain.area.dto.AreaDto;
 import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.repository.AreaRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -0,0 +1,212 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import com.ssafy.logoserver.domain.area.dto.NearbyPlaceDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceIndexEntry;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository.PlaceCoordinate;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository.PlaceDistance;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceRating;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주변 장소 검색 서비스
+ * 시작 시 모든 장소 좌표와 평균 별점을 메모리 공간 인덱스(PlaceGeoIndex)에 적재하고,
+ * 장소 생성·인증 등록은 아웃박스 이벤트(PlaceIndexEventHandler)로 모든 인스턴스의 인덱스에 반영하며,
+ * 유실된 갱신 메시지는 주기 보정(reconcileIndex)으로 메웁니다.
+ * 인덱스 적재가 끝나기 전에는 MySQL SPATIAL 인덱스를 사용하는 DB 경로로 조회하고,
+ * location 컬럼(resources/sql/place-location-point.sql)이 아직 없으면 위도·경도 컬럼 경계 상자 조회로 대신합니다.
+ */
+@Service
+@Observed(name = "domain.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class NearbyPlaceService {
+
+    /**
+     * 격자 한 칸 크기 (위도 방향 약 2.2km)
+     */
+    private static final double CELL_DEGREES = 0.02;
+
+    public static final double MAX_RADIUS_KM = 50.0;
+    public static final int MAX_LIMIT = 200;
+
+    /**
+     * 주기 보정 때 마지막 기준 ID 앞쪽도 다시 읽는 범위
+     * IDENTITY 발급 순서와 커밋 순서가 달라 늦게 커밋된 작은 ID 를 놓치지 않도록 합니다.
+     */
+    private static final long RECONCILE_OVERLAP = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final VerificationRepository verificationRepository;
+
+    private final PlaceGeoIndex index = new PlaceGeoIndex(CELL_DEGREES);
+
+    private volatile boolean indexReady;
+
+    /**
+     * DB 에서 읽어 인덱스에 반영한 가장 큰 장소 ID
+     */
+    private volatile long lastLoadedPuid;
+
+    /**
+     * location 컬럼이 없어 위도·경도 경계 상자 조회를 쓰는지 여부
+     */
+    private volatile boolean spatialColumnMissing;
+
+    /**
+     * 애플리케이션 시작 후 공간 인덱스 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+
+        upsertCoordinates(placeRepository.findAllCoordinates());
+        replaceRatings();
+
+        indexReady = true;
+        log.info("장소 공간 인덱스 적재 완료 - 장소 수: {}, 소요 시간: {}ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 색인 갱신 메시지(PlaceIndexEventHandler) 유실 보정
+     * Redis 재연결 중 놓친 메시지가 있어도 다른 인스턴스에서 추가된 장소와 평점이 다음 주기에 반영되도록
+     * 마지막으로 읽은 ID 이후의 장소 좌표와 전체 평균 별점을 DB 기준으로 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${place-index.reconcile-interval:10m}",
+            initialDelayString = "${place-index.reconcile-interval:10m}")
+    public void reconcileIndex() {
+        if (!indexReady) {
+            return;
+        }
+        int before = index.size();
+        upsertCoordinates(placeRepository.findCoordinatesAfter(Math.max(0, lastLoadedPuid - RECONCILE_OVERLAP)));
+        replaceRatings();
+        log.debug("장소 공간 인덱스 보정 - 추가된 장소 수: {}", index.size() - before);
+    }
+
+    /**
+     * 반경 내 주변 장소 검색 (거리와 평점을 합한 점수순)
+     * DB 경로의 SQL 오류(location 컬럼 없음)가 트랜잭션을 rollback-only 로 만들지 않도록 트랜잭션 없이 실행합니다.
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km, 최대 50)
+     * @param limit 최대 결과 수 (최대 200)
+     * @return 주변 장소 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<NearbyPlaceDto> findNearbyPlaces(double latitude, double longitude, double radiusKm, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("좌표가 올바르지 않습니다: " + latitude + ", " + longitude);
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("반경은 0km 초과 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다: " + radiusKm);
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("결과 수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다: " + limit);
+        }
+
+        List<PlaceGeoIndex.Hit> hits = indexReady
+                ? index.search(latitude, longitude, radiusKm, limit)
+                : searchDatabase(latitude, longitude, radiusKm, limit);
+
+        // 장소 정보는 2차 캐시(entity.place)에서 조회
+        List<NearbyPlaceDto> places = new ArrayList<>(hits.size());
+        for (PlaceGeoIndex.Hit hit : hits) {
+            placeRepository.findById(hit.id())
+                    .ifPresent(place -> places.add(NearbyPlaceDto.fromEntity(place, hit.distanceKm(), hit.rating())));
+        }
+        return places;
+    }
+
+    /**
+     * 커밋된 장소 변경을 공간 인덱스에 반영 (좌표가 없는 장소는 제외)
+     * 어느 인스턴스에서 커밋된 변경이든 PlaceIndexEventHandler 가 모든 인스턴스에 전달합니다.
+     *
+     * @param entry 장소의 현재 좌표와 평균 별점
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void apply(PlaceIndexEntry entry) {
+        if (entry.puid() == null || entry.latitude() == null || entry.longitude() == null) {
+            return;
+        }
+        index.upsert(entry.puid(), entry.latitude(), entry.longitude());
+        index.updateRating(entry.puid(), entry.rating());
+    }
+
+    private void upsertCoordinates(List<PlaceCoordinate> coordinates) {
+        long maxPuid = lastLoadedPuid;
+        for (PlaceCoordinate coordinate : coordinates) {
+            index.upsert(coordinate.getPuid(), coordinate.getLatitude(), coordinate.getLongitude());
+            maxPuid = Math.max(maxPuid, coordinate.getPuid());
+        }
+        lastLoadedPuid = maxPuid;
+    }
+
+    private void replaceRatings() {
+        Map<Long, Double> ratings = new HashMap<>();
+        for (PlaceRating rating : verificationRepository.findAverageStarGroupByPlace()) {
+            ratings.put(rating.getPuid(), rating.getRating());
+        }
+        index.replaceRatings(ratings);
+    }
+
+    /**
+     * DB 경로 반경 검색 (MySQL SPATIAL 인덱스, location 컬럼이 없으면 위도·경도 경계 상자)
+     */
+    private List<PlaceGeoIndex.Hit> searchDatabase(double latitude, double longitude, double radiusKm, int limit) {
+        log.debug("공간 인덱스 적재 전 - DB 경로로 주변 장소 조회");
+
+        double latDelta = radiusKm / 111.32;
+        double lonDelta = radiusKm / (111.32 * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        String envelope = String.format(Locale.ROOT,
+                "POLYGON((%1$f %2$f, %3$f %2$f, %3$f %4$f, %1$f %4$f, %1$f %2$f))",
+                longitude - lonDelta, latitude - latDelta, longitude + lonDelta, latitude + latDelta);
+
+        List<PlaceDistance> rows = null;
+        if (!spatialColumnMissing) {
+            try {
+                rows = placeRepository.findWithinRadius(latitude, longitude, envelope, radiusKm * 1000);
+            } catch (InvalidDataAccessResourceUsageException e) {
+                spatialColumnMissing = true;
+                log.warn("places.location 컬럼을 사용할 수 없어 위도·경도 경계 상자 조회로 대신함 "
+                        + "(resources/sql/place-location-point.sql 적용 필요) - {}", e.getMessage());
+            }
+        }
+        if (rows == null) {
+            rows = placeRepository.findWithinBoundingBox(latitude, longitude, latitude - latDelta, latitude + latDelta,
+                    longitude - lonDelta, longitude + lonDelta, radiusKm * 1000);
+        }
+
+        List<PlaceGeoIndex.Hit> hits = new ArrayList<>();
+        for (PlaceDistance row : rows) {
+            double rating = row.getRating() != null ? row.getRating() : Double.NaN;
+            hits.add(new PlaceGeoIndex.Hit(row.getPuid(), row.getDistanceKm(), row.getRating(),
+                    PlaceGeoIndex.score(row.getDistanceKm(), rating, radiusKm)));
+        }
+        hits.sort((a, b) -> a.score() != b.score()
+                ? Double.compare(b.score(), a.score())
+                : Double.compare(a.distanceKm(), b.distanceKm()));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+}
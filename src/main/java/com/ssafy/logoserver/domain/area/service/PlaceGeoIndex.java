@@ -0,0 +1,298 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 좌표 메모리 공간 인덱스
+ * 위도/경도를 고정 크기 격자(셀)로 나누어 셀마다 항목 번호를 보관하고,
+ * 좌표와 평점은 객체 대신 기본형 배열에 저장해 반경 검색 시 객체 할당과 포인터 추적을 줄입니다.
+ * 읽기는 동시에, 쓰기(장소 추가/평점 갱신)는 배타적으로 처리합니다.
+ */
+public final class PlaceGeoIndex {
+
+    /**
+     * 위도 1도의 거리 (km)
+     */
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * 반경 대비 거리 점수 가중치 (나머지는 평점 가중치)
+     */
+    private static final double DISTANCE_WEIGHT = 0.7;
+
+    private static final double MAX_RATING = 5.0;
+
+    private final double cellDegrees;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[1024];
+    private double[] latitudes = new double[1024];
+    private double[] longitudes = new double[1024];
+    /**
+     * 평균 별점 (인증이 없으면 NaN)
+     */
+    private double[] ratings = new double[1024];
+    private int size;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    /**
+     * @param cellDegrees 격자 한 칸의 크기 (도 단위, 0.05 이면 위도 방향 약 5.5km)
+     */
+    public PlaceGeoIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * 장소 추가 또는 좌표 갱신
+     *
+     * @param id 장소 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     */
+    public void upsert(long id, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot != null) {
+                cellOf(latitudes[slot], longitudes[slot]).remove(slot);
+                latitudes[slot] = latitude;
+                longitudes[slot] = longitude;
+                cells.computeIfAbsent(cellKey(latitude, longitude), key -> new Cell()).add(slot);
+                return;
+            }
+
+            ensureCapacity(size + 1);
+            int newSlot = size++;
+            ids[newSlot] = id;
+            latitudes[newSlot] = latitude;
+            longitudes[newSlot] = longitude;
+            ratings[newSlot] = Double.NaN;
+            slotById.put(id, newSlot);
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> new Cell()).add(newSlot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 평균 별점 갱신 (인덱스에 없는 장소는 무시)
+     *
+     * @param id 장소 ID
+     * @param rating 평균 별점 (null 이면 평점 없음)
+     */
+    public void updateRating(long id, Double rating) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot != null) {
+                ratings[slot] = rating != null ? rating : Double.NaN;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 평균 별점을 한 번에 교체 (목록에 없는 장소는 평점 없음)
+     *
+     * @param ratingById 장소 ID 별 평균 별점
+     */
+    public void replaceRatings(Map<Long, Double> ratingById) {
+        lock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                Double rating = ratingById.get(ids[slot]);
+                ratings[slot] = rating != null ? rating : Double.NaN;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 장소 검색
+     * 반경을 덮는 셀만 훑은 뒤 경계 상자로 거르고, 남은 후보만 구면 거리(하버사인)를 계산합니다.
+     * 결과는 거리 점수와 평점 점수를 합한 점수 내림차순(같으면 가까운 순)으로 정렬됩니다.
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param limit 최대 결과 수
+     * @return 점수순 검색 결과
+     */
+    public List<Hit> search(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        double minLon = longitude - lonDelta;
+        double maxLon = longitude + lonDelta;
+
+        long[] hitIds;
+        double[] hitDistances;
+        double[] hitRatings;
+        int hitCount = 0;
+
+        lock.readLock().lock();
+        try {
+            hitIds = new long[Math.min(size, 256)];
+            hitDistances = new double[hitIds.length];
+            hitRatings = new double[hitIds.length];
+
+            int minLatCell = cellIndex(minLat);
+            int maxLatCell = cellIndex(maxLat);
+            int minLonCell = cellIndex(minLon);
+            int maxLonCell = cellIndex(maxLon);
+
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    Cell cell = cells.get(cellKey(latCell, lonCell));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size; i++) {
+                        int slot = cell.slots[i];
+                        double lat = latitudes[slot];
+                        double lon = longitudes[slot];
+                        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+                            continue;
+                        }
+                        double distance = haversineKm(latitude, longitude, lat, lon);
+                        if (distance > radiusKm) {
+                            continue;
+                        }
+                        if (hitCount == hitIds.length) {
+                            int grown = Math.max(hitIds.length * 2, 16);
+                            hitIds = Arrays.copyOf(hitIds, grown);
+                            hitDistances = Arrays.copyOf(hitDistances, grown);
+                            hitRatings = Arrays.copyOf(hitRatings, grown);
+                        }
+                        hitIds[hitCount] = ids[slot];
+                        hitDistances[hitCount] = distance;
+                        hitRatings[hitCount] = ratings[slot];
+                        hitCount++;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(hitCount);
+        for (int i = 0; i < hitCount; i++) {
+            double rating = hitRatings[i];
+            hits.add(new Hit(hitIds[i], hitDistances[i], Double.isNaN(rating) ? null : rating,
+                    score(hitDistances[i], rating, radiusKm)));
+        }
+        hits.sort((a, b) -> a.score() != b.score()
+                ? Double.compare(b.score(), a.score())
+                : Double.compare(a.distanceKm(), b.distanceKm()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 두 좌표 사이의 구면 거리 (km)
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 거리·평점 결합 점수 (0 ~ 1)
+     * 반경 끝에 가까울수록 거리 점수가 0 에 가까워지고, 평점이 없는 장소는 평점 점수 0 으로 계산합니다.
+     */
+    static double score(double distanceKm, double rating, double radiusKm) {
+        double distanceScore = radiusKm > 0 ? 1.0 - Math.min(distanceKm / radiusKm, 1.0) : 1.0;
+        double ratingScore = Double.isNaN(rating) ? 0.0 : Math.min(rating / MAX_RATING, 1.0);
+        return DISTANCE_WEIGHT * distanceScore + (1 - DISTANCE_WEIGHT) * ratingScore;
+    }
+
+    private Cell cellOf(double latitude, double longitude) {
+        return cells.get(cellKey(latitude, longitude));
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(cellIndex(latitude), cellIndex(longitude));
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+    }
+
+    /**
+     * 반경 검색 결과
+     *
+     * @param id 장소 ID
+     * @param distanceKm 중심점으로부터의 거리 (km)
+     * @param rating 평균 별점 (없으면 null)
+     * @param score 정렬 점수
+     */
+    public record Hit(long id, double distanceKm, Double rating, double score) {
+    }
+
+    /**
+     * 격자 한 칸에 속한 항목 번호 목록
+     */
+    private static final class Cell {
+        private int[] slots = new int[8];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.area.dto.PlaceIndexEntry;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventHandler;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 장소 생성·좋아요·인증 이벤트를 모든 인스턴스의 메모리 색인(공간 인덱스, 검색 색인)에 반영하는 핸들러
+ * 아웃박스 전달은 임대를 가진 인스턴스 한 곳에서만 실행되므로, 그 인스턴스가 장소의 커밋된 현재 값을 읽어
+ * 색인 갱신 채널로 발행하고 각 인스턴스(자신 포함)가 구독해 자기 색인에 반영합니다.
+ * 메시지는 증감분이 아닌 현재 값이라 재전달되어도 중복 반영되지 않습니다.
+ * 발행에 실패하면 예외를 던져 아웃박스가 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceIndexEventHandler implements DomainEventHandler, MessageListener {
+
+    /**
+     * 인스턴스 간 장소 색인 갱신 채널 (메시지 본문은 PlaceIndexEntry JSON)
+     */
+    public static final String CHANNEL = "place_index:update";
+
+    private final PlaceRepository placeRepository;
+    private final UserLikeRepository userLikeRepository;
+    private final VerificationRepository verificationRepository;
+    private final NearbyPlaceService nearbyPlaceService;
+    private final PlaceSearchService placeSearchService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<DomainEventType> supportedTypes() {
+        return Set.of(DomainEventType.PLACE_CREATED, DomainEventType.PLACE_LIKED,
+                DomainEventType.PLACE_UNLIKED, DomainEventType.PLACE_VERIFIED);
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        Long puid = event.aggregateId();
+        Place place = placeRepository.findById(puid).orElse(null);
+        if (place == null) {
+            log.debug("삭제된 장소의 색인 이벤트 건너뜀 - puid: {}, type: {}", puid, event.eventType());
+            return;
+        }
+
+        PlaceIndexEntry entry = new PlaceIndexEntry(puid, place.getName(), place.getAddress(),
+                place.getLatitude(), place.getLongitude(),
+                verificationRepository.findAverageStarByPlaceId(puid),
+                userLikeRepository.countByPlacePuid(puid) + verificationRepository.countByPlacePuid(puid));
+        String message = toJson(entry);
+        downstreamLimiter.run(Downstream.REDIS, () -> redisTemplate.convertAndSend(CHANNEL, message));
+    }
+
+    /**
+     * 색인 갱신 메시지를 이 인스턴스의 색인에 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        PlaceIndexEntry entry;
+        try {
+            entry = objectMapper.readValue(message.getBody(), PlaceIndexEntry.class);
+        } catch (IOException e) {
+            log.warn("잘못된 장소 색인 갱신 메시지 - {}", e.getMessage());
+            return;
+        }
+        nearbyPlaceService.apply(entry);
+        placeSearchService.apply(entry);
+        log.debug("장소 색인 갱신 - puid: {}, 인기도: {}", entry.puid(), entry.popularity());
+    }
+
+    private String toJson(PlaceIndexEntry entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("장소 색인 갱신 메시지를 JSON 으로 변환할 수 없습니다: " + entry.puid(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 좋아요·인증 이벤트를 인기 장소 순위(Redis)에 반영하는 핸들러
+ * ZINCRBY 는 멱등이 아니므로 eventId 처리 기록과 점수 갱신을 원자적으로 수행해 재전달된 이벤트는 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceRankingEventHandler implements DomainEventHandler {
+
+    private final PlaceRankingService placeRankingService;
+
+    @Override
+    public Set<DomainEventType> supportedTypes() {
+        return Set.of(DomainEventType.PLACE_LIKED, DomainEventType.PLACE_UNLIKED, DomainEventType.PLACE_VERIFIED);
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        Long puid = event.aggregateId();
+        String processedKey = processedKey(event);
+        boolean applied = switch (event.eventType()) {
+            case PLACE_LIKED -> placeRankingService.recordLike(
+                    processedKey, puid, event.getLong("areaId"), event.getLong("region"), event.occurredAt());
+            case PLACE_UNLIKED -> placeRankingService.recordUnlike(processedKey, puid, event.getLong("areaId"));
+            case PLACE_VERIFIED -> placeRankingService.recordVerification(
+                    processedKey, puid, event.getLong("region"), event.occurredAt());
+            default -> true;
+        };
+        if (!applied) {
+            log.debug("이미 반영한 순위 이벤트 건너뜀 - eventId: {}, type: {}", event.eventId(), event.eventType());
+        }
+    }
+}
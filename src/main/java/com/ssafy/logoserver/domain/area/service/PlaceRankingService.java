@@ -0,0 +1,495 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import com.ssafy.logoserver.domain.area.dto.PlaceRankingDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceRankingPageDto;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceActivity;
+import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 인기 장소 순위 서비스 (Redis Sorted Set)
+ * - 지역(시/군/구)별 좋아요 순위: ranking:most_liked:area:{auid}, 점수 = 좋아요 수
+ * - 시/도별 주간 인기 순위: ranking:trending:region:{region}:{주 시작일}, 점수 = 감쇠 가중 활동량
+ * 좋아요/취소/인증 이벤트가 아웃박스로 전달되면 ZINCRBY 로 점수만 갱신하고(O(log n)),
+ * 조회는 ZREVRANGE 로 페이지만 읽습니다(O(log n + k)).
+ * 아웃박스 전달은 최소 한 번이므로, 처리 기록(SET NX)과 점수 갱신을 한 Lua 스크립트로 묶어 같은 이벤트는 한 번만 반영합니다.
+ *
+ * 주간 순위의 감쇠는 전방 감쇠(forward decay) 방식입니다.
+ * 활동 가중치에 2^((활동 시각 - 주 시작) / 반감기) 를 곱해 더하므로, 기존 점수를 다시 계산하지 않아도
+ * 최근 활동일수록 큰 비중을 갖습니다. 주가 바뀌면 새 키로 집계를 시작합니다.
+ */
+@Service
+@Observed(name = "domain.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class PlaceRankingService {
+
+    private static final String MOST_LIKED_PREFIX = "ranking:most_liked:area:";
+    private static final String TRENDING_PREFIX = "ranking:trending:region:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String REBUILD_LOCK_KEY = "ranking:rebuild_lock";
+
+    /**
+     * 재구성 시 한 번에 합산해 Redis 에 반영하는 활동 행 수
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 주간 인기 활동 가중치 - 방문 인증은 좋아요보다 강한 신호로 취급
+     */
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double VERIFICATION_WEIGHT = 2.0;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 처리 기록이 없을 때만 기록하고 점수 갱신 (이미 처리한 이벤트면 0 반환)
+     * KEYS: 처리 기록, 지역별 좋아요 키, 주간 인기 키 (쓰지 않는 키는 처리 기록 키로 채움)
+     * ARGV: 장소 ID, 좋아요 증감, 주간 인기 가중치, 처리 기록 보관(ms), 주간 인기 키 보관(ms)
+     */
+    private static final RedisScript<Long> APPLY_ONCE = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[4]) then
+              return 0
+            end
+            if tonumber(ARGV[2]) ~= 0 then
+              local score = tonumber(redis.call('ZINCRBY', KEYS[2], ARGV[2], ARGV[1]))
+              if score <= 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+              end
+            end
+            if tonumber(ARGV[3]) > 0 then
+              redis.call('ZINCRBY', KEYS[3], ARGV[3], ARGV[1])
+              redis.call('PEXPIRE', KEYS[3], ARGV[5])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 임시 키에 한 묶음의 점수를 더함
+     * KEYS: 임시 키들
+     * ARGV: 키마다 [멤버 수, 멤버1, 점수1, 멤버2, 점수2, ...] 를 KEYS 순서로 이어 붙인 값
+     */
+    private static final RedisScript<Long> ADD_BATCH = new DefaultRedisScript<>("""
+            local i = 1
+            for k = 1, #KEYS do
+              local n = tonumber(ARGV[i])
+              i = i + 1
+              for j = 1, n do
+                redis.call('ZINCRBY', KEYS[k], ARGV[i + 1], ARGV[i])
+                i = i + 2
+              end
+            end
+            return #KEYS
+            """, Long.class);
+
+    /**
+     * 자신이 잡은 재구성 잠금만 연장 (1: 연장, 0: 다른 인스턴스로 넘어감)
+     */
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    /**
+     * 자신이 잡은 재구성 잠금만 해제
+     */
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+    private final PlaceRepository placeRepository;
+    private final UserLikeRepository userLikeRepository;
+    private final VerificationRepository verificationRepository;
+
+    /**
+     * 여러 인스턴스 중 한 곳에서만 재구성하기 위한 잠금 소유자 ID
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 주간 인기 점수 반감기
+     */
+    @Value("${ranking.trending.half-life:2d}")
+    private Duration halfLife;
+
+    /**
+     * 주간 인기 키 보관 기간 (지난주 순위 조회용으로 한 주 더 보관)
+     */
+    @Value("${ranking.trending.retention:15d}")
+    private Duration trendingRetention;
+
+    /**
+     * 처리한 이벤트 기록 보관 기간 (재전달될 수 있는 기간 이상, 아웃박스 보관 기간과 같게)
+     */
+    @Value("${outbox.retention:7d}")
+    private Duration processedRetention;
+
+    /**
+     * 재구성 잠금 만료 시간 (묶음을 반영할 때마다 연장하므로, 진행이 이 시간 이상 멈추면 다른 인스턴스가 이어받음)
+     */
+    @Value("${ranking.rebuild-lock-ttl:2m}")
+    private Duration rebuildLockTtl;
+
+    /**
+     * 좋아요 생성 반영 (PlaceRankingEventHandler 에서 호출)
+     *
+     * @param processedKey 이벤트 처리 기록 키 (이미 있으면 반영하지 않음)
+     * @return 반영했으면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean recordLike(String processedKey, Long puid, Long auid, Long region, LocalDateTime occurredAt) {
+        return apply(processedKey, puid, auid, region, 1, LIKE_WEIGHT, occurredAt);
+    }
+
+    /**
+     * 좋아요 취소 반영 - 주간 인기 점수는 이미 발생한 활동이므로 유지
+     *
+     * @param processedKey 이벤트 처리 기록 키 (이미 있으면 반영하지 않음)
+     * @return 반영했으면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean recordUnlike(String processedKey, Long puid, Long auid) {
+        return apply(processedKey, puid, auid, null, -1, 0, null);
+    }
+
+    /**
+     * 방문 인증 반영 (PlaceRankingEventHandler 에서 호출)
+     *
+     * @param processedKey 이벤트 처리 기록 키 (이미 있으면 반영하지 않음)
+     * @return 반영했으면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean recordVerification(String processedKey, Long puid, Long region, LocalDateTime occurredAt) {
+        return apply(processedKey, puid, null, region, 0, VERIFICATION_WEIGHT, occurredAt);
+    }
+
+    /**
+     * 지역(시/군/구)별 좋아요 순위 조회
+     *
+     * @param auid 지역 ID
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 순위 페이지 (점수 = 좋아요 수)
+     */
+    public PlaceRankingPageDto getMostLikedInArea(Long auid, int page, int size) {
+        return readPage(mostLikedKey(auid), page, size, 1.0);
+    }
+
+    /**
+     * 시/도별 이번 주 인기 순위 조회
+     *
+     * @param region 시/도 코드
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 순위 페이지 (점수 = 현재 시각 기준으로 환산한 감쇠 활동량)
+     */
+    public PlaceRankingPageDto getTrendingInRegion(Long region, int page, int size) {
+        Instant now = Instant.now();
+        // 저장된 점수는 주 시작 기준 가중치이므로 현재 시각 기준으로 환산
+        return readPage(trendingKey(region, now), page, size, 1.0 / decayFactor(now));
+    }
+
+    /**
+     * DB 를 스트리밍으로 읽어 순위 키 전체 재구성
+     * 활동은 REBUILD_BATCH_SIZE 행씩만 합산해 임시 키에 더하므로 메모리 사용량은 테이블 크기와 무관하며,
+     * 묶음마다 재구성 잠금을 연장합니다. 잠금을 잃으면 임시 키를 지우고 중단합니다.
+     * 모두 반영한 뒤 임시 키를 RENAME 으로 교체하므로 조회 중에도 빈 순위가 보이지 않습니다.
+     * DB 에 활동이 없어 새로 만들지 않은 지역별 좋아요 키와 이번 주 인기 키는 삭제합니다. (지난주 키는 만료까지 유지)
+     * (재구성 도중 들어온 증분 갱신은 교체 시 사라질 수 있으며 다음 재구성에서 복구됩니다.)
+     *
+     * @return 재구성했으면 true, 다른 인스턴스가 재구성 중이거나 도중에 잠금을 잃었으면 false
+     */
+    @Scheduled(cron = "${ranking.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public boolean rebuild() {
+        Boolean locked = downstreamLimiter.call(Downstream.REDIS,
+                () -> redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, instanceId, rebuildLockTtl));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("인기 장소 순위 재구성 건너뜀 - 다른 인스턴스에서 진행 중");
+            return false;
+        }
+
+        RebuildWriter writer = new RebuildWriter();
+        try {
+            long start = System.currentTimeMillis();
+            Instant now = Instant.now();
+            LocalDateTime weekStart = weekStart(now).toLocalDateTime();
+
+            try (Stream<PlaceActivity> likes = userLikeRepository.streamAllActivities()) {
+                Iterator<PlaceActivity> rows = likes.iterator();
+                while (rows.hasNext() && writer.owned()) {
+                    PlaceActivity like = rows.next();
+                    writer.add(mostLikedKey(like.getAuid()), like.getPuid(), 1.0);
+                    // 생성 시간이 없는 이전 좋아요는 주간 인기에서 제외
+                    if (like.getCreated() != null && !like.getCreated().isBefore(weekStart)) {
+                        Instant at = like.getCreated().atZone(ZONE).toInstant();
+                        writer.add(trendingKey(like.getRegion(), at), like.getPuid(), LIKE_WEIGHT * decayFactor(at));
+                    }
+                }
+            }
+            try (Stream<PlaceActivity> verifications = verificationRepository.streamActivitiesSince(weekStart)) {
+                Iterator<PlaceActivity> rows = verifications.iterator();
+                while (rows.hasNext() && writer.owned()) {
+                    PlaceActivity verification = rows.next();
+                    Instant at = verification.getCreated().atZone(ZONE).toInstant();
+                    writer.add(trendingKey(verification.getRegion(), at), verification.getPuid(),
+                            VERIFICATION_WEIGHT * decayFactor(at));
+                }
+            }
+            writer.flush();
+
+            // 교체 직전에도 잠금을 확인해 이어받은 인스턴스의 결과를 덮어쓰지 않음
+            if (!writer.owned() || !renewLock()) {
+                log.warn("인기 장소 순위 재구성 중단 - 재구성 잠금을 다른 인스턴스가 가져감");
+                writer.discard();
+                return false;
+            }
+
+            writer.keys().forEach(this::swapKey);
+            int removed = deleteStaleKeys(writer.keys(), now);
+            log.info("인기 장소 순위 재구성 완료 - 키: {}개, 삭제한 키: {}개, 소요 시간: {}ms",
+                    writer.keys().size(), removed, System.currentTimeMillis() - start);
+            return true;
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private boolean apply(String processedKey, Long puid, Long auid, Long region, double likeDelta,
+                          double trendingWeight, LocalDateTime occurredAt) {
+        Instant at = occurredAt != null ? occurredAt.atZone(ZONE).toInstant() : Instant.now();
+        boolean liked = likeDelta != 0 && auid != null;
+        boolean trending = trendingWeight > 0 && region != null;
+        // 이벤트가 늦게 전달되어도 발생 시각의 주·가중치로 반영
+        List<String> keys = List.of(processedKey,
+                liked ? mostLikedKey(auid) : processedKey,
+                trending ? trendingKey(region, at) : processedKey);
+
+        Long applied = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.execute(APPLY_ONCE, keys,
+                String.valueOf(puid),
+                String.valueOf(liked ? likeDelta : 0),
+                String.valueOf(trending ? trendingWeight * decayFactor(at) : 0),
+                String.valueOf(processedRetention.toMillis()),
+                String.valueOf(trendingRetention.toMillis())));
+        return applied != null && applied == 1;
+    }
+
+    private PlaceRankingPageDto readPage(String key, int page, int size, double scoreScale) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다: " + page);
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+
+        long start = (long) page * size;
+        Set<TypedTuple<String>> tuples = downstreamLimiter.call(Downstream.REDIS,
+                () -> redisTemplate.opsForZSet().reverseRangeWithScores(key, start, start + size - 1));
+        Long total = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.opsForZSet().zCard(key));
+
+        List<TypedTuple<String>> ranked = tuples != null ? new ArrayList<>(tuples) : List.of();
+        // 페이지의 장소를 한 번에 조회한 뒤 순위 순서로 배치 (삭제된 장소는 건너뛰되 순위 번호는 유지)
+        Map<Long, Place> placesById = placeRepository.findAllById(ranked.stream()
+                        .map(tuple -> Long.valueOf(tuple.getValue()))
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Place::getPuid, Function.identity()));
+
+        List<PlaceRankingDto> places = new ArrayList<>();
+        long rank = start;
+        for (TypedTuple<String> tuple : ranked) {
+            rank++;
+            Place place = placesById.get(Long.valueOf(tuple.getValue()));
+            if (place != null) {
+                double score = tuple.getScore() != null ? tuple.getScore() * scoreScale : 0;
+                places.add(PlaceRankingDto.fromEntity(place, rank, score));
+            }
+        }
+        return PlaceRankingPageDto.of(places, page, size, total != null ? total : 0);
+    }
+
+    /**
+     * 다 채운 임시 키로 순위 키 교체
+     */
+    private void swapKey(String key) {
+        downstreamLimiter.run(Downstream.REDIS, () -> {
+            redisTemplate.rename(key + REBUILD_SUFFIX, key);
+            if (key.startsWith(TRENDING_PREFIX)) {
+                redisTemplate.expire(key, trendingRetention);
+            }
+        });
+    }
+
+    /**
+     * 재구성 대상이지만 새로 만들지 않은 키 삭제 (지역별 좋아요 키 전체, 이번 주 인기 키)
+     *
+     * @return 삭제한 키 수
+     */
+    private int deleteStaleKeys(Set<String> rebuilt, Instant now) {
+        List<String> patterns = List.of(MOST_LIKED_PREFIX + "*", TRENDING_PREFIX + "*:" + weekStart(now).toLocalDate());
+        List<String> stale = new ArrayList<>();
+        downstreamLimiter.run(Downstream.REDIS, () -> {
+            for (String pattern : patterns) {
+                try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+                    keys.forEachRemaining(key -> {
+                        if (!rebuilt.contains(key)) {
+                            stale.add(key);
+                        }
+                    });
+                }
+            }
+            if (!stale.isEmpty()) {
+                redisTemplate.delete(stale);
+            }
+        });
+        return stale.size();
+    }
+
+    private boolean renewLock() {
+        Long renewed = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.execute(RENEW_LOCK,
+                List.of(REBUILD_LOCK_KEY), instanceId, String.valueOf(rebuildLockTtl.toMillis())));
+        return renewed != null && renewed == 1;
+    }
+
+    private void releaseLock() {
+        try {
+            downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.execute(RELEASE_LOCK, List.of(REBUILD_LOCK_KEY), instanceId));
+        } catch (Exception e) {
+            log.warn("인기 장소 순위 재구성 잠금 해제 실패 (만료 시 자동 해제) - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전방 감쇠 가중치 2^((시각 - 주 시작) / 반감기)
+     */
+    private double decayFactor(Instant at) {
+        double elapsed = Duration.between(weekStart(at).toInstant(), at).toMillis();
+        return Math.pow(2, elapsed / halfLife.toMillis());
+    }
+
+    private static ZonedDateTime weekStart(Instant at) {
+        return at.atZone(ZONE).toLocalDate().with(DayOfWeek.MONDAY).atStartOfDay(ZONE);
+    }
+
+    private static String mostLikedKey(Long auid) {
+        return MOST_LIKED_PREFIX + auid;
+    }
+
+    private static String trendingKey(Long region, Instant at) {
+        return TRENDING_PREFIX + region + ":" + weekStart(at).toLocalDate();
+    }
+
+    /**
+     * 재구성 점수를 임시 키에 묶음 단위로 더하는 기록기
+     * 메모리에는 아직 반영하지 않은 한 묶음의 합산과 만든 키 이름만 둡니다.
+     */
+    private class RebuildWriter {
+
+        /**
+         * 이번 재구성에서 만든 순위 키 (임시 키는 이름 + REBUILD_SUFFIX)
+         */
+        private final Set<String> keys = new HashSet<>();
+        private final Map<String, Map<String, Double>> pending = new HashMap<>();
+        private int pendingRows;
+        private boolean owned = true;
+
+        void add(String key, Long puid, double score) {
+            pending.computeIfAbsent(key, k -> new HashMap<>()).merge(String.valueOf(puid), score, Double::sum);
+            if (++pendingRows >= REBUILD_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 잠금을 연장하고 모인 묶음을 임시 키에 반영 (잠금을 잃었으면 반영하지 않음)
+         */
+        void flush() {
+            if (pending.isEmpty() || !owned) {
+                return;
+            }
+            owned = renewLock();
+            if (!owned) {
+                return;
+            }
+
+            // 처음 쓰는 임시 키는 이전 재구성이 남긴 값을 먼저 지움
+            List<String> fresh = pending.keySet().stream()
+                    .filter(keys::add)
+                    .map(key -> key + REBUILD_SUFFIX)
+                    .toList();
+            List<String> temporaryKeys = new ArrayList<>();
+            List<String> args = new ArrayList<>();
+            pending.forEach((key, members) -> {
+                temporaryKeys.add(key + REBUILD_SUFFIX);
+                args.add(String.valueOf(members.size()));
+                members.forEach((member, score) -> {
+                    args.add(member);
+                    args.add(String.valueOf(score));
+                });
+            });
+
+            downstreamLimiter.run(Downstream.REDIS, () -> {
+                if (!fresh.isEmpty()) {
+                    redisTemplate.delete(fresh);
+                }
+                redisTemplate.execute(ADD_BATCH, temporaryKeys, args.toArray());
+            });
+            pending.clear();
+            pendingRows = 0;
+        }
+
+        boolean owned() {
+            return owned;
+        }
+
+        Set<String> keys() {
+            return keys;
+        }
+
+        /**
+         * 중단한 재구성의 임시 키 삭제
+         */
+        void discard() {
+            List<String> temporaryKeys = keys.stream().map(key -> key + REBUILD_SUFFIX).toList();
+            if (!temporaryKeys.isEmpty()) {
+                downstreamLimiter.run(Downstream.REDIS, () -> redisTemplate.delete(temporaryKeys));
+            }
+        }
+    }
+}
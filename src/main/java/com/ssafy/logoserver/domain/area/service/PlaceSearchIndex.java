@@ -0,0 +1,373 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 이름·주소 메모리 역색인
+ * 공백과 기호를 제거하고 소문자로 정규화한 문자열을 글자 단위 1-gram, 2-gram 으로 나누어
+ * gram 마다 문서 번호 목록(오름차순)을 보관합니다.
+ * 검색은 질의 gram 의 목록을 짧은 것부터 교집합한 뒤, 후보가 질의 문자열을 실제로 포함하는지 확인합니다.
+ * 한국어처럼 띄어쓰기가 불규칙한 이름도 부분 일치로 찾을 수 있습니다.
+ */
+public final class PlaceSearchIndex {
+
+    /**
+     * 점수 가중치 - 이름 접두 일치 > 이름 부분 일치 > 주소 부분 일치, 인기도는 로그 스케일로 가산
+     */
+    private static final double NAME_PREFIX_SCORE = 3.0;
+    private static final double NAME_MATCH_SCORE = 2.0;
+    private static final double ADDRESS_MATCH_SCORE = 1.0;
+    private static final double POPULARITY_WEIGHT = 0.5;
+
+    /**
+     * 점수 내림차순, 인기도 내림차순, ID 오름차순
+     */
+    private static final Comparator<Hit> HIT_ORDER = (a, b) -> {
+        if (a.score() != b.score()) {
+            return Double.compare(b.score(), a.score());
+        }
+        if (a.popularity() != b.popularity()) {
+            return Integer.compare(b.popularity(), a.popularity());
+        }
+        return Long.compare(a.id(), b.id());
+    };
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[1024];
+    private String[] names = new String[1024];
+    private String[] addresses = new String[1024];
+    private String[] normalizedNames = new String[1024];
+    private String[] normalizedAddresses = new String[1024];
+    private int[] popularity = new int[1024];
+    private int size;
+
+    /**
+     * 이름/주소가 바뀌어 다시 색인된 이전 문서 번호
+     */
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Integer, Postings> postings = new HashMap<>();
+
+    /**
+     * 장소 색인 추가 또는 갱신
+     * 이름과 주소가 같으면 아무것도 하지 않고, 바뀌었으면 이전 문서를 삭제 표시한 뒤 새 문서로 색인합니다.
+     *
+     * @param id 장소 ID
+     * @param name 장소 이름
+     * @param address 장소 주소
+     */
+    public void upsert(long id, String name, String address) {
+        String normalizedName = normalize(name);
+        String normalizedAddress = normalize(address);
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = slotById.get(id);
+            int previousPopularity = 0;
+            if (previous != null) {
+                if (normalizedName.equals(normalizedNames[previous])
+                        && normalizedAddress.equals(normalizedAddresses[previous])) {
+                    return;
+                }
+                deleted.set(previous);
+                previousPopularity = popularity[previous];
+            }
+
+            ensureCapacity(size + 1);
+            int slot = size++;
+            ids[slot] = id;
+            names[slot] = name;
+            addresses[slot] = address;
+            normalizedNames[slot] = normalizedName;
+            normalizedAddresses[slot] = normalizedAddress;
+            popularity[slot] = previousPopularity;
+            slotById.put(id, slot);
+
+            // 새 문서 번호는 항상 가장 크므로 목록 끝에 붙이면 오름차순이 유지됨
+            for (int gram : grams(normalizedName + '\u0001' + normalizedAddress)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도(좋아요 수 + 인증 수) 증감 (색인에 없는 장소는 무시)
+     *
+     * @param id 장소 ID
+     * @param delta 증감량
+     */
+    public void addPopularity(long id, int delta) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot != null) {
+                popularity[slot] = Math.max(0, popularity[slot] + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도(좋아요 수 + 인증 수)를 커밋된 현재 값으로 설정 (색인에 없는 장소는 무시)
+     *
+     * @param id 장소 ID
+     * @param value 인기도
+     */
+    public void setPopularity(long id, int value) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot != null) {
+                popularity[slot] = Math.max(0, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 인기도를 한 번에 교체 (목록에 없는 장소는 0)
+     *
+     * @param popularityById 장소 ID 별 인기도
+     */
+    public void replacePopularity(Map<Long, Integer> popularityById) {
+        lock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                popularity[slot] = Math.max(0, popularityById.getOrDefault(ids[slot], 0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름·주소 부분 일치 검색 (점수순 페이지)
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 검색 결과 페이지와 전체 일치 수
+     */
+    public Result search(String query, int offset, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(normalizedQuery);
+            List<Hit> hits = new ArrayList<>();
+            for (int slot : candidates) {
+                boolean nameMatch = normalizedNames[slot].contains(normalizedQuery);
+                boolean addressMatch = !nameMatch && normalizedAddresses[slot].contains(normalizedQuery);
+                if (!nameMatch && !addressMatch) {
+                    // gram 은 모두 포함하지만 연속된 문자열로는 포함하지 않는 경우
+                    continue;
+                }
+                double score = nameMatch
+                        ? (normalizedNames[slot].startsWith(normalizedQuery) ? NAME_PREFIX_SCORE : NAME_MATCH_SCORE)
+                        : ADDRESS_MATCH_SCORE;
+                score += POPULARITY_WEIGHT * Math.log1p(popularity[slot]);
+                hits.add(new Hit(ids[slot], names[slot], addresses[slot], popularity[slot], score));
+            }
+
+            hits.sort(HIT_ORDER);
+            int from = Math.min(offset, hits.size());
+            int to = Math.min(from + limit, hits.size());
+            return new Result(new ArrayList<>(hits.subList(from, to)), hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 접두어 자동완성 (인기도순)
+     *
+     * @param prefix 입력 중인 접두어
+     * @param limit 최대 결과 수
+     * @return 이름이 접두어로 시작하는 장소 목록
+     */
+    public List<Hit> autocomplete(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            for (int slot : candidates(normalizedPrefix)) {
+                if (normalizedNames[slot].startsWith(normalizedPrefix)) {
+                    hits.add(new Hit(ids[slot], names[slot], addresses[slot], popularity[slot], popularity[slot]));
+                }
+            }
+            hits.sort(HIT_ORDER);
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색용 문자열 정규화 - 호환 문자 통합(NFKC), 소문자 변환, 글자·숫자 외 문자 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자열의 1-gram, 2-gram 키 목록 (두 글자를 하나의 int 로 묶음, 1-gram 은 두 번째 글자 0)
+     * 구분 문자(\u0001)를 가로지르는 2-gram 은 만들지 않습니다.
+     */
+    private static Set<Integer> grams(String text) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u0001') {
+                continue;
+            }
+            grams.add(c << 16);
+            if (i + 1 < text.length() && text.charAt(i + 1) != '\u0001') {
+                grams.add((c << 16) | text.charAt(i + 1));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 질의 문자열의 모든 gram 을 포함하는 (삭제되지 않은) 문서 번호
+     * 질의가 두 글자 이상이면 2-gram 만, 한 글자면 1-gram 을 사용합니다.
+     */
+    private int[] candidates(String normalizedQuery) {
+        List<Postings> lists = new ArrayList<>();
+        if (normalizedQuery.length() == 1) {
+            lists.add(postings.get(normalizedQuery.charAt(0) << 16));
+        } else {
+            for (int i = 0; i + 1 < normalizedQuery.length(); i++) {
+                lists.add(postings.get((normalizedQuery.charAt(i) << 16) | normalizedQuery.charAt(i + 1)));
+            }
+        }
+        if (lists.contains(null)) {
+            return new int[0];
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = Arrays.copyOf(lists.get(0).slots, lists.get(0).size);
+        int resultSize = result.length;
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            resultSize = intersect(result, resultSize, lists.get(i));
+        }
+
+        int kept = 0;
+        for (int i = 0; i < resultSize; i++) {
+            if (!deleted.get(result[i])) {
+                result[kept++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, kept);
+    }
+
+    /**
+     * 정렬된 두 목록의 교집합을 result 앞부분에 기록 (짧은 쪽 기준으로 이진 탐색)
+     */
+    private static int intersect(int[] result, int resultSize, Postings other) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < resultSize; i++) {
+            int found = Arrays.binarySearch(other.slots, from, other.size, result[i]);
+            if (found >= 0) {
+                result[kept++] = result[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        names = Arrays.copyOf(names, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        normalizedNames = Arrays.copyOf(normalizedNames, capacity);
+        normalizedAddresses = Arrays.copyOf(normalizedAddresses, capacity);
+        popularity = Arrays.copyOf(popularity, capacity);
+    }
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param id 장소 ID
+     * @param name 장소 이름
+     * @param address 장소 주소
+     * @param popularity 인기도 (좋아요 수 + 인증 수)
+     * @param score 정렬 점수
+     */
+    public record Hit(long id, String name, String address, int popularity, double score) {
+    }
+
+    /**
+     * 검색 결과 페이지
+     *
+     * @param hits 현재 페이지 결과
+     * @param totalCount 전체 일치 수
+     */
+    public record Result(List<Hit> hits, int totalCount) {
+    }
+
+    /**
+     * gram 하나의 문서 번호 목록 (오름차순)
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ssafy.logoserver.domain.area.service;
+
+import com.ssafy.logoserver.domain.area.dto.PlaceDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceIndexEntry;
+import com.ssafy.logoserver.domain.area.dto.PlaceSearchPageDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceSuggestionDto;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository.PlaceText;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceCount;
+import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 장소 검색 서비스
+ * 시작 시 전체 장소의 이름·주소를 스트리밍으로 읽어 메모리 역색인(PlaceSearchIndex)을 만들고,
+ * 장소 생성·좋아요·인증은 아웃박스 이벤트(PlaceIndexEventHandler)로 모든 인스턴스의 색인과 인기도에 반영하며,
+ * 유실된 갱신 메시지는 주기 보정(reconcileIndex)으로 메웁니다.
+ * 색인 적재가 끝나기 전에는 기존 LIKE 검색으로 응답합니다.
+ */
+@Service
+@Observed(name = "domain.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class PlaceSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SUGGESTIONS = 20;
+
+    /**
+     * 주기 보정 때 마지막 기준 ID 앞쪽도 다시 읽는 범위
+     * IDENTITY 발급 순서와 커밋 순서가 달라 늦게 커밋된 작은 ID 를 놓치지 않도록 합니다.
+     */
+    private static final long RECONCILE_OVERLAP = 1000;
+
+    private final PlaceRepository placeRepository;
+    private final UserLikeRepository userLikeRepository;
+    private final VerificationRepository verificationRepository;
+
+    private final PlaceSearchIndex index = new PlaceSearchIndex();
+
+    private volatile boolean indexReady;
+
+    /**
+     * DB 에서 읽어 색인에 반영한 가장 큰 장소 ID
+     */
+    private volatile long lastLoadedPuid;
+
+    /**
+     * 애플리케이션 시작 후 검색 색인 적재
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long start = System.currentTimeMillis();
+
+        try (Stream<PlaceText> texts = placeRepository.streamAllTexts()) {
+            upsertTexts(texts);
+        }
+        replacePopularity();
+
+        indexReady = true;
+        log.info("장소 검색 색인 적재 완료 - 장소 수: {}, 소요 시간: {}ms",
+                index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 색인 갱신 메시지(PlaceIndexEventHandler) 유실 보정
+     * Redis 재연결 중 놓친 메시지가 있어도 다른 인스턴스에서 추가된 장소와 인기도 변화가 다음 주기에 반영되도록
+     * 마지막으로 읽은 ID 이후의 장소 이름·주소와 전체 인기도를 DB 기준으로 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${place-index.reconcile-interval:10m}",
+            initialDelayString = "${place-index.reconcile-interval:10m}")
+    public void reconcileIndex() {
+        if (!indexReady) {
+            return;
+        }
+        int before = index.size();
+        try (Stream<PlaceText> texts = placeRepository.streamTextsAfter(
+                Math.max(0, lastLoadedPuid - RECONCILE_OVERLAP))) {
+            upsertTexts(texts);
+        }
+        replacePopularity();
+        log.debug("장소 검색 색인 보정 - 새 문서 수: {}", index.size() - before);
+    }
+
+    /**
+     * 이름·주소 검색 (이름 접두 일치 > 이름 부분 일치 > 주소 부분 일치, 인기도 가산)
+     *
+     * @param keyword 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 검색 결과 페이지
+     */
+    public PlaceSearchPageDto search(String keyword, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다: " + page);
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        // page * size 는 int 범위를 넘을 수 있으므로 long 으로 계산 (결과 수보다 크면 어차피 빈 페이지)
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+
+        if (!indexReady) {
+            log.debug("검색 색인 적재 전 - LIKE 검색으로 응답");
+            List<PlaceDto> all = placeRepository.findByNameContaining(keyword).stream()
+                    .map(PlaceDto::fromEntity)
+                    .collect(Collectors.toList());
+            int from = Math.min(offset, all.size());
+            int to = Math.min(from + size, all.size());
+            return PlaceSearchPageDto.of(all.subList(from, to), page, size, all.size());
+        }
+
+        PlaceSearchIndex.Result result = index.search(keyword, offset, size);
+
+        // 현재 페이지의 장소 정보만 2차 캐시(entity.place)에서 조회
+        List<PlaceDto> places = new ArrayList<>(result.hits().size());
+        for (PlaceSearchIndex.Hit hit : result.hits()) {
+            placeRepository.findById(hit.id()).map(PlaceDto::fromEntity).ifPresent(places::add);
+        }
+        return PlaceSearchPageDto.of(places, page, size, result.totalCount());
+    }
+
+    /**
+     * 이름 접두어 자동완성 (인기도순)
+     *
+     * @param prefix 입력 중인 접두어
+     * @param limit 최대 결과 수 (최대 20)
+     * @return 자동완성 후보 목록 (색인 적재 전이면 빈 목록)
+     */
+    public List<PlaceSuggestionDto> autocomplete(String prefix, int limit) {
+        if (limit <= 0 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("결과 수는 1 이상 " + MAX_SUGGESTIONS + " 이하여야 합니다: " + limit);
+        }
+        if (!indexReady) {
+            return List.of();
+        }
+        return index.autocomplete(prefix, limit).stream()
+                .map(PlaceSuggestionDto::fromHit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 커밋된 장소 변경을 검색 색인과 인기도에 반영
+     * 어느 인스턴스에서 커밋된 변경이든 PlaceIndexEventHandler 가 모든 인스턴스에 전달합니다.
+     *
+     * @param entry 장소의 현재 이름·주소와 인기도
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void apply(PlaceIndexEntry entry) {
+        if (entry.puid() == null) {
+            return;
+        }
+        index.upsert(entry.puid(), entry.name(), entry.address());
+        index.setPopularity(entry.puid(), (int) Math.min(entry.popularity(), Integer.MAX_VALUE));
+    }
+
+    private void upsertTexts(Stream<PlaceText> texts) {
+        long[] maxPuid = {lastLoadedPuid};
+        texts.forEach(text -> {
+            index.upsert(text.getPuid(), text.getName(), text.getAddress());
+            maxPuid[0] = Math.max(maxPuid[0], text.getPuid());
+        });
+        lastLoadedPuid = maxPuid[0];
+    }
+
+    /**
+     * 인기도(좋아요 수 + 인증 수)를 DB 기준으로 교체
+     * 합계를 구한 뒤 한 번에 설정하므로 적재 중 도착한 색인 갱신 메시지와 겹쳐도 두 번 더해지지 않습니다.
+     */
+    private void replacePopularity() {
+        Map<Long, Integer> popularity = new HashMap<>();
+        for (PlaceCount count : userLikeRepository.countGroupByPlace()) {
+            popularity.merge(count.getPuid(), count.getCount().intValue(), Integer::sum);
+        }
+        for (PlaceCount count : verificationRepository.countGroupByPlace()) {
+            popularity.merge(count.getPuid(), count.getCount().intValue(), Integer::sum);
+        }
+        index.replacePopularity(popularity);
+    }
+}
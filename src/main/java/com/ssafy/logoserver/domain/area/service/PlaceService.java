@@ -18,6 +18,7 @@ import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
 import com.ssafy.logoserver.service.MinIOService;
 import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -81,15 +83,6 @@ public class PlaceService {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * 이름 키워드로 장소 검색
-     */
-    public List<PlaceDto> searchPlacesByNameKeyword(String keyword) {
-        return placeRepository.findByNameContaining(keyword).stream()
-                .map(PlaceDto::fromEntity)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 장소 상세 정보 조회 (인증 정보, 사용자 좋아요 정보 포함)
      *
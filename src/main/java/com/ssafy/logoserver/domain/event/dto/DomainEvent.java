@@ -0,0 +1,32 @@
+package com.ssafy.logoserver.domain.event.dto;
+
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 핸들러에 전달되는 도메인 이벤트
+ *
+ * @param eventId 이벤트 고유 ID (멱등 처리 키)
+ * @param eventType 이벤트 종류
+ * @param aggregateId 집합체 ID
+ * @param payload 이벤트 내용
+ * @param occurredAt 도메인 변경 시각
+ */
+public record DomainEvent(String eventId,
+                          DomainEventType eventType,
+                          Long aggregateId,
+                          Map<String, Object> payload,
+                          LocalDateTime occurredAt) {
+
+    public Long getLong(String key) {
+        Object value = payload.get(key);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    public String getString(String key) {
+        Object value = payload.get(key);
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.logoserver.domain.event.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트 종류
+ * 같은 집합체(aggregate)의 이벤트는 발행 순서대로 처리되므로,
+ * 순서가 중요한 이벤트끼리는 같은 집합체 유형을 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+
+    TRAVEL_CREATED(AggregateType.TRAVEL),
+    TRAVEL_UPDATED(AggregateType.TRAVEL),
+    TRAVEL_DELETED(AggregateType.TRAVEL),
+
+    // 여행 지역은 소속 여행 순서를 따르도록 여행 집합체로 발행
+    TRAVEL_AREA_CREATED(AggregateType.TRAVEL),
+    TRAVEL_AREA_UPDATED(AggregateType.TRAVEL),
+    TRAVEL_AREA_DELETED(AggregateType.TRAVEL),
+
+    TRAVEL_IMAGE_CREATED(AggregateType.TRAVEL_IMAGE),
+    TRAVEL_IMAGE_UPDATED(AggregateType.TRAVEL_IMAGE),
+    TRAVEL_IMAGE_DELETED(AggregateType.TRAVEL_IMAGE),
+
+    PLACE_CREATED(AggregateType.PLACE),
+    PLACE_LIKED(AggregateType.PLACE),
+    PLACE_UNLIKED(AggregateType.PLACE),
+    PLACE_VERIFIED(AggregateType.PLACE);
+
+    private final AggregateType aggregateType;
+
+    /**
+     * 이벤트 순서 보장 단위
+     */
+    public enum AggregateType {
+        TRAVEL,
+        TRAVEL_IMAGE,
+        PLACE
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.logoserver.domain.event.entity;
+
+import com.ssafy.logoserver.domain.event.entity.DomainEventType.AggregateType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 트랜잭셔널 아웃박스 엔티티
+ * 도메인 변경과 같은 트랜잭션에서 저장되어, 커밋된 변경의 이벤트만 유실 없이 전달됩니다.
+ * OutboxRelay 가 커밋 후 비동기로 읽어 핸들러에 전달하고 상태를 갱신합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    /**
+     * 발행 순서 (집합체별 처리 순서 기준)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이벤트 고유 ID (핸들러 멱등 처리 키)
+     */
+    @Column(name = "event_id", nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private DomainEventType eventType;
+
+    /**
+     * 이벤트 내용 (JSON)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    /**
+     * 실패한 전달 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 전달 가능 시각 (실패 시 지수 백오프)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 전달을 마친 핸들러 이름 목록 (쉼표 구분)
+     * 재시도 시 이미 처리한 핸들러는 다시 호출하지 않습니다.
+     */
+    @Column(name = "delivered_handlers", length = 500)
+    private String deliveredHandlers;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created", updatable = false)
+    private LocalDateTime created;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public boolean isDeliveredTo(String handlerName) {
+        return deliveredHandlers != null && Arrays.asList(deliveredHandlers.split(",")).contains(handlerName);
+    }
+
+    public void markDelivered(String handlerName) {
+        deliveredHandlers = deliveredHandlers == null ? handlerName : deliveredHandlers + "," + handlerName;
+    }
+
+    public void markPublished(LocalDateTime now) {
+        status = OutboxStatus.PUBLISHED;
+        publishedAt = now;
+        lastError = null;
+    }
+
+    /**
+     * 전달 실패 기록 - 최대 시도 횟수를 넘으면 DEAD 로 전환하여 같은 집합체의 다음 이벤트가 진행되도록 함
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        attempts++;
+        lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) {
+            status = OutboxStatus.DEAD;
+        }
+    }
+
+    public enum OutboxStatus {
+        PENDING,
+        PUBLISHED,
+        DEAD
+    }
+}
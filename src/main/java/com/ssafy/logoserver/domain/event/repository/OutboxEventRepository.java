@@ -0,0 +1,35 @@
+package com.ssafy.logoserver.domain.event.repository;
+
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 전달할 수 있는 이벤트 ID 조회 (발행 순)
+     * 집합체마다 가장 앞선 대기 이벤트만 반환하므로, 앞선 이벤트가 재시도 대기 중이면 뒤 이벤트도 기다립니다.
+     */
+    @Query("select e.id from OutboxEvent e "
+            + "where e.status = :pending and e.nextAttemptAt <= :now "
+            + "and not exists (select p.id from OutboxEvent p where p.status = :pending "
+            + "and p.aggregateType = e.aggregateType and p.aggregateId = e.aggregateId and p.id < e.id) "
+            + "order by e.id")
+    List<Long> findDispatchableIds(@Param("pending") OutboxStatus pending,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :published and e.publishedAt < :before")
+    int deletePublishedBefore(@Param("published") OutboxStatus published, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,38 @@
+package com.ssafy.logoserver.domain.event.service;
+
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+
+import java.util.Set;
+
+/**
+ * 도메인 이벤트 핸들러
+ * OutboxRelay 가 커밋된 이벤트를 요청 스레드 밖에서 발행 순서대로 전달합니다.
+ * 전달은 최소 한 번(at-least-once)이므로 같은 eventId 가 다시 올 수 있습니다.
+ * DB 밖(Redis 등)의 멱등이 아닌 변경은 processedKey 로 처리 기록을 남겨 한 번만 반영해야 합니다.
+ * 예외를 던지면 백오프 후 재시도하며, 그동안 같은 집합체의 다음 이벤트는 대기합니다.
+ */
+public interface DomainEventHandler {
+
+    /**
+     * 처리할 이벤트 종류
+     */
+    Set<DomainEventType> supportedTypes();
+
+    void handle(DomainEvent event);
+
+    /**
+     * 전달 기록에 사용하는 핸들러 이름 (변경하면 대기 중인 이벤트가 다시 전달됨)
+     */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 핸들러별 이벤트 처리 기록 키 (outbox:processed:{핸들러}:{eventId})
+     * 변경과 같은 원자적 연산 안에서 SET NX 로 기록하면 재전달된 이벤트를 건너뛸 수 있습니다.
+     */
+    default String processedKey(DomainEvent event) {
+        return "outbox:processed:" + name() + ":" + event.eventId();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.logoserver.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent.OutboxStatus;
+import com.ssafy.logoserver.domain.event.repository.OutboxEventRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트 발행 서비스
+ * 이벤트를 호출한 쪽의 트랜잭션 안에서 아웃박스 테이블에 저장하므로,
+ * 도메인 변경이 롤백되면 이벤트도 함께 사라지고 커밋되면 반드시 전달됩니다.
+ */
+@Service
+@Observed(name = "domain.service")
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 도메인 이벤트 발행 (쓰기 트랜잭션 안에서만 호출 가능)
+     *
+     * @param type 이벤트 종류
+     * @param aggregateId 집합체 ID (같은 ID 의 이벤트는 발행 순서대로 처리)
+     * @param payload 이벤트 내용 (JSON 직렬화 가능한 값)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, Long aggregateId, Map<String, Object> payload) {
+        if (aggregateId == null) {
+            throw new IllegalArgumentException("이벤트 집합체 ID 가 없습니다: " + type);
+        }
+
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .payload(toJson(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        outboxEventRepository.save(event);
+
+        // 커밋 후 OutboxRelay 를 바로 깨우기 위한 신호 (놓쳐도 주기 폴링으로 전달됨)
+        applicationEventPublisher.publishEvent(new OutboxEventSaved(event.getId()));
+        log.debug("도메인 이벤트 발행 - type: {}, aggregateId: {}, eventId: {}", type, aggregateId, event.getEventId());
+    }
+
+    /**
+     * 이벤트 내용 생성 (키, 값 순서로 전달하며 값이 null 인 항목은 제외)
+     */
+    public static Map<String, Object> payload(Object... keyValues) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            if (keyValues[i + 1] != null) {
+                payload.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
+            }
+        }
+        return payload;
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload != null ? payload : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 내용을 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 아웃박스 저장 신호
+     */
+    public record OutboxEventSaved(Long outboxId) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.ssafy.logoserver.domain.event.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent.OutboxStatus;
+import com.ssafy.logoserver.domain.event.repository.OutboxEventRepository;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher.OutboxEventSaved;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 전달 서비스
+ * 커밋 직후 신호와 주기 폴링으로 대기 중인 이벤트를 읽어 핸들러에 전달합니다.
+ * - 순서: 집합체마다 가장 앞선 이벤트만 꺼내므로 같은 집합체의 이벤트는 발행 순서대로 처리
+ * - 멱등: 핸들러 처리와 전달 기록을 한 트랜잭션으로 묶어, 재시도 때 완료된 핸들러는 건너뜀
+ * - 단일 전달자: Redis 임대(lease)를 가진 인스턴스 한 곳에서만 전달하여 인스턴스 간 순서 역전 방지
+ *   이벤트마다 임대 소유를 확인하며 연장하므로, 느린 핸들러나 GC 정지로 임대를 잃으면 다음 이벤트부터 전달하지 않음
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    private static final String LEASE_KEY = "outbox:relay_lease";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    /**
+     * 자기 임대일 때만 연장 (1: 연장, 0: 다른 인스턴스로 넘어감)
+     */
+    private static final RedisScript<Long> RENEW_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventHandler> handlers;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 한 인스턴스 안에서 전달 루프가 겹치지 않도록 하고, 실행 중 들어온 신호는 다음 반복으로 합침
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention:7d}")
+    private Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<DomainEventHandler> handlers,
+                       RedisTemplate<String, String> redisTemplate,
+                       DownstreamLimiter downstreamLimiter,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.redisTemplate = redisTemplate;
+        this.downstreamLimiter = downstreamLimiter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이벤트를 저장한 트랜잭션이 커밋되면 요청 스레드 밖에서 바로 전달
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOutboxEventSaved(OutboxEventSaved saved) {
+        dispatchPending();
+    }
+
+    /**
+     * 커밋 신호를 놓친 이벤트(다른 인스턴스, 재시도 대기) 주기 전달
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:5s}")
+    public void poll() {
+        dispatchPending();
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(
+                OutboxStatus.PUBLISHED, LocalDateTime.now().minus(retention)));
+        log.info("전달 완료 아웃박스 이벤트 정리 - {}건", deleted);
+    }
+
+    /**
+     * 대기 중인 이벤트 전달 (이미 실행 중이면 실행 중인 루프가 한 번 더 돌도록 표시만 함)
+     */
+    public void dispatchPending() {
+        pending.set(true);
+        while (pending.get() && running.compareAndSet(false, true)) {
+            try {
+                pending.set(false);
+                drain();
+            } catch (Exception e) {
+                // 전달하지 못한 이벤트는 아웃박스에 남아 다음 폴링에서 재시도
+                log.warn("아웃박스 전달 중단 - {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        if (!acquireLease()) {
+            return;
+        }
+        try {
+            while (true) {
+                List<Long> ids = transactionTemplate.execute(status -> outboxEventRepository.findDispatchableIds(
+                        OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize)));
+                if (ids == null || ids.isEmpty()) {
+                    return;
+                }
+                for (Long id : ids) {
+                    if (!renewLease()) {
+                        log.warn("아웃박스 전달 임대를 잃어 전달 중단 - 다른 인스턴스가 이어서 전달");
+                        return;
+                    }
+                    dispatch(id);
+                }
+            }
+        } finally {
+            releaseLease();
+        }
+    }
+
+    private void dispatch(Long id) {
+        OutboxEvent event = outboxEventRepository.findById(id).orElse(null);
+        if (event == null || event.getStatus() != OutboxStatus.PENDING) {
+            return;
+        }
+        DomainEvent domainEvent = toDomainEvent(event);
+
+        for (DomainEventHandler handler : handlers) {
+            if (!handler.supportedTypes().contains(event.getEventType()) || event.isDeliveredTo(handler.name())) {
+                continue;
+            }
+            try {
+                // 핸들러의 DB 변경과 전달 기록을 함께 커밋
+                transactionTemplate.executeWithoutResult(status -> {
+                    handler.handle(domainEvent);
+                    outboxEventRepository.findById(id).ifPresent(managed -> managed.markDelivered(handler.name()));
+                });
+                event.markDelivered(handler.name());
+            } catch (Exception e) {
+                recordFailure(event, handler, e);
+                return;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id)
+                .ifPresent(managed -> managed.markPublished(LocalDateTime.now())));
+    }
+
+    private void recordFailure(OutboxEvent event, DomainEventHandler handler, Exception e) {
+        long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(event.getAttempts(), 20));
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+        String error = handler.name() + ": " + e.getMessage();
+
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(event.getId())
+                .ifPresent(managed -> managed.markFailed(error, nextAttemptAt, maxAttempts)));
+
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            log.error("아웃박스 이벤트 전달 포기 (DEAD) - eventId: {}, type: {}, 원인: {}",
+                    event.getEventId(), event.getEventType(), error, e);
+        } else {
+            log.warn("아웃박스 이벤트 전달 실패 - eventId: {}, type: {}, {}초 후 재시도, 원인: {}",
+                    event.getEventId(), event.getEventType(), backoffSeconds, error);
+        }
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        try {
+            Map<String, Object> payload = objectMapper.readValue(event.getPayload(), new TypeReference<>() {
+            });
+            return new DomainEvent(event.getEventId(), event.getEventType(), event.getAggregateId(),
+                    payload, event.getCreated());
+        } catch (Exception e) {
+            throw new IllegalStateException("아웃박스 이벤트 내용을 읽을 수 없습니다: " + event.getEventId(), e);
+        }
+    }
+
+    private boolean acquireLease() {
+        Boolean acquired = downstreamLimiter.call(Downstream.REDIS,
+                () -> redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, instanceId, LEASE_TTL));
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        // 앞선 루프가 해제하지 못한 자기 임대는 그대로 사용
+        return instanceId.equals(downstreamLimiter.call(Downstream.REDIS,
+                () -> redisTemplate.opsForValue().get(LEASE_KEY)));
+    }
+
+    /**
+     * 임대 소유 확인 및 연장 (다른 인스턴스로 넘어갔으면 false)
+     */
+    private boolean renewLease() {
+        Long renewed = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.execute(RENEW_LEASE,
+                List.of(LEASE_KEY), instanceId, String.valueOf(LEASE_TTL.toMillis())));
+        return renewed != null && renewed == 1;
+    }
+
+    private void releaseLease() {
+        try {
+            downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY), instanceId));
+        } catch (Exception e) {
+            log.warn("아웃박스 전달 임대 해제 실패 (만료 시 자동 해제) - {}", e.getMessage());
+        }
+    }
+}
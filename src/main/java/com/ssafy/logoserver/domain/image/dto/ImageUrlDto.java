@@ -0,0 +1,10 @@
+package com.ssafy.logoserver.domain.image.dto;
+
+/**
+ * 단일 이미지 URL 응답
+ *
+ * @param imageUrl Presigned URL
+ * @param expiryMinutes URL 만료 시간 (분)
+ */
+public record ImageUrlDto(String imageUrl, int expiryMinutes) {
+}
@@ -0,0 +1,12 @@
+package com.ssafy.logoserver.domain.image.dto;
+
+/**
+ * 여행별 이미지 URL 목록 항목
+ *
+ * @param tiuid 여행 이미지 ID
+ * @param name 이미지 이름
+ * @param imageUrl Presigned URL
+ * @param expiryMinutes URL 만료 시간 (분)
+ */
+public record TravelImageUrlDto(Long tiuid, String name, String imageUrl, int expiryMinutes) {
+}
@@ -0,0 +1,13 @@
+package com.ssafy.logoserver.domain.image.dto;
+
+/**
+ * 사용자별 이미지 URL 목록 항목
+ *
+ * @param tiuid 여행 이미지 ID
+ * @param name 이미지 이름
+ * @param travelId 여행 ID (여행이 삭제된 경우 null)
+ * @param imageUrl Presigned URL
+ * @param expiryMinutes URL 만료 시간 (분)
+ */
+public record UserImageUrlDto(Long tiuid, String name, Long travelId, String imageUrl, int expiryMinutes) {
+}
@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.image.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.travel.entity.Verification;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.travel.entity.Travel;
@@ -10,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "TravelImages")
 @Getter
 @NoArgsConstructor
@@ -1,6 +1,10 @@
 package com.ssafy.logoserver.domain.image.service;
 
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
 import com.ssafy.logoserver.domain.image.dto.TravelImageDto;
+import com.ssafy.logoserver.domain.image.dto.TravelImageUrlDto;
+import com.ssafy.logoserver.domain.image.dto.UserImageUrlDto;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
 import com.ssafy.logoserver.domain.image.repository.TravelImageRepository;
 import com.ssafy.logoserver.domain.travel.entity.Travel;
@@ -8,6 +12,8 @@ import com.ssafy.logoserver.domain.travel.repository.TravelRepository;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
 import com.ssafy.logoserver.service.MinIOService;
+import com.ssafy.logoserver.utils.LogSampler;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +27,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -30,6 +37,7 @@ public class TravelImageService {
     private final UserRepository userRepository;
     private final TravelRepository travelRepository;
     private final MinIOService minIOService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 특정 여행의 가장 최근 이미지 URL 조회
@@ -97,13 +105,16 @@ public class TravelImageService {
 
         Map<Long, String> result = new HashMap<>();
 
+        int index = 0;
         for (Long travelId : travelIds) {
             try {
                 String latestImageUrl = getLatestTravelImageUrl(travelId, expiryMinutes);
                 result.put(travelId, latestImageUrl); // null 값도 저장 (이미지 없음을 표시)
 
-                log.debug("여행 {} 최근 이미지 URL: {}", travelId,
-                        latestImageUrl != null ? "생성됨" : "없음");
+                if (LogSampler.sampled(log, index++)) {
+                    log.debug("여행 {} 최근 이미지 URL: {}", travelId,
+                            latestImageUrl != null ? "생성됨" : "없음");
+                }
 
             } catch (Exception e) {
                 log.error("여행 {} 최근 이미지 URL 조회 실패", travelId, e);
@@ -202,7 +213,9 @@ public class TravelImageService {
         }
 
         TravelImage travelImage = travelImageDto.toEntity(user, travel);
-        return TravelImageDto.fromEntity(travelImageRepository.save(travelImage));
+        TravelImage savedTravelImage = travelImageRepository.save(travelImage);
+        publishTravelImageEvent(DomainEventType.TRAVEL_IMAGE_CREATED, savedTravelImage);
+        return TravelImageDto.fromEntity(savedTravelImage);
     }
 
     /**
@@ -239,7 +252,9 @@ public class TravelImageService {
                 .url(travelImageDto.getUrl() != null ? travelImageDto.getUrl() : travelImage.getUrl())
                 .build();
 
-        return TravelImageDto.fromEntity(travelImageRepository.save(updatedTravelImage));
+        TravelImage savedTravelImage = travelImageRepository.save(updatedTravelImage);
+        publishTravelImageEvent(DomainEventType.TRAVEL_IMAGE_UPDATED, savedTravelImage);
+        return TravelImageDto.fromEntity(savedTravelImage);
     }
 
     /**
@@ -256,6 +271,17 @@ public class TravelImageService {
         }
 
         travelImageRepository.delete(travelImage);
+        publishTravelImageEvent(DomainEventType.TRAVEL_IMAGE_DELETED, travelImage);
+    }
+
+    /**
+     * 여행 이미지 변경 이벤트 발행 (썸네일 생성 등 후속 처리용)
+     */
+    private void publishTravelImageEvent(DomainEventType type, TravelImage travelImage) {
+        domainEventPublisher.publish(type, travelImage.getTiuid(), DomainEventPublisher.payload(
+                "userId", travelImage.getUser().getUuid(),
+                "travelId", travelImage.getTravel() != null ? travelImage.getTravel().getTuid() : null,
+                "objectKey", travelImage.getUrl()));
     }
 
     /**
@@ -286,29 +312,24 @@ public class TravelImageService {
      *
      * @param travelId 여행 ID
      * @param expiryMinutes URL 만료 시간 (분)
-     * @return 이미지 정보와 URL이 포함된 맵 리스트
+     * @return 이미지 정보와 URL 목록
      */
-    public List<Map<String, Object>> getTravelImageUrls(Long travelId, int expiryMinutes) {
+    public List<TravelImageUrlDto> getTravelImageUrls(Long travelId, int expiryMinutes) {
         log.info("여행별 이미지 URL 목록 생성 요청 - travelId: {}, 만료시간: {}분", travelId, expiryMinutes);
 
         Travel travel = travelRepository.findById(travelId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 여행이 존재하지 않습니다: " + travelId));
 
         List<TravelImage> travelImages = travelImageRepository.findByTravel(travel);
-        List<Map<String, Object>> result = new ArrayList<>();
+        List<TravelImageUrlDto> result = new ArrayList<>(travelImages.size());
 
         for (TravelImage travelImage : travelImages) {
             try {
                 String objectKey = travelImage.getUrl();
                 String presignedUrl = minIOService.generatePresignedUrl(objectKey, expiryMinutes);
 
-                Map<String, Object> imageInfo = new HashMap<>();
-                imageInfo.put("tiuid", travelImage.getTiuid());
-                imageInfo.put("name", travelImage.getName());
-                imageInfo.put("imageUrl", presignedUrl);
-                imageInfo.put("expiryMinutes", expiryMinutes);
-
-                result.add(imageInfo);
+                result.add(new TravelImageUrlDto(
+                        travelImage.getTiuid(), travelImage.getName(), presignedUrl, expiryMinutes));
 
                 log.debug("여행 이미지 URL 생성 - tiuid: {}, name: {}",
                         travelImage.getTiuid(), travelImage.getName());
@@ -329,35 +350,30 @@ public class TravelImageService {
      *
      * @param userId 사용자 ID
      * @param expiryMinutes URL 만료 시간 (분)
-     * @return 이미지 정보와 URL이 포함된 맵 리스트
+     * @return 이미지 정보와 URL 목록
      */
-    public List<Map<String, Object>> getUserImageUrls(Long userId, int expiryMinutes) {
+    public List<UserImageUrlDto> getUserImageUrls(Long userId, int expiryMinutes) {
         log.info("사용자별 이미지 URL 목록 생성 요청 - userId: {}, 만료시간: {}분", userId, expiryMinutes);
 
         User user = userRepository.findByUuid(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다: " + userId));
 
         List<TravelImage> travelImages = travelImageRepository.findByUser(user);
-        List<Map<String, Object>> result = new ArrayList<>();
+        List<UserImageUrlDto> result = new ArrayList<>(travelImages.size());
 
         for (TravelImage travelImage : travelImages) {
             try {
                 String objectKey = travelImage.getUrl();
                 String presignedUrl = minIOService.generatePresignedUrl(objectKey, expiryMinutes);
 
-                Map<String, Object> imageInfo = new HashMap<>();
-                imageInfo.put("tiuid", travelImage.getTiuid());
-                imageInfo.put("name", travelImage.getName());
                 // ✅ travel이 null일 수 있으므로 null 체크 추가
-                imageInfo.put("travelId", travelImage.getTravel() != null ?
-                        travelImage.getTravel().getTuid() : null);
-                imageInfo.put("imageUrl", presignedUrl);
-                imageInfo.put("expiryMinutes", expiryMinutes);
+                Long travelId = travelImage.getTravel() != null ? travelImage.getTravel().getTuid() : null;
 
-                result.add(imageInfo);
+                result.add(new UserImageUrlDto(
+                        travelImage.getTiuid(), travelImage.getName(), travelId, presignedUrl, expiryMinutes));
 
                 log.debug("사용자 이미지 URL 생성 - tiuid: {}, travelId: {}",
-                        travelImage.getTiuid(), travelImage.getTravel().getTuid());
+                        travelImage.getTiuid(), travelId);
 
             } catch (Exception e) {
                 log.error("사용자 이미지 URL 생성 실패 - tiuid: {}", travelImage.getTiuid(), e);
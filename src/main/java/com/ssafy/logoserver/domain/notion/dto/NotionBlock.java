@@ -0,0 +1,76 @@
+package com.ssafy.logoserver.domain.notion.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * Notion 블록 DTO
+ * 블록 타입에 따라 필드 이름이 바뀌는 Notion 블록 JSON 을 중간 Map 없이 바로 직렬화합니다.
+ * 예) {"object":"block","type":"paragraph","paragraph":{"rich_text":[{"type":"text","text":{"content":"..."}}]}}
+ *
+ * @param type Notion 블록 타입 (heading_1, paragraph, divider 등)
+ * @param text 블록 텍스트 (구분선은 null)
+ */
+@JsonSerialize(using = NotionBlock.Serializer.class)
+public record NotionBlock(String type, String text) {
+
+    public static NotionBlock heading1(String text) {
+        return new NotionBlock("heading_1", text);
+    }
+
+    public static NotionBlock heading2(String text) {
+        return new NotionBlock("heading_2", text);
+    }
+
+    public static NotionBlock heading3(String text) {
+        return new NotionBlock("heading_3", text);
+    }
+
+    public static NotionBlock paragraph(String text) {
+        return new NotionBlock("paragraph", text);
+    }
+
+    public static NotionBlock bulletedListItem(String text) {
+        return new NotionBlock("bulleted_list_item", text);
+    }
+
+    public static NotionBlock numberedListItem(String text) {
+        return new NotionBlock("numbered_list_item", text);
+    }
+
+    public static NotionBlock divider() {
+        return new NotionBlock("divider", null);
+    }
+
+    /**
+     * Notion 블록 JSON 직렬화기
+     */
+    static class Serializer extends JsonSerializer<NotionBlock> {
+
+        @Override
+        public void serialize(NotionBlock block, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("object", "block");
+            gen.writeStringField("type", block.type());
+
+            gen.writeObjectFieldStart(block.type());
+            if (block.text() != null) {
+                gen.writeArrayFieldStart("rich_text");
+                gen.writeStartObject();
+                gen.writeStringField("type", "text");
+                gen.writeObjectFieldStart("text");
+                gen.writeStringField("content", block.text());
+                gen.writeEndObject();
+                gen.writeEndObject();
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+        }
+    }
+}
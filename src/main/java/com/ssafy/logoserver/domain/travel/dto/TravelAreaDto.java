@@ -14,6 +14,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -27,6 +28,13 @@ import java.util.List;
 @Builder
 @Schema(description = "여행 지역 DTO")
 public class TravelAreaDto {
+
+    /**
+     * 일정 정렬 기준 - 방문 시작 시간 오름차순, 시작 시간이 없는 지역은 맨 뒤
+     */
+    public static final Comparator<TravelAreaDto> START_TIME_ORDER =
+            Comparator.comparing(TravelAreaDto::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
     /**
      * 여행 지역 고유 ID
      */
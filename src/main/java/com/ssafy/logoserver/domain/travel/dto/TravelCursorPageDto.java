@@ -0,0 +1,35 @@
+package com.ssafy.logoserver.domain.travel.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "여행 목록 커서 페이지 DTO")
+public class TravelCursorPageDto {
+
+    @Schema(description = "현재 페이지 여행 목록 (tuid 내림차순)")
+    private List<TravelDto> travels;
+
+    @Schema(description = "다음 페이지 요청 시 cursor 로 전달할 값 (마지막 페이지면 null)", example = "120")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static TravelCursorPageDto of(List<TravelDto> travels, boolean hasNext) {
+        Long nextCursor = hasNext && !travels.isEmpty() ? travels.get(travels.size() - 1).getTuid() : null;
+        return TravelCursorPageDto.builder()
+                .travels(travels)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.travel.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
 import jakarta.persistence.*;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "Travels")
 @Getter
 @NoArgsConstructor
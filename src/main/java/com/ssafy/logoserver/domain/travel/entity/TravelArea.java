@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.travel.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.user.entity.User;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "TravelAreas")
 @Getter
 @NoArgsConstructor
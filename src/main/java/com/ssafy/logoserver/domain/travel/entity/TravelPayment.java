@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.travel.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Getter
 @Table(name = "travel_payments")
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.travel.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.area.entity.Area;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "TravelRoots")
 @Getter
 @NoArgsConstructor
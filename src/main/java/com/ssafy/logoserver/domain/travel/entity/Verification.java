@@ -1,5 +1,6 @@
 package com.ssafy.logoserver.domain.travel.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
 import com.ssafy.logoserver.domain.user.entity.User;
@@ -20,6 +21,7 @@ import java.util.List;
  * 별점, 리뷰, 인증 이미지 등의 정보를 포함
  */
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -5,6 +5,8 @@ import com.ssafy.logoserver.domain.travel.entity.TravelArea;
 import com.ssafy.logoserver.domain.travel.entity.TravelRoot;
 import com.ssafy.logoserver.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +14,10 @@ public interface TravelAreaRepository extends JpaRepository<TravelArea, Long> {
     List<TravelArea> findByUser(User user);
     List<TravelArea> findByTravel(Travel travel);
     List<TravelArea> findByTravelDay(TravelRoot travelRoot);
+
+    /**
+     * 여행에 포함된 장소 ID 목록 (여행 상세 ETag 계산용, 엔티티를 불러오지 않음)
+     */
+    @Query("select distinct p.puid from TravelArea ta join ta.place p where ta.travel.tuid = :tuid order by p.puid")
+    List<Long> findPlaceIdsByTravelId(@Param("tuid") Long tuid);
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package com.ssafy.logoserver.domain.travel.repository;
 
 import com.ssafy.logoserver.domain.travel.entity.Travel;
 import com.ssafy.logoserver.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,4 +15,24 @@ public interface TravelRepository extends JpaRepository<Travel, Long> {
     List<Travel> findByUserAndStartDateGreaterThanEqual(User user, LocalDate date);
     List<Travel> findByLocation(String location);
     List<Travel> findByTitleContaining(String title);
+
+    /**
+     * 사용자가 좋아요한 장소의 지역을 포함하는 여행 목록 (커서 기반 페이지)
+     * UserLike → Place → Area → TravelArea 를 IN 서브쿼리(세미조인)로 묶어 여행을 한 번만 반환하고,
+     * tuid 내림차순 커서로 잘라 비용이 지역 전체가 아니라 페이지 크기에 비례하도록 합니다.
+     * 인덱스: resources/sql/liked-travels-indexes.sql
+     * @param userId 사용자 UUID
+     * @param cursor 이전 페이지 마지막 tuid (첫 페이지는 null)
+     * @param pageable 조회 개수 (정렬은 쿼리에서 지정)
+     * @return 여행 목록 (작성자 함께 조회)
+     */
+    @Query("select t from Travel t join fetch t.user "
+            + "where t.tuid in ("
+            + "    select ta.travel.tuid from TravelArea ta, UserLike ul "
+            + "    where ul.user.uuid = :userId and ta.area = ul.place.area) "
+            + "and (:cursor is null or t.tuid < :cursor) "
+            + "order by t.tuid desc")
+    List<Travel> findLikedTravels(@Param("userId") Long userId,
+                                  @Param("cursor") Long cursor,
+                                  Pageable pageable);
 }
\ No newline at end of file
@@ -3,13 +3,80 @@ package com.ssafy.logoserver.domain.travel.repository;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.travel.entity.Verification;
 import com.ssafy.logoserver.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface VerificationRepository extends JpaRepository<Verification, Long> {
     List<Verification> findByUser(User user);
     List<Verification> findByPlace(Place place);
     Optional<Verification> findByUserAndPlace(User user, Place place);
+
+    /**
+     * 장소별 평균 별점 조회 (장소 공간 인덱스 적재용)
+     */
+    @Query("select v.place.puid as puid, avg(v.star) as rating from Verification v "
+            + "where v.place is not null group by v.place.puid")
+    List<PlaceRating> findAverageStarGroupByPlace();
+
+    /**
+     * 특정 장소의 평균 별점 조회 (인증이 없으면 null)
+     */
+    @Query("select avg(v.star) from Verification v where v.place.puid = :puid")
+    Double findAverageStarByPlaceId(@Param("puid") Long puid);
+
+    /**
+     * 장소별 인증 수 조회 (장소 검색 인기도 적재용)
+     */
+    @Query("select v.place.puid as puid, count(v) as count from Verification v "
+            + "where v.place is not null group by v.place.puid")
+    List<PlaceCount> countGroupByPlace();
+
+    /**
+     * 특정 장소의 인증 수 조회 (장소 색인 갱신용)
+     */
+    long countByPlacePuid(Long puid);
+
+    /**
+     * 기준 시각 이후 인증 활동 스트리밍 조회 (인기 장소 순위 재구성용)
+     * 트랜잭션 안에서 try-with-resources 로 사용해야 합니다.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select p.puid as puid, a.auid as auid, a.region as region, v.created as created "
+            + "from Verification v join v.place p join p.area a where v.created >= :since")
+    Stream<PlaceActivity> streamActivitiesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 장소별 평균 별점 프로젝션
+     */
+    interface PlaceRating {
+        Long getPuid();
+        Double getRating();
+    }
+
+    /**
+     * 장소별 건수 프로젝션
+     */
+    interface PlaceCount {
+        Long getPuid();
+        Long getCount();
+    }
+
+    /**
+     * 장소 활동(좋아요, 인증) 프로젝션
+     */
+    interface PlaceActivity {
+        Long getPuid();
+        Long getAuid();
+        Long getRegion();
+        LocalDateTime getCreated();
+    }
 }
\ No newline at end of file
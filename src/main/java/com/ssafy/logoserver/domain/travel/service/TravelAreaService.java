@@ -5,6 +5,8 @@ import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.area.repository.AreaRepository;
 import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
 import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelAreaRequestDto;
 import com.ssafy.logoserver.domain.travel.entity.Travel;
@@ -16,6 +18,7 @@ import com.ssafy.logoserver.domain.travel.repository.TravelRootRepository;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
 import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +33,7 @@ import java.util.stream.Collectors;
  * 여행 지역 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -41,6 +45,7 @@ public class TravelAreaService {
     private final AreaRepository areaRepository;
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 모든 여행 지역 조회
@@ -128,7 +133,9 @@ public class TravelAreaService {
 
         // 여행 지역 엔티티 생성
         TravelArea travelArea = travelAreaDto.toEntity(user, area, travel, travelRoot, place);
-        return TravelAreaDto.fromEntity(travelAreaRepository.save(travelArea));
+        TravelArea savedTravelArea = travelAreaRepository.save(travelArea);
+        publishTravelAreaEvent(DomainEventType.TRAVEL_AREA_CREATED, savedTravelArea);
+        return TravelAreaDto.fromEntity(savedTravelArea);
     }
 
     /**
@@ -181,7 +188,9 @@ public class TravelAreaService {
                 .memo(travelAreaDto.getMemo() != null ? travelAreaDto.getMemo() : travelArea.getMemo())
                 .build();
 
-        return TravelAreaDto.fromEntity(travelAreaRepository.save(updatedTravelArea));
+        TravelArea savedTravelArea = travelAreaRepository.save(updatedTravelArea);
+        publishTravelAreaEvent(DomainEventType.TRAVEL_AREA_UPDATED, savedTravelArea);
+        return TravelAreaDto.fromEntity(savedTravelArea);
     }
 
     /**
@@ -200,6 +209,7 @@ public class TravelAreaService {
         }
 
         travelAreaRepository.delete(travelArea);
+        publishTravelAreaEvent(DomainEventType.TRAVEL_AREA_DELETED, travelArea);
     }
 
     /**
@@ -258,6 +268,7 @@ public class TravelAreaService {
                 .build();
 
         TravelArea savedTravelArea = travelAreaRepository.save(travelArea);
+        publishTravelAreaEvent(DomainEventType.TRAVEL_AREA_CREATED, savedTravelArea);
         log.info("여행 지역 추가 완료 - tauid: {}, place: {}",
                 savedTravelArea.getTauid(), place != null ? place.getName() : "없음");
 
@@ -296,6 +307,8 @@ public class TravelAreaService {
                 .build();
 
         Place savedPlace = placeRepository.save(newPlace);
+        domainEventPublisher.publish(DomainEventType.PLACE_CREATED, savedPlace.getPuid(),
+                DomainEventPublisher.payload("areaId", area.getAuid()));
         log.info("새 장소 생성 완료 - puid: {}, address: {}", savedPlace.getPuid(), savedPlace.getAddress());
 
         return savedPlace;
@@ -312,4 +325,14 @@ public class TravelAreaService {
         return areaRepository.findByRegionAndSig(region, sig)
                 .orElseThrow(() -> new IllegalArgumentException("해당 지역이 존재하지 않습니다: region=" + region + ", sig=" + sig));
     }
-}
\ No newline at end of file
+
+    /**
+     * 여행 지역 변경 이벤트 발행 (소속 여행 기준으로 순서 보장)
+     */
+    private void publishTravelAreaEvent(DomainEventType type, TravelArea travelArea) {
+        domainEventPublisher.publish(type, travelArea.getTravel().getTuid(), DomainEventPublisher.payload(
+                "travelAreaId", travelArea.getTauid(),
+                "areaId", travelArea.getArea() != null ? travelArea.getArea().getAuid() : null,
+                "placeId", travelArea.getPlace() != null ? travelArea.getPlace().getPuid() : null));
+    }
+}
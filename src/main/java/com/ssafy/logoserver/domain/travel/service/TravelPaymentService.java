@@ -6,6 +6,7 @@ import com.ssafy.logoserver.domain.travel.entity.TravelPayment;
 import com.ssafy.logoserver.domain.travel.repository.TravelPaymentRepository;
 import com.ssafy.logoserver.domain.travel.repository.TravelRepository;
 import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -17,13 +17,14 @@ import com.ssafy.logoserver.domain.travel.repository.TravelRootRepository;
 import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
+import com.ssafy.logoserver.utils.LogSampler;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
  * 여행 루트 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -206,30 +208,15 @@ public class TravelRootService {
 
         // ✅ TravelArea 목록을 start_time 기준으로 오름차순 정렬
         // start_time이 null인 경우 가장 뒤로 정렬 (nullsLast 적용)
-        travelAreas.sort((area1, area2) -> {
-            LocalDateTime startTime1 = area1.getStartTime();
-            LocalDateTime startTime2 = area2.getStartTime();
-
-            // 둘 다 null인 경우 0 반환 (동일한 순서)
-            if (startTime1 == null && startTime2 == null) {
-                return 0;
-            }
-            // startTime1이 null인 경우 뒤로 정렬
-            if (startTime1 == null) {
-                return 1;
-            }
-            // startTime2가 null인 경우 뒤로 정렬
-            if (startTime2 == null) {
-                return -1;
-            }
-            // 둘 다 null이 아닌 경우 오름차순 정렬
-            return startTime1.compareTo(startTime2);
-        });
+        travelAreas.sort(TravelAreaDto.START_TIME_ORDER);
 
         log.info("여행 지역 목록 start_time 기준 오름차순 정렬 완료 - 총 {}개 지역", travelAreas.size());
 
-        // 정렬된 결과 로깅 (디버깅용)
+        // 정렬된 결과 로깅 (디버깅용, 샘플링)
         for (int i = 0; i < travelAreas.size(); i++) {
+            if (!LogSampler.sampled(log, i)) {
+                continue;
+            }
             TravelAreaDto area = travelAreas.get(i);
             log.debug("정렬된 여행 지역 [{}]: ID={}, start_time={}, 장소명={}",
                     i + 1,
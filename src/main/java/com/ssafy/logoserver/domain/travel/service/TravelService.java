@@ -2,6 +2,8 @@ package com.ssafy.logoserver.domain.travel.service;
 
 import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.repository.AreaRepository;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
 import com.ssafy.logoserver.domain.image.dto.TravelImageDto;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
 import com.ssafy.logoserver.domain.image.repository.TravelImageRepository;
@@ -9,18 +11,20 @@ import com.ssafy.logoserver.domain.image.service.TravelImageService;
 import com.ssafy.logoserver.domain.travel.dto.*;
 import com.ssafy.logoserver.domain.travel.entity.Travel;
 import com.ssafy.logoserver.domain.travel.entity.TravelRoot;
+import com.ssafy.logoserver.domain.travel.repository.TravelAreaRepository;
 import com.ssafy.logoserver.domain.travel.repository.TravelPaymentRepository;
 import com.ssafy.logoserver.domain.travel.repository.TravelRepository;
 import com.ssafy.logoserver.domain.travel.repository.TravelRootRepository;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
+import com.ssafy.logoserver.utils.LogSampler;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +32,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -36,10 +41,12 @@ public class TravelService {
     private final TravelRepository travelRepository;
     private final TravelImageRepository travelImageRepository;
     private final TravelPaymentRepository travelPaymentRepository;
+    private final TravelAreaRepository travelAreaRepository;
     private final TravelRootRepository travelRootRepository;
     private final AreaRepository areaRepository;
     private final UserRepository userRepository;
     private final TravelImageService travelImageService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 특정 사용자의 여행 목록 조회 (최근 이미지 URL 포함)
@@ -176,6 +183,8 @@ public class TravelService {
 
         // 여행 기간에 따른 TravelRoot 자동 생성
         createTravelRootsForTravelPeriod(savedTravel);
+        domainEventPublisher.publish(DomainEventType.TRAVEL_CREATED, savedTravel.getTuid(),
+                DomainEventPublisher.payload("userId", user.getUuid()));
 
         return TravelDto.fromEntity(savedTravel);
     }
@@ -203,7 +212,9 @@ public class TravelService {
             LocalDate currentDate = startDate.plusDays(dayIndex);
             int dayNumber = dayIndex + 1; // 1일차, 2일차, 3일차...
 
-            log.info("{}일차 여행 루트 생성 - 날짜: {}", dayNumber, currentDate);
+            if (LogSampler.sampled(log, dayIndex)) {
+                log.debug("{}일차 여행 루트 생성 - 날짜: {}", dayNumber, currentDate);
+            }
 
             TravelRoot travelRoot = TravelRoot.builder()
                     .travel(travel)
@@ -220,10 +231,13 @@ public class TravelService {
 
         log.info("여행 루트 자동 생성 완료 - 총 {}개의 루트 생성됨", savedTravelRoots.size());
 
-        // 각 생성된 루트의 상세 정보 로깅
-        for (TravelRoot savedRoot : savedTravelRoots) {
-            log.info("생성된 루트 - ID: {}, {}일차, 날짜: {}",
-                    savedRoot.getTruid(), savedRoot.getDay(), savedRoot.getTravelDate());
+        // 각 생성된 루트의 상세 정보 로깅 (샘플링)
+        for (int i = 0; i < savedTravelRoots.size(); i++) {
+            TravelRoot savedRoot = savedTravelRoots.get(i);
+            if (LogSampler.sampled(log, i)) {
+                log.debug("생성된 루트 - ID: {}, {}일차, 날짜: {}",
+                        savedRoot.getTruid(), savedRoot.getDay(), savedRoot.getTravelDate());
+            }
         }
     }
 
@@ -271,6 +285,8 @@ public class TravelService {
 
         // 기존 메서드에도 TravelRoot 자동 생성 기능 추가
         createTravelRootsForTravelPeriod(savedTravel);
+        domainEventPublisher.publish(DomainEventType.TRAVEL_CREATED, savedTravel.getTuid(),
+                DomainEventPublisher.payload("userId", user.getUuid()));
 
         return TravelDto.fromEntity(savedTravel);
     }
@@ -314,6 +330,8 @@ public class TravelService {
                 .build();
 
         Travel savedTravel = travelRepository.save(updatedTravel);
+        domainEventPublisher.publish(DomainEventType.TRAVEL_UPDATED, savedTravel.getTuid(),
+                DomainEventPublisher.payload("userId", savedTravel.getUser().getUuid()));
 
         log.info("여행 정보 수정 완료 - 여행 ID: {}, 제목: [{}], 위치: [{}], 인원: {}, 예산: {}",
                 savedTravel.getTuid(), savedTravel.getTitle(), savedTravel.getLocation(),
@@ -356,10 +374,23 @@ public class TravelService {
 
         // Travel 삭제 (TravelRoot들은 CASCADE로 함께 삭제됨)
         travelRepository.delete(travel);
+        domainEventPublisher.publish(DomainEventType.TRAVEL_DELETED, tuid,
+                DomainEventPublisher.payload("userId", travel.getUser().getUuid()));
 
         log.info("여행 삭제 완료 - ID: {}, TravelImage는 보존됨", tuid);
     }
 
+    /**
+     * 여행 상세에 포함되는 장소 ID 목록
+     * 장소 정보는 여행 버전을 올리지 않고 바뀌므로, 여행 상세 ETag 에 이 장소들의 버전도 포함하는 데 사용합니다.
+     *
+     * @param tuid 여행 ID
+     * @return 장소 ID 목록 (오름차순)
+     */
+    public List<Long> getPlaceIdsInTravel(Long tuid) {
+        return travelAreaRepository.findPlaceIdsByTravelId(tuid);
+    }
+
     /**
      * 여행 상세 정보 조회 (연관 데이터 모두 포함)
      */
@@ -386,25 +417,7 @@ public class TravelService {
                 .map(TravelAreaDto::fromEntity)
                 .collect(Collectors.toList());
 
-        travelAreas.sort((area1, area2) -> {
-            LocalDateTime startTime1 = area1.getStartTime();
-            LocalDateTime startTime2 = area2.getStartTime();
-
-            // 둘 다 null인 경우 0 반환 (동일한 순서)
-            if (startTime1 == null && startTime2 == null) {
-                return 0;
-            }
-            // startTime1이 null인 경우 뒤로 정렬
-            if (startTime1 == null) {
-                return 1;
-            }
-            // startTime2가 null인 경우 뒤로 정렬
-            if (startTime2 == null) {
-                return -1;
-            }
-            // 둘 다 null이 아닌 경우 오름차순 정렬
-            return startTime1.compareTo(startTime2);
-        });
+        travelAreas.sort(TravelAreaDto.START_TIME_ORDER);
 
         log.info("여행 지역 목록 start_time 기준 오름차순 정렬 완료 - 총 {}개 지역", travelAreas.size());
 
@@ -2,6 +2,8 @@ package com.ssafy.logoserver.domain.travel.service;
 
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
 import com.ssafy.logoserver.domain.image.repository.TravelImageRepository;
 import com.ssafy.logoserver.domain.travel.dto.VerificationDto;
@@ -15,6 +17,7 @@ import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
 import com.ssafy.logoserver.service.MinIOService;
 import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -39,6 +43,7 @@ public class VerificationService {
     private final TravelAreaRepository travelAreaRepository;
     private final TravelImageRepository travelImageRepository;
     private final MinIOService minIOService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 모든 인증 정보 조회
@@ -129,6 +134,10 @@ public class VerificationService {
                 .build();
 
         Verification savedVerification = verificationRepository.save(verification);
+        domainEventPublisher.publish(DomainEventType.PLACE_VERIFIED, place.getPuid(), DomainEventPublisher.payload(
+                "verificationId", savedVerification.getVuid(), "userId", user.getUuid(),
+                "areaId", place.getArea().getAuid(), "region", place.getArea().getRegion(),
+                "star", savedVerification.getStar()));
         log.info("방문 인증 정보 저장 완료 - vuid: {}, 생성시간: {}",
                 savedVerification.getVuid(), savedVerification.getCreated());
 
@@ -155,6 +164,10 @@ public class VerificationService {
                         .build();
 
                 travelImageRepository.save(travelImage);
+                domainEventPublisher.publish(DomainEventType.TRAVEL_IMAGE_CREATED, travelImage.getTiuid(),
+                        DomainEventPublisher.payload("userId", user.getUuid(),
+                                "travelId", travel != null ? travel.getTuid() : null,
+                                "objectKey", objectKey));
                 log.info("여행 이미지 저장 완료 - tiuid: {}, objectKey: {}",
                         travelImage.getTiuid(), objectKey);
 
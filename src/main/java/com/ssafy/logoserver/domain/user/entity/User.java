@@ -1,13 +1,17 @@
 package com.ssafy.logoserver.domain.user.entity;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.travel.entity.Travel;
 import com.ssafy.logoserver.domain.travel.entity.TravelArea;
 import com.ssafy.logoserver.domain.image.entity.TravelImage;
+import com.ssafy.logoserver.service.EntityCacheListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDate;
@@ -16,6 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(EntityCacheListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USER_REGION)
 @Table(name = "users")
 @Getter
 @NoArgsConstructor
@@ -1,10 +1,15 @@
 package com.ssafy.logoserver.domain.user.entity;
 
+import com.ssafy.logoserver.service.ResourceVersionListener;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "user_likes")
 @Getter
 @NoArgsConstructor
@@ -23,4 +28,11 @@ public class UserLike {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id", nullable = false)
     private Place place;
+
+    /**
+     * 좋아요 생성 시간 (인기 장소 순위 재구성 시 주간 집계에 사용, 컬럼 추가 이전 데이터는 null)
+     */
+    @CreationTimestamp
+    @Column(name = "created", updatable = false)
+    private LocalDateTime created;
 }
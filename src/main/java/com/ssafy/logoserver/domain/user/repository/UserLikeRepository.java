@@ -1,16 +1,43 @@
 package com.ssafy.logoserver.domain.user.repository;
 
 import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceActivity;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceCount;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.entity.UserLike;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserLikeRepository extends JpaRepository<UserLike, Long> {
     List<UserLike> findByUser(User user);
     List<UserLike> findByPlace(Place place);
     Optional<UserLike> findByUserAndPlace(User user, Place place);
     boolean existsByUserAndPlace(User user, Place place);
+
+    /**
+     * 장소별 좋아요 수 조회 (장소 검색 인기도 적재용)
+     */
+    @Query("select ul.place.puid as puid, count(ul) as count from UserLike ul group by ul.place.puid")
+    List<PlaceCount> countGroupByPlace();
+
+    /**
+     * 특정 장소의 좋아요 수 조회 (장소 색인 갱신용)
+     */
+    long countByPlacePuid(Long puid);
+
+    /**
+     * 전체 좋아요 활동 스트리밍 조회 (인기 장소 순위 재구성용)
+     * 트랜잭션 안에서 try-with-resources 로 사용해야 합니다.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select p.puid as puid, a.auid as auid, a.region as region, ul.created as created "
+            + "from UserLike ul join ul.place p join p.area a")
+    Stream<PlaceActivity> streamAllActivities();
 }
\ No newline at end of file
@@ -1,18 +1,35 @@
 package com.ssafy.logoserver.domain.user.repository;
 
+import com.ssafy.logoserver.config.EntityCacheConfig;
 import com.ssafy.logoserver.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 로그인 ID / UUID 조회는 대부분의 요청에서 반복되므로 쿼리 캐시 사용 (결과 엔티티는 2차 캐시에서 조회)
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.USER_QUERY_REGION)
+    })
     Optional<User> findById(String id);
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
     boolean existsById(String id);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.USER_QUERY_REGION)
+    })
     Optional<User> findByUuid(Long uuid);
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = EntityCacheConfig.USER_QUERY_REGION)
+    })
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
     boolean existsByProviderAndProviderId(String provider, String providerId);
 }
\ No newline at end of file
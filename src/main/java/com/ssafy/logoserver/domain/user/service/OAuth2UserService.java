@@ -5,6 +5,7 @@ import com.ssafy.logoserver.domain.user.dto.OAuth2UserCompletionDto;
 import com.ssafy.logoserver.domain.user.dto.UserDto;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +22,7 @@ import java.util.Optional;
  * OAuth2 로그인 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
@@ -4,8 +4,12 @@ import com.ssafy.logoserver.domain.area.entity.Area;
 import com.ssafy.logoserver.domain.area.entity.Place;
 import com.ssafy.logoserver.domain.area.repository.AreaRepository;
 import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
+import com.ssafy.logoserver.domain.travel.dto.TravelCursorPageDto;
 import com.ssafy.logoserver.domain.travel.dto.TravelDto;
-import com.ssafy.logoserver.domain.travel.entity.TravelArea;
+import com.ssafy.logoserver.domain.travel.entity.Travel;
+import com.ssafy.logoserver.domain.travel.repository.TravelRepository;
 import com.ssafy.logoserver.domain.user.dto.UserLikeDetailDto;
 import com.ssafy.logoserver.domain.user.dto.UserLikeRequestDto;
 import com.ssafy.logoserver.domain.user.entity.User;
@@ -13,47 +17,57 @@ import com.ssafy.logoserver.domain.user.entity.UserLike;
 import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
 import com.ssafy.logoserver.utils.SecurityUtil;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "domain.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class UserLikeService {
 
+    private static final int MAX_LIKED_TRAVEL_PAGE_SIZE = 100;
+
     private final UserLikeRepository userLikeRepository;
+    private final TravelRepository travelRepository;
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
     private final AreaRepository areaRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
-     * 사용자가 좋아요한 여행 목록 조회
+     * 사용자가 좋아요한 여행 목록 조회 (커서 기반 페이지)
+     * 좋아요한 장소와 같은 지역을 지나는 여행을 tuid 내림차순으로 조회합니다.
      * @param userId 사용자 ID
-     * @return 좋아요한 여행 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 ~ 100 으로 보정)
+     * @return 좋아요한 여행 페이지
      */
-    public List<TravelDto> getLikedTravelsByUserId(Long userId) {
+    public TravelCursorPageDto getLikedTravelsByUserId(Long userId, Long cursor, int size) {
         User user = userRepository.findByUuid(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다: " + userId));
 
-        return userLikeRepository.findByUser(user).stream()
-                .map(UserLike::getPlace)
-                .filter(Objects::nonNull)
-                .map(Place::getArea)
-                .filter(Objects::nonNull)
-                .flatMap(area -> area.getTravelAreas().stream())
-                .map(TravelArea::getTravel)
-                .distinct()
+        int pageSize = Math.min(Math.max(size, 1), MAX_LIKED_TRAVEL_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Travel> travels = travelRepository.findLikedTravels(user.getUuid(), cursor, PageRequest.of(0, pageSize + 1));
+        boolean hasNext = travels.size() > pageSize;
+        List<TravelDto> page = travels.stream()
+                .limit(pageSize)
                 .map(TravelDto::fromEntity)
                 .collect(Collectors.toList());
+
+        return TravelCursorPageDto.of(page, hasNext);
     }
 
     /**
@@ -119,6 +133,8 @@ public class UserLikeService {
                 .build();
 
         userLikeRepository.save(userLike);
+        domainEventPublisher.publish(DomainEventType.PLACE_LIKED, place.getPuid(), DomainEventPublisher.payload(
+                "userId", user.getUuid(), "areaId", area.getAuid(), "region", area.getRegion()));
         log.info("좋아요 생성 완료 - 사용자: {}, 장소: {}", user.getId(), place.getName());
 
         // 5. 업데이트된 사용자 좋아요 목록 반환
@@ -151,6 +167,9 @@ public class UserLikeService {
 
         // 좋아요 삭제
         userLikeRepository.delete(userLike);
+        domainEventPublisher.publish(DomainEventType.PLACE_UNLIKED, userLike.getPlace().getPuid(),
+                DomainEventPublisher.payload("userId", userLike.getUser().getUuid(),
+                        "areaId", userLike.getPlace().getArea().getAuid()));
         log.info("좋아요 삭제 완료 (ID 방식) - uluid: {}, 장소: {}",
                 uluid, userLike.getPlace().getName());
 
@@ -195,6 +214,8 @@ public class UserLikeService {
 
         // 좋아요 삭제
         userLikeRepository.delete(userLike);
+        domainEventPublisher.publish(DomainEventType.PLACE_UNLIKED, targetPlace.getPuid(),
+                DomainEventPublisher.payload("userId", user.getUuid(), "areaId", targetPlace.getArea().getAuid()));
         log.info("좋아요 삭제 완료 (주소 방식) - 주소: {}, 장소: {}", address, targetPlace.getName());
 
         // 업데이트된 사용자 좋아요 목록 반환
@@ -250,6 +271,8 @@ public class UserLikeService {
                 .build();
 
         Place savedPlace = placeRepository.save(newPlace);
+        domainEventPublisher.publish(DomainEventType.PLACE_CREATED, savedPlace.getPuid(),
+                DomainEventPublisher.payload("areaId", area.getAuid()));
         log.info("새로운 장소 생성 완료 - ID: {}, 주소: {}", savedPlace.getPuid(), savedPlace.getAddress());
 
         return savedPlace;
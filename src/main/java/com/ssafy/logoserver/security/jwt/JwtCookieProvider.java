@@ -42,7 +42,7 @@ public class JwtCookieProvider {
     }
 
     public void addAccessTokenCookie(HttpServletResponse response, String accessToken) {
-        log.info("Access Token value : " + accessToken);
+        log.debug("액세스 토큰 쿠키 발급");
         Cookie cookie = new Cookie(ACCESS_TOKEN_COOKIE_NAME, accessToken);
 //        cookie.setHttpOnly(true);
         cookie.setSecure(true); // HTTPS 환경에서만 전송
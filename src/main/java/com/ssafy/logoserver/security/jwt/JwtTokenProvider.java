@@ -45,7 +45,6 @@ public class JwtTokenProvider {
      * (TokenDto가 아닌 실제 Jwts 타입의 토큰을 반환)
      * */
     public String createAccessToken(Authentication authentication) {
-        log.info("let's create accessToken start");
         return createToken(authentication, accessTokenValidity);
     }
 
@@ -54,7 +53,6 @@ public class JwtTokenProvider {
      * (TokenDto가 아닌 실제 Jwts 타입의 토큰을 반환)
      * */
     public String createRefreshToken(Authentication authentication) {
-        log.info("let's create refreshToken start");
         return createToken(authentication, refreshTokenValidity);
     }
 
@@ -83,16 +81,14 @@ public class JwtTokenProvider {
      * 토큰을 통해 유저 정보 추출
      * */
     public Authentication getAuthentication(String token) {
-        log.info("[start token getAuthentication]");
         Claims claims = parseToken(token).getBody();
 
-        log.info("claims: {}", claims);
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        log.info("authorities: {}", authorities);
+        log.debug("토큰 인증 정보 추출 - subject: {}, authorities: {}", claims.getSubject(), authorities);
         UserDetails principal = new User(claims.getSubject(), "", authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
@@ -101,25 +97,37 @@ public class JwtTokenProvider {
      * 토큰 유효 여부 검증
      * */
     public boolean validateToken(String token) {
-        log.info("[validateToken start]");
-        log.info("token: {}", token);
         try {
             parseToken(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT token: {}", e.getMessage());
+            log.debug("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             // refresh token 활용해서 재발급
-            log.info("Expired JWT Token: {}", e.getMessage());
+            log.debug("Expired JWT Token: {}", e.getMessage());
             throw e;
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token: {}", e.getMessage());
+            log.debug("Unsupported JWT Token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            log.debug("JWT claims string is empty: {}", e.getMessage());
         }
         return false;
     }
 
+    /**
+     * 서명이 유효한 토큰의 사용자 ID 추출 (만료된 토큰도 허용 - 인증이 아닌 요청 한도 키 용도)
+     * @return 사용자 ID (서명이 유효하지 않으면 null)
+     * */
+    public String getSubjectIgnoringExpiry(String token) {
+        try {
+            return parseToken(token).getBody().getSubject();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private Jws<Claims> parseToken(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
@@ -1,5 +1,7 @@
 package com.ssafy.logoserver.security.jwt;
 
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
@@ -10,10 +12,12 @@ import java.util.concurrent.TimeUnit;
 public class JwtTokenStore {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
     private final String TOKEN_PREFIX = "refresh_token:";
 
-    public JwtTokenStore(RedisTemplate<String, String> redisTemplate) {
+    public JwtTokenStore(RedisTemplate<String, String> redisTemplate, DownstreamLimiter downstreamLimiter) {
         this.redisTemplate = redisTemplate;
+        this.downstreamLimiter = downstreamLimiter;
     }
 
     /**
@@ -21,7 +25,8 @@ public class JwtTokenStore {
      */
     public void saveRefreshToken(String userId, String refreshToken, long validity) {
         String key = TOKEN_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, validity, TimeUnit.SECONDS);
+        downstreamLimiter.run(Downstream.REDIS,
+                () -> redisTemplate.opsForValue().set(key, refreshToken, validity, TimeUnit.SECONDS));
     }
 
     /**
@@ -29,7 +34,7 @@ public class JwtTokenStore {
      */
     public String getRefreshToken(String userId) {
         String key = TOKEN_PREFIX + userId;
-        return redisTemplate.opsForValue().get(key);
+        return downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.opsForValue().get(key));
     }
 
     /**
@@ -37,7 +42,7 @@ public class JwtTokenStore {
      */
     public void deleteRefreshToken(String userId) {
         String key = TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
+        downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.delete(key));
     }
 
     /**
@@ -45,6 +50,6 @@ public class JwtTokenStore {
      */
     public void invalidateAllUserSessions(String userId) {
         String key = TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
+        downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.delete(key));
     }
 }
\ No newline at end of file
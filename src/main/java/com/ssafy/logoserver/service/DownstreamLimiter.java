@@ -0,0 +1,268 @@
+package com.ssafy.logoserver.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.context.integration.Slf4jThreadLocalAccessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존 시스템(다운스트림)별 격리 계층
+ * 가상 스레드는 요청마다 스레드를 만들기 때문에 스레드 풀이 더 이상 동시성의 상한이 되지 않습니다.
+ * 다운스트림마다 벌크헤드(동시 호출 수), 타임아웃, 서킷 브레이커를 따로 두어
+ * 하나의 외부 시스템이 느려지거나 장애가 나도 나머지 API는 영향을 받지 않도록 합니다.
+ * (MySQL은 HikariCP 커넥션 풀이 같은 역할을 하므로 spring.datasource.hikari 설정으로 제한합니다.)
+ *
+ * 각 인스턴스 설정은 application.yml 의 resilience4j.* 항목에서 다운스트림 이름(redis, rate-limit, llm, llm-openai, notion, minio)으로 지정하며,
+ * 상태와 호출 수는 Actuator 메트릭(resilience4j.*)으로, 호출 지연 시간은 downstream.calls 타이머로 노출됩니다.
+ */
+@Component
+@Slf4j
+public class DownstreamLimiter {
+
+    /**
+     * 격리 대상 다운스트림 종류
+     */
+    public enum Downstream {
+        REDIS("redis", false),
+        /**
+         * 요청 한도 판단용 Redis 호출 (TokenBucketLimiter)
+         * 모든 요청 앞에서 실행되므로 짧은 타임아웃을 두고, 느리면 로컬 버킷으로 대신 판단합니다.
+         */
+        RATE_LIMIT("rate-limit", true),
+        /**
+         * 기본 LLM 제공자 (Anthropic)
+         */
+        LLM("llm", true),
+        LLM_OPENAI("llm-openai", true),
+        NOTION("notion", true),
+        MINIO("minio", true);
+
+        /**
+         * resilience4j 인스턴스 이름
+         */
+        private final String instanceName;
+
+        /**
+         * 별도 스레드에서 실행하며 타임아웃을 적용할지 여부
+         * Redis는 Lettuce 자체 명령 타임아웃을 사용하므로 적용하지 않습니다. (rate-limit 은 그보다 짧게 끊기 위해 적용)
+         */
+        private final boolean timeLimited;
+
+        Downstream(String instanceName, boolean timeLimited) {
+            this.instanceName = instanceName;
+            this.timeLimited = timeLimited;
+        }
+
+        public String getInstanceName() {
+            return instanceName;
+        }
+    }
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+
+    static {
+        // 트레이스 컨텍스트(Observation)는 기본 등록되므로 MDC 만 추가
+        ContextRegistry.getInstance().registerThreadLocalAccessor(new Slf4jThreadLocalAccessor());
+    }
+
+    /**
+     * 타임아웃 적용 호출을 실행할 실행기
+     * 타임아웃 시 인터럽트로 블로킹 소켓 I/O를 끊을 수 있도록 가상 스레드를 사용하고,
+     * 호출한 스레드의 SecurityContext, MDC, 트레이스 컨텍스트를 그대로 넘겨 실행합니다.
+     */
+    private final ExecutorService timeLimitedExecutor = new DelegatingSecurityContextExecutorService(
+            ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(),
+                    ContextSnapshotFactory.builder().build()));
+
+    public DownstreamLimiter(BulkheadRegistry bulkheadRegistry,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             TimeLimiterRegistry timeLimiterRegistry,
+                             MeterRegistry meterRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 서킷 브레이커, 벌크헤드, 타임아웃을 거쳐 작업을 실행하고 결과를 반환
+     *
+     * @param downstream 호출 대상 다운스트림
+     * @param action 실행할 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 서킷이 열려 있거나 동시 호출 한도를 넘었거나 타임아웃된 경우
+     */
+    public <T> T call(Downstream downstream, Supplier<T> action) {
+        return call(downstream, action, null);
+    }
+
+    /**
+     * 작업을 실행하고, 실패하면 대체(fallback) 결과를 반환
+     *
+     * @param downstream 호출 대상 다운스트림
+     * @param action 실행할 작업
+     * @param fallback 실패 원인을 받아 대체 결과를 만드는 함수 (null 이면 예외를 그대로 던짐)
+     * @return 작업 결과 또는 대체 결과
+     */
+    public <T> T call(Downstream downstream, Supplier<T> action, Function<Throwable, T> fallback) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream.getInstanceName());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(downstream.getInstanceName());
+
+        Supplier<T> guarded = downstream.timeLimited
+                ? withTimeout(downstream, bulkhead, action)
+                : Bulkhead.decorateSupplier(bulkhead, action);
+        Supplier<T> decorated = CircuitBreaker.decorateSupplier(circuitBreaker, guarded);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return decorated.get();
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            RuntimeException translated = translate(downstream, e);
+            if (fallback == null) {
+                throw translated;
+            }
+            log.warn("다운스트림 호출 실패, 대체 응답 사용 - 대상: {}, 원인: {}", downstream, translated.getMessage());
+            return fallback.apply(translated);
+        } finally {
+            sample.stop(Timer.builder("downstream.calls")
+                    .description("다운스트림 호출 지연 시간")
+                    .tag("downstream", downstream.getInstanceName())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 실행
+     *
+     * @param downstream 호출 대상 다운스트림
+     * @param action 실행할 작업
+     */
+    public void run(Downstream downstream, Runnable action) {
+        call(downstream, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 남아 있는 동시 호출 허가 수 조회
+     */
+    public int availablePermits(Downstream downstream) {
+        return bulkheadRegistry.bulkhead(downstream.getInstanceName()).getMetrics().getAvailableConcurrentCalls();
+    }
+
+    /**
+     * 현재 서킷 브레이커 상태 조회
+     */
+    public CircuitBreaker.State circuitState(Downstream downstream) {
+        return circuitBreakerRegistry.circuitBreaker(downstream.getInstanceName()).getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeLimitedExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업을 별도 가상 스레드에서 실행하고 설정된 시간 안에 끝나지 않으면 취소
+     * 취소해도 인터럽트를 무시하는 작업은 계속 실행되므로, 벌크헤드 허가는 호출한 쪽이 아니라 작업이 실제로 끝날 때 반환합니다.
+     * (시간 초과된 호출이 남아 있는 동안 새 호출을 받아 동시 호출 수가 max-concurrent-calls 를 넘지 않도록)
+     */
+    private <T> Supplier<T> withTimeout(Downstream downstream, Bulkhead bulkhead, Supplier<T> action) {
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(downstream.getInstanceName());
+        return () -> {
+            bulkhead.acquirePermission();
+            // 허가를 반환할 쪽 - 작업이 시작되면 작업이, 시작 전에 취소되면 호출한 쪽이 반환
+            AtomicBoolean claimed = new AtomicBoolean();
+            Future<T> future;
+            try {
+                future = timeLimitedExecutor.submit(() -> {
+                    if (!claimed.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        return action.get();
+                    } finally {
+                        bulkhead.onComplete();
+                    }
+                });
+            } catch (RuntimeException e) {
+                bulkhead.onComplete();
+                throw e;
+            }
+            try {
+                return timeLimiter.executeFutureSupplier(() -> future);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (InterruptedException e) {
+                // 호출한 쪽이 취소하면(예: 헤지 요청에서 진 쪽) 진행 중인 호출도 함께 중단
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(downstream + " 호출이 취소되었습니다.", e);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException(downstream + " 응답 시간이 초과되었습니다.", e);
+            } catch (Exception e) {
+                throw new IllegalStateException(downstream + " 호출 중 오류가 발생했습니다: " + e.getMessage(), e);
+            } finally {
+                if (claimed.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            }
+        };
+    }
+
+    /**
+     * 메트릭 outcome 태그 - 차단(rejected)과 시간 초과(timeout)를 실제 오류와 구분
+     */
+    private static String outcome(RuntimeException e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            return "rejected";
+        }
+        if (e.getCause() instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    /**
+     * 격리 계층에서 거절된 호출을 사용자에게 보여줄 예외로 변환
+     */
+    private RuntimeException translate(Downstream downstream, RuntimeException e) {
+        if (e instanceof CallNotPermittedException) {
+            return new IllegalStateException(downstream + " 서비스가 일시적으로 응답하지 않아 호출을 차단했습니다.", e);
+        }
+        if (e instanceof BulkheadFullException) {
+            return new IllegalStateException(downstream + " 호출이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+        return e;
+    }
+}
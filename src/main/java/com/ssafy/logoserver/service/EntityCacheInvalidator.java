@@ -0,0 +1,113 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.config.EntityCacheConfig;
+import com.ssafy.logoserver.domain.area.entity.Area;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.user.entity.User;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import com.ssafy.logoserver.utils.AfterCommit;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 2차 캐시 인스턴스 간 무효화 서비스
+ * 로컬 쓰기는 Hibernate 가 자기 캐시를 갱신하므로, 커밋 후 다른 인스턴스에만 무효화 메시지를 발행합니다.
+ * 메시지 형식: {발행 인스턴스 ID}|{엔티티 이름}|{ID}
+ * Redis 장애로 메시지가 유실되면 리전 만료 시간(hibernate-caffeine.conf)까지 이전 값이 보일 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidator implements MessageListener {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 캐시 대상 엔티티와 해당 쿼리 캐시 리전
+     */
+    private static final Map<String, CachedEntity> CACHED_ENTITIES = Map.of(
+            User.class.getSimpleName(), new CachedEntity(User.class, EntityCacheConfig.USER_QUERY_REGION),
+            Place.class.getSimpleName(), new CachedEntity(Place.class, EntityCacheConfig.PLACE_QUERY_REGION),
+            Area.class.getSimpleName(), new CachedEntity(Area.class, EntityCacheConfig.AREA_QUERY_REGION));
+
+    /**
+     * 자기 자신이 발행한 메시지를 구분하기 위한 인스턴스 ID
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    // 엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+    private final DownstreamLimiter downstreamLimiter;
+
+    /**
+     * 현재 트랜잭션 커밋 후 다른 인스턴스에 무효화 메시지 발행
+     *
+     * @param entity 변경된 엔티티
+     */
+    public void publishAfterCommit(Object entity) {
+        String entityName = Hibernate.getClass(entity).getSimpleName();
+        if (!CACHED_ENTITIES.containsKey(entityName)) {
+            return;
+        }
+        Object id = entityManagerFactoryProvider.getObject().getPersistenceUnitUtil().getIdentifier(entity);
+        if (id == null) {
+            return;
+        }
+
+        String message = instanceId + DELIMITER + entityName + DELIMITER + id;
+        AfterCommit.run(() -> publish(message));
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 처리
+     * 해당 엔티티 캐시와 그 엔티티의 쿼리 캐시 리전을 비웁니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + DELIMITER);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        CachedEntity cachedEntity = CACHED_ENTITIES.get(parts[1]);
+        if (cachedEntity == null) {
+            log.warn("알 수 없는 캐시 무효화 대상 - {}", parts[1]);
+            return;
+        }
+
+        try {
+            Cache cache = entityManagerFactoryProvider.getObject().unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(cachedEntity.type(), Long.valueOf(parts[2]));
+            cache.evictQueryRegion(cachedEntity.queryRegion());
+            log.debug("원격 캐시 무효화 - 엔티티: {}, ID: {}", parts[1], parts[2]);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지 - {}", String.join(DELIMITER, parts));
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            downstreamLimiter.run(Downstream.REDIS,
+                    () -> redisTemplate.convertAndSend(EntityCacheConfig.INVALIDATION_CHANNEL, message));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - {}, 원인: {}", message, e.getMessage());
+        }
+    }
+
+    private record CachedEntity(Class<?> type, String queryRegion) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.logoserver.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 대상 엔티티(User, Place, Area)의 쓰기를 다른 인스턴스에 알리는 JPA 엔티티 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheListener {
+
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        entityCacheInvalidator.publishAfterCommit(entity);
+    }
+}
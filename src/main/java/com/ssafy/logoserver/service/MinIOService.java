@@ -5,6 +5,7 @@ import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
 import io.minio.http.Method;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +28,7 @@ import java.util.concurrent.TimeUnit;
 public class MinIOService {
 
     private final MinioClient minioClient;
+    private final DownstreamLimiter downstreamLimiter;
 
     /**
      * MinIO 버킷 이름
@@ -56,16 +58,21 @@ public class MinIOService {
                     originalFilename, objectKey, file.getSize());
 
             // MinIO에 파일 업로드
-            try (InputStream inputStream = file.getInputStream()) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)                    // 버킷명
-                                .object(objectKey)                     // 객체 키
-                                .stream(inputStream, file.getSize(), -1)  // 입력 스트림과 크기
-                                .contentType(file.getContentType())    // 콘텐츠 타입
-                                .build()
-                );
-            }
+            // 업로드는 MinIO 동시 호출 한도 안에서만 수행
+            downstreamLimiter.run(Downstream.MINIO, () -> {
+                try (InputStream inputStream = file.getInputStream()) {
+                    minioClient.putObject(
+                            PutObjectArgs.builder()
+                                    .bucket(bucketName)                    // 버킷명
+                                    .object(objectKey)                     // 객체 키
+                                    .stream(inputStream, file.getSize(), -1)  // 입력 스트림과 크기
+                                    .contentType(file.getContentType())    // 콘텐츠 타입
+                                    .build()
+                    );
+                } catch (Exception e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            });
 
             log.info("이미지 업로드 완료 - 객체키: {}", objectKey);
             return objectKey;
@@ -86,8 +93,6 @@ public class MinIOService {
      */
     public String generatePresignedUrl(String objectKey, int expiryMinutes) {
         try {
-            log.info("Presigned URL 생성 시작 - 객체키: {}, 만료시간: {}분", objectKey, expiryMinutes);
-
             String presignedUrl = minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
                             .method(Method.GET)           // HTTP 메서드
@@ -97,7 +102,7 @@ public class MinIOService {
                             .build()
             );
 
-            log.info("Presigned URL 생성 완료 - 객체키: {}", objectKey);
+            log.debug("Presigned URL 생성 - 객체키: {}, 만료시간: {}분", objectKey, expiryMinutes);
             return presignedUrl;
 
         } catch (Exception e) {
@@ -116,12 +121,18 @@ public class MinIOService {
         try {
             log.info("이미지 삭제 시작 - 객체키: {}", objectKey);
 
-            minioClient.removeObject(
-                    RemoveObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(objectKey)
-                            .build()
-            );
+            downstreamLimiter.run(Downstream.MINIO, () -> {
+                try {
+                    minioClient.removeObject(
+                            RemoveObjectArgs.builder()
+                                    .bucket(bucketName)
+                                    .object(objectKey)
+                                    .build()
+                    );
+                } catch (Exception e) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            });
 
             log.info("이미지 삭제 완료 - 객체키: {}", objectKey);
 
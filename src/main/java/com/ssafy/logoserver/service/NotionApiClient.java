@@ -0,0 +1,130 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.domain.notion.dto.NotionBlock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Notion API 클라이언트
+ * 공용 커넥션 풀 위의 RestClient 로 Notion API 를 호출합니다.
+ * 요청 본문은 타입이 있는 객체를 그대로 직렬화하며, 4xx 응답은 예외 대신 결과값으로 돌려줍니다.
+ * (5xx 와 429 는 예외를 던져 서킷 브레이커가 장애로 집계하도록 합니다.)
+ */
+@Component
+@Slf4j
+public class NotionApiClient {
+
+    /**
+     * 한 번의 블록 추가 요청에 넣을 수 있는 최대 블록 수 (Notion API 제한)
+     */
+    private static final int MAX_CHILDREN_PER_REQUEST = 100;
+
+    private static final String OAUTH_TOKEN_PATH = "/oauth/token";
+
+    private final RestClient notionRestClient;
+
+    public NotionApiClient(@Qualifier("notionRestClient") RestClient notionRestClient) {
+        this.notionRestClient = notionRestClient;
+    }
+
+    /**
+     * 블록 추가 요청 본문
+     */
+    record AppendBlockChildrenRequest(List<NotionBlock> children) {
+    }
+
+    /**
+     * 페이지 존재(접근 가능) 여부 확인
+     *
+     * @param accessToken 사용자의 Notion 액세스 토큰
+     * @param pageId 확인할 페이지 ID
+     * @return 페이지에 접근 가능하면 true
+     */
+    public boolean pageExists(String accessToken, String pageId) {
+        return notionRestClient.get()
+                .uri("/pages/{pageId}", pageId)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .exchange((request, response) -> {
+                    HttpStatusCode status = response.getStatusCode();
+                    throwIfUnavailable(status, "페이지 조회");
+                    return status.is2xxSuccessful();
+                });
+    }
+
+    /**
+     * 페이지 하위에 블록 추가
+     * Notion API 제한에 맞춰 100개씩 나누어 순서대로 전송합니다.
+     *
+     * @param accessToken 사용자의 Notion 액세스 토큰
+     * @param pageId 대상 페이지 ID
+     * @param blocks 추가할 블록 목록
+     * @return 모든 블록 추가 성공 여부
+     */
+    public boolean appendBlockChildren(String accessToken, String pageId, List<NotionBlock> blocks) {
+        for (int from = 0; from < blocks.size(); from += MAX_CHILDREN_PER_REQUEST) {
+            List<NotionBlock> chunk = blocks.subList(from, Math.min(from + MAX_CHILDREN_PER_REQUEST, blocks.size()));
+
+            boolean success = notionRestClient.patch()
+                    .uri("/blocks/{pageId}/children", pageId)
+                    .headers(headers -> headers.setBearerAuth(accessToken))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new AppendBlockChildrenRequest(chunk))
+                    .exchange((request, response) -> {
+                        HttpStatusCode status = response.getStatusCode();
+                        throwIfUnavailable(status, "블록 추가");
+                        if (!status.is2xxSuccessful()) {
+                            log.error("Notion 블록 추가 실패 - 상태코드: {}, pageId: {}", status, pageId);
+                        }
+                        return status.is2xxSuccessful();
+                    });
+
+            if (!success) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * OAuth 인증 코드를 액세스 토큰 응답으로 교환
+     *
+     * @param clientId Notion 통합 클라이언트 ID
+     * @param clientSecret Notion 통합 클라이언트 시크릿
+     * @param code 인증 코드
+     * @param redirectUri 인증 시 사용한 리다이렉트 URI
+     * @return 토큰 응답 (access_token 등)
+     */
+    public Map<String, Object> exchangeOAuthCode(String clientId, String clientSecret, String code, String redirectUri) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "authorization_code");
+        form.add("code", code);
+        form.add("redirect_uri", redirectUri);
+
+        return notionRestClient.post()
+                .uri(OAUTH_TOKEN_PATH)
+                .headers(headers -> headers.setBasicAuth(clientId, clientSecret))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(form)
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+    }
+
+    /**
+     * 서버 오류나 요청 제한 응답이면 예외를 던짐
+     */
+    private void throwIfUnavailable(HttpStatusCode status, String operation) {
+        if (status.is5xxServerError() || status.value() == 429) {
+            throw new IllegalStateException("Notion " + operation + " 실패 - 상태코드: " + status.value());
+        }
+    }
+}
@@ -2,7 +2,14 @@ package com.ssafy.logoserver.service;
 
 import com.ssafy.logoserver.domain.ai.dto.ChatRequest;
 import com.ssafy.logoserver.domain.ai.dto.ChatResponse;
+import com.ssafy.logoserver.domain.ai.dto.GenerationEstimate;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
 import com.ssafy.logoserver.domain.ai.service.AIService;
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionException;
+import com.ssafy.logoserver.domain.ai.service.GuideFanOutGenerator;
+import com.ssafy.logoserver.domain.ai.service.OutputBudgetEstimator;
+import com.ssafy.logoserver.domain.ai.service.TravelGuideRenderer;
+import com.ssafy.logoserver.domain.ai.service.TravelPromptEncoder;
 import com.ssafy.logoserver.domain.notion.dto.NotionIntegrationDto;
 import com.ssafy.logoserver.domain.user.entity.User;
 import com.ssafy.logoserver.domain.user.repository.UserRepository;
@@ -12,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,6 +33,10 @@ public class NotionIntegrationService {
 
     private final AIService aiService;
     private final NotionService notionService;
+    private final TravelPromptEncoder travelPromptEncoder;
+    private final TravelGuideRenderer travelGuideRenderer;
+    private final OutputBudgetEstimator outputBudgetEstimator;
+    private final GuideFanOutGenerator guideFanOutGenerator;
     private final UserRepository userRepository;
 
     /**
@@ -34,6 +46,11 @@ public class NotionIntegrationService {
      */
     @Transactional
     public NotionIntegrationDto.Response processAiToNotion(NotionIntegrationDto request) {
+        return processAiToNotion(request, null);
+    }
+
+    private NotionIntegrationDto.Response processAiToNotion(NotionIntegrationDto request,
+                                                            OutputBudgetEstimator.Estimate budget) {
         try {
             log.info("AI-Notion 통합 처리 시작");
 
@@ -52,7 +69,8 @@ public class NotionIntegrationService {
 
             log.info("AI 분석 요청 - 질문 길이: {} 글자", request.getQuestion().length());
 
-            ChatResponse aiResponse = aiService.chatWithAnthropic(chatRequest);
+            // Anthropic 우선, 지연·장애 시 OpenAI로 헤지/페일오버
+            ChatResponse aiResponse = aiService.chat(chatRequest, budget);
 
             if (aiResponse == null || aiResponse.getAnswer() == null || aiResponse.getAnswer().trim().isEmpty()) {
                 log.error("AI 응답이 비어있음");
@@ -66,63 +84,96 @@ public class NotionIntegrationService {
 
             log.info("AI 분석 완료 - 응답 길이: {} 글자", aiResponse.getAnswer().length());
 
-            // 3. Notion 페이지 존재 확인
-            boolean pageExists = notionService.checkPageExists(
-                    request.getNotionAccessToken(),
-                    request.getNotionPageId()
-            );
+            return writeToNotion(request, currentUserId, aiResponse.getAnswer());
 
-            if (!pageExists) {
-                log.error("Notion 페이지가 존재하지 않거나 접근 권한이 없음 - pageId: {}",
-                        request.getNotionPageId());
-                return NotionIntegrationDto.Response.builder()
-                        .success(true) // AI 분석은 성공
-                        .aiResponse(aiResponse.getAnswer())
-                        .notionWriteSuccess(false)
-                        .message("AI 분석은 완료되었으나 Notion 페이지 작성 실패")
-                        .errorMessage("Notion 페이지에 접근할 수 없습니다. 페이지 ID와 액세스 토큰을 확인해주세요.")
-                        .build();
-            }
+        } catch (AiAdmissionException e) {
+            // 한도 초과는 429 로 응답하도록 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("AI-Notion 통합 처리 중 오류 발생", e);
+            return NotionIntegrationDto.Response.builder()
+                    .success(false)
+                    .notionWriteSuccess(false)
+                    .message("처리 중 오류 발생")
+                    .errorMessage("서버 내부 오류: " + e.getMessage())
+                    .build();
+        }
+    }
 
-            // 4. Notion 페이지에 AI 응답 작성
-            boolean notionWriteSuccess = notionService.writeToNotionPage(
-                    request.getNotionAccessToken(),
-                    request.getNotionPageId(),
-                    aiResponse.getAnswer()
-            );
-
-            // 5. 사용자의 notionPageId 업데이트 (로그인한 사용자인 경우)
-            if (currentUserId != null && notionWriteSuccess) {
-                try {
-                    updateUserNotionPageId(currentUserId, request.getNotionPageId());
-                } catch (Exception e) {
-                    log.warn("사용자 Notion 페이지 ID 업데이트 실패", e);
-                    // 이 오류는 전체 처리에 영향을 주지 않음
-                }
-            }
+    /**
+     * 여행 ID로 하이브리드 가이드를 생성한 후 Notion 페이지에 작성
+     * 일정표와 통계는 서버에서 렌더링하고, LLM은 여행 팁과 총평만 생성합니다.
+     * @param tuid 여행 ID
+     * @param notionAccessToken Notion 액세스 토큰
+     * @param notionPageId Notion 페이지 ID
+     * LLM·Notion 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다 (여행 조회, 사용자 저장은 각자 트랜잭션).
+     * @return 처리 결과
+     */
+    public NotionIntegrationDto.Response processGuideToNotion(Long tuid, String notionAccessToken, String notionPageId) {
+        try {
+            log.info("가이드-Notion 통합 처리 시작 - tuid: {}", tuid);
+            String currentUserId = SecurityUtil.getCurrentUserId();
 
-            // 6. 결과 반환
-            if (notionWriteSuccess) {
-                log.info("AI-Notion 통합 처리 완료 - 성공");
-                return NotionIntegrationDto.Response.builder()
-                        .success(true)
-                        .aiResponse(aiResponse.getAnswer())
-                        .notionWriteSuccess(true)
-                        .message("AI 분석 완료 및 Notion 페이지 작성 성공")
-                        .build();
-            } else {
-                log.error("Notion 페이지 작성 실패");
-                return NotionIntegrationDto.Response.builder()
-                        .success(true) // AI 분석은 성공
-                        .aiResponse(aiResponse.getAnswer())
-                        .notionWriteSuccess(false)
-                        .message("AI 분석은 완료되었으나 Notion 페이지 작성 실패")
-                        .errorMessage("Notion 페이지 작성 중 오류가 발생했습니다.")
-                        .build();
-            }
+            String guide = travelGuideRenderer.render(tuid);
+            log.info("가이드 생성 완료 - 길이: {} 글자", guide.length());
+
+            NotionIntegrationDto request = NotionIntegrationDto.builder()
+                    .notionAccessToken(notionAccessToken)
+                    .notionPageId(notionPageId)
+                    .build();
+            return writeToNotion(request, currentUserId, guide);
 
+        } catch (AiAdmissionException e) {
+            // 한도 초과는 429 로 응답하도록 그대로 전달
+            throw e;
         } catch (Exception e) {
-            log.error("AI-Notion 통합 처리 중 오류 발생", e);
+            log.error("가이드-Notion 통합 처리 중 오류 발생 - tuid: {}", tuid, e);
+            return NotionIntegrationDto.Response.builder()
+                    .success(false)
+                    .notionWriteSuccess(false)
+                    .message("처리 중 오류 발생")
+                    .errorMessage("서버 내부 오류: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 클라이언트가 보낸 여행 데이터를 AI로 분석한 후 Notion 페이지에 작성
+     * 설정한 일수 이상의 긴 여행은 일자별로 나누어 동시에 생성하고, 그 외에는 한 번의 AI 분석으로 처리합니다.
+     * @param travelData 여행 데이터 JSON 문자열
+     * @param notionAccessToken Notion 액세스 토큰
+     * @param notionPageId Notion 페이지 ID
+     * @return 처리 결과
+     */
+    public NotionIntegrationDto.Response processTravelDataToNotion(String travelData, String notionAccessToken,
+                                                                    String notionPageId) {
+        Optional<TravelPrompt> itinerary = travelPromptEncoder.parse(travelData);
+        if (itinerary.isEmpty() || !guideFanOutGenerator.supports(itinerary.get())) {
+            // 일정을 해석할 수 있으면 일수·방문지 수로 출력 예산을 정하고, 아니면 기본 max-tokens 사용
+            OutputBudgetEstimator.Estimate budget = itinerary
+                    .map(prompt -> outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE, prompt))
+                    .orElse(null);
+            return processAiToNotion(NotionIntegrationDto.builder()
+                    .question(formatTravelDataForAi(travelData))
+                    .notionAccessToken(notionAccessToken)
+                    .notionPageId(notionPageId)
+                    .build(), budget);
+        }
+
+        try {
+            log.info("긴 여행 분할 생성 시작 - {}일", itinerary.get().schedule().size());
+            String guide = guideFanOutGenerator.generate(itinerary.get());
+
+            NotionIntegrationDto request = NotionIntegrationDto.builder()
+                    .notionAccessToken(notionAccessToken)
+                    .notionPageId(notionPageId)
+                    .build();
+            return writeToNotion(request, SecurityUtil.getCurrentUserId(), guide);
+
+        } catch (AiAdmissionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("긴 여행 분할 생성 중 오류 발생", e);
             return NotionIntegrationDto.Response.builder()
                     .success(false)
                     .notionWriteSuccess(false)
@@ -132,6 +183,85 @@ public class NotionIntegrationService {
         }
     }
 
+    /**
+     * 여행 데이터로 가이드를 생성할 때의 예상 요청 수, 출력 토큰 수, 소요 시간 (진행률 표시용)
+     * @param travelData 여행 데이터 JSON 문자열
+     * @return 생성 예상치
+     */
+    public GenerationEstimate estimateTravelDataGuide(String travelData) {
+        TravelPrompt prompt = travelPromptEncoder.parse(travelData)
+                .orElseThrow(() -> new IllegalArgumentException("여행 일정 정보를 해석할 수 없습니다."));
+        if (guideFanOutGenerator.supports(prompt)) {
+            return guideFanOutGenerator.estimate(prompt);
+        }
+        OutputBudgetEstimator.Estimate budget = outputBudgetEstimator.estimate(OutputBudgetEstimator.Section.GUIDE, prompt);
+        return new GenerationEstimate("single", 1, budget.expectedTokens(), budget.expectedDuration().toSeconds());
+    }
+
+    /**
+     * 생성된 내용을 Notion 페이지에 작성하고 결과 반환
+     * @param request Notion 통합 요청 DTO (액세스 토큰, 페이지 ID)
+     * @param currentUserId 현재 사용자 ID (비로그인 시 null)
+     * @param answer 작성할 내용
+     * @return 처리 결과
+     */
+    private NotionIntegrationDto.Response writeToNotion(NotionIntegrationDto request, String currentUserId, String answer) {
+        // 1. Notion 페이지 존재 확인
+        boolean pageExists = notionService.checkPageExists(
+                request.getNotionAccessToken(),
+                request.getNotionPageId()
+        );
+
+        if (!pageExists) {
+            log.error("Notion 페이지가 존재하지 않거나 접근 권한이 없음 - pageId: {}",
+                    request.getNotionPageId());
+            return NotionIntegrationDto.Response.builder()
+                    .success(true) // AI 분석은 성공
+                    .aiResponse(answer)
+                    .notionWriteSuccess(false)
+                    .message("AI 분석은 완료되었으나 Notion 페이지 작성 실패")
+                    .errorMessage("Notion 페이지에 접근할 수 없습니다. 페이지 ID와 액세스 토큰을 확인해주세요.")
+                    .build();
+        }
+
+        // 2. Notion 페이지에 내용 작성
+        boolean notionWriteSuccess = notionService.writeToNotionPage(
+                request.getNotionAccessToken(),
+                request.getNotionPageId(),
+                answer
+        );
+
+        // 3. 사용자의 notionPageId 업데이트 (로그인한 사용자인 경우)
+        if (currentUserId != null && notionWriteSuccess) {
+            try {
+                updateUserNotionPageId(currentUserId, request.getNotionPageId());
+            } catch (Exception e) {
+                log.warn("사용자 Notion 페이지 ID 업데이트 실패", e);
+                // 이 오류는 전체 처리에 영향을 주지 않음
+            }
+        }
+
+        // 4. 결과 반환
+        if (notionWriteSuccess) {
+            log.info("AI-Notion 통합 처리 완료 - 성공");
+            return NotionIntegrationDto.Response.builder()
+                    .success(true)
+                    .aiResponse(answer)
+                    .notionWriteSuccess(true)
+                    .message("AI 분석 완료 및 Notion 페이지 작성 성공")
+                    .build();
+        } else {
+            log.error("Notion 페이지 작성 실패");
+            return NotionIntegrationDto.Response.builder()
+                    .success(true) // AI 분석은 성공
+                    .aiResponse(answer)
+                    .notionWriteSuccess(false)
+                    .message("AI 분석은 완료되었으나 Notion 페이지 작성 실패")
+                    .errorMessage("Notion 페이지 작성 중 오류가 발생했습니다.")
+                    .build();
+        }
+    }
+
     /**
      * 사용자의 Notion 페이지 ID 업데이트
      * @param userId 사용자 ID
@@ -174,6 +304,7 @@ public class NotionIntegrationService {
 
     /**
      * 여행 데이터를 AI 분석용 질문으로 포맷팅 (유틸리티 메서드)
+     * 여행 상세 형식의 JSON은 압축 일정으로 변환해 입력 토큰을 줄입니다.
      * @param travelData 여행 데이터 JSON 문자열
      * @return 포맷팅된 AI 질문
      */
@@ -190,7 +321,7 @@ public class NotionIntegrationService {
                         "4. 예상 소요 시간 및 이동 경로\n" +
                         "5. 추천 활동 및 주의사항\n" +
                         "6. 예산 활용 팁",
-                travelData
+                travelPromptEncoder.encodeJson(travelData)
         );
     }
 
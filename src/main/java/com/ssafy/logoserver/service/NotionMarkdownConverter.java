@@ -0,0 +1,107 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.domain.notion.dto.NotionBlock;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 마크다운 → Notion 블록 변환기
+ * AI 여행 분석 결과(마크다운)를 Notion 페이지에 추가할 블록 목록으로 바꿉니다.
+ * 제목(#, ##, ###, Notion 에는 4단계 제목이 없으므로 ####는 ###과 같은 제목 3), 불릿(-, *), 번호 목록(1.)을 블록으로 나누고 나머지 줄은 빈 줄 단위로 문단으로 묶습니다.
+ */
+public final class NotionMarkdownConverter {
+
+    private static final Pattern NUMBERED_ITEM = Pattern.compile("^\\d+\\.\\s");
+    private static final DateTimeFormatter TITLE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter FOOTER_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
+
+    private NotionMarkdownConverter() {
+    }
+
+    /**
+     * 마크다운 텍스트를 Notion 블록으로 변환
+     * @param content 마크다운 형식의 텍스트
+     * @return Notion 블록 리스트 (앞뒤에 제목, 구분선, 생성 시간 블록 포함)
+     */
+    public static List<NotionBlock> convert(String content) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotionBlock> blocks = new ArrayList<>();
+
+        // 현재 시간을 포함한 제목 블록과 구분선 추가
+        blocks.add(NotionBlock.heading1("🎯 AI 여행 분석 결과 - " + now.format(TITLE_FORMAT)));
+        blocks.add(NotionBlock.divider());
+
+        StringBuilder paragraphText = new StringBuilder();
+
+        for (String rawLine : content.split("\n")) {
+            String line = rawLine.trim();
+
+            if (line.isEmpty()) {
+                // 빈 줄이면 현재까지의 문단을 블록으로 추가
+                flushParagraph(blocks, paragraphText);
+                continue;
+            }
+
+            NotionBlock block = toBlock(line);
+            if (block != null) {
+                flushParagraph(blocks, paragraphText);
+                blocks.add(block);
+            } else {
+                // 일반 텍스트
+                if (paragraphText.length() > 0) {
+                    paragraphText.append("\n");
+                }
+                paragraphText.append(line);
+            }
+        }
+
+        // 마지막 문단 처리
+        flushParagraph(blocks, paragraphText);
+
+        // 마지막에 구분선과 생성 시간 추가
+        blocks.add(NotionBlock.divider());
+        blocks.add(NotionBlock.paragraph("📅 생성 시간: " + now.format(FOOTER_FORMAT)));
+
+        return blocks;
+    }
+
+    /**
+     * 제목, 목록 줄을 블록으로 변환 (일반 텍스트 줄이면 null)
+     */
+    private static NotionBlock toBlock(String line) {
+        if (line.startsWith("# ")) {
+            return NotionBlock.heading1(line.substring(2));
+        }
+        if (line.startsWith("## ")) {
+            return NotionBlock.heading2(line.substring(3));
+        }
+        if (line.startsWith("### ")) {
+            return NotionBlock.heading3(line.substring(4));
+        }
+        if (line.startsWith("#### ")) {
+            return NotionBlock.heading3(line.substring(5));
+        }
+        if (line.startsWith("- ") || line.startsWith("* ")) {
+            return NotionBlock.bulletedListItem(line.substring(2));
+        }
+        if (!line.isEmpty() && Character.isDigit(line.charAt(0))) {
+            Matcher matcher = NUMBERED_ITEM.matcher(line);
+            if (matcher.find()) {
+                return NotionBlock.numberedListItem(line.substring(matcher.end()));
+            }
+        }
+        return null;
+    }
+
+    private static void flushParagraph(List<NotionBlock> blocks, StringBuilder paragraphText) {
+        if (paragraphText.length() > 0) {
+            blocks.add(NotionBlock.paragraph(paragraphText.toString()));
+            paragraphText.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.domain.area.entity.Area;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.image.entity.TravelImage;
+import com.ssafy.logoserver.domain.travel.entity.Travel;
+import com.ssafy.logoserver.domain.travel.entity.TravelArea;
+import com.ssafy.logoserver.domain.travel.entity.TravelPayment;
+import com.ssafy.logoserver.domain.travel.entity.TravelRoot;
+import com.ssafy.logoserver.domain.travel.entity.Verification;
+import com.ssafy.logoserver.domain.user.entity.UserLike;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.ssafy.logoserver.service.ResourceVersionService.*;
+
+/**
+ * 엔티티 쓰기 시 리소스 버전을 올리는 JPA 엔티티 리스너
+ * 엔티티의 연관관계 ID 만 사용하므로 추가 조회 없이 영향을 받는 집계의 버전 키를 계산합니다.
+ * (Hibernate 가 Spring Bean 컨테이너를 통해 생성하므로 생성자 주입이 가능합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionListener {
+
+    private final ResourceVersionService resourceVersionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        resourceVersionService.bumpAfterCommit(affectedKeys(entity));
+    }
+
+    /**
+     * 엔티티 변경으로 내용이 바뀌는 조회 응답의 버전 키 목록
+     */
+    private Set<String> affectedKeys(Object entity) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        if (entity instanceof Travel travel) {
+            keys.add(travelKey(travel.getTuid()));
+        } else if (entity instanceof TravelRoot travelRoot) {
+            keys.add(travelRootKey(travelRoot.getTruid()));
+            if (travelRoot.getTravel() != null) {
+                keys.add(travelKey(travelRoot.getTravel().getTuid()));
+            }
+        } else if (entity instanceof TravelArea travelArea) {
+            if (travelArea.getTravel() != null) {
+                keys.add(travelKey(travelArea.getTravel().getTuid()));
+            }
+            if (travelArea.getTravelDay() != null) {
+                keys.add(travelRootKey(travelArea.getTravelDay().getTruid()));
+            }
+        } else if (entity instanceof TravelPayment travelPayment) {
+            if (travelPayment.getTravel() != null) {
+                keys.add(travelKey(travelPayment.getTravel().getTuid()));
+            }
+        } else if (entity instanceof TravelImage travelImage) {
+            if (travelImage.getTravel() != null) {
+                keys.add(travelKey(travelImage.getTravel().getTuid()));
+            }
+            if (travelImage.getVerification() != null) {
+                keys.add(VERIFICATIONS);
+                if (travelImage.getVerification().getPlace() != null) {
+                    keys.add(placeKey(travelImage.getVerification().getPlace().getPuid()));
+                }
+            }
+        } else if (entity instanceof Verification verification) {
+            keys.add(VERIFICATIONS);
+            if (verification.getPlace() != null) {
+                keys.add(placeKey(verification.getPlace().getPuid()));
+            }
+        } else if (entity instanceof UserLike userLike) {
+            if (userLike.getPlace() != null) {
+                keys.add(placeKey(userLike.getPlace().getPuid()));
+            }
+        } else if (entity instanceof Place place) {
+            keys.add(placeKey(place.getPuid()));
+        } else if (entity instanceof Area) {
+            keys.add(AREAS);
+        }
+
+        return keys;
+    }
+}
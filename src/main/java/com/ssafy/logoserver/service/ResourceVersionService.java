@@ -0,0 +1,201 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import com.ssafy.logoserver.utils.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리소스 버전 카운터 서비스
+ * 집계(여행, 여행 루트, 장소 등)마다 Redis 카운터를 두고 쓰기가 커밋될 때마다 증가시킵니다.
+ * 조회 API 는 이 카운터로 강한 ETag 를 만들어, 엔티티를 불러오기 전에 304 Not Modified 여부를 판단합니다.
+ * Redis 를 쓰므로 여러 인스턴스가 같은 ETag 를 발급합니다.
+ * ETag 앞에는 세대(epoch)를 붙입니다. 세대 키가 없으면(Redis 초기화, 장애 복구) 임의 값으로 새로 정하고,
+ * 버전 증가에 실패하면 세대를 바꿔 이전에 발급한 ETag 가 모두 일치하지 않도록 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionService {
+
+    private static final String KEY_PREFIX = "resource_version:";
+    private static final String EPOCH_KEY = KEY_PREFIX + "epoch";
+
+    /**
+     * 지역 목록 전체 버전 키
+     */
+    public static final String AREAS = "areas";
+
+    /**
+     * 인증 정보 전체 버전 키 (여행 루트 상세에 포함되는 인증 정보용)
+     */
+    public static final String VERIFICATIONS = "verifications";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+
+    /**
+     * 버전 증가와 세대 변경이 모두 실패해 세대 변경이 밀려 있는지 여부 (변경 전까지 ETag 를 발급하지 않음)
+     */
+    private final AtomicBoolean epochRotationPending = new AtomicBoolean();
+
+    public static String travelKey(Long tuid) {
+        return "travel:" + tuid;
+    }
+
+    public static String travelRootKey(Long truid) {
+        return "travel_root:" + truid;
+    }
+
+    public static String placeKey(Long puid) {
+        return "place:" + puid;
+    }
+
+    /**
+     * 여러 버전 키로 강한 ETag 생성
+     * 예) 세대가 k3x9 이고 키 travel:1 의 버전이 5 이면 "k3x9-5", 키가 여러 개면 "k3x9-5.12"
+     *
+     * @param keys 응답 내용이 의존하는 버전 키 목록
+     * @return 따옴표로 감싼 ETag, Redis 장애 시 null (캐시 없이 응답)
+     */
+    public String eTag(String... keys) {
+        try {
+            if (epochRotationPending.get()) {
+                rotateEpoch();
+            }
+
+            List<String> versionKeys = new ArrayList<>(keys.length + 1);
+            versionKeys.add(EPOCH_KEY);
+            versionKeys.addAll(prefixed(List.of(keys)));
+            List<String> versions = downstreamLimiter.call(Downstream.REDIS,
+                    () -> redisTemplate.opsForValue().multiGet(versionKeys));
+
+            String epoch = versions != null ? versions.get(0) : null;
+            StringBuilder tag = new StringBuilder("\"").append(epoch != null ? epoch : seedEpoch()).append('-');
+            for (int i = 0; i < keys.length; i++) {
+                if (i > 0) {
+                    tag.append('.');
+                }
+                String version = versions != null ? versions.get(i + 1) : null;
+                tag.append(version != null ? version : "0");
+            }
+            return tag.append('"').toString();
+        } catch (Exception e) {
+            log.warn("리소스 버전 조회 실패, ETag 없이 응답 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 같은 버전이라도 응답이 달라지는 요소(현재 사용자 등)를 덧붙인 ETag 생성
+     *
+     * @param variant ETag 에 덧붙일 구분값
+     * @param keys 응답 내용이 의존하는 버전 키 목록
+     * @return 따옴표로 감싼 ETag, Redis 장애 시 null
+     */
+    public String eTagWithVariant(String variant, String... keys) {
+        String base = eTag(keys);
+        if (base == null) {
+            return null;
+        }
+        return base.substring(0, base.length() - 1) + "-" + variant + "\"";
+    }
+
+    /**
+     * 조건부 요청 검사
+     * Cache-Control 을 먼저 설정한 뒤 If-None-Match 와 ETag 를 비교합니다.
+     * true 이면 304 응답이 이미 설정된 상태이므로 컨트롤러는 바로 null 을 반환하면 됩니다.
+     *
+     * @param request 현재 요청
+     * @param eTag 현재 ETag (null 이면 항상 false)
+     * @param cacheControl 엔드포인트별 캐시 정책
+     * @return 변경되지 않았으면 true
+     */
+    public boolean checkNotModified(ServletWebRequest request, String eTag, CacheControl cacheControl) {
+        if (eTag == null) {
+            return false;
+        }
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return request.checkNotModified(eTag);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 버전 증가
+     * 커밋 전에 올리면 이전 데이터가 새 ETag 로 캐시될 수 있으므로 커밋 후에 올립니다.
+     *
+     * @param keys 증가시킬 버전 키 목록
+     */
+    public void bumpAfterCommit(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> bump(keys));
+    }
+
+    private void bump(Collection<String> keys) {
+        try {
+            if (epochRotationPending.get()) {
+                rotateEpoch();
+            }
+            downstreamLimiter.run(Downstream.REDIS, () -> {
+                for (String key : keys) {
+                    redisTemplate.opsForValue().increment(KEY_PREFIX + key);
+                }
+            });
+        } catch (Exception e) {
+            // 버전이 그대로면 변경 전 응답의 ETag 가 계속 일치하므로, 세대를 바꿔 모든 ETag 를 무효화
+            log.warn("리소스 버전 증가 실패, 세대 변경으로 전체 무효화 - 키: {}, 원인: {}", keys, e.getMessage());
+            epochRotationPending.set(true);
+            try {
+                rotateEpoch();
+            } catch (Exception rotationFailure) {
+                log.warn("리소스 버전 세대 변경 실패, 성공할 때까지 ETag 발급 중단 - {}", rotationFailure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 세대 키가 없으면 임의 값으로 정하고 현재 세대 반환 (여러 인스턴스가 동시에 정해도 한 값만 남음)
+     */
+    private String seedEpoch() {
+        String candidate = newEpoch();
+        Boolean seeded = downstreamLimiter.call(Downstream.REDIS,
+                () -> redisTemplate.opsForValue().setIfAbsent(EPOCH_KEY, candidate));
+        if (Boolean.TRUE.equals(seeded)) {
+            return candidate;
+        }
+        String epoch = downstreamLimiter.call(Downstream.REDIS, () -> redisTemplate.opsForValue().get(EPOCH_KEY));
+        if (epoch == null) {
+            throw new IllegalStateException("리소스 버전 세대를 정할 수 없습니다.");
+        }
+        return epoch;
+    }
+
+    private void rotateEpoch() {
+        String epoch = newEpoch();
+        downstreamLimiter.run(Downstream.REDIS, () -> redisTemplate.opsForValue().set(EPOCH_KEY, epoch));
+        epochRotationPending.set(false);
+        log.info("리소스 버전 세대 변경 - {}", epoch);
+    }
+
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    private List<String> prefixed(List<String> keys) {
+        return keys.stream().map(key -> KEY_PREFIX + key).toList();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ssafy.logoserver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷
+ * 키마다 용량(capacity)과 초당 충전량(refillPerSecond)을 가진 버킷을 두고, 요청 비용만큼 토큰을 꺼냅니다.
+ * 여러 인스턴스가 같은 버킷을 쓰도록 상태(남은 토큰, 마지막 갱신 시각)를 Redis 해시에 두고 Lua 스크립트로 원자적으로 갱신하며,
+ * Redis 가 느리거나(rate-limit 타임아웃) 장애일 때는 인스턴스별 로컬 버킷으로 대신 판단합니다 (이 동안 한도는 인스턴스 수만큼 느슨해짐).
+ * 강제 차감(force)은 사후 정산용으로, 토큰이 부족해도 차감해 음수(부채)가 될 수 있고 음수 비용은 환불입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBucketLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    /**
+     * 반환값: 0 이면 허용, 양수면 다시 시도할 수 있을 때까지의 밀리초
+     */
+    private static final RedisScript<Long> CONSUME = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local cost = tonumber(ARGV[4])
+            local force = ARGV[5] == '1'
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            if now > ts then
+              tokens = math.min(capacity, tokens + (now - ts) * rate / 1000)
+              ts = now
+            end
+            local need = math.min(cost, capacity)
+            if not force and tokens < need then
+              return math.ceil((need - tokens) * 1000 / rate)
+            end
+            tokens = math.min(capacity, tokens - cost)
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - math.min(tokens, capacity)) * 1000 / rate) + 1000)
+            return 0
+            """, Long.class);
+
+    /**
+     * 버킷 설정
+     *
+     * @param capacity        최대 토큰 수 (허용 버스트)
+     * @param refillPerSecond 초당 충전 토큰 수 (지속 허용량)
+     */
+    public record Bucket(long capacity, double refillPerSecond) {
+
+        public Bucket {
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("버킷 용량과 충전 속도는 0보다 커야 합니다.");
+            }
+        }
+
+        public static Bucket perMinute(long capacity, long refillPerMinute) {
+            return new Bucket(capacity, refillPerMinute / 60.0);
+        }
+
+        public static Bucket perHour(long capacity, long refillPerHour) {
+            return new Bucket(capacity, refillPerHour / 3600.0);
+        }
+    }
+
+    /**
+     * 판단 결과
+     *
+     * @param allowed    허용 여부
+     * @param retryAfter 거절된 경우 다시 시도할 수 있을 때까지의 시간 (허용이면 0)
+     */
+    public record Decision(boolean allowed, Duration retryAfter) {
+
+        static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DownstreamLimiter downstreamLimiter;
+
+    /**
+     * Redis 장애 중 사용하는 로컬 버킷 (키 종류가 IP·사용자처럼 제한이 없으므로 크기와 유휴 시간으로 제거)
+     * 제거된 버킷은 다음 요청에서 가득 찬 상태로 다시 만들어지므로, 유휴 시간은 시간당 버킷이 다시 차는 시간에 맞춥니다.
+     */
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    /**
+     * 비용만큼 토큰을 꺼냄 (부족하면 거절하고 충전까지 남은 시간 반환)
+     * 비용이 용량보다 크면 버킷이 가득 찼을 때만 허용하고 그만큼 부채로 남깁니다.
+     *
+     * @param key    버킷 키 (예: ai:user:{id})
+     * @param bucket 버킷 설정
+     * @param cost   꺼낼 토큰 수
+     * @return 판단 결과
+     */
+    public Decision tryConsume(String key, Bucket bucket, long cost) {
+        return consume(key, bucket, cost, false);
+    }
+
+    /**
+     * 거절 없이 차감하거나(양수) 환불(음수) - 예약한 비용과 실제 비용의 차이를 정산할 때 사용
+     *
+     * @param key    버킷 키
+     * @param bucket 버킷 설정
+     * @param delta  추가 차감할 토큰 수 (음수면 환불)
+     */
+    public void adjust(String key, Bucket bucket, long delta) {
+        if (delta != 0) {
+            consume(key, bucket, delta, true);
+        }
+    }
+
+    private Decision consume(String key, Bucket bucket, long cost, boolean force) {
+        long now = System.currentTimeMillis();
+        try {
+            Long waitMillis = downstreamLimiter.call(Downstream.RATE_LIMIT, () -> redisTemplate.execute(CONSUME,
+                    List.of(KEY_PREFIX + key), String.valueOf(bucket.capacity()), String.valueOf(bucket.refillPerSecond()),
+                    String.valueOf(now), String.valueOf(cost), force ? "1" : "0"));
+            return decision(waitMillis != null ? waitMillis : 0);
+        } catch (Exception e) {
+            log.debug("Redis 토큰 버킷 사용 불가, 로컬 버킷으로 판단 - 키: {}, 원인: {}", key, e.getMessage());
+            LocalBucket local = localBuckets.get(key, k -> new LocalBucket(bucket.capacity(), now));
+            return decision(local.consume(bucket, now, cost, force));
+        }
+    }
+
+    private static Decision decision(long waitMillis) {
+        return waitMillis <= 0 ? Decision.ALLOWED : new Decision(false, Duration.ofMillis(waitMillis));
+    }
+
+    /**
+     * Redis 장애 시 사용하는 인스턴스 로컬 버킷 (스크립트와 같은 계산)
+     */
+    private static final class LocalBucket {
+
+        private double tokens;
+        private long timestamp;
+
+        private LocalBucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.timestamp = now;
+        }
+
+        private synchronized long consume(Bucket bucket, long now, long cost, boolean force) {
+            if (now > timestamp) {
+                tokens = Math.min(bucket.capacity(), tokens + (now - timestamp) * bucket.refillPerSecond() / 1000);
+                timestamp = now;
+            }
+            double need = Math.min(cost, bucket.capacity());
+            if (!force && tokens < need) {
+                return (long) Math.ceil((need - tokens) * 1000 / bucket.refillPerSecond());
+            }
+            tokens = Math.min(bucket.capacity(), tokens - cost);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.logoserver.utils;
+
+import org.slf4j.Logger;
+
+/**
+ * 반복문 안의 항목별 로그 샘플링 유틸리티
+ * 항목마다 로그를 남기면 목록 크기에 비례해 로그량이 늘어나므로,
+ * 앞쪽 몇 개와 일정 간격의 항목만 DEBUG 레벨로 남깁니다.
+ */
+public final class LogSampler {
+
+    /**
+     * 항상 기록할 앞쪽 항목 수
+     */
+    private static final int HEAD = 3;
+
+    /**
+     * 이후 기록 간격
+     */
+    private static final int EVERY = 100;
+
+    private LogSampler() {
+    }
+
+    /**
+     * 해당 순번의 항목을 기록할지 여부
+     *
+     * @param log 로거 (DEBUG 비활성 시 항상 false)
+     * @param index 0부터 시작하는 항목 순번
+     * @return 기록 대상이면 true
+     */
+    public static boolean sampled(Logger log, int index) {
+        return log.isDebugEnabled() && (index < HEAD || index % EVERY == 0);
+    }
+}
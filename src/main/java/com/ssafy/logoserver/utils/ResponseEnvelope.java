@@ -0,0 +1,47 @@
+package com.ssafy.logoserver.utils;
+
+/**
+ * API 공통 응답 본문
+ * 응답마다 HashMap 을 만들지 않도록 불변 record 로 표현하며, JSON 형태는 기존과 동일합니다.
+ * <ul>
+ *     <li>{"status":"success","data":...}</li>
+ *     <li>{"status":"success"}</li>
+ *     <li>{"status":"error","message":"..."}</li>
+ * </ul>
+ */
+public sealed interface ResponseEnvelope
+        permits ResponseEnvelope.Success, ResponseEnvelope.Empty, ResponseEnvelope.Error {
+
+    String SUCCESS = "success";
+    String ERROR = "error";
+
+    /**
+     * 응답 상태 ("success" 또는 "error")
+     */
+    String status();
+
+    /**
+     * 데이터를 포함한 성공 응답
+     */
+    record Success<T>(String status, T data) implements ResponseEnvelope {
+        public Success(T data) {
+            this(SUCCESS, data);
+        }
+    }
+
+    /**
+     * 데이터가 없는 성공 응답
+     */
+    record Empty(String status) implements ResponseEnvelope {
+        static final Empty INSTANCE = new Empty(SUCCESS);
+    }
+
+    /**
+     * 오류 응답
+     */
+    record Error(String status, String message) implements ResponseEnvelope {
+        public Error(String message) {
+            this(ERROR, message);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.ssafy.logoserver.utils;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
 
 public class ResponseUtil {
 
@@ -12,35 +13,53 @@ public class ResponseUtil {
         // 인스턴스화 방지
     }
 
-    public static <T> ResponseEntity<Map<String, Object>> success(T data) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        response.put("data", data);
-        return ResponseEntity.ok(response);
+    public static <T> ResponseEntity<ResponseEnvelope> success(T data) {
+        return ResponseEntity.ok(new ResponseEnvelope.Success<>(data));
     }
 
-    public static ResponseEntity<Map<String, Object>> success() {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "success");
-        return ResponseEntity.ok(response);
+    /**
+     * ETag 와 캐시 정책을 포함한 성공 응답 (eTag 가 null 이면 캐시 헤더 없이 응답)
+     */
+    public static <T> ResponseEntity<ResponseEnvelope> success(T data, String eTag, CacheControl cacheControl) {
+        if (eTag == null) {
+            return success(data);
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(new ResponseEnvelope.Success<>(data));
     }
 
-    public static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("status", "error");
-        response.put("message", message);
-        return ResponseEntity.status(status).body(response);
+    public static ResponseEntity<ResponseEnvelope> success() {
+        return ResponseEntity.ok(ResponseEnvelope.Empty.INSTANCE);
     }
 
-    public static ResponseEntity<Map<String, Object>> badRequest(String message) {
+    public static ResponseEntity<ResponseEnvelope> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ResponseEnvelope.Error(message));
+    }
+
+    public static ResponseEntity<ResponseEnvelope> badRequest(String message) {
         return error(HttpStatus.BAD_REQUEST, message);
     }
 
-    public static ResponseEntity<Map<String, Object>> notFound(String message) {
+    public static ResponseEntity<ResponseEnvelope> notFound(String message) {
         return error(HttpStatus.NOT_FOUND, message);
     }
 
-    public static ResponseEntity<Map<String, Object>> internalServerError(String message) {
+    public static ResponseEntity<ResponseEnvelope> internalServerError(String message) {
         return error(HttpStatus.INTERNAL_SERVER_ERROR, message);
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청 한도 초과 응답 (Retry-After 는 초 단위로 올림)
+     */
+    public static ResponseEntity<ResponseEnvelope> tooManyRequests(String message, Duration retryAfter) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(retryAfter)))
+                .body(new ResponseEnvelope.Error(message));
+    }
+
+    public static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
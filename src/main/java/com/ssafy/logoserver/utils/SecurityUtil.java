@@ -32,7 +32,6 @@ public class SecurityUtil {
      */
     public static String getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        log.info("getCurrentUserId - authentication: {}", authentication);
 
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
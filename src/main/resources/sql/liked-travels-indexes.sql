@@ -0,0 +1,7 @@
+-- 좋아요한 여행 조회(TravelRepository.findLikedTravels) 인덱스
+-- user_likes(user_id, place_id): 사용자의 좋아요 장소를 인덱스만으로 조회
+-- places(puid, area_id) 는 PK 로 충분하고, TravelAreas(area_id, travel_id) 로 지역별 여행을 인덱스만으로 세미조인합니다.
+
+CREATE INDEX idx_user_likes_user_place ON user_likes (user_id, place_id);
+
+CREATE INDEX idx_travel_areas_area_travel ON TravelAreas (area_id, travel_id);
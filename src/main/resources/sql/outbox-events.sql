@@ -0,0 +1,26 @@
+-- 트랜잭셔널 아웃박스 (DomainEventPublisher / OutboxRelay)
+-- 도메인 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 집합체별 발행 순서대로 핸들러에 전달합니다.
+
+CREATE TABLE outbox_events (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id           VARCHAR(36)  NOT NULL,
+    aggregate_type     VARCHAR(30)  NOT NULL,
+    aggregate_id       BIGINT       NOT NULL,
+    event_type         VARCHAR(50)  NOT NULL,
+    payload            TEXT         NULL,
+    status             VARCHAR(20)  NOT NULL,
+    attempts           INT          NOT NULL DEFAULT 0,
+    next_attempt_at    DATETIME(6)  NOT NULL,
+    delivered_handlers VARCHAR(500) NULL,
+    last_error         VARCHAR(500) NULL,
+    created            DATETIME(6)  NULL,
+    published_at       DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_outbox_events_event_id (event_id),
+    -- 집합체별 가장 앞선 대기 이벤트 판별 (NOT EXISTS 서브쿼리)
+    KEY idx_outbox_events_aggregate (status, aggregate_type, aggregate_id, id),
+    -- 전달 대상 조회
+    KEY idx_outbox_events_dispatch (status, next_attempt_at, id),
+    -- 전달 완료 이벤트 정리
+    KEY idx_outbox_events_published (status, published_at)
+);
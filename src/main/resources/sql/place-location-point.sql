@@ -0,0 +1,32 @@
+-- 장소 좌표 공간 컬럼 및 SPATIAL 인덱스 (MySQL 8.0 이상)
+-- 주변 장소 검색의 DB 경로(PlaceRepository.findWithinRadius)에서 사용합니다.
+-- x = 경도, y = 위도 (SRID 0), 좌표가 없는 장소는 POINT(0 0) 으로 저장합니다.
+-- location 은 트리거로만 관리하므로 애플리케이션(JPA 엔티티)은 이 컬럼을 알 필요가 없습니다.
+
+ALTER TABLE places
+    ADD COLUMN location POINT NULL SRID 0;
+
+UPDATE places
+SET location = POINT(COALESCE(longitude, 0), COALESCE(latitude, 0));
+
+ALTER TABLE places
+    MODIFY COLUMN location POINT NOT NULL SRID 0,
+    ADD SPATIAL INDEX idx_places_location (location);
+
+DELIMITER //
+
+CREATE TRIGGER trg_places_location_insert
+    BEFORE INSERT ON places
+    FOR EACH ROW
+BEGIN
+    SET NEW.location = POINT(COALESCE(NEW.longitude, 0), COALESCE(NEW.latitude, 0));
+END//
+
+CREATE TRIGGER trg_places_location_update
+    BEFORE UPDATE ON places
+    FOR EACH ROW
+BEGIN
+    SET NEW.location = POINT(COALESCE(NEW.longitude, 0), COALESCE(NEW.latitude, 0));
+END//
+
+DELIMITER ;
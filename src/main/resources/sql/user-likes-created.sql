@@ -0,0 +1,7 @@
+-- 좋아요 생성 시각 (PlaceRankingService 주간 인기 순위 재구성에 사용)
+-- 기존 행은 NULL 로 남으며 주간 인기 재구성에서 제외되고, 지역별 좋아요 순위에는 그대로 집계됩니다.
+
+ALTER TABLE user_likes ADD COLUMN created DATETIME(6) NULL;
+
+-- 이번 주 인증만 스트리밍으로 읽기 위한 인덱스
+CREATE INDEX idx_verifications_created ON verifications (created);
@@ -0,0 +1,42 @@
+package com.ssafy.logoserver.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HttpClientConfigTest {
+
+    @Test
+    @DisplayName("Notion API 요청이 실제로 쓰는 라우트에 Notion 전용 커넥션 상한이 적용됨")
+    void notionRouteUsesDedicatedMaxPerRoute() throws Exception {
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 200);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 20);
+        ReflectionTestUtils.setField(config, "notionMaxPerRoute", 50);
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(config, "responseTimeout", Duration.ofSeconds(30));
+
+        try (PoolingHttpClientConnectionManager connectionManager = config.pooledConnectionManager()) {
+            HttpRoute notion = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE).determineRoute(
+                    HttpHost.create(URI.create(HttpClientConfig.NOTION_API_BASE_URL + "/pages")),
+                    HttpClientContext.create());
+            HttpRoute other = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE).determineRoute(
+                    HttpHost.create(URI.create("https://api.openai.com/v1/chat/completions")),
+                    HttpClientContext.create());
+
+            assertEquals(50, connectionManager.getMaxPerRoute(notion));
+            assertEquals(20, connectionManager.getMaxPerRoute(other));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.ssafy.logoserver.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RateLimitFilterTest {
+
+    /**
+     * application-prod.yml 의 server.tomcat.remoteip.internal-proxies 와 같은 신뢰 프록시 목록
+     */
+    private static final String TRUSTED_PROXIES = "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|192\\.168\\.\\d{1,3}\\.\\d{1,3}"
+            + "|172\\.(1[6-9]|2[0-9]|3[0-1])\\.\\d{1,3}\\.\\d{1,3}|127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}";
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("정책의 버스트를 넘은 요청은 다음 필터로 넘기지 않고 429 와 Retry-After 로 응답 (Redis 없이 로컬 버킷)")
+    void rejectsRequestsOverBurstWithRetryAfter() throws Exception {
+        RateLimitFilter filter = filter(policy("auth-login", "/api/auth/login", 10, 2));
+
+        assertEquals(200, login(filter, "203.0.113.7").getStatus());
+        assertEquals(200, login(filter, "203.0.113.7").getStatus());
+
+        MockHttpServletResponse rejected = login(filter, "203.0.113.7");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("6", rejected.getHeader("Retry-After"));
+
+        // 다른 IP 는 별도 버킷
+        assertEquals(200, login(filter, "198.51.100.1").getStatus());
+    }
+
+    @Test
+    @DisplayName("패턴이나 메서드가 맞지 않는 요청은 제한하지 않음")
+    void ignoresUnmatchedRequests() throws Exception {
+        RateLimitFilter filter = filter(policy("auth-login", "/api/auth/login", 1, 1));
+
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/login"), new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 로, 그 밖의 요청은 접속 주소로 제한")
+    void keysForwardedRequestsOnClientIpOnlyFromTrustedProxies() throws Exception {
+        RateLimitFilter filter = filter(policy("auth-login", "/api/auth/login", 10, 2));
+
+        assertEquals(200, forwardedLogin(filter, "10.0.0.5", "203.0.113.7").getStatus());
+        assertEquals(200, forwardedLogin(filter, "10.0.0.6", "203.0.113.7").getStatus());
+        // 로드 밸런서 인스턴스가 달라도 같은 클라이언트면 같은 버킷
+        assertEquals(429, forwardedLogin(filter, "10.0.0.5", "203.0.113.7").getStatus());
+
+        // 같은 프록시 뒤의 다른 클라이언트는 별도 버킷
+        assertEquals(200, forwardedLogin(filter, "10.0.0.5", "198.51.100.1").getStatus());
+
+        // 신뢰하지 않는 주소가 보낸 X-Forwarded-For 는 무시하고 접속 주소로 제한 (다른 클라이언트 사칭 불가)
+        assertEquals(200, forwardedLogin(filter, "198.51.100.9", "203.0.113.7").getStatus());
+        assertEquals(200, forwardedLogin(filter, "198.51.100.9", "192.0.2.1").getStatus());
+        assertEquals(429, forwardedLogin(filter, "198.51.100.9", "192.0.2.2").getStatus());
+    }
+
+    @Test
+    @DisplayName("클라이언트 키는 등록된 ID 만 IP 와 묶어 사용하고, 임의 ID 로는 새 버킷을 얻지 못함")
+    void clientKeyAcceptsOnlyRegisteredIdsCombinedWithIp() throws Exception {
+        RateLimitProperties.Policy policy = policy("partner", "/api/auth/login", 10, 1);
+        policy.setKey(RateLimitProperties.KeyType.CLIENT);
+        RateLimitFilter filter = filter(policy, Set.of("logo-web"));
+
+        // 등록되지 않은 ID 를 바꿔 보내도 같은 IP 버킷
+        assertEquals(200, clientLogin(filter, "203.0.113.7", "random-1").getStatus());
+        assertEquals(429, clientLogin(filter, "203.0.113.7", "random-2").getStatus());
+
+        // 등록된 ID 는 IP 와 묶인 별도 버킷 - 다른 IP 에서 같은 ID 를 보내도 서로 소진시키지 않음
+        assertEquals(200, clientLogin(filter, "203.0.113.7", "logo-web").getStatus());
+        assertEquals(429, clientLogin(filter, "203.0.113.7", "logo-web").getStatus());
+        assertEquals(200, clientLogin(filter, "198.51.100.1", "logo-web").getStatus());
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Policy policy) {
+        return filter(policy, Set.of());
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Policy policy, Set<String> clientIds) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policy));
+        properties.setClientIds(clientIds);
+        return new RateLimitFilter(properties, new TokenBucketLimiter(null, downstreamLimiter), null,
+                new SimpleMeterRegistry(), new ObjectMapper());
+    }
+
+    private static MockHttpServletResponse login(RateLimitFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() == 429) {
+            assertNull(chain.getRequest());
+        }
+        return response;
+    }
+
+    private static MockHttpServletResponse clientLogin(RateLimitFilter filter, String remoteAddr, String clientId)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Client-Id", clientId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * 운영의 Tomcat RemoteIpValve 와 같은 규칙(RemoteIpFilter)으로 전달 헤더를 처리한 뒤 요청 한도 필터 실행
+     */
+    private static MockHttpServletResponse forwardedLogin(RateLimitFilter filter, String proxyAddr, String clientAddr)
+            throws Exception {
+        RemoteIpFilter remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.setInternalProxies(TRUSTED_PROXIES);
+        remoteIpFilter.setRemoteIpHeader("X-Forwarded-For");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(proxyAddr);
+        request.addHeader("X-Forwarded-For", clientAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        remoteIpFilter.doFilter(request, response, (forwarded, res) -> filter.doFilter(forwarded, res, chain));
+        return response;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, int limitPerMinute, int burst) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPatterns(List.of(pattern));
+        policy.setMethods(List.of("POST"));
+        policy.setLimit(limitPerMinute);
+        policy.setPeriod(Duration.ofMinutes(1));
+        policy.setBurst(burst);
+        return policy;
+    }
+}
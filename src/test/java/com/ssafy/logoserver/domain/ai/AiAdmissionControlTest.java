@@ -0,0 +1,110 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionControl;
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionException;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AiAdmissionControlTest {
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+    /**
+     * Redis 없이 로컬 버킷으로 판단 (비로그인 IP 버킷 5000토큰, 시간당 3600토큰 충전, 기본 예약 4000토큰, 동시 호출 1개)
+     */
+    private final AiAdmissionControl admissionControl = new AiAdmissionControl(
+            new TokenBucketLimiter(null, downstreamLimiter), new SimpleMeterRegistry(),
+            100000, 100000, 5000, 3600, 4000, 1, 1, 1, 1, Duration.ofMillis(50), Duration.ofSeconds(10));
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 예약을 환불하고, 응답 메타데이터의 실제 토큰 수로 정산한 뒤 한도를 넘으면 Retry-After 와 함께 거절")
+    void settlesReservationWithActualUsage() {
+        try (AiAdmissionControl.Ticket ticket = admissionControl.admit("질문", null)) {
+            // LLM 호출 실패 - 응답 없음
+        }
+        try (AiAdmissionControl.Ticket ticket = admissionControl.admit("질문", null)) {
+            ticket.record(response(1900, 3000));
+        }
+
+        AiAdmissionException rejected = assertThrows(AiAdmissionException.class,
+                () -> admissionControl.admit("질문", null));
+        assertTrue(rejected.getRetryAfter().compareTo(Duration.ofMinutes(30)) > 0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 슬롯을 대기 시간 안에 얻지 못하면 거절")
+    void rejectsWhenProviderIsBusy() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> admissionControl.withPermit("anthropic", () -> {
+                holding.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            holding.await();
+
+            AiAdmissionException rejected = assertThrows(AiAdmissionException.class,
+                    () -> admissionControl.withPermit("anthropic", () -> "응답"));
+            assertEquals(Duration.ofSeconds(10), rejected.getRetryAfter());
+            assertEquals("응답", admissionControl.withPermit("openai", () -> "응답"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static ChatResponse response(int promptTokens, int completionTokens) {
+        return ChatResponse.builder()
+                .generations(List.of(new Generation(new AssistantMessage("답변"))))
+                .metadata(ChatResponseMetadata.builder()
+                        .usage(new DefaultUsage(promptTokens, completionTokens))
+                        .build())
+                .build();
+    }
+}
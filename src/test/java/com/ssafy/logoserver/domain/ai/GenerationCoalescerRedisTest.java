@@ -0,0 +1,139 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.GenerationCoalescer;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 Redis 를 쓰는 두 인스턴스 사이의 생성 병합 확인 (내장 Redis)
+ */
+public class GenerationCoalescerRedisTest {
+
+    private static final Duration LOCK_TTL = Duration.ofMillis(300);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<GenerationCoalescer> coalescers = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        coalescers.forEach(GenerationCoalescer::shutdown);
+        executor.shutdownNow();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("락 만료 시간보다 오래 걸리는 생성도 락을 연장해 다른 인스턴스는 직접 생성하지 않고 그 결과를 받음")
+    void otherInstanceWaitsForLongGenerationAndReusesResult() throws Exception {
+        SimpleMeterRegistry otherMeters = new SimpleMeterRegistry();
+        GenerationCoalescer owner = instance(new SimpleMeterRegistry());
+        GenerationCoalescer other = instance(otherMeters);
+
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> owner.coalesce("anthropic",
+                "제주도 여행 가이드", () -> {
+                    generations.incrementAndGet();
+                    started.countDown();
+                    sleep(LOCK_TTL.toMillis() * 4);
+                    return "가이드 A";
+                }), executor);
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> other.coalesce("anthropic",
+                "제주도 여행 가이드", () -> {
+                    generations.incrementAndGet();
+                    return "가이드 B";
+                }), executor);
+
+        assertEquals("가이드 A", first.get(5, TimeUnit.SECONDS));
+        assertEquals("가이드 A", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, generations.get());
+        assertEquals(1.0, otherMeters.counter("llm.coalesced", "scope", "anthropic", "source", "remote").count());
+    }
+
+    /**
+     * 완료 알림 채널을 구독한 애플리케이션 인스턴스의 GenerationCoalescer
+     */
+    private GenerationCoalescer instance(SimpleMeterRegistry meterRegistry) {
+        GenerationCoalescer coalescer = new GenerationCoalescer(redisTemplate, downstreamLimiter, meterRegistry,
+                LOCK_TTL, Duration.ofSeconds(5));
+        coalescers.add(coalescer);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(coalescer, new ChannelTopic(GenerationCoalescer.DONE_CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return coalescer;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
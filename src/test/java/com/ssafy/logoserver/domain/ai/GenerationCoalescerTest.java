@@ -0,0 +1,94 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.GenerationCoalescer;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerationCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    // Redis 없이(장애와 같은 상황) 인스턴스 내부 병합만 동작
+    private final GenerationCoalescer coalescer = new GenerationCoalescer(null, downstreamLimiter, meterRegistry,
+            Duration.ofSeconds(1), Duration.ofSeconds(1));
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger generations = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 진행 중인 생성 하나의 결과를 함께 받음")
+    void coalescesConcurrentIdenticalRequests() throws Exception {
+        List<CompletableFuture<String>> answers = IntStream.range(0, 5)
+                .mapToObj(i -> submit("anthropic", "제주도 여행 가이드"))
+                .toList();
+        waitForFollowers(4);
+        release.countDown();
+
+        for (CompletableFuture<String> answer : answers) {
+            assertEquals("가이드 1", answer.get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    @DisplayName("범위나 프롬프트가 다르면 따로 생성")
+    void generatesDistinctRequestsSeparately() throws Exception {
+        release.countDown();
+
+        CompletableFuture<String> first = submit("anthropic", "제주도 여행 가이드");
+        CompletableFuture<String> otherPrompt = submit("anthropic", "부산 여행 가이드");
+        CompletableFuture<String> otherScope = submit("openai", "제주도 여행 가이드");
+
+        CompletableFuture.allOf(first, otherPrompt, otherScope).get(2, TimeUnit.SECONDS);
+        assertEquals(3, generations.get());
+    }
+
+    private CompletableFuture<String> submit(String scope, String prompt) {
+        Supplier<String> generation = () -> {
+            int count = generations.incrementAndGet();
+            try {
+                assertTrue(release.await(2, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return "가이드 " + count;
+        };
+        return CompletableFuture.supplyAsync(() -> coalescer.coalesce(scope, prompt, generation), executor);
+    }
+
+    private void waitForFollowers(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.counter("llm.coalesced", "scope", "anthropic", "source", "local").count() < followers
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
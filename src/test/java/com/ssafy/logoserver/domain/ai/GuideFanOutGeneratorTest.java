@@ -0,0 +1,168 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.samskivert.mustache.Mustache;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionControl;
+import com.ssafy.logoserver.domain.ai.service.AiAdmissionException;
+import com.ssafy.logoserver.domain.ai.service.GenerationCoalescer;
+import com.ssafy.logoserver.domain.ai.service.GuideFanOutGenerator;
+import com.ssafy.logoserver.domain.ai.service.LlmRouter;
+import com.ssafy.logoserver.domain.ai.service.LlmUsageMetrics;
+import com.ssafy.logoserver.domain.ai.service.OutputBudgetEstimator;
+import com.ssafy.logoserver.domain.ai.service.TravelGuideRenderer;
+import com.ssafy.logoserver.domain.ai.service.TravelPromptEncoder;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.TokenBucketLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GuideFanOutGeneratorTest {
+
+    private static final Pattern DAY = Pattern.compile("\"schedule\":\\[\\{\"day\":(\\d+)");
+    private static final int MAX_CONCURRENCY = 2;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    /**
+     * 일자 섹션은 "### Day N 분석"을, 마무리 섹션은 개요를 반환하고 3일차는 실패하는 가짜 LLM
+     */
+    private final ChatModel chatModel = new ChatModel() {
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                String contents = prompt.getContents();
+                Matcher day = DAY.matcher(contents);
+                String answer;
+                if (contents.contains("마무리 섹션만")) {
+                    answer = "## 📋 전체 일정 개요\n알찬 일정입니다.";
+                } else if (day.find() && !day.group(1).equals("3")) {
+                    answer = "### Day " + day.group(1) + " 분석";
+                } else {
+                    throw new IllegalStateException("LLM 오류");
+                }
+                return new ChatResponse(List.of(new Generation(new AssistantMessage(answer))));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    };
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final LlmUsageMetrics llmUsageMetrics = new LlmUsageMetrics(new SimpleMeterRegistry());
+    private final LlmRouter llmRouter = new LlmRouter(downstreamLimiter, llmUsageMetrics, new SimpleMeterRegistry(),
+            "anthropic", Duration.ofSeconds(30), Duration.ofSeconds(3), 20, Duration.ofMinutes(5));
+    /**
+     * 비로그인 IP 버킷 2000토큰 (8일 여행의 섹션 예상 출력 토큰 합계 약 4100 보다 작음)
+     */
+    private final AiAdmissionControl admissionControl = new AiAdmissionControl(
+            new TokenBucketLimiter(null, downstreamLimiter), new SimpleMeterRegistry(),
+            100000, 100000, 2000, 3600, 4000, 6, 6, 6, 1, Duration.ofSeconds(1), Duration.ofSeconds(10));
+    private final GuideFanOutGenerator generator = new GuideFanOutGenerator(
+            llmRouter.route("guide-section", Map.of(LlmRouter.Provider.ANTHROPIC, ChatClient.builder(chatModel).build())),
+            new TravelPromptEncoder(llmUsageMetrics),
+            new TravelGuideRenderer(null, null, null, null, null, null,
+                    Mustache.compiler().withLoader(name -> new InputStreamReader(Objects.requireNonNull(
+                            getClass().getResourceAsStream("/templates/" + name + ".mustache")), StandardCharsets.UTF_8))),
+            // Redis 없이 인스턴스 내부 병합만 사용
+            new GenerationCoalescer(null, downstreamLimiter, new SimpleMeterRegistry(), Duration.ofSeconds(1),
+                    Duration.ofSeconds(1)),
+            new OutputBudgetEstimator(new SimpleMeterRegistry(), 1.3, 1024, 16000, 50, 0.7),
+            admissionControl,
+            new ClassPathResource("prompts/travel-guide-day.st"), new ClassPathResource("prompts/travel-guide-summary.st"),
+            7, MAX_CONCURRENCY, MAX_CONCURRENCY);
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+        llmRouter.shutdown();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("일자 섹션을 동시 호출 상한 안에서 생성하고 일차 순서대로 합치며, 실패한 날은 일정 목록으로 대체")
+    void generatesDaySectionsInOrder() {
+        TravelPrompt prompt = trip(8);
+
+        String guide = generator.generate(prompt);
+
+        assertTrue(guide.startsWith("# 🌟 긴 여행\n"));
+        assertTrue(guide.contains("* 📅 여행기간: 2025년 05월 01일 ~ 2025년 05월 08일 (8일)\n"));
+        int previous = -1;
+        for (int day = 1; day <= 8; day++) {
+            String marker = day == 3 ? "### Day 3 - 2025년 05월 03일\n#### 🕐 10:00 | 📍 [장소3]" : "### Day " + day + " 분석";
+            int index = guide.indexOf(marker);
+            assertTrue(index > previous, "Day " + day + " 위치");
+            previous = index;
+        }
+        assertTrue(guide.endsWith("-----\n\n## 📋 전체 일정 개요\n알찬 일정입니다.\n"));
+        assertTrue(maxRunning.get() <= MAX_CONCURRENCY);
+        assertEquals(0, running.get());
+    }
+
+    @Test
+    @DisplayName("모든 섹션의 예상 토큰을 요청자 한도에서 먼저 예약하고, 한도를 넘으면 LLM 을 호출하지 않고 거절")
+    void admitsWholeGuideBeforeCallingLlm() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertThrows(AiAdmissionException.class, () -> generator.generate(trip(8)));
+            assertEquals(0, maxRunning.get());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("설정한 일수 이상인 여행만 분할 생성 대상")
+    void supportsLongTripsOnly() {
+        assertTrue(generator.supports(trip(7)));
+        assertFalse(generator.supports(trip(6)));
+    }
+
+    private static TravelPrompt trip(int days) {
+        List<TravelPrompt.Day> schedule = IntStream.rangeClosed(1, days)
+                .mapToObj(day -> new TravelPrompt.Day(day, String.format("2025-05-%02d", day),
+                        List.of(new TravelPrompt.Stop("10:00", "장소" + day, null, null, null))))
+                .toList();
+        return new TravelPrompt("긴 여행", "제주도", String.format("2025-05-01~2025-05-%02d", days), (long) days,
+                2, null, null, schedule, List.of());
+    }
+}
@@ -0,0 +1,203 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.LlmRouter;
+import com.ssafy.logoserver.domain.ai.service.LlmRouter.Provider;
+import com.ssafy.logoserver.domain.ai.service.LlmUsageMetrics;
+import com.ssafy.logoserver.domain.ai.service.RoutingChatClient;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LlmRouterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(10)).build()), meterRegistry);
+    private final LlmRouter router = new LlmRouter(downstreamLimiter, new LlmUsageMetrics(meterRegistry), meterRegistry,
+            "anthropic", Duration.ofMillis(100), Duration.ofMillis(50), 20, Duration.ofMinutes(5));
+
+    private final AtomicInteger openAiCalls = new AtomicInteger();
+    private final ChatModel openAi = chatModel(() -> {
+        openAiCalls.incrementAndGet();
+        return "openai";
+    });
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("1차 제공자가 지연되면 2차 제공자에 헤지 요청을 보내고 먼저 온 응답을 쓰며 늦은 요청은 취소")
+    void hedgesSlowPrimary() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        ChatModel anthropic = chatModel(() -> {
+            try {
+                Thread.sleep(5_000);
+                return "anthropic";
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        String answer = route(anthropic).call(LlmRouterTest::ask, cause -> null);
+
+        assertEquals("openai", answer);
+        assertTrue(cancelled.await(2, TimeUnit.SECONDS), "지연된 1차 요청 취소");
+        assertEquals(1, meterRegistry.counter("llm.router.reroutes", "route", "test", "type", "hedge").count());
+    }
+
+    @Test
+    @DisplayName("헤지에서 진 1차 요청은 응답을 기다리던 HTTP 커넥션까지 끊김")
+    void abortsInFlightHttpCallOfHedgeLoser() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            CountDownLatch aborted = new CountDownLatch(1);
+            Thread.ofVirtual().start(() -> {
+                // 요청을 받고 응답하지 않다가, 클라이언트가 커넥션을 닫으면 기록
+                try (Socket socket = server.accept()) {
+                    BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    String line;
+                    do {
+                        line = reader.readLine();
+                    } while (line != null && !line.isEmpty());
+                    if (reader.read() == -1) {
+                        aborted.countDown();
+                    }
+                } catch (IOException e) {
+                    aborted.countDown();
+                }
+            });
+            RestClient restClient = RestClient.builder()
+                    .requestFactory(new HttpComponentsClientHttpRequestFactory())
+                    .build();
+            ChatModel anthropic = chatModel(() -> restClient.get()
+                    .uri("http://localhost:" + server.getLocalPort() + "/v1/messages")
+                    .retrieve()
+                    .body(String.class));
+
+            String answer = route(anthropic).call(LlmRouterTest::ask, cause -> null);
+
+            assertEquals("openai", answer);
+            assertTrue(aborted.await(2, TimeUnit.SECONDS), "지연된 1차 요청의 커넥션 종료");
+        }
+    }
+
+    @Test
+    @DisplayName("최근 창의 표본으로만 헤지 시점을 정하고, 창이 비면 기본 헤지 지연으로 돌아감")
+    void hedgeDelayUsesRecentWindowOnly() throws InterruptedException {
+        LlmRouter windowed = new LlmRouter(downstreamLimiter, new LlmUsageMetrics(meterRegistry), meterRegistry,
+                "anthropic", Duration.ofSeconds(2), Duration.ofMillis(50), 3, Duration.ofMillis(500));
+        AtomicLong delayMillis = new AtomicLong();
+        ChatModel anthropic = chatModel(() -> {
+            try {
+                Thread.sleep(delayMillis.get());
+                return "anthropic";
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        RoutingChatClient route = windowed.route("windowed", Map.of(
+                Provider.ANTHROPIC, ChatClient.builder(anthropic).build(),
+                Provider.OPENAI, ChatClient.builder(openAi).build()));
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                route.call(LlmRouterTest::ask, cause -> null);
+            }
+            // 창 안의 p95 가 거의 0 이므로 최소 헤지 지연(50ms) 뒤 헤지
+            delayMillis.set(300);
+            assertEquals("openai", route.call(LlmRouterTest::ask, cause -> null));
+
+            // 창이 지나 표본이 없으면 기본 헤지 지연(2s)을 기다리므로 헤지하지 않음
+            Thread.sleep(700);
+            openAiCalls.set(0);
+            assertEquals("anthropic", route.call(LlmRouterTest::ask, cause -> null));
+            assertEquals(0, openAiCalls.get());
+        } finally {
+            windowed.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("5xx 오류는 2차 제공자로 페일오버")
+    void failsOverOnServerError() {
+        ChatModel anthropic = chatModel(() -> {
+            throw new TransientAiException("HTTP 529 - overloaded");
+        });
+
+        String answer = route(anthropic).call(LlmRouterTest::ask, cause -> null);
+
+        assertEquals("openai", answer);
+        assertEquals(1, meterRegistry.counter("llm.router.reroutes", "route", "test", "type", "failover").count());
+    }
+
+    @Test
+    @DisplayName("429 외의 4xx 오류는 페일오버하지 않고 대체 응답 사용")
+    void doesNotFailOverOnClientError() {
+        ChatModel anthropic = chatModel(() -> {
+            throw new NonTransientAiException("HTTP 400 - invalid request");
+        });
+
+        String answer = route(anthropic).call(LlmRouterTest::ask, cause -> "fallback");
+
+        assertEquals("fallback", answer);
+        assertEquals(0, openAiCalls.get());
+    }
+
+    private RoutingChatClient route(ChatModel anthropic) {
+        return router.route("test", Map.of(
+                Provider.ANTHROPIC, ChatClient.builder(anthropic).build(),
+                Provider.OPENAI, ChatClient.builder(openAi).build()));
+    }
+
+    private static ChatResponse ask(ChatClient client) {
+        return client.prompt().user("질문").call().chatResponse();
+    }
+
+    private static ChatModel chatModel(Supplier<String> answer) {
+        return new ChatModel() {
+            @Override
+            public ChatResponse call(Prompt prompt) {
+                return new ChatResponse(List.of(new Generation(new AssistantMessage(answer.get()))));
+            }
+        };
+    }
+}
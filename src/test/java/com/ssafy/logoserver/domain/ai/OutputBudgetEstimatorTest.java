@@ -0,0 +1,61 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.OutputBudgetEstimator;
+import com.ssafy.logoserver.domain.ai.service.OutputBudgetEstimator.Estimate;
+import com.ssafy.logoserver.domain.ai.service.OutputBudgetEstimator.Section;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatGenerationMetadata;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutputBudgetEstimatorTest {
+
+    private final OutputBudgetEstimator estimator = new OutputBudgetEstimator(new SimpleMeterRegistry(),
+            1.3, 1024, 16000, 50, 0.7);
+
+    @Test
+    @DisplayName("일수와 방문지 수로 출력 토큰 예산과 예상 시간을 정하고 상한·하한을 적용")
+    void estimatesFromItinerarySize() {
+        Estimate guide = estimator.estimate(Section.GUIDE, 3, 6);
+
+        assertEquals(3180, guide.expectedTokens());
+        assertEquals(4134, guide.maxTokens());
+        assertEquals(Duration.ofMillis(63_600), guide.expectedDuration());
+
+        assertEquals(16000, estimator.estimate(Section.GUIDE, 14, 80).maxTokens());
+        assertEquals(1024, estimator.estimate(Section.GUIDE_DAY, 1, 1).maxTokens());
+    }
+
+    @Test
+    @DisplayName("관측한 출력 토큰 수로 보정 비율을 갱신하고, 잘린 응답은 한 단계 더 올림")
+    void learnsFromObservedCompletions() {
+        Estimate first = estimator.estimate(Section.GUIDE, 3, 6);
+        estimator.measure(first, () -> response(6360, "end_turn"));
+
+        assertEquals(3816, estimator.estimate(Section.GUIDE, 3, 6).expectedTokens());
+
+        Estimate advice = estimator.estimate(Section.GUIDE_ADVICE, 3, 6);
+        estimator.measure(advice, () -> response(advice.baselineTokens(), "max_tokens"));
+
+        assertTrue(estimator.estimate(Section.GUIDE_ADVICE, 3, 6).expectedTokens() > advice.expectedTokens());
+    }
+
+    private static ChatResponse response(int completionTokens, String finishReason) {
+        return ChatResponse.builder()
+                .generations(List.of(new Generation(new AssistantMessage("가이드"),
+                        ChatGenerationMetadata.builder().finishReason(finishReason).build())))
+                .metadata(ChatResponseMetadata.builder().usage(new DefaultUsage(100, completionTokens)).build())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.dto.ChatMemoryUsage;
+import com.ssafy.logoserver.domain.ai.service.LlmUsageMetrics;
+import com.ssafy.logoserver.domain.ai.service.TokenBudgetChatMemory;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBudgetChatMemoryTest {
+
+    private static final String CHAT_ID = "chat-1";
+
+    private final AtomicInteger summaries = new AtomicInteger();
+
+    /**
+     * 호출 횟수를 요약 내용으로 돌려주는 가짜 LLM
+     */
+    private final ChatModel chatModel = new ChatModel() {
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            String summary = "* 요약 " + summaries.incrementAndGet();
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(summary))));
+        }
+    };
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final TokenBudgetChatMemory memory = new TokenBudgetChatMemory(ChatClient.builder(chatModel).build(),
+            downstreamLimiter, new LlmUsageMetrics(new SimpleMeterRegistry()), 2, 1000, Duration.ofHours(2), 100);
+
+    @AfterEach
+    void tearDown() {
+        memory.shutdown();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("최근 K턴만 그대로 두고 이전 대화는 비동기로 요약해 시스템 메시지로 붙임")
+    void keepsRecentTurnsAndSummarizesOlderOnes() throws InterruptedException {
+        for (int turn = 1; turn <= 3; turn++) {
+            memory.add(CHAT_ID, List.of(new UserMessage("질문 " + turn), new AssistantMessage("답변 " + turn)));
+        }
+        awaitSummarized(2);
+
+        List<Message> window = memory.get(CHAT_ID, 100);
+
+        assertEquals(5, window.size());
+        assertEquals(MessageType.SYSTEM, window.get(0).getMessageType());
+        assertTrue(window.get(0).getText().endsWith("* 요약 1"));
+        assertEquals("질문 2", window.get(1).getText());
+        assertEquals("답변 3", window.get(4).getText());
+
+        ChatMemoryUsage usage = memory.usage(CHAT_ID);
+        assertEquals(4, usage.getRecentMessages());
+        assertEquals(0, usage.getPendingMessages());
+        assertEquals(usage.getSummaryTokens() + usage.getRecentTokens(), usage.getPromptTokens());
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘는 이전 턴은 턴 수와 관계없이 요청에서 빠짐")
+    void boundsWindowByTokenBudget() throws InterruptedException {
+        String longAnswer = "가".repeat(1000);
+        memory.add(CHAT_ID, List.of(new UserMessage("질문 1"), new AssistantMessage(longAnswer)));
+        memory.add(CHAT_ID, List.of(new UserMessage("질문 2"), new AssistantMessage("짧은 답변")));
+        awaitSummarized(2);
+
+        List<Message> window = memory.get(CHAT_ID, 100);
+
+        assertTrue(window.stream().noneMatch(message -> longAnswer.equals(message.getText())));
+        assertTrue(memory.usage(CHAT_ID).getPromptTokens() <= 1000);
+        assertTrue(memory.usage(CHAT_ID).getTotalTokens() > 900);
+    }
+
+    @Test
+    @DisplayName("일정 시간 쓰이지 않은 대화 기록은 메모리에서 제거되고, 쓰이는 대화는 유지")
+    void evictsIdleConversations() throws InterruptedException {
+        TokenBudgetChatMemory idleMemory = new TokenBudgetChatMemory(ChatClient.builder(chatModel).build(),
+                downstreamLimiter, new LlmUsageMetrics(new SimpleMeterRegistry()), 2, 1000, Duration.ofMillis(300), 100);
+        try {
+            idleMemory.add("idle", List.of(new UserMessage("질문"), new AssistantMessage("답변")));
+            idleMemory.add("active", List.of(new UserMessage("질문"), new AssistantMessage("답변")));
+            for (int i = 0; i < 4; i++) {
+                Thread.sleep(100);
+                assertEquals(2, idleMemory.get("active", 100).size());
+            }
+
+            assertTrue(idleMemory.get("idle", 100).isEmpty());
+            assertEquals(0, idleMemory.usage("idle").getTotalTokens());
+            assertEquals(2, idleMemory.get("active", 100).size());
+        } finally {
+            idleMemory.shutdown();
+        }
+    }
+
+    private void awaitSummarized(int messages) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (memory.usage(CHAT_ID).getSummarizedMessages() < messages && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(messages, memory.usage(CHAT_ID).getSummarizedMessages());
+    }
+}
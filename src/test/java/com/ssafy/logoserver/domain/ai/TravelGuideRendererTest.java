@@ -0,0 +1,92 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.samskivert.mustache.Mustache;
+import com.ssafy.logoserver.domain.ai.dto.GuideAdvice;
+import com.ssafy.logoserver.domain.ai.dto.TravelPrompt;
+import com.ssafy.logoserver.domain.ai.service.TravelGuideRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TravelGuideRendererTest {
+
+    private final TravelGuideRenderer renderer = new TravelGuideRenderer(null, null, null, null, null, null,
+            Mustache.compiler().withLoader(name -> new InputStreamReader(Objects.requireNonNull(
+                    getClass().getResourceAsStream("/templates/" + name + ".mustache")), StandardCharsets.UTF_8)));
+
+    private final TravelPrompt prompt = new TravelPrompt("제주도 여행", "제주도", "2025-05-28~2025-05-30", 3L, 2, 1000000, null,
+            List.of(new TravelPrompt.Day(1, "2025-05-28", List.of(
+                            new TravelPrompt.Stop("09:00", "제주국제공항", "제주시 용담이동 2002", "33.507,126.493", "공항 도착"),
+                            new TravelPrompt.Stop(null, "연돈", "서귀포시 색달동 2132-2", null, null))),
+                    new TravelPrompt.Day(2, "2025-05-29", List.of()),
+                    new TravelPrompt.Day(3, "2025-05-30", List.of(
+                            new TravelPrompt.Stop("06:00", "성산일출봉", null, null, null)))),
+            List.of());
+
+    @Test
+    @DisplayName("기본 정보, 일자별 일정, 통계를 템플릿으로 렌더링")
+    void rendersDeterministicSections() {
+        String guide = renderer.render(prompt, null);
+
+        assertTrue(guide.startsWith("# 🌟 제주도 여행\n"));
+        assertTrue(guide.contains("* 📅 여행기간: 2025년 05월 28일 ~ 2025년 05월 30일 (3일)\n"));
+        assertTrue(guide.contains("* 👥 여행인원: 2명\n* 💰 예산: 1,000,000원\n\n-----"));
+        assertTrue(guide.contains("### Day 1 - 2025년 05월 28일\n"
+                + "#### 🕐 09:00 | 📍 [제주국제공항](https://map.naver.com/v5/search/제주시%20용담이동%202002)\n"
+                + "* 주소: 제주시 용담이동 2002\n"
+                + "* 메모: 공항 도착\n"
+                + "* 좌표: 33.507000, 126.493000\n"
+                + "#### 🕐 미정 | 📍 [연돈](https://map.naver.com/v5/search/서귀포시%20색달동%202132-2)\n"
+                + "* 주소: 서귀포시 색달동 2132-2\n"));
+        assertTrue(guide.contains("### Day 2 - 2025년 05월 29일\n이 날은 등록된 여행지가 없습니다.\n"));
+        assertTrue(guide.contains("📍 [성산일출봉](https://map.naver.com/v5/search/성산일출봉)\n"));
+        assertTrue(guide.contains("* 총 3개의 여행지를 방문 예정입니다.\n* 하루 평균 1.0개의 장소를 방문합니다.\n"));
+        assertFalse(guide.contains("📝 메모"));
+        assertFalse(guide.contains("💡 여행 팁"));
+    }
+
+    @Test
+    @DisplayName("LLM 조언을 여행 팁, 빈 일정 추천, 총평 섹션으로 합침")
+    void stitchesAdvice() {
+        GuideAdvice advice = new GuideAdvice("렌터카 권장", "흑돼지 추천", null, "1일 15만 원", null,
+                List.of(new GuideAdvice.Recommendation("비자림", "제주시 구좌읍 비자숲길 55", "숲길 산책", "2시간", null)),
+                "알찬 일정입니다.", List.of("오전에 이동 구간 배치"), List.of());
+
+        String guide = renderer.render(prompt, advice);
+
+        assertTrue(guide.contains("## 💡 여행 팁 & 추천사항\n* 🚗 교통편 추천: 렌터카 권장\n* 🍽️ 맛집 정보: 흑돼지 추천\n"
+                + "* 💰 예산 분석: 1일 15만 원\n"));
+        assertTrue(guide.contains("#### 📍 [비자림](https://map.naver.com/v5/search/제주시%20구좌읍%20비자숲길%2055)\n"
+                + "* 추천 이유: 숲길 산책\n* 소요 시간: 2시간\n"));
+        assertTrue(guide.contains("### 📝 여행 총평\n알찬 일정입니다.\n"));
+        assertTrue(guide.contains("### 🔄 개선 사항\n* 오전에 이동 구간 배치\n"));
+        assertFalse(guide.contains("🌤️"));
+        assertFalse(guide.contains("🎉 여행 성공을 위한 팁"));
+        assertEquals(1, guide.split("## 🎯 총평 및 마무리", -1).length - 1);
+    }
+
+    @Test
+    @DisplayName("분할 생성 가이드도 같은 기본 정보 템플릿을 쓰고, 생성된 일자·마무리 섹션을 순서대로 합침")
+    void rendersFanOutGuideWithSharedHeader() {
+        TravelPrompt withUnassigned = new TravelPrompt(prompt.title(), prompt.location(), prompt.period(),
+                prompt.days(), prompt.peoples(), prompt.budget(), "우천 시 실내 일정", prompt.schedule(),
+                List.of(new TravelPrompt.Stop(null, "비자림", null, null, null)));
+
+        String guide = renderer.renderFanOut(withUnassigned,
+                List.of("### Day 1 분석\n", renderer.renderDay(prompt.schedule().get(1))), "## 📋 전체 일정 개요\n총평\n");
+
+        assertTrue(guide.startsWith("# 🌟 제주도 여행\n"));
+        assertTrue(guide.contains("* 💰 예산: 1,000,000원\n* 📝 메모: 우천 시 실내 일정\n\n-----\n\n## 🗓️ 일자별 상세 분석\n"));
+        assertTrue(guide.contains("\n### Day 1 분석\n\n### Day 2 - 2025년 05월 29일\n이 날은 등록된 여행지가 없습니다.\n"));
+        assertTrue(guide.contains("### 📌 날짜 미정\n#### 🕐 미정 | 📍 [비자림](https://map.naver.com/v5/search/비자림)\n"));
+        assertTrue(guide.endsWith("-----\n\n## 📋 전체 일정 개요\n총평\n"));
+    }
+}
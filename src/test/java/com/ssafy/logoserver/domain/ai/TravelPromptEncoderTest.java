@@ -0,0 +1,104 @@
+package com.ssafy.logoserver.domain.ai;
+
+import com.ssafy.logoserver.domain.ai.service.LlmUsageMetrics;
+import com.ssafy.logoserver.domain.ai.service.TravelPromptEncoder;
+import com.ssafy.logoserver.domain.area.dto.PlaceDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelAreaDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelDetailDto;
+import com.ssafy.logoserver.domain.travel.dto.TravelRootDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TravelPromptEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TravelPromptEncoder encoder = new TravelPromptEncoder(new LlmUsageMetrics(meterRegistry));
+
+    @Test
+    @DisplayName("방문지를 일차별로 묶어 시간순으로 정렬하고 ID와 빈 값은 제외")
+    void encodesGroupedSchedule() {
+        String encoded = encoder.encode(travel());
+
+        assertEquals("{\"title\":\"제주도 여행\",\"location\":\"제주도\",\"period\":\"2025-05-28~2025-05-30\","
+                + "\"days\":3,\"peoples\":2,\"budget\":1000000,\"schedule\":["
+                + "{\"day\":1,\"date\":\"2025-05-28\",\"stops\":["
+                + "{\"time\":\"09:00\",\"name\":\"제주국제공항\",\"address\":\"제주시 용담이동 2002\",\"coord\":\"33.507,126.493\"},"
+                + "{\"time\":\"12:00\",\"name\":\"연돈\",\"memo\":\"점심\"}]},"
+                + "{\"day\":2,\"date\":\"2025-05-29\",\"stops\":[{\"name\":\"성산일출봉\"}]},"
+                + "{\"day\":3,\"date\":\"2025-05-30\"}]}", encoded);
+        assertEquals(1, meterRegistry.get("llm.prompt.tokens.estimated").tag("source", "travel_detail")
+                .summary().count());
+    }
+
+    @Test
+    @DisplayName("클라이언트 JSON은 응답 래퍼와 배열 날짜를 해석해 같은 형태로 변환하고, 해석할 수 없으면 원문 유지")
+    void encodesClientJson() {
+        String clientJson = """
+                {"success":true,"data":{"tuid":1,"title":"부산","startDate":[2025,6,1],"endDate":[2025,6,1],
+                 "travelImages":[{"tiuid":3}],"travelPayments":[{"tpuid":4}],
+                 "travelRoots":[{"truid":9,"day":1,"travelDate":[2025,6,1]}],
+                 "travelAreas":[{"tauid":5,"travelDayId":9,"startTime":[2025,6,1,10,30],
+                                 "place":{"puid":2,"name":"해운대"},"verifications":[{"vuid":1}]}]}}
+                """;
+
+        assertEquals("{\"title\":\"부산\",\"period\":\"2025-06-01~2025-06-01\",\"days\":1,\"schedule\":["
+                        + "{\"day\":1,\"date\":\"2025-06-01\",\"stops\":[{\"time\":\"10:30\",\"name\":\"해운대\"}]}]}",
+                encoder.encodeJson(clientJson));
+        assertEquals("제주도 여행 일정", encoder.encodeJson("제주도 여행 일정"));
+    }
+
+    @Test
+    @DisplayName("입력 토큰 추정 - ASCII는 4자당 1토큰, 한글은 1자당 1토큰")
+    void estimatesTokens() {
+        assertEquals(0, TravelPromptEncoder.estimateTokens(""));
+        assertEquals(3, TravelPromptEncoder.estimateTokens("{\"day\":1}"));
+        assertEquals(6, TravelPromptEncoder.estimateTokens("제주도 여행"));
+        assertTrue(TravelPromptEncoder.estimateTokens(encoder.encode(travel())) > 0);
+    }
+
+    private static TravelDetailDto travel() {
+        List<TravelRootDto> roots = List.of(
+                root(8L, 2, LocalDate.of(2025, 5, 29)),
+                root(7L, 1, LocalDate.of(2025, 5, 28)),
+                root(9L, 3, LocalDate.of(2025, 5, 30)));
+        List<TravelAreaDto> areas = List.of(
+                area(7L, PlaceDto.builder().name("연돈").build(), LocalDateTime.of(2025, 5, 28, 12, 0), "점심"),
+                area(8L, PlaceDto.builder().name("성산일출봉").build(), LocalDateTime.of(2025, 5, 29, 0, 0), ""),
+                area(7L, PlaceDto.builder().name("제주국제공항").address("제주시 용담이동 2002")
+                        .latitude(33.507).longitude(126.4930001).build(), LocalDateTime.of(2025, 5, 28, 9, 0), null));
+        return TravelDetailDto.builder()
+                .tuid(1L)
+                .userId(1L)
+                .title("제주도 여행")
+                .location("제주도")
+                .startDate(LocalDate.of(2025, 5, 28))
+                .endDate(LocalDate.of(2025, 5, 30))
+                .peoples(2)
+                .totalBudget(1000000)
+                .travelRoots(roots)
+                .travelAreas(areas)
+                .build();
+    }
+
+    private static TravelRootDto root(Long truid, int day, LocalDate date) {
+        return TravelRootDto.builder().truid(truid).travelId(1L).day(day).travelDate(date).build();
+    }
+
+    private static TravelAreaDto area(Long travelDayId, PlaceDto place, LocalDateTime startTime, String memo) {
+        return TravelAreaDto.builder()
+                .tauid(travelDayId * 10)
+                .travelDayId(travelDayId)
+                .place(place)
+                .startTime(startTime)
+                .memo(memo)
+                .build();
+    }
+}
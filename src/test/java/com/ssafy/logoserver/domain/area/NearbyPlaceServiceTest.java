@@ -0,0 +1,162 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.ssafy.logoserver.domain.area.dto.NearbyPlaceDto;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository.PlaceCoordinate;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository.PlaceDistance;
+import com.ssafy.logoserver.domain.area.service.NearbyPlaceService;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceRating;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearbyPlaceServiceTest {
+
+    private final AtomicInteger spatialQueries = new AtomicInteger();
+    private final AtomicInteger boundingBoxQueries = new AtomicInteger();
+
+    @Test
+    @DisplayName("공간 인덱스 적재 전 location 컬럼이 없으면 위도·경도 경계 상자 조회로 응답하고 이후에는 바로 그 경로 사용")
+    void fallsBackToBoundingBoxWhenLocationColumnIsMissing() {
+        NearbyPlaceService service = new NearbyPlaceService(placeRepository(), null);
+
+        List<NearbyPlaceDto> places = service.findNearbyPlaces(33.45, 126.57, 5, 10);
+        service.findNearbyPlaces(33.45, 126.57, 5, 10);
+
+        assertEquals(1, places.size());
+        assertEquals(7L, places.get(0).getPuid());
+        assertEquals(1.23, places.get(0).getDistanceKm());
+        assertEquals(1, spatialQueries.get());
+        assertEquals(2, boundingBoxQueries.get());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 추가된 장소와 평점은 색인 갱신 메시지를 놓쳐도 주기 보정에서 반영")
+    void reconcilePicksUpPlacesAndRatingsCommittedElsewhere() {
+        AtomicBoolean addedElsewhere = new AtomicBoolean();
+        PlaceRepository placeRepository = (PlaceRepository) Proxy.newProxyInstance(
+                PlaceRepository.class.getClassLoader(), new Class<?>[]{PlaceRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllCoordinates" -> List.of(coordinate(7L, 33.46, 126.58));
+                    case "findCoordinatesAfter" -> {
+                        // 마지막으로 읽은 ID 앞쪽도 다시 읽음
+                        assertEquals(0L, args[0]);
+                        yield List.of(coordinate(7L, 33.46, 126.58), coordinate(8L, 33.44, 126.56));
+                    }
+                    case "findById" -> Optional.of(Place.builder()
+                            .puid((Long) args[0])
+                            .name("장소 " + args[0])
+                            .address("주소 " + args[0])
+                            .build());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        VerificationRepository verificationRepository = (VerificationRepository) Proxy.newProxyInstance(
+                VerificationRepository.class.getClassLoader(), new Class<?>[]{VerificationRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAverageStarGroupByPlace" -> addedElsewhere.get() ? List.of(rating(8L, 4.0)) : List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        NearbyPlaceService service = new NearbyPlaceService(placeRepository, verificationRepository);
+        service.loadIndex();
+        assertEquals(1, service.findNearbyPlaces(33.45, 126.57, 5, 10).size());
+
+        addedElsewhere.set(true);
+        service.reconcileIndex();
+
+        List<NearbyPlaceDto> places = service.findNearbyPlaces(33.45, 126.57, 5, 10);
+        assertEquals(2, places.size());
+        assertEquals(8L, places.get(0).getPuid());
+        assertEquals(4.0, places.get(0).getAverageRating());
+    }
+
+    /**
+     * location 컬럼이 없는 DB 처럼 SPATIAL 조회는 실패하고, 경계 상자 조회는 장소 7 을 반환하는 저장소
+     */
+    private PlaceRepository placeRepository() {
+        return (PlaceRepository) Proxy.newProxyInstance(PlaceRepository.class.getClassLoader(),
+                new Class<?>[]{PlaceRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findWithinRadius" -> {
+                        spatialQueries.incrementAndGet();
+                        throw new InvalidDataAccessResourceUsageException("Unknown column 'p.location' in 'where clause'");
+                    }
+                    case "findWithinBoundingBox" -> {
+                        boundingBoxQueries.incrementAndGet();
+                        // 중심 좌표를 감싸는 경계 상자
+                        assertTrue((double) args[2] < 33.45 && (double) args[3] > 33.45);
+                        assertTrue((double) args[4] < 126.57 && (double) args[5] > 126.57);
+                        yield List.of(distance(7L, 1.234));
+                    }
+                    case "findById" -> Optional.of(Place.builder()
+                            .puid((Long) args[0])
+                            .name("성산일출봉")
+                            .address("제주특별자치도 서귀포시 성산읍 일출로 284-12")
+                            .latitude(33.46)
+                            .longitude(126.58)
+                            .build());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PlaceCoordinate coordinate(Long puid, double latitude, double longitude) {
+        return new PlaceCoordinate() {
+            @Override
+            public Long getPuid() {
+                return puid;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+    private static PlaceRating rating(Long puid, double rating) {
+        return new PlaceRating() {
+            @Override
+            public Long getPuid() {
+                return puid;
+            }
+
+            @Override
+            public Double getRating() {
+                return rating;
+            }
+        };
+    }
+
+    private static PlaceDistance distance(Long puid, double distanceKm) {
+        return new PlaceDistance() {
+            @Override
+            public Long getPuid() {
+                return puid;
+            }
+
+            @Override
+            public Double getDistanceKm() {
+                return distanceKm;
+            }
+
+            @Override
+            public Double getRating() {
+                return null;
+            }
+        };
+    }
+}
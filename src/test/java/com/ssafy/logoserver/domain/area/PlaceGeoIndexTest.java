@@ -0,0 +1,70 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.ssafy.logoserver.domain.area.service.PlaceGeoIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlaceGeoIndexTest {
+
+    // 성산일출봉 기준
+    private static final double CENTER_LAT = 33.459198;
+    private static final double CENTER_LON = 126.942394;
+
+    @Test
+    @DisplayName("반경 밖 장소는 제외하고 가까운 장소부터 반환")
+    void searchWithinRadius() {
+        PlaceGeoIndex index = new PlaceGeoIndex(0.02);
+        index.upsert(1L, 33.4620, 126.9400);   // 약 0.4km
+        index.upsert(2L, 33.4800, 126.9400);   // 약 2.3km
+        index.upsert(3L, 33.4996, 126.5312);   // 제주시, 약 38km
+
+        List<PlaceGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LON, 5, 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(PlaceGeoIndex.Hit::id).toList());
+        for (PlaceGeoIndex.Hit hit : hits) {
+            double expected = PlaceGeoIndex.haversineKm(CENTER_LAT, CENTER_LON,
+                    hit.id() == 1L ? 33.4620 : 33.4800, 126.9400);
+            assertEquals(expected, hit.distanceKm(), 1e-9);
+            assertTrue(hit.distanceKm() <= 5);
+        }
+    }
+
+    @Test
+    @DisplayName("거리가 비슷하면 평점이 높은 장소가 앞선다")
+    void ratingAffectsOrder() {
+        PlaceGeoIndex index = new PlaceGeoIndex(0.02);
+        index.upsert(1L, 33.4620, 126.9400);
+        index.upsert(2L, 33.4625, 126.9400);
+        index.updateRating(2L, 5.0);
+
+        List<PlaceGeoIndex.Hit> hits = index.search(CENTER_LAT, CENTER_LON, 5, 10);
+
+        assertEquals(2L, hits.get(0).id());
+        assertEquals(5.0, hits.get(0).rating());
+        assertNull(hits.get(1).rating());
+    }
+
+    @Test
+    @DisplayName("좌표가 바뀐 장소는 새 위치 기준으로 검색되고 결과 수는 limit 이하")
+    void upsertMovesPlaceAndLimitApplies() {
+        PlaceGeoIndex index = new PlaceGeoIndex(0.02);
+        index.upsert(1L, 33.4996, 126.5312);
+        for (long id = 2; id <= 20; id++) {
+            index.upsert(id, CENTER_LAT + id * 0.001, CENTER_LON);
+        }
+
+        assertTrue(index.search(CENTER_LAT, CENTER_LON, 5, 100).stream().noneMatch(hit -> hit.id() == 1L));
+
+        index.upsert(1L, CENTER_LAT, CENTER_LON);
+
+        assertEquals(1L, index.search(CENTER_LAT, CENTER_LON, 5, 3).get(0).id());
+        assertEquals(3, index.search(CENTER_LAT, CENTER_LON, 5, 3).size());
+        assertEquals(20, index.size());
+    }
+}
@@ -0,0 +1,175 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.area.dto.NearbyPlaceDto;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.area.service.NearbyPlaceService;
+import com.ssafy.logoserver.domain.area.service.PlaceIndexEventHandler;
+import com.ssafy.logoserver.domain.area.service.PlaceSearchIndex;
+import com.ssafy.logoserver.domain.area.service.PlaceSearchService;
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 한 인스턴스에서 처리한 장소 이벤트가 다른 인스턴스의 메모리 색인에 반영되는지 확인 (내장 Redis)
+ */
+public class PlaceIndexEventHandlerTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("아웃박스를 전달한 인스턴스가 아닌 다른 인스턴스도 새 장소와 평점·인기도를 색인에 반영하고, 재전달은 중복 반영하지 않음")
+    void eventHandledOnOneInstanceUpdatesEveryInstance() throws Exception {
+        Instance relay = new Instance();
+        Instance other = new Instance();
+
+        DomainEvent created = new DomainEvent("e1", DomainEventType.PLACE_CREATED, 7L, Map.of("areaId", 3L),
+                LocalDateTime.now());
+        relay.handler.handle(created);
+        relay.handler.handle(created);
+
+        for (Instance instance : List.of(relay, other)) {
+            List<PlaceSearchIndex.Hit> hits = awaitSuggestions(instance);
+            assertEquals(1, hits.size());
+            assertEquals(7L, hits.get(0).id());
+            // 좋아요 2 + 인증 1 (재전달되어도 현재 값으로 설정)
+            assertEquals(3, hits.get(0).popularity());
+
+            List<NearbyPlaceDto> nearby = instance.nearbyPlaceService.findNearbyPlaces(33.45, 126.57, 5, 10);
+            assertEquals(1, nearby.size());
+            assertEquals(4.5, nearby.get(0).getAverageRating());
+        }
+    }
+
+    private static List<PlaceSearchIndex.Hit> awaitSuggestions(Instance instance) throws InterruptedException {
+        PlaceSearchIndex index = (PlaceSearchIndex) ReflectionTestUtils.getField(instance.placeSearchService, "index");
+        long deadline = System.currentTimeMillis() + 5000;
+        List<PlaceSearchIndex.Hit> hits = index.autocomplete("성산", 5);
+        while (hits.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            hits = index.autocomplete("성산", 5);
+        }
+        assertTrue(!hits.isEmpty(), "색인 갱신 메시지를 받지 못함");
+        return hits;
+    }
+
+    /**
+     * 색인이 비어 있는 상태로 적재를 마치고 색인 갱신 채널을 구독한 애플리케이션 인스턴스
+     */
+    private class Instance {
+
+        private final NearbyPlaceService nearbyPlaceService;
+        private final PlaceSearchService placeSearchService;
+        private final PlaceIndexEventHandler handler;
+
+        Instance() {
+            PlaceRepository placeRepository = repository(PlaceRepository.class);
+            UserLikeRepository userLikeRepository = repository(UserLikeRepository.class);
+            VerificationRepository verificationRepository = repository(VerificationRepository.class);
+
+            nearbyPlaceService = new NearbyPlaceService(placeRepository, verificationRepository);
+            placeSearchService = new PlaceSearchService(placeRepository, userLikeRepository, verificationRepository);
+            nearbyPlaceService.loadIndex();
+            placeSearchService.loadIndex();
+
+            handler = new PlaceIndexEventHandler(placeRepository, userLikeRepository, verificationRepository,
+                    nearbyPlaceService, placeSearchService, redisTemplate, downstreamLimiter, new ObjectMapper());
+
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(handler, new ChannelTopic(PlaceIndexEventHandler.CHANNEL));
+            container.afterPropertiesSet();
+            container.start();
+            containers.add(container);
+        }
+    }
+
+    /**
+     * 장소 7 (좋아요 2, 인증 1, 평균 별점 4.5) 만 있는 DB 처럼 응답하는 저장소 (전체 적재 조회는 빈 결과)
+     */
+    private static <T> T repository(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(Place.builder()
+                            .puid((Long) args[0])
+                            .name("성산일출봉")
+                            .address("제주특별자치도 서귀포시 성산읍 일출로 284-12")
+                            .latitude(33.46)
+                            .longitude(126.58)
+                            .build());
+                    case "countByPlacePuid" -> type == UserLikeRepository.class ? 2L : 1L;
+                    case "findAverageStarByPlaceId" -> 4.5;
+                    case "findAllCoordinates", "findAverageStarGroupByPlace", "countGroupByPlace" -> List.of();
+                    case "streamAllTexts" -> Stream.empty();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,122 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.ssafy.logoserver.domain.area.service.PlaceRankingEventHandler;
+import com.ssafy.logoserver.domain.area.service.PlaceRankingService;
+import com.ssafy.logoserver.domain.event.dto.DomainEvent;
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 아웃박스 재전달 시 순위 점수 중복 반영 방지 (내장 Redis)
+ */
+public class PlaceRankingEventHandlerTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final PlaceRankingEventHandler handler = new PlaceRankingEventHandler(rankingService());
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 eventId 의 좋아요가 다시 전달되어도 좋아요 수와 주간 인기 점수는 한 번만 반영")
+    void redeliveredLikeIsAppliedOnce() {
+        DomainEvent liked = event("e1", DomainEventType.PLACE_LIKED);
+
+        handler.handle(liked);
+        Double mostLiked = redisTemplate.opsForZSet().score("ranking:most_liked:area:3", "7");
+        Double trending = redisTemplate.opsForZSet().score("ranking:trending:region:11:2025-05-05", "7");
+        handler.handle(liked);
+
+        assertEquals(1.0, mostLiked);
+        assertEquals(mostLiked, redisTemplate.opsForZSet().score("ranking:most_liked:area:3", "7"));
+        assertEquals(trending, redisTemplate.opsForZSet().score("ranking:trending:region:11:2025-05-05", "7"));
+        // 처리 기록은 핸들러·이벤트별로 남고 보관 기간 후 만료
+        Long ttl = redisTemplate.getExpire("outbox:processed:PlaceRankingEventHandler:e1");
+        assertTrue(ttl != null && ttl > 0);
+    }
+
+    @Test
+    @DisplayName("다른 eventId 는 각각 반영되고, 재전달된 좋아요 취소는 점수를 음수로 만들지 않음")
+    void distinctEventsApplyAndRedeliveredUnlikeIsIgnored() {
+        handler.handle(event("e1", DomainEventType.PLACE_LIKED));
+        handler.handle(event("e2", DomainEventType.PLACE_LIKED));
+        assertEquals(2.0, redisTemplate.opsForZSet().score("ranking:most_liked:area:3", "7"));
+
+        DomainEvent unliked = event("e3", DomainEventType.PLACE_UNLIKED);
+        handler.handle(unliked);
+        handler.handle(unliked);
+        assertEquals(1.0, redisTemplate.opsForZSet().score("ranking:most_liked:area:3", "7"));
+
+        handler.handle(event("e4", DomainEventType.PLACE_UNLIKED));
+        assertNull(redisTemplate.opsForZSet().score("ranking:most_liked:area:3", "7"));
+    }
+
+    private PlaceRankingService rankingService() {
+        PlaceRankingService service = new PlaceRankingService(redisTemplate, downstreamLimiter, null, null, null);
+        ReflectionTestUtils.setField(service, "halfLife", Duration.ofDays(2));
+        ReflectionTestUtils.setField(service, "trendingRetention", Duration.ofDays(15));
+        ReflectionTestUtils.setField(service, "processedRetention", Duration.ofDays(7));
+        return service;
+    }
+
+    /**
+     * 2025-05-07(수) 장소 7, 지역 3, 시/도 11 이벤트
+     */
+    private static DomainEvent event(String eventId, DomainEventType type) {
+        return new DomainEvent(eventId, type, 7L, Map.of("areaId", 3L, "region", 11L),
+                LocalDateTime.of(2025, 5, 7, 12, 0));
+    }
+}
@@ -0,0 +1,247 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.ssafy.logoserver.domain.area.dto.PlaceRankingDto;
+import com.ssafy.logoserver.domain.area.dto.PlaceRankingPageDto;
+import com.ssafy.logoserver.domain.area.entity.Place;
+import com.ssafy.logoserver.domain.area.repository.PlaceRepository;
+import com.ssafy.logoserver.domain.area.service.PlaceRankingService;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository;
+import com.ssafy.logoserver.domain.travel.repository.VerificationRepository.PlaceActivity;
+import com.ssafy.logoserver.domain.user.repository.UserLikeRepository;
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주간 인기 감쇠·키 계산과 순위 재구성 (내장 Redis)
+ */
+public class PlaceRankingServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LOCK_KEY = "ranking:rebuild_lock";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("주간 인기 점수는 월요일 0시(서울) 기준 반감기마다 두 배로 가중되고, 월요일 0시에 새 주 키로 넘어감")
+    void trendingScoreDecaysFromWeekStart() {
+        PlaceRankingService service = rankingService(Stream::empty);
+
+        service.recordLike("p1", 1L, 3L, 11L, LocalDateTime.of(2025, 5, 5, 0, 0));
+        service.recordLike("p2", 2L, 3L, 11L, LocalDateTime.of(2025, 5, 7, 0, 0));
+        service.recordVerification("p3", 3L, 11L, LocalDateTime.of(2025, 5, 7, 0, 0));
+        service.recordLike("p4", 4L, 3L, 11L, LocalDateTime.of(2025, 5, 11, 23, 59, 59));
+        service.recordLike("p5", 5L, 3L, 11L, LocalDateTime.of(2025, 5, 12, 0, 0));
+
+        String week = "ranking:trending:region:11:2025-05-05";
+        assertEquals(1.0, score(week, 1L), 1e-9);
+        // 반감기(2일) 뒤 활동은 두 배, 방문 인증은 좋아요의 두 배
+        assertEquals(2.0, score(week, 2L), 1e-9);
+        assertEquals(4.0, score(week, 3L), 1e-9);
+        // 일요일 23:59:59 는 같은 주 (약 6.9999일 경과)
+        double elapsedDays = (6 * 86_400 + 86_399) / 86_400.0;
+        assertEquals(Math.pow(2, elapsedDays / 2), score(week, 4L), 1e-6);
+        assertNull(redisTemplate.opsForZSet().score(week, "5"));
+        // 다음 주 월요일 0시는 새 키에서 가중치 1
+        assertEquals(1.0, score("ranking:trending:region:11:2025-05-12", 5L), 1e-9);
+        assertEquals(5L, redisTemplate.opsForZSet().zCard("ranking:most_liked:area:3"));
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 활동으로 키를 교체하고, 활동이 없는 지역 키와 이번 주 인기 키는 삭제하되 지난주 키는 남김")
+    void rebuildReplacesKeysAndDeletesStaleOnes() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        LocalDate thisWeek = now.toLocalDate().with(DayOfWeek.MONDAY);
+        String lastWeekKey = "ranking:trending:region:22:" + thisWeek.minusWeeks(1);
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3", "8", 4);
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:9", "5", 2);
+        redisTemplate.opsForZSet().add("ranking:trending:region:22:" + thisWeek, "5", 2);
+        redisTemplate.opsForZSet().add(lastWeekKey, "5", 2);
+
+        PlaceRankingService service = rankingService(() -> Stream.of(activity(7L, 3L, 11L, now)));
+
+        assertTrue(service.rebuild());
+        assertEquals(1L, redisTemplate.opsForZSet().zCard("ranking:most_liked:area:3"));
+        assertEquals(1.0, score("ranking:most_liked:area:3", 7L), 1e-9);
+        assertTrue(score("ranking:trending:region:11:" + thisWeek, 7L) >= 1.0);
+        assertFalse(redisTemplate.hasKey("ranking:most_liked:area:9"));
+        assertFalse(redisTemplate.hasKey("ranking:trending:region:22:" + thisWeek));
+        assertTrue(redisTemplate.hasKey(lastWeekKey));
+        assertFalse(redisTemplate.hasKey(LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("재구성 중 잠금이 만료되어 다른 인스턴스가 잡았으면 키를 교체하지 않고 중단하며 그 잠금은 해제하지 않음")
+    void rebuildStopsWhenLockIsTakenOver() {
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3", "8", 4);
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        PlaceRankingService service = rankingService(() -> {
+            // 재구성 도중 잠금 만료 후 다른 인스턴스가 획득
+            redisTemplate.opsForValue().set(LOCK_KEY, "other-instance");
+            return Stream.of(activity(7L, 3L, 11L, now));
+        });
+
+        assertFalse(service.rebuild());
+        assertEquals("other-instance", redisTemplate.opsForValue().get(LOCK_KEY));
+        assertEquals(4.0, score("ranking:most_liked:area:3", 8L), 1e-9);
+        assertFalse(redisTemplate.hasKey("ranking:most_liked:area:3:rebuild"));
+        assertFalse(service.rebuild());
+    }
+
+    @Test
+    @DisplayName("재구성은 활동을 묶음 단위로 나누어 더해도 전체 합계와 같은 점수를 만들고 잠금을 연장함")
+    void rebuildAddsActivitiesInBatches() {
+        LocalDateTime lastWeek = LocalDateTime.now(ZONE).minusWeeks(1);
+        PlaceRankingService service = rankingService(() -> LongStream.range(0, 2500)
+                .mapToObj(i -> activity(i % 2 == 0 ? 7L : 8L, 3L, 11L, lastWeek)));
+        // 재구성 전에 남은 임시 키는 새 재구성 결과에 섞이지 않음
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3:rebuild", "7", 100);
+
+        assertTrue(service.rebuild());
+        assertEquals(1250.0, score("ranking:most_liked:area:3", 7L), 1e-9);
+        assertEquals(1250.0, score("ranking:most_liked:area:3", 8L), 1e-9);
+        assertFalse(redisTemplate.hasKey("ranking:most_liked:area:3:rebuild"));
+    }
+
+    @Test
+    @DisplayName("순위 페이지의 장소는 한 번에 조회하고 순위 순서로 배치하며, 삭제된 장소는 순위 번호를 유지한 채 건너뜀")
+    void readsPagePlacesInOneQuery() {
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3", "1", 5);
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3", "2", 9);
+        redisTemplate.opsForZSet().add("ranking:most_liked:area:3", "3", 7);
+        AtomicInteger queries = new AtomicInteger();
+        PlaceRepository placeRepository = PlaceRepository.class.cast(Proxy.newProxyInstance(
+                PlaceRepository.class.getClassLoader(), new Class<?>[]{PlaceRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    queries.incrementAndGet();
+                    // 장소 3은 삭제됨, 조회 결과 순서는 순위와 무관
+                    return List.of(Place.builder().puid(1L).name("장소1").build(),
+                            Place.builder().puid(2L).name("장소2").build());
+                }));
+        PlaceRankingService service = new PlaceRankingService(redisTemplate, downstreamLimiter, placeRepository,
+                repository(UserLikeRepository.class, Stream::empty), repository(VerificationRepository.class, Stream::empty));
+
+        PlaceRankingPageDto page = service.getMostLikedInArea(3L, 0, 10);
+
+        assertEquals(1, queries.get());
+        assertEquals(List.of(2L, 1L), page.getPlaces().stream().map(PlaceRankingDto::getPuid).toList());
+        assertEquals(List.of(1L, 3L), page.getPlaces().stream().map(PlaceRankingDto::getRank).toList());
+    }
+
+    private PlaceRankingService rankingService(Supplier<Stream<PlaceActivity>> likes) {
+        PlaceRankingService service = new PlaceRankingService(redisTemplate, downstreamLimiter, null,
+                repository(UserLikeRepository.class, likes), repository(VerificationRepository.class, Stream::empty));
+        ReflectionTestUtils.setField(service, "halfLife", Duration.ofDays(2));
+        ReflectionTestUtils.setField(service, "trendingRetention", Duration.ofDays(15));
+        ReflectionTestUtils.setField(service, "processedRetention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(service, "rebuildLockTtl", Duration.ofMinutes(2));
+        return service;
+    }
+
+    private static double score(String key, Long puid) {
+        Double score = redisTemplate.opsForZSet().score(key, String.valueOf(puid));
+        assertTrue(score != null, key + " 에 장소 " + puid + " 없음");
+        return score;
+    }
+
+    /**
+     * 활동 스트리밍 조회(stream*)만 응답하는 저장소
+     */
+    private static <T> T repository(Class<T> type, Supplier<Stream<PlaceActivity>> activities) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("stream")) {
+                return activities.get();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    private static PlaceActivity activity(Long puid, Long auid, Long region, LocalDateTime created) {
+        return new PlaceActivity() {
+            @Override
+            public Long getPuid() {
+                return puid;
+            }
+
+            @Override
+            public Long getAuid() {
+                return auid;
+            }
+
+            @Override
+            public Long getRegion() {
+                return region;
+            }
+
+            @Override
+            public LocalDateTime getCreated() {
+                return created;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.logoserver.domain.area;
+
+import com.ssafy.logoserver.domain.area.service.PlaceSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlaceSearchIndexTest {
+
+    private PlaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceSearchIndex();
+        index.upsert(1L, "성산일출봉", "제주특별자치도 서귀포시 성산읍 일출로 284-12");
+        index.upsert(2L, "성산 일출봉 주차장", "제주특별자치도 서귀포시 성산읍");
+        index.upsert(3L, "한라산", "제주특별자치도 제주시");
+        index.upsert(4L, "일출랜드", "제주특별자치도 서귀포시 성산읍");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 관계없이 부분 일치하고, 인기도가 높은 장소가 앞선다")
+    void searchRanksByMatchAndPopularity() {
+        index.addPopularity(4L, 30);
+
+        PlaceSearchIndex.Result result = index.search("일출", 0, 10);
+
+        assertEquals(3, result.totalCount());
+        assertEquals(List.of(4L, 1L, 2L), result.hits().stream().map(PlaceSearchIndex.Hit::id).toList());
+    }
+
+    @Test
+    @DisplayName("인기도 교체는 목록에 없는 장소를 0으로 되돌리고, 이름이 바뀐 장소에도 적용된다")
+    void replacePopularityResetsUnlistedPlaces() {
+        index.addPopularity(4L, 30);
+        index.upsert(1L, "성산일출봉 전망대", "제주특별자치도 서귀포시 성산읍 일출로 284-12");
+
+        index.replacePopularity(Map.of(1L, 5));
+
+        // 4 는 이름 접두 일치(3.0)라 인기도 없이도 앞서고, 1 은 인기도 5 로 2 보다 앞섬
+        assertEquals(List.of(4L, 1L, 2L), index.search("일출", 0, 10).hits().stream()
+                .map(PlaceSearchIndex.Hit::id).toList());
+        assertEquals(List.of(0, 5, 0), index.search("일출", 0, 10).hits().stream()
+                .map(PlaceSearchIndex.Hit::popularity).toList());
+    }
+
+    @Test
+    @DisplayName("이름 일치가 주소 일치보다 앞서고 페이지 단위로 잘린다")
+    void nameMatchBeforeAddressMatchAndPaging() {
+        PlaceSearchIndex.Result first = index.search("성산", 0, 2);
+        PlaceSearchIndex.Result second = index.search("성산", 2, 2);
+
+        assertEquals(3, first.totalCount());
+        assertEquals(List.of(1L, 2L), first.hits().stream().map(PlaceSearchIndex.Hit::id).toList());
+        assertEquals(List.of(4L), second.hits().stream().map(PlaceSearchIndex.Hit::id).toList());
+    }
+
+    @Test
+    @DisplayName("gram 은 모두 포함해도 연속 문자열이 아니면 제외")
+    void rejectsNonContiguousMatch() {
+        index.upsert(5L, "가나다 나가", "서울특별시");
+
+        assertTrue(index.search("가나가", 0, 10).hits().isEmpty());
+        assertEquals(1, index.search("다나가", 0, 10).totalCount());
+    }
+
+    @Test
+    @DisplayName("자동완성은 이름 접두어만 일치시키고 이름이 바뀌면 새 이름으로 검색된다")
+    void autocompleteAndRename() {
+        assertEquals(List.of(1L, 2L), index.autocomplete("성산일", 5).stream().map(PlaceSearchIndex.Hit::id).toList());
+
+        index.upsert(3L, "한라산 국립공원", "제주특별자치도 제주시");
+
+        assertEquals(1, index.search("국립", 0, 10).totalCount());
+        assertEquals(1, index.search("한라", 0, 10).totalCount());
+        assertEquals(4, index.size());
+    }
+}
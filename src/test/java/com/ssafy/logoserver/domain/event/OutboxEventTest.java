@@ -0,0 +1,70 @@
+package com.ssafy.logoserver.domain.event;
+
+import com.ssafy.logoserver.domain.event.entity.DomainEventType;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent;
+import com.ssafy.logoserver.domain.event.entity.OutboxEvent.OutboxStatus;
+import com.ssafy.logoserver.domain.event.service.DomainEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OutboxEventTest {
+
+    private OutboxEvent pendingEvent() {
+        return OutboxEvent.builder()
+                .eventId("e1")
+                .aggregateType(DomainEventType.PLACE_LIKED.getAggregateType())
+                .aggregateId(1L)
+                .eventType(DomainEventType.PLACE_LIKED)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("전달을 마친 핸들러만 기록되고 이름이 겹쳐도 구분된다")
+    void deliveredHandlers() {
+        OutboxEvent event = pendingEvent();
+
+        event.markDelivered("PlaceRankingEventHandler");
+
+        assertTrue(event.isDeliveredTo("PlaceRankingEventHandler"));
+        assertFalse(event.isDeliveredTo("Ranking"));
+        assertFalse(event.isDeliveredTo("ThumbnailHandler"));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 DEAD 로 전환된다")
+    void deadAfterMaxAttempts() {
+        OutboxEvent event = pendingEvent();
+
+        event.markFailed("timeout", LocalDateTime.now(), 2);
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+
+        event.markFailed("x".repeat(600), LocalDateTime.now(), 2);
+        assertEquals(OutboxStatus.DEAD, event.getStatus());
+        assertEquals(500, event.getLastError().length());
+    }
+
+    @Test
+    @DisplayName("전달 완료 시 오류가 지워지고 이벤트 내용에서 null 값은 제외된다")
+    void publishedAndPayload() {
+        OutboxEvent event = pendingEvent();
+        event.markFailed("timeout", LocalDateTime.now(), 5);
+
+        event.markPublished(LocalDateTime.now());
+
+        assertEquals(OutboxStatus.PUBLISHED, event.getStatus());
+        assertNull(event.getLastError());
+        Map<String, Object> payload = DomainEventPublisher.payload("areaId", 3L, "region", null);
+        assertEquals(List.of("areaId"), List.copyOf(payload.keySet()));
+    }
+}
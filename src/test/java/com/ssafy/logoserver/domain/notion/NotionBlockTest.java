@@ -0,0 +1,30 @@
+package com.ssafy.logoserver.domain.notion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.notion.dto.NotionBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NotionBlockTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("텍스트 블록은 Notion rich_text 형식으로 직렬화")
+    void serializeTextBlock() throws Exception {
+        String json = objectMapper.writeValueAsString(NotionBlock.heading2("1일차 \"제주\""));
+
+        assertEquals("{\"object\":\"block\",\"type\":\"heading_2\",\"heading_2\":"
+                + "{\"rich_text\":[{\"type\":\"text\",\"text\":{\"content\":\"1일차 \\\"제주\\\"\"}}]}}", json);
+    }
+
+    @Test
+    @DisplayName("구분선 블록은 빈 객체로 직렬화")
+    void serializeDivider() throws Exception {
+        String json = objectMapper.writeValueAsString(NotionBlock.divider());
+
+        assertEquals("{\"object\":\"block\",\"type\":\"divider\",\"divider\":{}}", json);
+    }
+}
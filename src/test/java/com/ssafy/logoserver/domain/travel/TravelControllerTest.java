@@ -20,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 
+import static com.ssafy.logoserver.utils.SqlStatementAssertions.assertMaxStatements;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -100,6 +101,13 @@ public class TravelControllerTest {
                 .andExpect(jsonPath("$.data.title", is("제주도 여행")));
     }
 
+    @Test
+    @DisplayName("ID로 여행 조회 시 SQL 실행 수가 예산 이내")
+    void getTravelByIdWithinSqlBudget() throws Throwable {
+        assertMaxStatements(5, () -> mockMvc.perform(get("/api/travels/{tuid}", testTravel.getTuid())))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("존재하지 않는 여행 조회 시 404")
     void getTravelByIdNotFound() throws Exception {
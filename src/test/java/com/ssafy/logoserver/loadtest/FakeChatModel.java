@@ -0,0 +1,117 @@
+package com.ssafy.logoserver.loadtest;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 가짜 LLM
+ * 외부 API 대신 첫 토큰 지연 + 토큰당 지연만큼 기다린 뒤, 프롬프트로 결정되는 마크다운 여행 가이드를 반환합니다.
+ * 같은 프롬프트에는 항상 같은 응답을 돌려주고, 토큰 사용량(약 4자 = 1토큰)도 함께 채워 llm.tokens 메트릭이 기록되도록 합니다.
+ * JSON 형식 지시문이 붙은 구조화 출력 요청(가이드 조언)에는 짧은 조언 JSON을 반환합니다.
+ */
+public class FakeChatModel implements ChatModel {
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    /**
+     * 구조화 조언 응답의 출력 토큰 수 (실제 조언 응답 크기 수준)
+     */
+    private static final int ADVICE_TOKENS = 600;
+
+    private static final String ADVICE_JSON = """
+            {"transport":"렌터카 이동을 권장합니다.","food":"지역 시장 먹거리를 추천합니다.",
+             "weather":"일교차가 커 겉옷을 준비하세요.","budget":"1일 1인 10만 원 내외를 예상하세요.",
+             "improvement":"빈 날에는 근교 명소를 추가해 보세요.",
+             "recommendations":[{"name":"비자림","address":"제주특별자치도 제주시 구좌읍 비자숲길 55",
+                                 "reason":"산책하기 좋은 숲길","duration":"1~2시간","cost":"3,000원"}],
+             "review":"무리 없는 동선의 알찬 일정입니다.",
+             "improvements":["이동 시간이 긴 구간은 오전에 배치하세요."],
+             "successTips":["인기 식당은 미리 예약하세요.","우천 시 실내 관광지를 준비하세요."]}
+            """;
+
+    private static final String[] PLACES = {
+            "성산일출봉", "우도", "섭지코지", "만장굴", "비자림", "협재해수욕장", "한림공원", "천지연폭포"
+    };
+
+    private final String model;
+    private final Duration firstTokenLatency;
+    private final Duration tokenLatency;
+    private final int outputTokens;
+
+    public FakeChatModel(String model, Duration firstTokenLatency, Duration tokenLatency, int outputTokens) {
+        this.model = model;
+        this.firstTokenLatency = firstTokenLatency;
+        this.tokenLatency = tokenLatency;
+        this.outputTokens = outputTokens;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String input = prompt.getContents();
+        int promptTokens = Math.max(1, input.length() / CHARS_PER_TOKEN);
+
+        // 요청에 최대 출력 토큰이 있으면 그 안에서 생성
+        int completionTokens = outputTokens;
+        if (prompt.getOptions() != null && prompt.getOptions().getMaxTokens() != null) {
+            completionTokens = Math.min(completionTokens, prompt.getOptions().getMaxTokens());
+        }
+
+        boolean structured = input.contains("\"$schema\"");
+        if (structured) {
+            completionTokens = Math.min(completionTokens, ADVICE_TOKENS);
+        }
+
+        sleep(firstTokenLatency.plus(tokenLatency.multipliedBy(completionTokens)));
+
+        ChatResponseMetadata metadata = ChatResponseMetadata.builder()
+                .model(model)
+                .usage(new DefaultUsage(promptTokens, completionTokens))
+                .build();
+        String answer = structured ? ADVICE_JSON : guide(input.hashCode(), completionTokens * CHARS_PER_TOKEN);
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(answer))), metadata);
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return ChatOptions.builder().model(model).build();
+    }
+
+    /**
+     * 목표 길이만큼의 마크다운 가이드 (제목, 번호 목록, 불릿, 문단)
+     */
+    private static String guide(long seed, int targetChars) {
+        Random random = new Random(seed);
+        StringBuilder guide = new StringBuilder(targetChars + 200);
+        guide.append("# 여행 분석 결과\n\n");
+        int day = 1;
+        while (guide.length() < targetChars) {
+            guide.append("## ").append(day++).append("일차\n");
+            for (int i = 1; i <= 4; i++) {
+                guide.append(i).append(". ").append(PLACES[random.nextInt(PLACES.length)])
+                        .append(" - 체류 약 ").append(30 + random.nextInt(90)).append("분\n");
+            }
+            guide.append("- 이동 시간이 긴 구간은 오전에 배치하는 것이 좋습니다.\n");
+            guide.append("- 예상 지출은 1인당 약 ").append(3 + random.nextInt(7)).append("만 원입니다.\n\n");
+            guide.append("전체적으로 무리 없는 일정이며, 오후에는 실내 관광지를 섞어 체력 소모를 줄이세요.\n\n");
+        }
+        return guide.toString();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
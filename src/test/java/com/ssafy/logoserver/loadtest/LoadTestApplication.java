@@ -0,0 +1,60 @@
+package com.ssafy.logoserver.loadtest;
+
+import com.ssafy.logoserver.LogoServerApplication;
+import org.springframework.boot.SpringApplication;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트용 애플리케이션 실행기 (./gradlew bootTestRun)
+ * 외부 시스템을 로컬 대역으로 바꿔 서버를 띄웁니다.
+ * - LLM: FakeChatModel (LoadTestStandIns)
+ * - Notion API: NotionStubServer
+ * - MinIO: S3StubServer
+ * - Redis: 내장 Redis
+ * MySQL 은 운영과 같은 쿼리 계획으로 측정하도록 docker-compose 의 MySQL 을 사용합니다 (application-loadtest.yml).
+ * 시나리오 실행은 ./gradlew :loadtest:gatlingRun 입니다.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws IOException {
+        NotionStubServer notion = NotionStubServer.start(
+                Duration.ofMillis(Long.getLong("loadtest.notion.latency-ms", 150)));
+        S3StubServer s3 = S3StubServer.start();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            notion.stop();
+            s3.stop();
+            try {
+                redis.stop();
+            } catch (IOException ignored) {
+                // 종료 중이므로 무시
+            }
+        }));
+
+        String[] standInArgs = {
+                "--spring.profiles.active=loadtest",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--notion.api.base-url=" + notion.baseUrl(),
+                "--minio.endpoint=" + s3.endpoint()
+        };
+
+        SpringApplication.from(LogoServerApplication::main)
+                .with(LoadTestStandIns.class)
+                .run(Stream.concat(Stream.of(standInArgs), Stream.of(args)).toArray(String[]::new));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
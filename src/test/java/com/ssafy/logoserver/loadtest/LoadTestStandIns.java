@@ -0,0 +1,55 @@
+package com.ssafy.logoserver.loadtest;
+
+import com.ssafy.logoserver.domain.area.entity.Area;
+import com.ssafy.logoserver.domain.area.repository.AreaRepository;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 실행 시 외부 의존성 대신 등록하는 Bean
+ * - openAiChatModel, anthropicChatModel: 지연 시간을 설정할 수 있는 FakeChatModel
+ *   (application-loadtest.yml 에서 spring.ai.model.chat=none 으로 실제 모델 자동 설정을 끔)
+ * - 시나리오에서 사용하는 지역(Area) 코드 준비
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class LoadTestStandIns {
+
+    /**
+     * 시나리오(UserJourneySimulation)가 사용하는 지역 코드 {region, sig}
+     */
+    static final long[][] AREA_CODES = {
+            {39, 110}, {39, 130}, {11, 110}, {11, 140}, {26, 110}
+    };
+
+    @Bean
+    public ChatModel openAiChatModel(
+            @Value("${loadtest.llm.first-token-latency:400ms}") Duration firstTokenLatency,
+            @Value("${loadtest.llm.token-latency:2ms}") Duration tokenLatency,
+            @Value("${loadtest.llm.output-tokens:1500}") int outputTokens) {
+        return new FakeChatModel("fake-openai", firstTokenLatency, tokenLatency, outputTokens);
+    }
+
+    @Bean
+    public ChatModel anthropicChatModel(
+            @Value("${loadtest.llm.first-token-latency:400ms}") Duration firstTokenLatency,
+            @Value("${loadtest.llm.token-latency:2ms}") Duration tokenLatency,
+            @Value("${loadtest.llm.output-tokens:1500}") int outputTokens) {
+        return new FakeChatModel("fake-anthropic", firstTokenLatency, tokenLatency, outputTokens);
+    }
+
+    @Bean
+    public ApplicationRunner loadTestAreaSeeder(AreaRepository areaRepository) {
+        return args -> {
+            for (long[] code : AREA_CODES) {
+                if (areaRepository.findByRegionAndSig(code[0], code[1]).isEmpty()) {
+                    areaRepository.save(Area.builder().region(code[0]).sig(code[1]).build());
+                }
+            }
+        };
+    }
+}
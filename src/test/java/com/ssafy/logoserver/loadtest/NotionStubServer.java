@@ -0,0 +1,80 @@
+package com.ssafy.logoserver.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 Notion API 스텁 서버
+ * 블록 추가, 페이지 조회, OAuth 토큰 교환을 고정 지연 후 성공 응답으로 처리합니다.
+ */
+public class NotionStubServer {
+
+    private final HttpServer server;
+    private final Duration latency;
+
+    private NotionStubServer(Duration latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1", this::handle);
+    }
+
+    /**
+     * 임의의 빈 포트에서 스텁 서버 시작
+     *
+     * @param latency 요청마다 기다릴 시간 (Notion API 응답 시간 대역)
+     */
+    public static NotionStubServer start(Duration latency) throws IOException {
+        NotionStubServer stub = new NotionStubServer(latency);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * notion.api.base-url 로 넘길 기본 URL
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(latency);
+
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if ("PATCH".equals(method) && path.endsWith("/children")) {
+                respond(exchange, 200, "{\"object\":\"list\",\"results\":[]}");
+            } else if ("GET".equals(method) && path.startsWith("/v1/pages/")) {
+                respond(exchange, 200, "{\"object\":\"page\",\"id\":\"" + path.substring("/v1/pages/".length()) + "\"}");
+            } else if ("POST".equals(method) && path.equals("/v1/oauth/token")) {
+                respond(exchange, 200, "{\"access_token\":\"stub-notion-token\",\"workspace_id\":\"stub-workspace\"}");
+            } else {
+                respond(exchange, 404, "{\"object\":\"error\",\"status\":404,\"code\":\"object_not_found\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "{\"object\":\"error\",\"status\":503}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,122 @@
+package com.ssafy.logoserver.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트용 S3 호환 스텁 서버 (MinIO 대역)
+ * MinioClient 가 사용하는 요청(리전 조회, 객체 업로드/조회/삭제)만 메모리 저장소로 처리합니다.
+ * 서명은 검증하지 않습니다.
+ */
+public class S3StubServer {
+
+    private static final String LOCATION_RESPONSE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<LocationConstraint xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"></LocationConstraint>";
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    private S3StubServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * 임의의 빈 포트에서 스텁 서버 시작
+     */
+    public static S3StubServer start() throws IOException {
+        S3StubServer stub = new S3StubServer();
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * minio.endpoint 로 넘길 주소
+     */
+    public String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 저장된 객체 수
+     */
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            if (query != null && query.startsWith("location")) {
+                byte[] xml = LOCATION_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/xml");
+                exchange.sendResponseHeaders(200, xml.length);
+                exchange.getResponseBody().write(xml);
+                return;
+            }
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    objects.put(path, body);
+                    exchange.getResponseHeaders().set("ETag", etag(body));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET", "HEAD" -> {
+                    byte[] object = objects.get(path);
+                    if (object == null) {
+                        // 버킷 자체 확인(HEAD /bucket)은 항상 존재하는 것으로 응답
+                        exchange.sendResponseHeaders(isBucketPath(path) ? 200 : 404, -1);
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("ETag", etag(object));
+                    exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+                    exchange.getResponseHeaders().set("Last-Modified", "Thu, 01 May 2025 00:00:00 GMT");
+                    if ("HEAD".equals(exchange.getRequestMethod())) {
+                        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.length));
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        exchange.sendResponseHeaders(200, object.length);
+                        exchange.getResponseBody().write(object);
+                    }
+                }
+                case "DELETE" -> {
+                    objects.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static boolean isBucketPath(String path) {
+        return path.indexOf('/', 1) < 0 || path.indexOf('/', 1) == path.length() - 1;
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.logoserver.loadtest;
+
+import com.ssafy.logoserver.service.DownstreamLimiter;
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가상 스레드로 요청을 처리할 때 다운스트림 동시 호출 상한 검증
+ * (플랫폼 스레드 풀 대비 처리량 비교는 JMH 벤치마크 VirtualThreadThroughputBenchmark)
+ */
+public class VirtualThreadBulkheadTest {
+
+    private static final int REQUESTS = 2_000;
+
+    @Test
+    @DisplayName("가상 스레드에서도 다운스트림 동시 호출 수는 벌크헤드 상한을 넘지 않음")
+    void downstreamLimiterCapsConcurrency() throws Exception {
+        int llmLimit = 16;
+        DownstreamLimiter limiter = new DownstreamLimiter(
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(llmLimit)
+                        .maxWaitDuration(Duration.ofSeconds(10))
+                        .build()),
+                CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(virtual.submit(() -> limiter.run(Downstream.LLM, () -> {
+                    int current = inFlight.incrementAndGet();
+                    maxInFlight.accumulateAndGet(current, Math::max);
+                    sleep(5);
+                    inFlight.decrementAndGet();
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            limiter.shutdown();
+        }
+
+        assertTrue(maxInFlight.get() <= llmLimit,
+                "동시 호출 수(" + maxInFlight.get() + ")가 상한(" + llmLimit + ")을 넘었습니다.");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
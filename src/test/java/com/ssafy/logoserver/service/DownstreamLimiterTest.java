@@ -0,0 +1,163 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.service.DownstreamLimiter.Downstream;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DownstreamLimiterTest {
+
+    private DownstreamLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new DownstreamLimiter(
+                BulkheadRegistry.ofDefaults(),
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .failureRateThreshold(50)
+                        .waitDurationInOpenState(Duration.ofMinutes(1))
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(100))
+                        .build()),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("연속 실패 시 서킷이 열리고 이후 호출은 실행 없이 대체 응답")
+    void circuitOpensAfterFailures() {
+        for (int i = 0; i < 4; i++) {
+            String result = limiter.call(Downstream.NOTION, () -> {
+                throw new RuntimeException("notion down");
+            }, e -> "fallback");
+            assertEquals("fallback", result);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, limiter.circuitState(Downstream.NOTION));
+
+        AtomicInteger invoked = new AtomicInteger();
+        String result = limiter.call(Downstream.NOTION, () -> {
+            invoked.incrementAndGet();
+            return "ok";
+        }, e -> "fallback");
+
+        assertEquals("fallback", result);
+        assertEquals(0, invoked.get());
+    }
+
+    @Test
+    @DisplayName("한 다운스트림의 서킷이 열려도 다른 다운스트림은 영향 없음")
+    void circuitsAreIsolatedPerDownstream() {
+        for (int i = 0; i < 4; i++) {
+            limiter.call(Downstream.LLM, () -> {
+                throw new RuntimeException("llm down");
+            }, e -> null);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, limiter.circuitState(Downstream.LLM));
+        assertEquals("ok", limiter.call(Downstream.MINIO, () -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, limiter.circuitState(Downstream.MINIO));
+    }
+
+    @Test
+    @DisplayName("타임아웃을 넘긴 호출은 IllegalStateException")
+    void slowCallTimesOut() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> limiter.call(Downstream.NOTION, () -> {
+                    try {
+                        Thread.sleep(1_000);
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "late";
+                }));
+
+        assertTrue(e.getMessage().contains("시간이 초과"));
+    }
+
+    @Test
+    @DisplayName("타임아웃 적용 호출도 호출한 스레드의 SecurityContext 와 MDC 를 그대로 사용")
+    void timeLimitedCallPropagatesContext() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user1", null, List.of()));
+        MDC.put("requestId", "r-1");
+        try {
+            String seen = limiter.call(Downstream.NOTION, () -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                return (authentication != null ? authentication.getName() : null) + "/" + MDC.get("requestId");
+            });
+
+            assertEquals("user1/r-1", seen);
+        } finally {
+            SecurityContextHolder.clearContext();
+            MDC.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 초과 후에도 끝나지 않은 작업이 있으면 벌크헤드 허가를 돌려주지 않아 동시 호출 상한 유지")
+    void timedOutCallKeepsBulkheadPermitUntilItFinishes() throws InterruptedException {
+        DownstreamLimiter bounded = new DownstreamLimiter(
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+                CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+                new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        try {
+            // 인터럽트를 무시하고 계속 실행되는 호출
+            assertThrows(IllegalStateException.class, () -> bounded.call(Downstream.NOTION, () -> {
+                while (true) {
+                    try {
+                        release.await();
+                        finished.countDown();
+                        return "late";
+                    } catch (InterruptedException ignored) {
+                        // 취소 요청 무시
+                    }
+                }
+            }));
+
+            IllegalStateException rejected = assertThrows(IllegalStateException.class,
+                    () -> bounded.call(Downstream.NOTION, () -> "ok"));
+            assertTrue(rejected.getMessage().contains("호출이 많아"));
+
+            release.countDown();
+            assertTrue(finished.await(1, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            assertEquals(1, bounded.availablePermits(Downstream.NOTION));
+            assertEquals("ok", bounded.call(Downstream.NOTION, () -> "ok"));
+        } finally {
+            release.countDown();
+            bounded.shutdown();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.logoserver.service;
+
+import com.ssafy.logoserver.domain.notion.dto.NotionBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NotionMarkdownConverterTest {
+
+    @Test
+    @DisplayName("제목, 목록, 문단을 각 블록으로 변환하고 앞뒤에 제목과 생성 시간 블록을 붙임")
+    void convertsMarkdownToBlocks() {
+        String markdown = """
+                # 여행 분석
+                ## 1일차
+                ### 이동 동선
+                1. 성산일출봉
+                12. 우도
+                - 섭지코지
+                * 만장굴
+                첫째 줄
+                  둘째 줄
+
+                새 문단
+                2.5km 이동
+                """;
+
+        List<NotionBlock> blocks = NotionMarkdownConverter.convert(markdown);
+        List<NotionBlock> body = blocks.subList(2, blocks.size() - 2);
+
+        assertEquals("heading_1", blocks.get(0).type());
+        assertEquals("divider", blocks.get(1).type());
+        assertEquals(List.of(
+                NotionBlock.heading1("여행 분석"),
+                NotionBlock.heading2("1일차"),
+                NotionBlock.heading3("이동 동선"),
+                NotionBlock.numberedListItem("성산일출봉"),
+                NotionBlock.numberedListItem("우도"),
+                NotionBlock.bulletedListItem("섭지코지"),
+                NotionBlock.bulletedListItem("만장굴"),
+                NotionBlock.paragraph("첫째 줄\n둘째 줄"),
+                NotionBlock.paragraph("새 문단\n2.5km 이동")
+        ), body);
+        assertEquals("divider", blocks.get(blocks.size() - 2).type());
+    }
+
+    @Test
+    @DisplayName("Notion 에 없는 4단계 제목은 제목 3 블록으로 변환")
+    void convertsFourthLevelHeadingToHeading3() {
+        List<NotionBlock> blocks = NotionMarkdownConverter.convert("### Day 1\n#### 🕐 09:00 | 성산일출봉\n* 주소: 성산읍");
+
+        assertEquals(List.of(
+                NotionBlock.heading3("Day 1"),
+                NotionBlock.heading3("🕐 09:00 | 성산일출봉"),
+                NotionBlock.bulletedListItem("주소: 성산읍")
+        ), blocks.subList(2, blocks.size() - 2));
+    }
+}
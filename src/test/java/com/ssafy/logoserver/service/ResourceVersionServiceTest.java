@@ -0,0 +1,109 @@
+package com.ssafy.logoserver.service;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리소스 버전 ETag 세대 처리 (내장 Redis)
+ */
+public class ResourceVersionServiceTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final DownstreamLimiter downstreamLimiter = new DownstreamLimiter(BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), new SimpleMeterRegistry());
+    private final ResourceVersionService versionService = new ResourceVersionService(redisTemplate, downstreamLimiter);
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flushAll();
+        downstreamLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("버전이 오르면 ETag 가 바뀌고, 세대는 인스턴스가 달라도 같다")
+    void eTagFollowsVersionsWithinEpoch() {
+        String travel = ResourceVersionService.travelKey(1L);
+        String before = versionService.eTag(travel, ResourceVersionService.VERIFICATIONS);
+
+        versionService.bumpAfterCommit(List.of(travel));
+        String after = versionService.eTag(travel, ResourceVersionService.VERIFICATIONS);
+
+        assertTrue(before.matches("\"[0-9a-z]+-0\\.0\""), before);
+        assertEquals(before.replace("-0.0", "-1.0"), after);
+        assertEquals(after, new ResourceVersionService(redisTemplate, downstreamLimiter)
+                .eTag(travel, ResourceVersionService.VERIFICATIONS));
+    }
+
+    @Test
+    @DisplayName("Redis 가 초기화되어 카운터가 사라지면 새 세대로 발급해 이전 ETag 와 일치하지 않음")
+    void flushedCountersDoNotReissueOldETags() {
+        String travel = ResourceVersionService.travelKey(1L);
+        String initial = versionService.eTag(travel);
+
+        flushAll();
+
+        assertNotEquals(initial, versionService.eTag(travel));
+    }
+
+    @Test
+    @DisplayName("버전 증가에 실패하면 세대를 바꿔 다른 리소스의 ETag 까지 모두 무효화")
+    void failedBumpRotatesEpoch() {
+        String place = ResourceVersionService.placeKey(3L);
+        String before = versionService.eTag(place);
+
+        // 정수가 아닌 값이 들어 있는 키는 INCR 이 실패함
+        redisTemplate.opsForValue().set("resource_version:travel:1", "broken");
+        versionService.bumpAfterCommit(List.of(ResourceVersionService.travelKey(1L)));
+
+        String after = versionService.eTag(place);
+        assertNotEquals(before, after);
+        assertTrue(after.endsWith("-0\""), after);
+    }
+
+    private static void flushAll() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+}
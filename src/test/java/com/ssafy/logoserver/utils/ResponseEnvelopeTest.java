@@ -0,0 +1,50 @@
+package com.ssafy.logoserver.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.logoserver.domain.image.dto.UserImageUrlDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseEnvelopeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("성공 응답은 status, data 필드로 직렬화")
+    void successShape() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(ResponseUtil.success(
+                List.of(new UserImageUrlDto(1L, "a.jpg", null, "http://url", 30)))
+                .getBody()));
+
+        assertEquals("success", json.get("status").asText());
+        assertEquals(2, json.size());
+        JsonNode item = json.get("data").get(0);
+        assertEquals(1L, item.get("tiuid").asLong());
+        assertTrue(item.has("travelId"));
+        assertTrue(item.get("travelId").isNull());
+        assertEquals(30, item.get("expiryMinutes").asInt());
+    }
+
+    @Test
+    @DisplayName("데이터가 null 이어도 data 필드는 유지")
+    void successWithNullData() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(ResponseUtil.success(null).getBody()));
+
+        assertTrue(json.has("data"));
+        assertTrue(json.get("data").isNull());
+    }
+
+    @Test
+    @DisplayName("데이터 없는 성공 응답과 오류 응답 형태")
+    void emptyAndErrorShape() throws Exception {
+        assertEquals("{\"status\":\"success\"}",
+                objectMapper.writeValueAsString(ResponseUtil.success().getBody()));
+        assertEquals("{\"status\":\"error\",\"message\":\"없음\"}",
+                objectMapper.writeValueAsString(ResponseUtil.notFound("없음").getBody()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.logoserver.utils;
+
+import com.ssafy.logoserver.config.SqlStatementCounter;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 테스트용 SQL 문 실행 수 검증 도구
+ * MockMvc 는 요청을 테스트 스레드에서 처리하므로 요청 중 실행된 SQL 이 그대로 집계됩니다.
+ *
+ * <pre>
+ * assertMaxStatements(3, () -> mockMvc.perform(get("/api/areas")))
+ *         .andExpect(status().isOk());
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * 작업 중 실행된 SQL 문이 max 회 이하인지 검증하고 작업 결과 반환
+     */
+    public static <T> T assertMaxStatements(int max, ThrowingSupplier<T> action) throws Throwable {
+        long before = SqlStatementCounter.current();
+        T result = action.get();
+        long executed = SqlStatementCounter.current() - before;
+        if (executed > max) {
+            fail("SQL 문 실행 수가 예산을 초과했습니다 (N+1 의심) - 실행: " + executed + "회, 예산: " + max + "회");
+        }
+        return result;
+    }
+
+    /**
+     * 작업 중 실행된 SQL 문 수
+     */
+    public static <T> long countStatements(ThrowingSupplier<T> action) throws Throwable {
+        long before = SqlStatementCounter.current();
+        action.get();
+        return SqlStatementCounter.current() - before;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.logoserver.utils;
+
+import com.ssafy.logoserver.config.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlStatementCounterTest {
+
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    @DisplayName("검사한 SQL 은 그대로 반환되고 현재 스레드 실행 수만 증가")
+    void countsPerThread() throws Exception {
+        long before = SqlStatementCounter.current();
+
+        assertEquals("select 1", inspector.inspect("select 1"));
+        inspector.inspect("select 2");
+
+        AtomicLong otherThread = new AtomicLong();
+        Thread thread = Thread.ofVirtual().start(() -> {
+            inspector.inspect("select 3");
+            otherThread.set(SqlStatementCounter.current());
+        });
+        thread.join();
+
+        assertEquals(2, SqlStatementCounter.current() - before);
+        assertEquals(1, otherThread.get());
+    }
+
+    @Test
+    @DisplayName("예산 이하이면 결과를 반환하고 초과하면 실패")
+    void assertMaxStatements() throws Throwable {
+        assertEquals("ok", SqlStatementAssertions.assertMaxStatements(2, () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "ok";
+        }));
+
+        assertThrows(AssertionError.class, () -> SqlStatementAssertions.assertMaxStatements(1, () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "ok";
+        }));
+    }
+}